@@ -0,0 +1,116 @@
+package heroinedusk.bench;
+
+// Local project imports.
+import heroinedusk.Atlas;
+import heroinedusk.AtlasItems;
+import heroinedusk.HeroineEnum;
+import heroinedusk.JSON_Processor;
+import heroinedusk.RegionMap;
+
+// Java imports.
+import java.util.concurrent.TimeUnit;
+
+// JMH imports.
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AtlasItemsBenchmark
+{
+
+    /*
+    The class measures item lookups (chests, bone piles, locked doors, ...) against the shipped atlas items.
+    Each benchmark sweeps every location in the region once.  Needs no graphics.
+
+    Methods include:
+
+    getChestList:  Looks up the chests at every location in the region.
+    getItemInd:  Checks for an item at every location in the region.
+    getMapRegionItemKey:  Builds the item key for every location in the region.
+    setup:  Loads the atlas and atlas items and stores the dimensions of the region to measure.
+    */
+
+    // Declare object variables.
+    private AtlasItems atlasItems; // Items in the atlas.
+
+    // Declare regular variables.
+    @Param({"0", "5", "10"})
+    private int mapId; // Map / region number to measure.
+    private int regionHeight; // Region height, in tiles.
+    private int regionWidth; // Region width, in tiles.
+
+    @Setup
+    public void setup()
+    {
+
+        // The function loads the atlas and atlas items and stores the dimensions of the region to measure.
+
+        Atlas atlas; // Atlas containing the regions.
+        JSON_Processor json; // Reads the atlas and atlas items.
+        RegionMap region; // Region to measure.
+
+        // Load atlas and atlas items.
+        json = new JSON_Processor();
+        atlas = json.readAtlas("/json/Atlas.json");
+        atlasItems = json.readAtlasItems("/json/AtlasItems.json", atlas.getMapCount());
+
+        // Store region dimensions.
+        region = atlas.getRegionMap(mapId);
+        regionWidth = region.getRegionWidth();
+        regionHeight = region.getRegionHeight();
+
+    }
+
+    // blackhole = Consumes results, preventing dead code elimination.
+    @Benchmark
+    public void getChestList(Blackhole blackhole)
+    {
+
+        // The function looks up the chests at every location in the region.
+
+        // Loop through rows and columns.
+        for (int x = 0; x < regionHeight; x++)
+            for (int y = 0; y < regionWidth; y++)
+                blackhole.consume(atlasItems.getChestList(mapId, x, y));
+
+    }
+
+    // blackhole = Consumes results, preventing dead code elimination.
+    @Benchmark
+    public void getItemInd(Blackhole blackhole)
+    {
+
+        // The function checks for an item at every location in the region.
+
+        // Loop through rows and columns.
+        for (int x = 0; x < regionHeight; x++)
+            for (int y = 0; y < regionWidth; y++)
+                blackhole.consume(atlasItems.getItemInd(mapId, x, y));
+
+    }
+
+    // blackhole = Consumes results, preventing dead code elimination.
+    @Benchmark
+    public void getMapRegionItemKey(Blackhole blackhole)
+    {
+
+        // The function builds the item key for every location in the region.
+
+        // Loop through rows and columns.
+        for (int x = 0; x < regionHeight; x++)
+            for (int y = 0; y < regionWidth; y++)
+                blackhole.consume(atlasItems.getMapRegionItemKey(mapId, x, y,
+                  HeroineEnum.ItemCategoryEnum.ITEM_CTGY_CHEST));
+
+    }
+
+}
@@ -0,0 +1,129 @@
+package heroinedusk.bench;
+
+// Local project imports.
+import heroinedusk.ActionResult;
+import heroinedusk.Avatar;
+import heroinedusk.CombatEngine;
+import heroinedusk.HeroineEnum;
+import routines.SplittableRandomSource;
+
+// Java imports.
+import java.util.concurrent.TimeUnit;
+
+// JMH imports.
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CombatBenchmark
+{
+
+    /*
+    The class measures combat resolution -- the rules applied by Combat.fight, through the headless combat
+    engine it delegates to.  Needs no graphics.
+
+    Notes:
+    1.  The player starts each combat with the statistics of a new player and always attacks.
+    2.  Combats stop after MAX_ROUNDS rounds, so that a raised bone shield cannot stall a measurement.
+
+    Methods include:
+
+    fight:  Resolves a full combat against the enemy.
+    resolveRound:  Resolves a single round (player attack, then enemy action).
+    setup:  Prepares the engine, random number streams, action results, and starting player statistics.
+    */
+
+    // Declare object variables.
+    private ActionResult actionResultEnemy; // Result from (last) enemy action.
+    private ActionResult actionResultPlayer; // Result from (last) player action.
+    private Avatar avatar; // Player information used for starting statistics.
+    private CombatEngine engine; // Resolves the rules of combat.
+    private HeroineEnum.EnemyEnum enemyEnum; // Type of enemy to fight.
+
+    // Declare regular variables.
+    @Param({"ENEMY_SHADOW_TENDRILS", "ENEMY_SKELETON", "ENEMY_DEATH_SPEAKER"})
+    private String enemyName; // Name of enemy to fight.
+
+    // Declare constants.
+    private static final int MAX_ROUNDS = 500; // Maximum number of rounds in a combat.
+    private static final long SEED = 1L; // Seed for the random number streams.
+
+    @Setup
+    public void setup()
+    {
+
+        // The function prepares the engine, random number streams, action results, and starting player
+        // statistics.
+
+        // Initialize engine and action results.
+        engine = new CombatEngine(new SplittableRandomSource(SEED), new SplittableRandomSource(SEED + 1));
+        actionResultPlayer = new ActionResult();
+        actionResultEnemy = new ActionResult();
+
+        // Store enemy and new player.
+        enemyEnum = HeroineEnum.EnemyEnum.valueOf(enemyName);
+        avatar = new Avatar();
+
+        // Start first combat.
+        engine.start(enemyEnum);
+        engine.setPlayer(avatar);
+
+    }
+
+    @Benchmark
+    public int fight()
+    {
+
+        // The function resolves a full combat against the enemy.
+        // The function returns the number of rounds fought.
+
+        int roundCount; // Number of rounds fought.
+
+        // Start combat with new player.
+        engine.start(enemyEnum);
+        engine.setPlayer(avatar);
+
+        // Set defaults.
+        roundCount = 0;
+
+        // Loop until enemy or player dead or round limit reached.
+        while (!engine.isEnemyDead() && !engine.isPlayerDead() && roundCount < MAX_ROUNDS)
+        {
+            engine.resolveRound(HeroineEnum.FightEnum.FIGHT_ATTACK, actionResultPlayer, actionResultEnemy);
+            roundCount++;
+        }
+
+        // Return number of rounds fought.
+        return roundCount;
+
+    }
+
+    @Benchmark
+    public boolean resolveRound()
+    {
+
+        // The function resolves a single round (player attack, then enemy action).
+        // The function returns whether the round occurred.
+
+        // If combat over, then...
+        if (engine.isEnemyDead() || engine.isPlayerDead())
+        {
+            // Start next combat with new player.
+            engine.start(enemyEnum);
+            engine.setPlayer(avatar);
+        }
+
+        // Resolve round.
+        return engine.resolveRound(HeroineEnum.FightEnum.FIGHT_ATTACK, actionResultPlayer, actionResultEnemy);
+
+    }
+
+}
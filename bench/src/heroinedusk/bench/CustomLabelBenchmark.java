@@ -0,0 +1,82 @@
+package heroinedusk.bench;
+
+// Local project imports.
+import gui.CustomLabel;
+import heroinedusk.HeroineDuskGame;
+import heroinedusk.HeroineEnum;
+
+// Java imports.
+import java.util.concurrent.TimeUnit;
+
+// JMH imports.
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CustomLabelBenchmark
+{
+
+    /*
+    The class measures updating the text of a label -- as happens with the hit and magic point labels each
+    round of combat.  Runs against the headless LibGDX backend (see HeadlessFixture), since the label needs
+    the skin and its fonts.
+
+    Methods include:
+
+    setLabelText:  Updates the label text, alternating between two values.
+    setup:  Starts the game and creates the label.
+    */
+
+    // Declare object variables.
+    private CustomLabel label; // Label to measure.
+
+    // Declare regular variables.
+    private boolean toggleInd; // Whether to use the second text value on the next update.
+
+    // Declare constants.
+    private static final String TEXT_1 = "HP 25/25"; // First text value.
+    private static final String TEXT_2 = "HP 19/25"; // Second text value.
+
+    @Setup
+    public void setup()
+    {
+
+        // The function starts the game and creates the label.
+
+        HeroineDuskGame game; // Game running against the headless backend.
+
+        // Start game and load assets.
+        game = HeadlessFixture.getGame();
+
+        // Initialize label.
+        label = new CustomLabel(game.skin, TEXT_1, "benchmark label", "uiLabelStyle", 1.0f,
+          game.getConfig().getTextLineHeight(), HeroineEnum.FontEnum.FONT_UI.getValue_Key());
+
+    }
+
+    @Benchmark
+    public CustomLabel setLabelText()
+    {
+
+        // The function updates the label text, alternating between two values.
+        // The function returns the label.
+
+        // Flip text value.
+        toggleInd = !toggleInd;
+
+        // Update label text.
+        label.setLabelText(toggleInd ? TEXT_2 : TEXT_1);
+
+        // Return label.
+        return label;
+
+    }
+
+}
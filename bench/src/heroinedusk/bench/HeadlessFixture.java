@@ -0,0 +1,213 @@
+package heroinedusk.bench;
+
+// LibGDX imports.
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+
+// Local project imports.
+import heroinedusk.HeroineDuskGame;
+
+// Java imports.
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public final class HeadlessFixture
+{
+
+    /*
+    The class starts the game once per benchmark process against the headless LibGDX backend, so that
+    benchmarks can exercise code needing the asset manager, skin, and texture regions.
+
+    Notes:
+    1.  The headless backend does not provide OpenGL.  A stub GL20 stands in, reporting successful shader
+        compilation and linking and returning zero / false / empty for everything else.
+    2.  The application never renders on its own (render interval below zero).  The fixture drives the
+        intro screen by hand until the asset manager finishes loading and the texture regions exist.
+    3.  Textures created against the stub hold no pixels -- fine for measuring CPU-side work only.
+
+    Methods include:
+
+    getGame:  Returns the game, starting it on first use.
+    start:  Starts the headless application and loads the game assets.
+    stubGL:  Returns a stub GL20 implementation.
+    */
+
+    // Declare object variables.
+    private static HeroineDuskGame game; // Game shared by all benchmarks in the process.
+
+    // Declare constants.
+    private static final int LOAD_TIMEOUT_SECONDS = 60; // Maximum time to wait for assets to load.
+    private static final int VIEW_HEIGHT = 720; // Height of the game window.
+    private static final int VIEW_WIDTH = 960; // Width of the game window.
+
+    private HeadlessFixture()
+    {
+        // The constructor prevents instantiation.
+    }
+
+    public static synchronized HeroineDuskGame getGame()
+    {
+
+        // The function returns the game, starting it on first use.
+
+        // If game not yet started, then...
+        if (game == null)
+            // Start game.
+            start();
+
+        // Return game.
+        return game;
+
+    }
+
+    private static void start()
+    {
+
+        // The function starts the headless application and loads the game assets.
+
+        HeadlessApplicationConfiguration config; // Configuration for the headless application.
+        final HeroineDuskGame[] created; // Holds the game created on the application thread.
+        final CountDownLatch loaded; // Released once the game assets finish loading.
+
+        // Install stub OpenGL before the application creates any graphics resources.
+        Gdx.gl = stubGL();
+        Gdx.gl20 = Gdx.gl;
+
+        // Skip shader uniform and attribute checks, since the stub reports none.
+        ShaderProgram.pedantic = false;
+
+        // Configure application to call create only.
+        config = new HeadlessApplicationConfiguration();
+        config.renderInterval = -1f;
+
+        // Initialize holders.
+        created = new HeroineDuskGame[1];
+        loaded = new CountDownLatch(1);
+
+        // Start application.
+        new HeadlessApplication(new ApplicationAdapter()
+        {
+
+            @Override
+            public void create()
+            {
+
+                HeroineDuskGame hdg; // Game to create.
+
+                // Create game and show intro screen (starts loading assets).
+                hdg = new HeroineDuskGame(VIEW_WIDTH, VIEW_HEIGHT);
+                hdg.create();
+
+                // Render intro screen until assets finish loading and texture regions exist.
+                while (hdg.getAssetMgr().getTextureRegions().isEmpty())
+                    hdg.render();
+
+                // Store game and signal completion.
+                created[0] = hdg;
+                loaded.countDown();
+
+            }
+
+        }, config);
+
+        // Try waiting for assets to load.
+        try {
+
+            // If assets did not load in time, then...
+            if (!loaded.await(LOAD_TIMEOUT_SECONDS, TimeUnit.SECONDS))
+                throw new IllegalStateException("Game assets did not load within " + LOAD_TIMEOUT_SECONDS +
+                  " seconds.");
+
+        }
+
+        // Catch interruption while waiting.
+        catch (InterruptedException ex) {
+
+            // Restore interrupt flag and fail.
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading game assets.", ex);
+
+        }
+
+        // Store game.
+        game = created[0];
+
+    }
+
+    private static GL20 stubGL()
+    {
+
+        // The function returns a stub GL20 implementation.
+
+        InvocationHandler handler; // Handles calls to the stub.
+
+        // Define behavior of stub.
+        handler = new InvocationHandler()
+        {
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args)
+            {
+
+                Class<?> returnType; // Return type of method called.
+
+                // Depending on method called...
+                switch (method.getName())
+                {
+
+                    case "glCreateShader":
+                    case "glCreateProgram":
+                        // Return a valid handle.
+                        return 1;
+
+                    case "glGetShaderiv":
+                        // Report successful compilation.
+                        ((IntBuffer)args[2]).put(0, 1);
+                        return null;
+
+                    case "glGetProgramiv":
+                        // Report successful linking, with no uniforms or attributes.
+                        ((IntBuffer)args[2]).put(0, (Integer)args[1] == GL20.GL_LINK_STATUS ? 1 : 0);
+                        return null;
+
+                    case "glCheckFramebufferStatus":
+                        // Report complete frame buffer.
+                        return GL20.GL_FRAMEBUFFER_COMPLETE;
+
+                    default:
+                        break;
+
+                }
+
+                // Return default value for type.
+                returnType = method.getReturnType();
+
+                if (returnType == int.class)
+                    return 0;
+                else if (returnType == boolean.class)
+                    return false;
+                else if (returnType == float.class)
+                    return 0f;
+                else if (returnType == String.class)
+                    return "";
+                else
+                    return null;
+
+            }
+
+        };
+
+        // Return stub.
+        return (GL20)Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[] {GL20.class}, handler);
+
+    }
+
+}
@@ -0,0 +1,71 @@
+package heroinedusk.bench;
+
+// Local project imports.
+import heroinedusk.Atlas;
+import heroinedusk.AtlasItems;
+import heroinedusk.JSON_Processor;
+
+// Java imports.
+import java.util.concurrent.TimeUnit;
+
+// JMH imports.
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonLoadBenchmark
+{
+
+    /*
+    The class measures loading the shipped atlas and atlas items from JSON on the classpath.  Needs no
+    graphics.
+
+    Methods include:
+
+    readAtlas:  Loads the atlas.
+    readAtlasItems:  Loads the atlas items.
+    setup:  Reads the number of regions needed when loading the atlas items.
+    */
+
+    // Declare object variables.
+    private JSON_Processor json; // Reads the atlas and atlas items.
+
+    // Declare regular variables.
+    private int mapCount; // Number of maps / regions in the atlas.
+
+    @Setup
+    public void setup()
+    {
+
+        // The function reads the number of regions needed when loading the atlas items.
+
+        // Initialize reader.
+        json = new JSON_Processor();
+
+        // Store number of regions.
+        mapCount = json.readAtlas("/json/Atlas.json").getMapCount();
+
+    }
+
+    @Benchmark
+    public Atlas readAtlas()
+    {
+        // The function loads the atlas.
+        return json.readAtlas("/json/Atlas.json");
+    }
+
+    @Benchmark
+    public AtlasItems readAtlasItems()
+    {
+        // The function loads the atlas items.
+        return json.readAtlasItems("/json/AtlasItems.json", mapCount);
+    }
+
+}
@@ -0,0 +1,161 @@
+package heroinedusk.bench;
+
+// Local project imports.
+import core.BaseActor;
+import heroinedusk.HeroineDuskGame;
+import heroinedusk.HeroineEnum;
+import heroinedusk.MazeMap;
+import heroinedusk.RegionMap;
+
+// Java imports.
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+// JMH imports.
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MazeMapBenchmark
+{
+
+    /*
+    The class measures maze map tile rendering and side tile checks.  Runs against the headless LibGDX
+    backend (see HeadlessFixture), since the maze map needs the asset manager and texture regions.
+
+    Notes:
+    1.  The tile actors match those created by the explore screen -- TILE_COUNT actors, with the special
+        tiles prepared.
+    2.  Each call to mazemap_render_tile changes facing, so the incremental render never gets to skip
+        the work of updating the tile actors.
+
+    Methods include:
+
+    getImgTileEnum_Side:  Checks the side tile in all four directions for every location in the region.
+    mazemap_render_tile:  Renders the background tiles around the middle of the region.
+    setup:  Starts the game and prepares the maze map and tile actors.
+    */
+
+    // Declare object variables.
+    private HeroineEnum.FacingEnum[] facings; // Directions the player can face.
+    private MazeMap mazemap; // Maze map to measure.
+    private ArrayList<BaseActor> tiles; // Tile actors, matching those of the explore screen.
+
+    // Declare regular variables.
+    private int facingIndex; // Index of the direction used in the last render.
+    @Param({"0", "5", "10"})
+    private int mapId; // Map / region number to measure.
+    private int posX; // Row of player location -- middle of region.
+    private int posY; // Column of player location -- middle of region.
+    private int regionHeight; // Region height, in tiles.
+    private int regionWidth; // Region width, in tiles.
+
+    // Declare constants.
+    private static final int TILE_COUNT = 25; // Number of tile actors (matches explore screen).
+    private static final int TILE_COUNT_VIEW = 13; // Number of background tiles rendered in a view.
+    private static final int VIEW_COLUMNS = 5; // Number of columns in the rendered window.
+    private static final int VIEW_HEIGHT = 720; // Height of the stage.
+    private static final int VIEW_WIDTH = 960; // Width of the stage.
+
+    @Setup
+    public void setup()
+    {
+
+        // The function starts the game and prepares the maze map and tile actors.
+
+        HeroineDuskGame game; // Game running against the headless backend.
+        RegionMap region; // Region to measure.
+
+        // Start game and load assets.
+        game = HeadlessFixture.getGame();
+
+        // Initialize maze map.
+        mazemap = new MazeMap(game, mapId, VIEW_HEIGHT);
+
+        // Initialize tile actors.
+        tiles = new ArrayList<>();
+
+        for (int tileCounter = 1; tileCounter <= TILE_COUNT; tileCounter++)
+            tiles.add(new BaseActor());
+
+        mazemap.prepareSpecialTiles(tiles, VIEW_WIDTH);
+
+        // Store region dimensions and middle location.
+        region = game.getAtlas().getRegionMap(mapId);
+        regionWidth = region.getRegionWidth();
+        regionHeight = region.getRegionHeight();
+        posX = regionHeight / 2;
+        posY = regionWidth / 2;
+
+        // Store directions.
+        facings = HeroineEnum.FacingEnum.values();
+        facingIndex = 0;
+
+    }
+
+    // blackhole = Consumes results, preventing dead code elimination.
+    @Benchmark
+    public void getImgTileEnum_Side(Blackhole blackhole)
+    {
+
+        // The function checks the side tile in all four directions for every location in the region.
+
+        // Loop through rows and columns.
+        for (int x = 0; x < regionHeight; x++)
+        {
+
+            for (int y = 0; y < regionWidth; y++)
+            {
+
+                // Loop through directions.
+                for (HeroineEnum.FacingEnum facing : facings)
+                    blackhole.consume(mazemap.getImgTileEnum_Side(x, y, facing, true));
+
+            }
+
+        }
+
+    }
+
+    // blackhole = Consumes results, preventing dead code elimination.
+    @Benchmark
+    public void mazemap_render_tile(Blackhole blackhole)
+    {
+
+        // The function renders the background tiles around the middle of the region.
+        // Covers a window three rows deep and five columns wide, facing a new direction each call.
+
+        HeroineEnum.FacingEnum facing; // Direction to face.
+        int adjX; // Change in row from player location.
+        int adjY; // Change in column from player location.
+
+        // Move to next direction.
+        facingIndex = (facingIndex + 1) % facings.length;
+        facing = facings[facingIndex];
+
+        // Loop through background tiles.
+        for (int position = 0; position < TILE_COUNT_VIEW; position++)
+        {
+
+            // Determine offset from player location.
+            adjX = -(position / VIEW_COLUMNS);
+            adjY = (position % VIEW_COLUMNS) - (VIEW_COLUMNS / 2);
+
+            // Render tile.
+            blackhole.consume(mazemap.mazemap_render_tile(posX + adjX, posY + adjY, position, adjX, adjY, tiles,
+              posX, posY, facing));
+
+        }
+
+    }
+
+}
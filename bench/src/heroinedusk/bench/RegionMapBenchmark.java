@@ -0,0 +1,103 @@
+package heroinedusk.bench;
+
+// Local project imports.
+import heroinedusk.Atlas;
+import heroinedusk.JSON_Processor;
+import heroinedusk.RegionMap;
+
+// Java imports.
+import java.util.concurrent.TimeUnit;
+
+// JMH imports.
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RegionMapBenchmark
+{
+
+    /*
+    The class measures tile and side tile lookups against a region loaded from the shipped atlas.
+    Each benchmark sweeps every location in the region once.  Needs no graphics.
+
+    Methods include:
+
+    getRegionTileNbr:  Looks up the tile number for every location in the region.
+    getSideTiles:  Looks up the side tiles (all four directions) for every location in the region.
+    setup:  Loads the atlas and stores the region to measure.
+    */
+
+    // Declare object variables.
+    private RegionMap region; // Region to measure.
+
+    // Declare regular variables.
+    @Param({"0", "5", "10"})
+    private int mapId; // Map / region number to measure.
+    private int regionHeight; // Region height, in tiles.
+    private int regionWidth; // Region width, in tiles.
+
+    @Setup
+    public void setup()
+    {
+
+        // The function loads the atlas and stores the region to measure.
+
+        Atlas atlas; // Atlas containing the regions.
+
+        // Load atlas.
+        atlas = new JSON_Processor().readAtlas("/json/Atlas.json");
+
+        // Store region and its dimensions.
+        region = atlas.getRegionMap(mapId);
+        regionWidth = region.getRegionWidth();
+        regionHeight = region.getRegionHeight();
+
+    }
+
+    // blackhole = Consumes results, preventing dead code elimination.
+    @Benchmark
+    public void getRegionTileNbr(Blackhole blackhole)
+    {
+
+        // The function looks up the tile number for every location in the region.
+
+        // Loop through rows and columns.
+        for (int posX = 0; posX < regionHeight; posX++)
+            for (int posY = 0; posY < regionWidth; posY++)
+                blackhole.consume(region.getRegionTileNbr(posX, posY));
+
+    }
+
+    // blackhole = Consumes results, preventing dead code elimination.
+    @Benchmark
+    public void getSideTiles(Blackhole blackhole)
+    {
+
+        // The function looks up the side tiles (all four directions) for every location in the region.
+
+        // Loop through rows and columns.
+        for (int posX = 0; posX < regionHeight; posX++)
+        {
+
+            for (int posY = 0; posY < regionWidth; posY++)
+            {
+                blackhole.consume(region.getSideTilesNorth(posX, posY));
+                blackhole.consume(region.getSideTilesEast(posX, posY));
+                blackhole.consume(region.getSideTilesSouth(posX, posY));
+                blackhole.consume(region.getSideTilesWest(posX, posY));
+            }
+
+        }
+
+    }
+
+}
@@ -64,26 +64,38 @@ public class AssetMgr
     The class provides for expanded and simplified use of the LibGDX asset manager.
     Note:  Do NOT set up the asset manager as static, due to memory leaks / Android issues.
     
+    Region handles:
+    1.  Texture regions drawn every frame (tile pieces and minimap icons) resolve once to int handles, 
+        indexing a flat array, so rendering avoids building string keys and hashing them.
+    2.  Handles follow from the enumerations:  tile number * pieces per tile + tile region (position) for 
+        tile pieces, followed by the minimap icons in enumeration order.
+    3.  The array gets built once all texture regions exist (see buildRegionTable).
+    
     Methods include:
     
+    buildRegionTable:  Resolves the tile pieces and minimap icons to handles, storing their texture regions 
+      in a flat array.
     disposeAssetMgr:  Clears the asset manager from memory.
     getAtlas:  Returns the Atlas from the asset manager with the passed key.
     getAtlas_xRef:  Returns the Atlas from the asset manager based on the name in the cross reference.
     getImage:  Returns the Texture from the asset manager with the passed key.
     getImage_xRef:  Returns the Texture from the asset manager based on the name in the cross reference.
+    getImageRegion_xRef:  Returns the texture region for the image with the passed key, packed or whole.
+    getMinimapRegionHandle:  Returns the handle for the texture region of the passed minimap icon.
     getMusicMp3:  Returns the requested music in mp3 format.
     getMusicOgg:  Returns the requested music in ogg format.
     getPixmap:  Returns the pixel map from the hash map with the passed key.
     getPixmapTransparentInd:  Returns whether the specified location within the pixel map with the passed 
       key is transparent.
     getSound:  Returns the requested sound.
-    getTextureRegion:  Returns the texture region in the hash map with the passed key.
+    getTextureRegion:  Returns the texture region in the hash map with the passed key (or with the passed 
+      handle).
     getTextureRegionRect:  Returns the rect structure related to the texture region in the hash map with 
       the passed key.
     getTextureRegionRects:  Returns map with rect structures related to texture regions.
     getTextureRegions:  Returns map with texture regions.
+    getTileRegionHandle:  Returns the handle for the texture region of the passed tile and piece.
     loadPixelMaps:  Loads the pixel maps based on the queued resouces in the hash map, pixelMapXRef.
-    loadResources:  Loads the current resources in the asset manager queue.
     loadTextureRegions:  loads all texture regions associated with the passed atlases.
     loadTextureRegionsDynamic:  Splits the texture with the passed key into regions.
     mapAtlases:  adds cross reference (hash mapping) values to provide a simpler way of referencing
@@ -95,6 +107,8 @@ public class AssetMgr
     queueMusic:  Adds the passed music to the asset manager for future loading.
     queuePixmaps:  Adds the passed images to the pixel map hash map for future loading.
     queueSounds:  Adds the passed sounds to the asset manager for future loading.
+    updateResources:  Loads resources from the asset manager queue for up to the passed time, then updates
+      the progress bar.
     */
     
     // Declare object variables.
@@ -113,6 +127,7 @@ public class AssetMgr
     private final Map<String, Rectangle2D.Float> textureRegionRects; // Contains rects related to texture 
       // regions (usually in atlases).  Keys same as in atlas files or based on those in asset manager, but 
       // with suffixes.
+    private TextureRegion[] regionTable; // Texture regions for tile pieces and minimap icons, by handle.
     private final Map<String, TextureRegion> textureRegions; // Contains texture regions (usually in atlases).
       // Keys same as in atlas files or based on those in asset manager, but with suffixes.
     
@@ -121,6 +136,10 @@ public class AssetMgr
       // Examples:  1 > 001, 2 > 002, ...
     private final DecimalFormat decimalFormat000 = new DecimalFormat(decFormatText000); // Decimal style used to
       // format numbers as 000.  Examples:  1 > 001, 2 > 002, ...
+    private static final int TILE_REGION_COUNT = HeroineEnum.TileRegionEnum.values().length; // Number of 
+      // pieces (regions) per tile.
+    private static final int MINIMAP_HANDLE_BASE = HeroineEnum.ImgTileEnum.values().length * 
+      TILE_REGION_COUNT; // Handle of the first minimap icon -- follows the tile pieces.
     
     public AssetMgr()
     {
@@ -143,6 +162,44 @@ public class AssetMgr
     
     // Methods below...
     
+    public void buildRegionTable()
+    {
+        
+        // The function resolves the tile pieces and minimap icons to handles, storing their texture regions 
+        // in a flat array.  Call once all texture regions exist -- after loading atlases and splitting tiles.
+        // Placeholder tiles have no pieces, leaving their entries null.
+        
+        // Allocate array for tile pieces and minimap icons.
+        regionTable = new TextureRegion[MINIMAP_HANDLE_BASE + HeroineEnum.MinimapEnum.values().length];
+        
+        // Loop through tile image enumerated values.
+        for (HeroineEnum.ImgTileEnum imgTileEnum : HeroineEnum.ImgTileEnum.values())
+        {
+            
+            // Loop through tile region enumerated values.
+            for (HeroineEnum.TileRegionEnum tileRegionEnum : HeroineEnum.TileRegionEnum.values())
+            {
+                
+                // Store texture region for piece, using the key from splitting the tile.
+                regionTable[getTileRegionHandle(imgTileEnum.getValue(), tileRegionEnum.getValue())] = 
+                  textureRegions.get(imgTileEnum.getValue_Key() + "_" + 
+                  decimalFormat000.format(tileRegionEnum.getValue()));
+                
+            }
+            
+        }
+        
+        // Loop through minimap enumerated values.
+        for (HeroineEnum.MinimapEnum minimapEnum : HeroineEnum.MinimapEnum.values())
+        {
+            
+            // Store texture region for icon.
+            regionTable[getMinimapRegionHandle(minimapEnum)] = textureRegions.get(minimapEnum.getValue_Key());
+            
+        }
+        
+    }
+    
     public void disposeAssetMgr()
     {
         
@@ -175,50 +232,28 @@ public class AssetMgr
         
     }
     
-    public void loadResources()
+    // budgetMillis = Time to spend loading, in milliseconds.
+    // progressBar = Reference to progress bar to update with the share of resources loaded.
+    public boolean updateResources(int budgetMillis, CustomProgressBar progressBar)
     {
         
-        // The function loads the current resources in the asset manager queue.
+        // The function loads resources from the asset manager queue for up to the passed time, then updates
+        // the progress bar.  Call once per frame, so that the screen keeps rendering while loading.
+        // Resources load in the order queued.
+        // The function returns whether all queued resources finished loading.
         
-        // Load resources.
-        manager.finishLoading();
+        boolean finishedInd; // Whether all queued resources finished loading.
         
-    }
-    
-    // progressBar = Reference to progress bar to update while loading resources.
-    public void loadResources(CustomProgressBar progressBar)
-    {
-        // The function displays a progress bar while loading the current resources in the asset manager queue.
+        // Load resources until finished or out of time.
+        // Note:  A single resource may run past the budget, since the asset manager checks the time between
+        // loading steps.
+        finishedInd = manager.update(budgetMillis);
         
-        float progress; // Percent of loading completed.
+        // Update progress bar.
+        progressBar.setValue(finishedInd ? 1.0f : manager.getProgress());
         
-        // Set defaults.
-        progress = 0f;
-        
-        // Load resources.
-        manager.finishLoading();
-        
-        // While asset manager loads resources, ...
-        while(!manager.update())
-            {
-            // Get percent of loading completed.
-            progress = manager.getProgress();
-            
-            // System.out.println("Loading ... " + progress * 100 + "%");
-            
-            // Update progress bar.
-            progressBar.setValue(progress);
-            }
-        
-        // If loading finished before loop could start, then manually set value of progress bar.
-        if (progress == 0f)
-            
-            {
-            // Loading occurred before loop could start.
-            
-            // Manually set value of progress bar to 100%.
-            progressBar.setValue(1.0f);
-            }
+        // Return whether finished.
+        return finishedInd;
         
     }
     
@@ -598,6 +633,33 @@ public class AssetMgr
         
     }
     
+    // xref_Key = Key value to use in cross reference when getting Texture from asset manager.
+    public TextureRegion getImageRegion_xRef(String xref_Key)
+    {
+        
+        // The function returns the texture region for the image with the passed key.
+        // When the image got packed into a page (atlas), the function returns the region in the page.
+        // Otherwise, the function returns a region covering the whole Texture from the asset manager.
+        
+        TextureRegion region; // Texture region to return.
+        
+        // Look for image among texture regions (packed pages).
+        region = textureRegions.get(xref_Key);
+        
+        // Return packed region, if found, or whole Texture.
+        return region != null ? region : new TextureRegion(getImage_xRef(xref_Key));
+        
+    }
+    
+    // minimapEnum = Minimap icon.
+    public static int getMinimapRegionHandle(HeroineEnum.MinimapEnum minimapEnum)
+    {
+        
+        // The function returns the handle for the texture region of the passed minimap icon.
+        return MINIMAP_HANDLE_BASE + minimapEnum.getValue();
+        
+    }
+    
     public AssetManager getManager() {
         return manager;
     }
@@ -671,6 +733,17 @@ public class AssetMgr
         
     }
     
+    // handle = Handle of texture region to return.  See getTileRegionHandle and getMinimapRegionHandle.
+    public TextureRegion getTextureRegion(int handle)
+    {
+        
+        // The function returns the texture region with the passed handle.
+        
+        // Return the texture region in the array with the passed handle.
+        return regionTable[handle];
+        
+    }
+    
     // regionKey = Key (as relates to hash map) for Rectangle2D to return.
     public Rectangle2D.Float getTextureRegionRect(String regionKey)
     {
@@ -690,4 +763,14 @@ public class AssetMgr
         return textureRegions;
     }
     
+    // tileNbr = Tile number (ImgTileEnum value).
+    // position = Piece of tile (TileRegionEnum value) -- same as position in view.
+    public static int getTileRegionHandle(int tileNbr, int position)
+    {
+        
+        // The function returns the handle for the texture region of the passed tile and piece.
+        return (tileNbr * TILE_REGION_COUNT) + position;
+        
+    }
+    
 }
\ No newline at end of file
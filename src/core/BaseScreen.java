@@ -3,7 +3,9 @@ package core;
 // LibGDX imports.
 import com.badlogic.gdx.controllers.*;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.InputMultiplexer;
 import com.badlogic.gdx.InputProcessor;
@@ -11,14 +13,12 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 
 // Java imports.
 import java.awt.Point;
-import java.util.ArrayList;
+import java.util.Arrays;
 
 /*
 Interface (implements) vs Sub-Class (extends)...
@@ -74,7 +74,7 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
     1.  Provide a reference to the Game object that instantiated the current class.
     2.  Initialize the stage objects.
     3.  In the render method, call the act method of the stages, clear the screen, and then
-        call the draw method of the stages.
+        draw the stages.
     4.  Provide empty methods for all the Screen, InputProcessor, and ControllerListener interface methods.
     5.  Provide methods for pausing the game, resizing the window, center a label in a stage.
 
@@ -85,6 +85,17 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
 
     Note:  The creation step occurs in the subclass.
 
+    Rendering notes:
+
+    1.  The stages share a single sprite batch (the batch variable), rather than each creating its own.
+    2.  The stages get drawn in a single batch pass, in z-order (main, middle, UI).  Rather than switching
+        the OpenGL viewport between stages, the position of each stage within the window gets applied
+        through the projection used to draw it.  Since the batch only flushes when the projection or
+        texture changes, stages with matching projections (the usual case, with all stages sized to the
+        window) draw without flushing in between.
+    3.  Unlike a separate OpenGL viewport, the projection does not clip actors lying outside the area of
+        their stage.
+
     LibGDX methods for screen include:
 
     dispose:  The method should get called manually when exiting a screen.  Add logic to clear memory
@@ -144,21 +155,17 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
     centerLabelUI:  Centers the label in the specified stage.
     disposeManual:  Allows for manually clearing of LibGDX resources from memory when overriding the 
       normal dispose method.
-    drawBatch:  Uses the batch to draw the passed texture / texture region at the specified coordinates.
+    drawStage:  Draws the passed stage within the current batch pass, gathering rendering statistics when
+      enabled.
+    enableRenderStats:  Starts gathering rendering statistics for the stages (debug overlay).
     finishBatch:  Finalizes batch drawing process.
     isPaused:  Returns the pause state of the game (true or false).
-    queueDrawBatch:  Queues the batch to draw a texture / texture region at the specified coordinates.
     setPaused:  Sets the pause state of the game to the passed value.
     startBatch:  Sets up the batch for drawing.
     togglePaused:  Reverses the pause state of the game (true to false, false to true).
     update:  The abstract method (defined in the subclasses) occurs during the update phase (render method)
              and contains code related to game logic.
     wakeBaseScreen:  Called when redisplaying the already initialized screen.
-    
-    Inner classes include:
-    
-    BatchTexture:  Stores information needed to draw a texture with a sprite batch.
-    BatchTextureRegion:  Stores information needed to draw a texture region with a sprite batch.
     */
 
     // Protected variables and methods allow the class itself to access them, classes inside of the
@@ -167,9 +174,7 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
     // A final variable can only be initialized once, either via an initializer or an assignment statement.
     
     protected SpriteBatch batch; // Takes care of all the steps needed to achieve texture mapping and 
-      // displaying texture mapped rectangles on the screen.
-    protected ArrayList<BatchTexture> batchTextureList; // List containing texture details for drawing with batch.
-    protected ArrayList<BatchTextureRegion> batchTextureRegionList; // List containing texture regions for drawing with batch.
+      // displaying texture mapped rectangles on the screen.  Shared by the stages.
     
     protected BaseGame game; // Screen object used for current window.
       // Game objects allow an application to easily have multiple screens.
@@ -181,6 +186,9 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
       // main and ui stages, in terms of z-order.
     
     protected Stage uiStage; // Stores a 2D scene graph containing UI actors.  Includes win text / labels.
+    
+    protected RenderStats renderStats; // Gathers rendering statistics for a debug overlay.  Null when not
+      // gathering.  Stage indexes follow STATS_STAGE_MAIN, STATS_STAGE_MIDDLE, and STATS_STAGE_UI.
 
     // A Table consists of Cell objects, laid out in rows and columns, each Cell containing an Actor.
     protected Table uiTable; // Table containing main menu elements.
@@ -192,8 +200,12 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
     protected int viewWidthMiddle; // Window width for the middle stage.
     protected int viewWidthUI; // Window width for the ui stage.
 
-    private boolean batchInd; // Whether to add SpriteBatch to rendering.
+    private Matrix4 layerProjection; // Projection used to draw a stage within the full window.
     private boolean paused; // Whether game paused.
+    
+    protected static final int STATS_STAGE_MAIN = 0; // Index of main stage in rendering statistics.
+    protected static final int STATS_STAGE_MIDDLE = 1; // Index of middle stage in rendering statistics.
+    protected static final int STATS_STAGE_UI = 2; // Index of UI stage in rendering statistics.
 
     // g = Screen object for current window.
     // windowWidth = Width to use for stages.
@@ -209,8 +221,7 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
         // 4.  Sets up the input multiplexer to receive and pass all input data to current class and stages.
         // 5.  Creates and attaches Table to UI (main menu) stage.
         // 6.  Clear active ControllerListener objects and activate the listener.
-        // 7.  Initialize array lists.
-        // 8.  Initialize sprite batch.
+        // 7.  Initialize sprite batch (shared by the stages) and projection used with it.
 
         InputMultiplexer im; // Contains a group of input processors.  The base screen and each
         // stage get added to the input multiplexer.  When input events occur, the multiplexer
@@ -218,7 +229,6 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
 
         // Set defaults.
         this.paused = false;
-        this.batchInd = false;
 
         // Set window size values, based on parameters.
         this.viewWidthMain = windowWidth;
@@ -230,12 +240,16 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
 
         // Store Screen object for current window.
         this.game = g;
+        
+        // Initialize sprite batch, shared by the stages, and projection used with it.
+        batch = new SpriteBatch();
+        layerProjection = new Matrix4();
 
         // Scale each stage and its contents to fit the current window size.
         // If aspect ratio of window does not match stage, fill in extra region with solid black.
-        mainStage = new Stage( new FitViewport(windowWidth, windowHeight) );
-        middleStage = new Stage( new FitViewport(windowWidth, windowHeight) );
-        uiStage   = new Stage( new FitViewport(windowWidth, windowHeight) );
+        mainStage = new Stage( new FitViewport(windowWidth, windowHeight), batch );
+        middleStage = new Stage( new FitViewport(windowWidth, windowHeight), batch );
+        uiStage   = new Stage( new FitViewport(windowWidth, windowHeight), batch );
 
         // An InputMultiplexer object is itself an InputProcessor that contains a list of other InputProcessors.
 
@@ -248,12 +262,6 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
         uiTable.setFillParent(true); // The method will set the size of the Table to that of the stage.
         uiStage.addActor(uiTable); // Attach Table to the stage.
         
-        // Initialize array lists.
-        batchTextureList = new ArrayList<>();
-        batchTextureRegionList = new ArrayList<>();
-        
-        // Initialize sprite batch.
-        batch = new SpriteBatch();
         
     }
 
@@ -276,8 +284,7 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
         // 4.  Sets up the input multiplexer to receive and pass all input data to current class and stages.
         // 5.  Creates and attaches Table to UI (main menu) stage.
         // 6.  Clear active ControllerListener objects and activate the listener.
-        // 7.  Initialize array lists.
-        // 8.  Initialize sprite batch.
+        // 7.  Initialize sprite batch (shared by the stages) and projection used with it.
 
         InputMultiplexer im; // Contains a group of input processors.  The base screen and each
         // stage get added to the input multiplexer.  When input events occur, the multiplexer
@@ -296,12 +303,16 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
 
         // Store Screen object for current window.
         this.game = g;
+        
+        // Initialize sprite batch, shared by the stages, and projection used with it.
+        batch = new SpriteBatch();
+        layerProjection = new Matrix4();
 
         // Scale each stage and its contents to fit the current window size.
         // If aspect ratio of window does not match stage, fill in extra region with solid black.
-        mainStage = new Stage( new FitViewport(mainWidth, mainHeight) );
-        middleStage = new Stage( new FitViewport(middleWidth, middleHeight) );
-        uiStage   = new Stage( new FitViewport(uiWidth, uiHeight) );
+        mainStage = new Stage( new FitViewport(mainWidth, mainHeight), batch );
+        middleStage = new Stage( new FitViewport(middleWidth, middleHeight), batch );
+        uiStage   = new Stage( new FitViewport(uiWidth, uiHeight), batch );
 
         // An InputMultiplexer object is itself an InputProcessor that contains a list of other InputProcessors.
 
@@ -314,12 +325,6 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
         uiTable.setFillParent(true); // The method will set the size of the Table to that of the stage.
         uiStage.addActor(uiTable); // Attach Table to the stage.
 
-        // Initialize array lists.
-        batchTextureList = new ArrayList<>();
-        batchTextureRegionList = new ArrayList<>();
-        
-        // Initialize sprite batch.
-        batch = new SpriteBatch();
         
     }
 
@@ -348,8 +353,15 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
         2.  If game not paused, adjusts Actor positions and other properties in the middle stage and processes player input.
         3.  If game not paused, adjusts Actor positions and other properties in the main stage and processes player input.
         3.  Draws the actor-related graphics.
-        4.  Draws the batch-related graphics.
+        
+        Step 3 occurs in a single pass of the shared batch.  See the rendering notes for the class.
+        
+        When gathering rendering statistics, also stores the frame time and the statistics for each stage.
         */
+        
+        // If gathering rendering statistics, then store frame time.
+        if (renderStats != null)
+            renderStats.recordFrame(dt);
 
         // Call the Actor.act(float) method on each actor in the UI stage.
         // Typically called each frame.  The method also fires enter and exit events.
@@ -382,66 +394,88 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
         // Clear the area using the specified buffer.  Supports multiple buffers.
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        // Draw the stages -- containing the Actors.
+        // Draw the stages -- containing the Actors -- in a single batch pass.
 
-        // Reposition rendering location of the main stage.
-        Gdx.gl.glViewport(0, viewHeightUI - viewHeightMain, viewWidthMain, viewHeightMain );
+        // Set rendering location to the full window.  The location of each stage gets applied through the 
+        // projection used to draw it.
+        Gdx.gl.glViewport(0, 0, viewWidthUI, viewHeightUI);
+        
+        // Start batch.
+        startBatch();
 
         // Draw the main stage.
-        mainStage.draw();
+        drawStage(mainStage, viewHeightUI - viewHeightMain, viewWidthMain, viewHeightMain, STATS_STAGE_MAIN);
 
-        // Draw the middle stage.
-        middleStage.draw();
-        
-        // Reposition rendering location of the UI stage.
-        Gdx.gl.glViewport(0,0, viewWidthUI, viewHeightUI);
+        // Draw the middle stage -- in the same location as the main stage.
+        drawStage(middleStage, viewHeightUI - viewHeightMain, viewWidthMain, viewHeightMain, 
+          STATS_STAGE_MIDDLE);
         
         // Draw the UI stage.
-        uiStage.draw();
+        drawStage(uiStage, 0, viewWidthUI, viewHeightUI, STATS_STAGE_UI);
         
-        /*
-        Batch usage:
+        // Finish batch.
+        finishBatch();
         
-        setBatchInd(true);
-        queueDrawBatch(minimapRegions.get(HeroineEnum.MinimapEnum.MINIMAP_BLOCK_BLUE), 50f, 50f);
-        queueDrawBatch(minimapRegions.get(HeroineEnum.MinimapEnum.MINIMAP_BLOCK_BLUE), 70f, 70f);
-        queueDrawBatch(minimapRegions.get(HeroineEnum.MinimapEnum.MINIMAP_BLOCK_BLUE), 90f, 90f);
-        */
+    }
+
+    // stage = Stage to draw.
+    // posY = Y-coordinate (in window pixels) of the bottom of the area in which to draw the stage.
+    // width = Width (in window pixels) of the area in which to draw the stage.
+    // height = Height (in window pixels) of the area in which to draw the stage.
+    // statsIndex = Index of stage in rendering statistics.
+    private void drawStage(Stage stage, int posY, int width, int height, int statsIndex)
+    {
         
-        // If using batch for drawing, then...
-        if (batchInd)
-        {
-            
-            // Using batch for drawing.
-            
-            // Draw batch-related graphics.
-        
-            // Start batch.
-            startBatch();
-            
-            // Loop through textures to render using batch.
-            batchTextureList.forEach((texture) -> {
-                
-                // Draw the current texture in the loop.
-                drawBatch(texture.getTexture(), texture.getX(), texture.getY());
-            
-            });
-
-            // Loop through texture regions to render using batch.
-            batchTextureRegionList.forEach((textureRegion) -> {
-                
-                // Draw the current texture region in the loop.
-                drawBatch(textureRegion.getTextureRegion(), textureRegion.getX(), textureRegion.getY());
-                
-            });
-            
-            // Finish batch.
-            finishBatch();
-            
-        }
+        // The function draws the passed stage within the current batch pass, gathering rendering 
+        // statistics when enabled.
+        // The function replaces Stage.draw(), which begins and ends (flushes) the batch for each stage.
+        
+        Camera camera; // Camera of stage.
+        
+        // Store camera of stage and recalculate its matrices.
+        camera = stage.getCamera();
+        camera.update();
+        
+        // Determine projection that maps the camera of the stage to its area within the full window.
+        // Scales the camera output to the size of the area, then moves it to the location of the area.
+        layerProjection.setToTranslationAndScaling(
+          (float)width / viewWidthUI - 1f, (2f * posY + height) / viewHeightUI - 1f, 0f, 
+          (float)width / viewWidthUI, (float)height / viewHeightUI, 1f).mul(camera.combined);
+        
+        // If projection differs from the one in use, then apply it.  Changing the projection flushes the batch.
+        if (!Arrays.equals(layerProjection.val, batch.getProjectionMatrix().val))
+            batch.setProjectionMatrix(layerProjection);
+        
+        // If stage hidden, then...
+        if (!stage.getRoot().isVisible())
+            // Stage hidden.  Exit function.
+            return;
+        
+        // If gathering rendering statistics, then note values before drawing.
+        if (renderStats != null)
+            renderStats.startStage(stage);
+        
+        // Draw the actors in the stage.
+        stage.getRoot().draw(batch, 1f);
+        
+        // If gathering rendering statistics, then store values for stage.
+        if (renderStats != null)
+            renderStats.endStage(statsIndex, stage);
         
     }
-
+    
+    protected void enableRenderStats()
+    {
+        
+        // The function starts gathering rendering statistics for the stages (debug overlay).
+        // Call from the rendering thread.  See RenderStats.
+        
+        // If not already gathering, then start.
+        if (renderStats == null)
+            renderStats = new RenderStats("Main", "Middle", "UI");
+        
+    }
+    
     // Pause methods follow...
 
     public boolean isPaused()
@@ -465,75 +499,21 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
 
     // Provide methods for working with batch.
     
-    // texture = Texture to draw using the batch.
-    // x = X-coordinate at which to draw the texture.
-    // y = Y-coordinate at which to draw the texture.
-    public void drawBatch(Texture texture, float x, float y)
-    {
-        
-        // The function uses the batch to draw the passed texture at the specified coordinates.
-        // Needs batchInd = true to fully operate in render() function.
-        
-        // Add command to batch to draw passed texture at specified coordinates.
-        batch.draw(texture, x, y);
-        
-    }
-    
-    // region = Texture region to draw using the batch.
-    // x = X-coordinate at which to draw the texture region.
-    // y = Y-coordinate at which to draw the texture region.
-    public void drawBatch(TextureRegion region, float x, float y)
-    {
-        
-        // The function uses the batch to draw the passed texture region at the specified coordinates.
-        // Needs batchInd = true to fully operate in render() function.
-        
-        // Add command to batch to draw passed texture region at specified coordinates.
-        batch.draw(region, x, y);
-        
-    }
-    
     public void finishBatch()
     {
         
         // The function finalizes the batch drawing process
-        // Needs batchInd = true to fully operate in render() function.
+        // Called by render() to end the shared batch pass.
         
         // Finish batch-related rendering.
         batch.end();
         
     }
     
-    // texture = Texture to draw using the batch.
-    // x = X-coordinate at which to draw the texture.
-    // y = Y-coordinate at which to draw the texture.
-    public void queueDrawBatch(Texture texture, float x, float y)
-    {
-        
-        // The function queues the batch to draw a texture at the specified coordinates.
-        
-        // Add passed texture to array list.
-        batchTextureList.add( new BatchTexture(texture, x, y) );
-        
-    }
-    
-    // textureRegion = Texture region to draw using the batch.
-    // x = X-coordinate at which to draw the texture.
-    // y = Y-coordinate at which to draw the texture.
-    public void queueDrawBatch(TextureRegion textureRegion, float x, float y)
-    {
-        
-        // The function queues the batch to draw a texture region at the specified coordinates.
-        
-        // Add passed texture region to array list.
-        batchTextureRegionList.add( new BatchTextureRegion(textureRegion, x, y) );
-        
-    }
-    
     public void startBatch()
     {
         // The function sets up the batch for drawing.
-        // Needs batchInd = true to fully operate in render() function.
+        // Called by render() to start the shared batch pass.
         
         // Set up batch for drawing.
         batch.begin();
@@ -600,7 +580,9 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
         // Clear LibGDX objects from memory.
         
         uiStage.dispose();
+        middleStage.dispose();
         mainStage.dispose();
+        batch.dispose(); // Shared by the stages, which leave it for the screen to dispose.
         uiTable = null;
         
     }
@@ -869,7 +851,8 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
         // The method gets called when redisplaying the already initialized screen and
         // accomplishes the following:
 
-        // 1.  Scales each stage and its contents to fit the current window size.
+        // 1.  Replaces the main and UI stages, scaling each stage and its contents to fit the current window 
+        //     size and sharing the batch.
         // 2.  Sets up the input multiplexer to receive and pass all input data to current class and stages.
         // 3.  Creates and attaches Table to UI (main menu) stage.
         // 4.  Clear active ControllerListener objects and activate the listener.
@@ -878,10 +861,16 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
         // stage get added to the input multiplexer.  When input events occur, the multiplexer
         // forwards the information to each of the attached objects.
 
-        // Scale each stage and its contents to fit the current window size.
+        // Dispose of the stages being replaced.  The stages leave the shared batch for the screen to dispose.
+        if (mainStage != null)
+            mainStage.dispose();
+        if (uiStage != null)
+            uiStage.dispose();
+        
+        // Scale each stage and its contents to fit the current window size, sharing the batch.
         // If aspect ratio of window does not match stage, fill in extra region with solid black.
-        mainStage = new Stage( new FitViewport(viewWidthMain, viewHeightMain) );
-        uiStage   = new Stage( new FitViewport(viewWidthUI, viewHeightUI) );
+        mainStage = new Stage( new FitViewport(viewWidthMain, viewHeightMain), batch );
+        uiStage   = new Stage( new FitViewport(viewWidthUI, viewHeightUI), batch );
 
         // An InputMultiplexer object is itself an InputProcessor that contains a list of other InputProcessors.
 
@@ -896,118 +885,7 @@ public abstract class BaseScreen implements Screen, InputProcessor, ControllerLi
 
     }
 
-    // Inner classes below...
-    
-    public class BatchTexture
-    {
-        
-        // The inner class stores information needed to draw a texture with a sprite batch.
-        
-        // Declare object variables.
-        private Texture texture; // Texture associated with sprite batch.
-        
-        // Declare regular variables.
-        private float x; // X-coordinate at which to draw texture.
-        private float y; // Y-coordinate at which to draw texture.
-        
-        // texture = Texture associated with sprite batch.
-        // x = X-coordinate at which to draw texture region.
-        // y = Y-coordinate at which to draw texture region.
-        public BatchTexture(Texture texture, float x, float y)
-        {
-            
-            // The constructor stores information needed to draw a texture with a sprite batch.
-            
-            // Store texture-related details.
-            this.texture = texture;
-            this.x = x;
-            this.y = y;
-            
-        }
-        
-        public Texture getTexture() {
-            return texture;
-        }
-
-        public void setTexture(Texture texture) {
-            this.texture = texture;
-        }
-
-        public float getX() {
-            return x;
-        }
-
-        public void setX(float x) {
-            this.x = x;
-        }
-
-        public float getY() {
-            return y;
-        }
-
-        public void setY(float y) {
-            this.y = y;
-        }
-        
-    }
-    
-    public class BatchTextureRegion
-    {
-        
-        // The inner class stores information needed to draw a texture region with a sprite batch.
-        
-        // Declare object variables.
-        private TextureRegion textureRegion; // Texture region associated with sprite batch.
-        
-        // Declare regular variables.
-        private float x; // X-coordinate at which to draw texture region.
-        private float y; // Y-coordinate at which to draw texture region.
-        
-        // textureRegion = Texture region associated with sprite batch.
-        // x = X-coordinate at which to draw texture region.
-        // y = Y-coordinate at which to draw texture region.
-        public BatchTextureRegion(TextureRegion textureRegion, float x, float y)
-        {
-            
-            // The constructor stores information needed to draw a texture with a sprite batch.
-            
-            // Store texture region related details.
-            this.textureRegion = textureRegion;
-            this.x = x;
-            this.y = y;
-            
-        }
-        
-        public TextureRegion getTextureRegion() {
-            return textureRegion;
-        }
-
-        public void setTextureRegion(TextureRegion textureRegion) {
-            this.textureRegion = textureRegion;
-        }
-
-        public float getX() {
-            return x;
-        }
-
-        public void setX(float x) {
-            this.x = x;
-        }
-
-        public float getY() {
-            return y;
-        }
-
-        public void setY(float y) {
-            this.y = y;
-        }
-        
-    }
-    
     // Getters and setters below...
     
-    public void setBatchInd(boolean batchInd) {
-        this.batchInd = batchInd;
-    }
     
 }
\ No newline at end of file
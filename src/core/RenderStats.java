@@ -0,0 +1,266 @@
+package core;
+
+// LibGDX imports.
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+
+// Java imports.
+import java.util.Arrays;
+
+public class RenderStats
+{
+
+    /*
+    The class gathers rendering statistics for a screen, for display in a debug overlay -- per stage sprite
+    batch render calls, texture binds, maximum sprites per batch, and actor counts, plus frame time
+    percentiles.
+
+    Notes:
+    1.  Texture binds come from the LibGDX GLProfiler, which wraps the OpenGL interface while enabled.  The
+        profiler adds a small cost to each OpenGL call, so only enable statistics when debugging.
+    2.  Render calls and maximum sprites come from the sprite batch of each stage (SpriteBatch.totalRenderCalls
+        and SpriteBatch.maxSpritesInBatch).  Both get read right after the stage draws, before the next stage
+        begins.  With the stages sharing one batch pass, sprites still pending when a stage finishes get
+        counted with the stage whose drawing causes the flush (or the last stage, when the pass ends).
+    3.  Stage values cover the most recent frame.  Frame times cover the most recent FRAME_SAMPLES frames.
+    4.  Actor counts include actors within groups (all descendants), not just the top level.
+
+    Methods include:
+
+    countActors:  Returns the number of actors in the passed group, including all descendants.
+    disable:  Stops gathering statistics, restoring the regular OpenGL interface.
+    endStage:  Stores the statistics for the stage that just finished drawing.
+    getFramePercentile:  Returns the frame time at the passed percentile, in milliseconds.
+    getFrameReport:  Returns a line of text with the frame time percentiles.
+    getStageReport:  Returns a line of text with the statistics for the stage at the passed index.
+    recordFrame:  Stores the time for a frame.
+    startStage:  Notes the profiler values before a stage starts drawing.
+    */
+
+    // Declare object variables.
+    private final int[] actorCounts; // Number of actors in each stage, during the last frame.
+    private final float[] frameTimes; // Times for recent frames, in milliseconds.  Circular.
+    private final int[] maxSprites; // Maximum sprites per batch for each stage, during the last frame.
+    private final int[] renderCalls; // Sprite batch render calls for each stage, during the last frame.
+    private final float[] sortedTimes; // Copy of frame times, sorted when calculating percentiles.
+    private final String[] stageNames; // Names of stages, for display.
+    private final int[] textureBinds; // Texture binds for each stage, during the last frame.
+
+    // Declare regular variables.
+    private int frameCount; // Number of frame times stored -- up to FRAME_SAMPLES.
+    private int frameIndex; // Index in frameTimes at which to store the next frame time.
+    private int renderCallsStart; // Batch render calls count before the current stage began drawing.
+    private int textureBindsStart; // Profiler texture binds count before the current stage began drawing.
+
+    // Declare constants.
+    private static final int FRAME_SAMPLES = 240; // Number of recent frames for which to keep times.
+      // About four seconds at 60 frames per second.
+
+    // stageNames = Names of stages, for display.  Order determines the index of each stage.
+    public RenderStats(String ... stageNames)
+    {
+
+        // The constructor allocates the arrays and starts the profiler.
+        // Call from the rendering thread, since the profiler replaces the OpenGL interface.
+
+        // Store passed values.
+        this.stageNames = stageNames;
+
+        // Allocate arrays.
+        actorCounts = new int[stageNames.length];
+        frameTimes = new float[FRAME_SAMPLES];
+        maxSprites = new int[stageNames.length];
+        renderCalls = new int[stageNames.length];
+        sortedTimes = new float[FRAME_SAMPLES];
+        textureBinds = new int[stageNames.length];
+
+        // Set defaults.
+        frameCount = 0;
+        frameIndex = 0;
+        renderCallsStart = 0;
+        textureBindsStart = 0;
+
+        // Start profiler.
+        GLProfiler.enable();
+
+    }
+
+    // group = Group in which to count actors.
+    public static int countActors(Group group)
+    {
+
+        // The function returns the number of actors in the passed group, including all descendants.
+
+        int count; // Number of actors.
+
+        // Set defaults.
+        count = 0;
+
+        // Loop through children of group.
+        for (Actor actor : group.getChildren())
+        {
+
+            // Count child.
+            count++;
+
+            // If child contains its own actors, then count them too.
+            if (actor instanceof Group)
+                count += countActors((Group)actor);
+
+        }
+
+        // Return number of actors.
+        return count;
+
+    }
+
+    public void disable()
+    {
+
+        // The function stops gathering statistics, restoring the regular OpenGL interface.
+        GLProfiler.disable();
+
+    }
+
+    // stageIndex = Index of stage that just finished drawing.
+    // stage = Stage that just finished drawing.
+    public void endStage(int stageIndex, Stage stage)
+    {
+
+        // The function stores the statistics for the stage that just finished drawing.
+
+        Batch batch; // Batch used by stage.
+
+        // Store batch used by stage.
+        batch = stage.getBatch();
+
+        // Store texture binds occurring while stage drew.
+        textureBinds[stageIndex] = GLProfiler.textureBindings - textureBindsStart;
+
+        // If stage uses a sprite batch, then...
+        if (batch instanceof SpriteBatch)
+        {
+
+            // Stage uses a sprite batch.
+
+            // Store render calls occurring while stage drew and maximum sprites per batch.
+            renderCalls[stageIndex] = ((SpriteBatch)batch).totalRenderCalls - renderCallsStart;
+            maxSprites[stageIndex] = ((SpriteBatch)batch).maxSpritesInBatch;
+
+        }
+
+        // Store number of actors in stage.
+        actorCounts[stageIndex] = countActors(stage.getRoot());
+
+    }
+
+    // percentile = Percentile to return (0 to 100).
+    public float getFramePercentile(float percentile)
+    {
+
+        // The function returns the frame time at the passed percentile, in milliseconds.
+        // Sorts a copy of the stored times, so call once per report rather than every frame.
+
+        int rank; // Index of frame time at percentile, within sorted times.
+
+        // If no frame times stored, then...
+        if (frameCount == 0)
+            // No frame times stored.  Return zero.
+            return 0f;
+
+        // Copy and sort stored frame times.
+        System.arraycopy(frameTimes, 0, sortedTimes, 0, frameCount);
+        Arrays.sort(sortedTimes, 0, frameCount);
+
+        // Determine index of frame time at percentile (nearest rank), staying within the stored times.
+        rank = (int)Math.ceil(percentile / 100f * frameCount) - 1;
+        rank = Math.max(0, Math.min(frameCount - 1, rank));
+
+        // Return frame time at percentile.
+        return sortedTimes[rank];
+
+    }
+
+    public String getFrameReport()
+    {
+
+        // The function returns a line of text with the frame time percentiles.
+        // Example:  FRAME MS P50 16.7 P95 17.2 P99 33.4
+
+        // Return text.
+        return String.format("FRAME MS P50 %.1f P95 %.1f P99 %.1f", getFramePercentile(50f),
+          getFramePercentile(95f), getFramePercentile(99f));
+
+    }
+
+    // stageIndex = Index of stage for which to return statistics.
+    public String getStageReport(int stageIndex)
+    {
+
+        // The function returns a line of text with the statistics for the stage at the passed index.
+        // Example:  MAIN CALLS 2 BINDS 2 MAX 26 ACTORS 31
+
+        // Return text.
+        return stageNames[stageIndex].toUpperCase() + " CALLS " + renderCalls[stageIndex] + " BINDS " +
+          textureBinds[stageIndex] + " MAX " + maxSprites[stageIndex] + " ACTORS " + actorCounts[stageIndex];
+
+    }
+
+    // dt = Time span between the current and last frame in seconds.
+    public void recordFrame(float dt)
+    {
+
+        // The function stores the time for a frame, replacing the oldest once FRAME_SAMPLES exist.
+
+        // Store frame time, in milliseconds.
+        frameTimes[frameIndex] = dt * 1000f;
+
+        // Move to next slot, wrapping around.
+        frameIndex = (frameIndex + 1) % FRAME_SAMPLES;
+
+        // Count frame time, up to the number of slots.
+        frameCount = Math.min(frameCount + 1, FRAME_SAMPLES);
+
+    }
+
+    // stage = Stage about to draw.
+    public void startStage(Stage stage)
+    {
+
+        // The function notes the profiler values before a stage starts drawing.
+        // The function also clears the maximum sprites per batch, which the batch otherwise keeps across
+        // frames.
+
+        Batch batch; // Batch used by stage.
+
+        // Store batch used by stage.
+        batch = stage.getBatch();
+
+        // Note texture binds so far.
+        textureBindsStart = GLProfiler.textureBindings;
+
+        // If stage uses a sprite batch, then...
+        if (batch instanceof SpriteBatch)
+        {
+            
+            // Stage uses a sprite batch.
+            
+            // Note render calls so far and clear maximum sprites per batch.
+            renderCallsStart = ((SpriteBatch)batch).totalRenderCalls;
+            ((SpriteBatch)batch).maxSpritesInBatch = 0;
+            
+        }
+
+    }
+
+    // Getters and setters below...
+
+    public int getStageCount() {
+        return stageNames.length;
+    }
+
+}
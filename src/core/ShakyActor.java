@@ -3,7 +3,8 @@ package core;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
-import java.security.SecureRandom;
+import routines.RandomSource;
+import routines.SplittableRandomSource;
 import routines.UtilityRoutines;
 
 /*
@@ -92,7 +93,7 @@ public class ShakyActor extends BaseActor { // Extends the BaseActor class.
     private float basePosY; // Base y-position of actor.  Actor moves to here at beginning and goes back here 
       // after "shaking".  Bottom of actor.
     private float elapsedTime; // Total elapsed time the actor has existed.
-    private final SecureRandom number; // Used for generating random numbers.
+    private final RandomSource number; // Used for generating random numbers.  Cosmetic only, so unseeded.
     private boolean pauseMovementInd; // Whether movement currently paused.
     private int shakeCount; // Number of animations to process related to "shaking" actor.
     private int shakeCounter; // Used to iterate through animations related to "shaking" actor.
@@ -140,7 +141,7 @@ public class ShakyActor extends BaseActor { // Extends the BaseActor class.
         this.viewHeight = viewHeight;
         
         // Start random number generator.
-        number = new SecureRandom();
+        number = new SplittableRandomSource();
         
     }
     
@@ -183,7 +184,7 @@ public class ShakyActor extends BaseActor { // Extends the BaseActor class.
         this.viewHeight = viewHeight;
         
         // Start random number generator.
-        number = new SecureRandom();
+        number = new SplittableRandomSource();
         
     }
     
@@ -226,7 +227,7 @@ public class ShakyActor extends BaseActor { // Extends the BaseActor class.
         this.viewHeight = viewHeight;
         
         // Start random number generator.
-        number = new SecureRandom();
+        number = new SplittableRandomSource();
         
     }
     
@@ -256,7 +257,7 @@ public class ShakyActor extends BaseActor { // Extends the BaseActor class.
         this.slideToBasePosInd = false;
         
         // Start random number generator.
-        number = new SecureRandom();
+        number = new SplittableRandomSource();
         
     }
     
@@ -286,7 +287,7 @@ public class ShakyActor extends BaseActor { // Extends the BaseActor class.
         this.slideToBasePosInd = false;
         
         // Start random number generator.
-        number = new SecureRandom();
+        number = new SplittableRandomSource();
         
     }
     
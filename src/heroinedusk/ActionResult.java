@@ -42,6 +42,7 @@ public class ActionResult
     private String textResult; // Result-related text.  Examples:  n DAMAGE, MISS!, +DEF UP!, BLOCKED!, 
       // -1 MP, NO EFFECT, ABSORBED, +n HP, ...
     private String textSource; // Source-related text.  Examples:  YOU:, ENEMY:, ...
+    private HeroineEnum.SoundEnum sound; // Sound related to the action.  Null when no sound plays.
     
     public ActionResult()
     {
@@ -125,6 +126,7 @@ public class ActionResult
         this.textResult = null;
         this.textSource = null;
         this.opponentHurt = false;
+        this.sound = null;
         
     }
     
@@ -154,6 +156,14 @@ public class ActionResult
         this.resultNumeric = resultNumeric;
     }
 
+    public HeroineEnum.SoundEnum getSound() {
+        return sound;
+    }
+
+    public void setSound(HeroineEnum.SoundEnum sound) {
+        this.sound = sound;
+    }
+    
     public String getTextAction() {
         return textAction;
     }
@@ -1,12 +1,14 @@
 package heroinedusk;
 
+// Jackson imports.
+import com.fasterxml.jackson.core.JsonGenerator;
+
 // Java imports.
+import java.io.IOException;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Set;
 
 /*
 Interface (implements) vs Sub-Class (extends)...
@@ -34,6 +36,13 @@ public class Atlas
     /* 
     The class stores map-related data.  An atlas contains one to many region / maps.
     
+    Notes:
+    1.  Regions either stay in memory (maps -- when loading from JSON) or load on demand through a region 
+        cache (when loading from a binary atlas, see AtlasBinary.open).  Use getRegionMap to reach a region 
+        either way.
+    2.  To change a region other than the current one, get it through holdRegionMap and release it with 
+        releaseRegionMap afterwards, so that the region cache cannot evict it in between.
+    
     Methods include:
     
     addMap:  Adds a region / map to the atlas.
@@ -44,18 +53,22 @@ public class Atlas
     addTile_South:  Adds an element to the array list with details about the south sides of map locations.
     addTile_West:  Adds an element to the array list with details about the west sides of map locations.
     addTiles:  Adds a horizontal set of tiles to a region / map.
-    populateHashMap:  Populates the hash map containing all the atlas information.
-    readHashMap:  Builds the entire atlas using the passed hash map.
+    dispose:  Stops the background thread of the region cache (if any).
+    getChangedRegions:  Returns the regions / maps with tiles changed since loading, in region number order.
+    registerMap:  Adds the cross reference entry for a region / map and increments the map count.
     removeMap:  Removes the passed region / map from the atlas.
+    writeJSON:  Writes the atlas as a JSON object to the passed generator, one region at a time.
     */
     
     // Declare object variables.
     private RegionMap currRegion; // Reference to current region.  Simplifies addition of tiles, shops, exits, ...
+    private MutationJournal journal; // Journal given to regions, in which to log tile changes.  Null = none.
     protected HashMap<String, Integer> mapIdentifiers; // Region name and identifier (number) cross reference.
     protected HashMap<Integer, String> mapIdentifiersRev; // Identifier (number) and region name cross reference.
-    protected Map<String, Object> mapJSON; // Hash map containing key / value pairs covering all atlas data -- 
-      // used with JSON.  Key = region name.
     protected HashMap<String, RegionMap> maps; // Information about each region.  Key = region name.
+      // Empty when loading regions on demand through the region cache.
+    private RegionCache regionCache; // Cache from which to load regions on demand.  Null when all regions
+      // stay in memory.
     
     // Declare regular variables.
     protected int mapCount; // Number of maps / regions.  Base 1.
@@ -77,7 +90,6 @@ public class Atlas
         // Initialize the hash maps.
         mapIdentifiers = new HashMap<>();
         mapIdentifiersRev = new HashMap<>();
-        mapJSON = new HashMap<>();
         maps = new HashMap<>();
         
     }
@@ -92,24 +104,68 @@ public class Atlas
       int regionHeight, HeroineEnum.ImgBackgroundEnum regionBackground, HeroineEnum.EnemyEnum ... enemies)
     {
         
-        // The function adds a region / map to the atlas.
+        // The function adds a region / map to the atlas, numbering it after the existing ones.
         
-        // Create region / map.
-        maps.put(regionName, new RegionMap(regionName, regionMusic, regionWidth, regionHeight, 
-          regionBackground, mapCount, enemies));
+        // Add region / map.
+        return addMap(mapCount, regionName, regionMusic, regionWidth, regionHeight, regionBackground, enemies);
         
-        // Add cross reference entry.
-        mapIdentifiers.put(regionName, mapCount);
-        mapIdentifiersRev.put(mapCount, regionName);
+    }
+    
+    // regionNbr = Region number.  Base 0.
+    // regionName = Region name.
+    // regionMusic = Region music.
+    // regionWidth = Region width, in tiles.
+    // regionHeight = Region height, in tiles.
+    // regionBackground = Background image for the region.
+    // enemies = List of enemies in region.
+    public RegionMap addMap(int regionNbr, String regionName, HeroineEnum.MusicEnum regionMusic, 
+      int regionWidth, int regionHeight, HeroineEnum.ImgBackgroundEnum regionBackground, 
+      HeroineEnum.EnemyEnum ... enemies)
+    {
         
-        // Increment map count.
-        mapCount++;
+        // The function adds a region / map with the passed number to the atlas.
+        // Used when loading, so that region numbers (and exit destinations) do not depend on file order.
+        
+        // Create and add region / map.
+        return addMap(new RegionMap(regionName, regionMusic, regionWidth, regionHeight, regionBackground, 
+          regionNbr, enemies));
+        
+    }
+    
+    // region = Region / map to add.
+    public RegionMap addMap(RegionMap region)
+    {
+        
+        // The function adds the passed (already built) region / map to the atlas, using its region number.
+        
+        // Add region / map.
+        maps.put(region.getRegionName(), region);
+        
+        // Add cross reference entry and increment map count.
+        registerMap(region.getRegionNbr(), region.getRegionName());
         
         // Store reference to region / map.
-        currRegion = maps.get(regionName);
+        currRegion = region;
         
-        // Return newly created region / map.
-        return maps.get(regionName);
+        // Return region / map.
+        return region;
+        
+    }
+    
+    // regionNbr = Region number.  Base 0.
+    // regionName = Region name.
+    public void registerMap(int regionNbr, String regionName)
+    {
+        
+        // The function adds the cross reference entry for a region / map and increments the map count.
+        // Used directly for regions left in a region source until needed.
+        
+        // Add cross reference entry.
+        mapIdentifiers.put(regionName, regionNbr);
+        mapIdentifiersRev.put(regionNbr, regionName);
+        
+        // Increment map count.
+        mapCount++;
         
     }
     
@@ -275,420 +331,101 @@ public class Atlas
         
     }
     
-    public void populateHashMap()
+    public void dispose()
     {
         
-        // The function populates the hash map containing all the atlas information.
+        // The function stops the background thread of the region cache (if any).
         
-        int counter; // Used to iterate through regions.
-        RegionMap currentRegion; // Current region in loop.
-        Set<Map.Entry<String, RegionMap>> entrySet; // Set view of the mappings in the hash map for all regions.
+        // If regions load through a cache, then stop its background thread.
+        if (regionCache != null)
+            regionCache.dispose();
         
-        // Set defaults.
-        counter = 1;
+    }
+    
+    public ArrayList<RegionMap> getChangedRegions()
+    {
         
-        // Store a set view of the mappings for the hash map for all regions.
-        entrySet = maps.entrySet();
+        // The function returns the regions / maps with tiles changed since loading, in region number order.
         
-        // Loop through regions.
-        for (Entry entry : entrySet)
+        ArrayList<RegionMap> changedRegions; // Changed regions to return.
+        
+        // If all regions stay in memory, then...
+        if (regionCache == null)
         {
-            // Get a reference to the current region.
-            currentRegion = (RegionMap)entry.getValue();
             
-            // Populate the hash map for the current region.
-            currentRegion.populateHashMap();
+            // All regions stay in memory.
+            
+            // Initialize array list.
+            changedRegions = new ArrayList<>();
             
-            // Add the hash map for the current region to the object containing all.
-            mapJSON.put("MAP_" + decimalFormat00.format(currentRegion.getRegionNbr()), currentRegion.getMap());
+            // Loop through regions, adding those changed.
+            for (RegionMap region : maps.values())
+                if (region.getTileVersion() != 0)
+                    changedRegions.add(region);
             
-            // Increment region counter.
-            counter++;
         }
         
+        else
+            // Regions load through the cache, which keeps all changed regions.
+            changedRegions = regionCache.getChangedRegions();
+        
+        // Order regions by number.
+        changedRegions.sort((region1, region2) -> 
+          Integer.compare(region1.getRegionNbr(), region2.getRegionNbr()));
+        
+        // Return changed regions.
+        return changedRegions;
+        
     }
     
-    // mapJSONBuild = Hash map containing data for the entire atlas.
-    public void readHashMap(Map<String, Object> mapJSONBuild)
+    // generator = Streaming JSON generator to which to write.
+    public void writeJSON(JsonGenerator generator) throws IOException
     {
         
-        // The function builds the entire atlas using the passed hash map.
-        
-        // Declare object variables.
-        HeroineEnum.EnemyEnum[] enemyEnums; // Array containing enemies for current region in loop.
-        Set<Map.Entry<String, Object>> entrySet; // Set view of all of the mappings in the hash map for all regions.
-        Set<Map.Entry<String, String>> entrySetEnemies; // Set view of the enemy mappings in the hash map for current region in loop.
-        Set<Map.Entry<String, Object>> entrySetExits; // Set view of the exit mappings in the hash map for current region in loop.
-        Set<Map.Entry<String, Object>> entrySetShops; // Set view of the exit mappings in the hash map for current region in loop.
-        Set<Map.Entry<String, Object>> entrySetTileSides; // Set view of the mappings in a hash map with tile side information.
-        HashMap<String, Integer> exitData; // Hash map containing information for a single exit.
-        HashMap<String, Object> exitMap; // Hash map containing information for exits in current region in loop.
-        HashMap<String, Object> shopData; // Hash map containing information for a single shop.
-        HashMap<String, Object> shopMap; // Hash map containing information for shops in current region in loop.
-        HashMap<String, Object> temp; // Hash map containing information for current region in loop.
-        HashMap<String, Object> tileSideData; // Hash map containing information for a single tile side.
-        HashMap<String, Object> tileSidesMap; // Hash map containing information for one direction of tile sides in current region in loop.
-        ArrayList tileRow; // Array list containing information for all tiles in current row and region in loops.
-        
-        // Declare regular variables.
-        int enemyCount; // Number of enemies in current region.
-        int enemyCounter; // Used to increment through enemies.
-        int exitCount; // Number of exits in current region.
-        int mapCountFile; // Map count read from file.
-        int regionHeight; // Region height, in tiles.  Same as tile row count.
-        String regionName; // Name of current region in loop.
-        int shopCount; // Number of shops in current region.
-        Integer sideTilesEastCount; // Number of locations with view on east side.
-        Integer sideTilesNorthCount; // Number of locations with view on north side.
-        Integer sideTilesSouthCount; // Number of locations with view on south side.
-        Integer sideTilesWestCount; // Number of locations with view on east side.
-        String tileRowKey; // Key in hash map for current tile row in loop.
-        
-        // Reset defaults.
-        mapCount = 0;
+        // The function writes the atlas as a JSON object to the passed generator, one region at a time.
+        // Keys get written in sorted order -- region names in the identifier list, and regions by number.
+        // When loading regions on demand, regions not in the cache get loaded one at a time and left out of 
+        // the cache.
         
-        // Reinitialize atlas.
-        mapIdentifiers = new HashMap<>();
-        mapIdentifiersRev = new HashMap<>();
-        mapJSON = new HashMap<>();
-        maps = new HashMap<>();
+        ArrayList<Integer> regionNbrs; // Region numbers, in ascending order.
+        ArrayList<String> regionNames; // Region names, in sorted order.
+        
+        // Sort region names and numbers.
+        regionNames = new ArrayList<>(mapIdentifiers.keySet());
+        regionNbrs = new ArrayList<>(mapIdentifiersRev.keySet());
+        Collections.sort(regionNames);
+        Collections.sort(regionNbrs);
+        
+        // Start atlas.
+        generator.writeStartObject();
+        
+        // Write region count.
+        generator.writeNumberField("mapCount", mapCount);
         
-        // Populate the region count.
-        mapCountFile = (int)mapJSONBuild.get("mapCount");
+        // Write region identifier list.
+        generator.writeObjectFieldStart("mapIdentifiers");
         
-        // Populate region name and identifier cross reference.
-        //mapIdentifiers.putAll((HashMap)mapJSONBuild.get("mapIdentifiers"));
+        for (String regionName : regionNames)
+            generator.writeNumberField(regionName, mapIdentifiers.get(regionName));
         
-        // Store a set view of all of the mappings for the hash map for all regions.
-        entrySet = ((HashMap)mapJSONBuild.get("maps")).entrySet();
+        generator.writeEndObject();
         
-        // Loop through regions.
-        for (Entry entry : entrySet)
+        // Write regions.
+        generator.writeObjectFieldStart("maps");
+        
+        for (int map_id : regionNbrs)
         {
             
-            // Reinitialize hash maps containing information for current region.
-            temp = new HashMap<>();
-            exitMap = new HashMap<>();
-            shopMap = new HashMap<>();
-            
-            // Get a reference to the current region.
-            
-            // Copy all data for current region into hash map. 
-            temp.putAll((HashMap)entry.getValue());
-            
-            // Store name of current region in loop.
-            regionName = (String)temp.get("regionName");
-            
-            System.out.println("\nLoading information for region, " + regionName);
-            
-            // Store number of tile rows in current region in loop -- same as region height.
-            regionHeight = (int)temp.get("regionHeight");
+            // Write region, loading it from the region source if necessary.
+            generator.writeFieldName("MAP_" + decimalFormat00.format(map_id));
+            (regionCache == null ? getRegionMap(map_id) : regionCache.peekRegion(map_id)).writeJSON(generator);
             
-            // Store tile side counts in current region in loop.
-            sideTilesNorthCount = (Integer)temp.get("sideTileCountNorth");
-            sideTilesSouthCount = (Integer)temp.get("sideTileCountSouth");
-            sideTilesEastCount = (Integer)temp.get("sideTileCountEast");
-            sideTilesWestCount = (Integer)temp.get("sideTileCountWest");
-            
-            // Convert nulls in tile side counts from null to 0.
-            if (sideTilesNorthCount == null)
-            {
-                sideTilesNorthCount = 0;
-            }
-            if (sideTilesSouthCount == null)
-            {
-                sideTilesSouthCount = 0;
-            }
-            if (sideTilesEastCount == null)
-            {
-                sideTilesEastCount = 0;
-            }
-            if (sideTilesWestCount == null)
-            {
-                sideTilesWestCount = 0;
-            }
-            
-            System.out.println("Side Tile Count - North: " + sideTilesNorthCount);
-            System.out.println("Side Tile Count - South: " + sideTilesSouthCount);
-            System.out.println("Side Tile Count - East: " + sideTilesEastCount);
-            System.out.println("Side Tile Count - West: " + sideTilesWestCount);
-            
-            // Store number of enemies in current region in loop.
-            enemyCount = (int)temp.get("enemyCount");
-            
-            // Initialize enemy enumeration array.
-            enemyEnums = new HeroineEnum.EnemyEnum[enemyCount];
-            
-            // If one or more enemies exist in current region, then...
-            if (enemyCount > 0)
-            {
-                
-                // One or more enemies exist in current region.
-                
-                // Reset counter.
-                enemyCounter = 0;
-                
-                // Store a set view of the enemy mappings for the hash map for the current regions.
-                entrySetEnemies = ((HashMap)temp.get("enemies")).entrySet();
-                
-                // Loop through enemies.
-                for (Entry entryEnemy : entrySetEnemies)
-                {
-                
-                    // Add the enemy to the array.
-                    enemyEnums[enemyCounter] = HeroineEnum.EnemyEnum.valueOf((String)entryEnemy.getValue());
-                    
-                    // Increment counter.
-                    enemyCounter++;
-                    
-                }
-                
-            } // End ... If one or more enemies exist in current region.
-            
-            // Add current region to atlas.
-            addMap(regionName, 
-              HeroineEnum.MusicEnum.valueOf((String)temp.get("regionMusic")), 
-              (int)temp.get("regionWidth"), regionHeight, 
-              HeroineEnum.ImgBackgroundEnum.valueOf((String)temp.get("regionBackground")), enemyEnums);
-            
-            // Store number of exits in current region in loop.
-            exitCount = (int)temp.get("exitCount");
-            
-            // If one or more exits exist in current region, then...
-            if (exitCount > 0)
-            {
-                
-                // One or more exits exist in current region.
-                
-                // Copy all data for exits in current region into hash map. 
-                exitMap.putAll((HashMap)temp.get("exits"));
-                
-                // Store a set view of the exit mappings for the hash map for the current regions.
-                entrySetExits = exitMap.entrySet();
-                
-                // Loop through exits in current region.
-                for (Entry entryExit : entrySetExits)
-                {
-                    
-                    // Reinitialize hash map for single exit.
-                    exitData = new HashMap<>();
-                    
-                    // Copy all data for current exit in loop to hash map.
-                    exitData.putAll((HashMap)entryExit.getValue());
-                    
-                    // Add the exit to the region.
-                    addRegionExit((int)exitData.get("EXIT_X"), (int)exitData.get("EXIT_Y"), 
-                      (int)exitData.get("DEST_MAP"), (int)exitData.get("DEST_X"), (int)exitData.get("DEST_Y"));
-                    
-                }
-                
-            } // End ... If one or more exits exist in current region.
-            
-            // Store number of shops in current region in loop.
-            shopCount = (int)temp.get("shopCount");
-            
-            // If one or more shops exist in current region, then...
-            if (shopCount > 0)
-            {
-                
-                // One or more shops exist in current region.
-                
-                // Copy all data for shops in current region into hash map. 
-                shopMap.putAll((HashMap)temp.get("shops"));
-                
-                // Store a set view of the shop mappings for the hash map for the current regions.
-                entrySetShops = shopMap.entrySet();
-                
-                // Loop through shops in current region.
-                for (Entry entryShop : entrySetShops)
-                {
-                    
-                    // Reinitialize hash map for single shop.
-                    shopData = new HashMap<>();
-                    
-                    // Copy all data for current shop in loop to hash map.
-                    shopData.putAll((HashMap)entryShop.getValue());
-                    
-                    // Add the shop to the region.
-                    addRegionShop((int)shopData.get("EXIT_X"), (int)shopData.get("EXIT_Y"), 
-                      HeroineEnum.ShopEnum.valueOf((String)shopData.get("SHOP_ID")), 
-                      (int)shopData.get("DEST_X"), (int)shopData.get("DEST_Y"));
-                    
-                }
-                
-            } // End ... If one or more shops exist in current region.
-            
-            // If one or more north side tiles exist in current region, then...
-            if (sideTilesNorthCount > 0)
-            {
-                
-                // One or more north side tiles exist in current region.
-                
-                // Initialize tile side hash map.
-                tileSidesMap = new HashMap<>();
-                
-                // Copy all data for north side tiles in current region into hash map. 
-                tileSidesMap.putAll((HashMap)temp.get("north_side_tiles"));
-                
-                // Store a set view of the north side tile mappings for the hash map for the current regions.
-                entrySetTileSides = tileSidesMap.entrySet();
-                
-                // Loop through north tile sides in current region.
-                for (Entry entrySide : entrySetTileSides)
-                {
-                    
-                    // Reinitialize hash map for single tile side.
-                    tileSideData = new HashMap<>();
-                    
-                    // Copy all data for current tile side in loop to hash map.
-                    tileSideData.putAll((HashMap)entrySide.getValue());
-                    
-                    // Add the tile side to the region.
-                    addTile_North((int)tileSideData.get("X"), (int)tileSideData.get("Y"), 
-                      (int)tileSideData.get("TILE"));
-                    
-                }
-                
-            } // End ... If one or more north tile sides exist in current region.
-            
-            // If one or more south side tiles exist in current region, then...
-            if (sideTilesSouthCount > 0)
-            {
-                
-                // One or more south side tiles exist in current region.
-                
-                // Initialize tile side hash map.
-                tileSidesMap = new HashMap<>();
-                
-                // Copy all data for south side tiles in current region into hash map. 
-                tileSidesMap.putAll((HashMap)temp.get("south_side_tiles"));
-                
-                // Store a set view of the south side tile mappings for the hash map for the current regions.
-                entrySetTileSides = tileSidesMap.entrySet();
-                
-                // Loop through south tile sides in current region.
-                for (Entry entrySide : entrySetTileSides)
-                {
-                    
-                    // Reinitialize hash map for single tile side.
-                    tileSideData = new HashMap<>();
-                    
-                    // Copy all data for current tile side in loop to hash map.
-                    tileSideData.putAll((HashMap)entrySide.getValue());
-                    
-                    // Add the tile side to the region.
-                    addTile_South((int)tileSideData.get("X"), (int)tileSideData.get("Y"), 
-                      (int)tileSideData.get("TILE"));
-                    
-                }
-                
-            } // End ... If one or more south tile sides exist in current region.
-            
-            // If one or more east side tiles exist in current region, then...
-            if (sideTilesEastCount > 0)
-            {
-                
-                // One or more east side tiles exist in current region.
-                
-                // Initialize tile side hash map.
-                tileSidesMap = new HashMap<>();
-                
-                // Copy all data for east side tiles in current region into hash map. 
-                tileSidesMap.putAll((HashMap)temp.get("east_side_tiles"));
-                
-                // Store a set view of the east side tile mappings for the hash map for the current regions.
-                entrySetTileSides = tileSidesMap.entrySet();
-                
-                // Loop through east tile sides in current region.
-                for (Entry entrySide : entrySetTileSides)
-                {
-                    
-                    // Reinitialize hash map for single tile side.
-                    tileSideData = new HashMap<>();
-                    
-                    // Copy all data for current tile side in loop to hash map.
-                    tileSideData.putAll((HashMap)entrySide.getValue());
-                    
-                    // Add the tile side to the region.
-                    addTile_East((int)tileSideData.get("X"), (int)tileSideData.get("Y"), 
-                      (int)tileSideData.get("TILE"));
-                    
-                }
-                
-            } // End ... If one or more east tile sides exist in current region.
-            
-            // If one or more west side tiles exist in current region, then...
-            if (sideTilesWestCount > 0)
-            {
-                
-                // One or more west side tiles exist in current region.
-                
-                // Initialize tile side hash map.
-                tileSidesMap = new HashMap<>();
-                
-                // Copy all data for west side tiles in current region into hash map. 
-                tileSidesMap.putAll((HashMap)temp.get("west_side_tiles"));
-                
-                // Store a set view of the west side tile mappings for the hash map for the current regions.
-                entrySetTileSides = tileSidesMap.entrySet();
-                
-                // Loop through west tile sides in current region.
-                for (Entry entrySide : entrySetTileSides)
-                {
-                    
-                    // Reinitialize hash map for single tile side.
-                    tileSideData = new HashMap<>();
-                    
-                    // Copy all data for current tile side in loop to hash map.
-                    tileSideData.putAll((HashMap)entrySide.getValue());
-                    
-                    // Add the tile side to the region.
-                    addTile_West((int)tileSideData.get("X"), (int)tileSideData.get("Y"), 
-                      (int)tileSideData.get("TILE"));
-                    
-                }
-                
-            } // End ... If one or more west tile sides exist in current region.
-            
-            // Loop through tile rows in current region.
-            for (int tileRowCounter = 1; tileRowCounter <= regionHeight; tileRowCounter++)
-            {
-                
-                // Store key to use with hash map to get data for current tile row data.
-                tileRowKey = "ROW_" + decimalFormat00.format(tileRowCounter);
-                
-                // Store information for current row / region in the array list.
-                tileRow = (ArrayList)((HashMap)temp.get("tiles")).get(tileRowKey);
-                
-                // Add row of tiles to current region data.
-                addTiles(tileRow);
-                
-            }
-            
-            /*
-            System.out.println("\nRegion Name: " + maps.get(regionName).getRegionName());
-            System.out.println("Region Music: " + maps.get(regionName).getRegionMusic());
-            System.out.println("Region Width: " + maps.get(regionName).getRegionWidth());
-            System.out.println("Region Height: " + maps.get(regionName).getRegionHeight());
-            System.out.println("Region Background: " + maps.get(regionName).getRegionBackground());
-            System.out.println("Enemy Count: " + maps.get(regionName).getEnemyCount());
-            System.out.println("Exit Count (File): " + exitCount);
-            System.out.println("Exit Count (Atlas): " + maps.get(regionName).getExitCount());
-            System.out.println("Exit Dest 1: " + maps.get(regionName).getRegionExit(0).dest_map);
-            System.out.println("Shop Count (File): " + shopCount);
-            System.out.println("Shop Count (Atlas): " + maps.get(regionName).getShopCount());
-            System.out.println("Tile row count: " + maps.get(regionName).getRegionTiles().size());
-            if (maps.get(regionName).getShopCount() > 0)
-                System.out.println("Shop Dest 1: " + maps.get(regionName).getRegionShop(0).shop_id);
-            
-            if (enemyEnums.length > 0)
-            {
-                System.out.println("Enemy 1: " + enemyEnums[0]);
-            }
-            System.out.println("Tile 1: " + maps.get(regionName).getRegionTiles().get(0));
-            */
-            
-        } // End ... Loop through regions.
+        }
+        
+        generator.writeEndObject();
+        
+        // End atlas.
+        generator.writeEndObject();
         
     }
     
@@ -698,8 +435,92 @@ public class Atlas
         return mapCount;
     }
     
-    public Map<String, Object> getMapJSON() {
-        return mapJSON;
+    public RegionCache getRegionCache() {
+        return regionCache;
+    }
+    
+    // regionCache = Cache from which to load regions / maps on demand.
+    public void setRegionCache(RegionCache regionCache) {
+        this.regionCache = regionCache;
+    }
+    
+    // journal = Journal given to regions, in which to log tile changes.  Null = no logging.
+    public void setJournal(MutationJournal journal) {
+        
+        // The function stores the journal and hands it to the regions in memory.  Regions loaded on demand
+        // get the journal when requested (see getRegionMap and prepareRegionMap).
+        
+        // Store journal.
+        this.journal = journal;
+        
+        // Hand journal to regions in memory.
+        for (RegionMap region : maps.values())
+            region.setJournal(journal);
+        
+    }
+    
+    // map_id = Map / region number.
+    public RegionMap prepareRegionMap(int map_id) {
+        
+        // The function returns the region / map, loading it through the region cache without making it the 
+        // current region.  Used when preparing a region ahead of entering it.
+        // The region gets the journal, since regions loaded on demand start without one.
+        
+        RegionMap region; // Region to return.
+        
+        // Get region and hand it the journal.
+        region = regionCache == null ? maps.get(mapIdentifiersRev.get(map_id)) : regionCache.fetchRegion(map_id);
+        region.setJournal(journal);
+        
+        // Return region.
+        return region;
+        
+    }
+    
+    // map_id = Map / region number.
+    public RegionMap holdRegionMap(int map_id) {
+        
+        // The function returns the region / map, loading it through the region cache without making it the 
+        // current region, and keeps it in the cache until released (see releaseRegionMap).
+        // Used when changing a region other than the current one.
+        
+        RegionMap region; // Region to return.
+        
+        // Get and hold region, and hand it the journal.
+        region = regionCache == null ? maps.get(mapIdentifiersRev.get(map_id)) : regionCache.holdRegion(map_id);
+        region.setJournal(journal);
+        
+        // Return region.
+        return region;
+        
+    }
+    
+    // map_id = Map / region number.
+    public void releaseRegionMap(int map_id) {
+        
+        // The function releases a region / map held through holdRegionMap.
+        
+        // If regions load through a cache, then release hold.
+        if (regionCache != null)
+            regionCache.releaseRegion(map_id);
+        
+    }
+    
+    // map_id = Map / region number.
+    public RegionMap getRegionMap(int map_id) {
+        
+        // The function returns the region / map, loading it through the region cache when one exists.
+        // The region gets the journal, since regions loaded on demand start without one.
+        
+        RegionMap region; // Region to return.
+        
+        // Get region and hand it the journal.
+        region = regionCache == null ? maps.get(mapIdentifiersRev.get(map_id)) : regionCache.getRegion(map_id);
+        region.setJournal(journal);
+        
+        // Return region.
+        return region;
+        
     }
     
 }
\ No newline at end of file
@@ -0,0 +1,992 @@
+package heroinedusk;
+
+// Java imports.
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.zip.CRC32;
+
+public final class AtlasBinary
+{
+
+    /*
+    The class reads and writes the atlas and atlas items in a compact, versioned binary format.  Reading maps
+    the file into memory (read-only), with the tiles of each region viewed straight from the mapping.
+
+    Layout (big-endian):
+
+    Header:  magic (int, "HDAT"), version (int), checksum (long, CRC32 of the payload), payload length (int),
+      region count (int), source size (long), source modified (long), index length (int), index checksum 
+      (int, CRC32 of the index).
+    Payload:  index, then body.
+      Index:  for each region (in region number order), offset in body (int), length (int), checksum (int, 
+        CRC32 of the region), and name -- then offset, length, and checksum of the items.
+      Body:  regions, then items.
+      Region:  number, name, music, background, width, height, enemies, exits, shops, side tiles (north,
+        south, east, west), tiles (width * height shorts, row-major).
+      Items:  map alteration events, bone piles, chests, hay bales, locked doors, specific enemies -- each a
+        count followed by the records.
+
+    Notes:
+    1.  Lists start with an int count.  Strings hold a short length (-1 = null) and UTF-8 bytes.  Enumerated
+        values get stored by name, so reordering an enumeration does not break existing files.
+    2.  Opening verifies the magic, version, payload length, and the checksums of the index and items -- 
+        all small -- before touching any region.  Each region gets verified against its own checksum when 
+        first decoded, so the cost of opening does not grow with the size of the regions.  Reading (as done 
+        by AtlasConverter) verifies the checksum of the whole payload instead.
+    3.  The mapping stays valid after the file closes.  Pages of the file get shared by every process reading
+        it and, apart from the index and items, only load as regions get touched.
+    4.  Tiles stay in the mapping until a tile changes (see TileGrid).  Everything else gets copied into the
+        usual objects, since it is small.
+    5.  Use AtlasConverter to produce a file from the JSON atlas and atlas items.
+    6.  Opening (rather than reading) a file reads the index of regions without decoding them and attaches a 
+        region cache to the atlas, so regions load when first needed and may get evicted again (see 
+        RegionCache).
+        Atlas items always load in full, since they also hold progress (removed chests, bone piles, doors).
+    7.  Opening compares the source size and modification time with those of the current JSON files (see 
+        sourceStamp), so a file left over from before the JSON files got edited gets rejected rather than 
+        overriding them -- without reading the JSON files.
+    8.  Loading treats a file that fails to decode (for example, enumerated names no longer in HeroineEnum)
+        like a missing one, so the caller can fall back to the JSON files.
+    9.  A region failing its checksum when first decoded throws an IllegalStateException, since the file 
+        passed the checks made when opening and the game already started from it.
+
+    Inner classes include:
+
+    RegionIndex:  Loads regions on demand from the body of an opened file.
+
+    Methods include:
+
+    load:  Opens the atlas and atlas items from the passed file, adding exception handling.
+    mapFile:  Maps the passed file into memory and validates the header (and optionally the payload checksum).
+    open:  Opens the passed file, leaving the regions in the file until needed.
+    read:  Reads the atlas and atlas items from the passed file into the passed objects.
+    readItems:  Reads the atlas items from the passed payload.
+    readRegion:  Reads a single region from the passed payload.
+    readString:  Reads a string from the passed buffer.
+    sectionChecksum:  Returns the checksum of the passed section of the passed buffer.
+    sourceStamp:  Returns the combined size and latest modification time of the passed JSON files.
+    write:  Writes the atlas and atlas items to the passed file.
+    writeString:  Writes a string to the passed stream.
+    */
+
+    // Declare constants.
+    public static final String DEFAULT_FILENAME = "atlas.bin"; // File checked for a binary atlas at startup.
+    private static final int HEADER_SIZE = 48; // Size of header, in bytes.
+    private static final int MAGIC = 0x48444154; // Marks an atlas file -- "HDAT".
+    private static final int VERSION = 3; // Version of format written.
+
+    private AtlasBinary()
+    {
+        // The constructor prevents instantiation.
+    }
+
+    // Inner classes below...
+
+    private static class RegionIndex implements RegionSource
+    {
+
+        // The inner class loads regions on demand from the body of an opened file.
+
+        // Declare object variables.
+        private final ByteBuffer body; // View of the body.  Never repositioned -- loads use duplicates.
+        private final int[] checksums; // Checksum of each region.  Index = region number.
+        private final int[] lengths; // Length of each region in the body.  Index = region number.
+        private final int[] offsets; // Offset of each region in the body.  Index = region number.
+        private final boolean[] verified; // Whether each region passed its checksum.  Index = region number.
+
+        // body = View of the body.
+        // offsets = Offset of each region in the body.  Index = region number.
+        // lengths = Length of each region in the body.  Index = region number.
+        // checksums = Checksum of each region.  Index = region number.
+        private RegionIndex(ByteBuffer body, int[] offsets, int[] lengths, int[] checksums)
+        {
+
+            // The constructor stores the passed values.
+
+            // Store passed values.
+            this.body = body;
+            this.offsets = offsets;
+            this.lengths = lengths;
+            this.checksums = checksums;
+
+            // Initialize array.
+            verified = new boolean[offsets.length];
+
+        }
+
+        @Override
+        public RegionMap loadRegion(int map_id)
+        {
+
+            // The function returns the region / map with the passed number, read from the body.
+            // The first load of each region verifies its checksum.  Each load reads through its own duplicate 
+            // of the body, so loads may run on several threads (at worst verifying a region twice).
+
+            ByteBuffer view; // View of the body used for the load.
+
+            // If region not verified yet, then...
+            if (!verified[map_id])
+            {
+
+                // Region not verified yet.
+
+                // If checksum differs, then...
+                if (sectionChecksum(body, offsets[map_id], lengths[map_id]) != checksums[map_id])
+                    throw new IllegalStateException("Region " + map_id + " of binary atlas failed checksum.  " + 
+                      "Rerun AtlasConverter.");
+
+                // Flag region as verified.
+                verified[map_id] = true;
+
+            }
+
+            // Create view positioned at region.
+            view = body.duplicate();
+            view.position(offsets[map_id]);
+
+            // Read and return region.
+            return readRegion(view);
+
+        }
+
+    }
+
+    // filename = File from which to read, including path.
+    // atlasSource = Class path of the JSON atlas from which the file got converted.
+    // atlasItemsSource = Class path of the JSON atlas items from which the file got converted.
+    // atlas = Atlas to which to add regions.  Should be empty.
+    // atlasItems = Atlas items to which to add items.  Should be empty.
+    // budgetBytes = Memory budget for regions kept in memory, in bytes.
+    public static boolean load(String filename, String atlasSource, String atlasItemsSource, Atlas atlas, 
+      AtlasItems atlasItems, long budgetBytes)
+    {
+
+        // The function opens the atlas and atlas items from the passed file, adding exception handling.
+        // The function returns whether the open succeeded.  On failure, the passed atlas and atlas items may
+        // hold part of the file, so discard them.
+
+        // Try opening the atlas and atlas items.
+        try {
+
+            // Open atlas and atlas items, checking that the file matches the current JSON files.
+            open(filename, atlas, atlasItems, budgetBytes, sourceStamp(atlasSource, atlasItemsSource));
+
+            // Return success.
+            return true;
+
+        }
+
+        // Catch any exceptions occurring when trying to read or decode the file.
+        catch (IOException | IllegalArgumentException | BufferUnderflowException | 
+          IndexOutOfBoundsException ex) {
+
+            // Display error message.
+            System.out.println("Warning:  Error reading binary atlas.\nMessage: " + ex.getMessage());
+
+            // Return failure.
+            return false;
+
+        }
+
+    }
+
+    // filename = File to map, including path.
+    // checksumInd = Whether to verify the checksum of the whole payload.  Reads every page of the file.
+    private static MappedByteBuffer mapFile(String filename, boolean checksumInd) throws IOException
+    {
+
+        // The function maps the passed file into memory and validates the header (and, when requested, the
+        // checksum of the whole payload).
+        // The function returns the mapping.
+
+        MappedByteBuffer buffer; // Read-only mapping of the file.
+        CRC32 checksum; // Checksum of the payload.
+
+        // Map file into memory.
+        try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        // If header missing or not an atlas, then...
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC)
+            throw new IOException(filename + " is not a binary atlas.");
+
+        // If version differs, then...
+        if (buffer.getInt(4) != VERSION)
+            throw new IOException(filename + " uses version " + buffer.getInt(4) + ", expected " + VERSION + ".");
+
+        // If payload length differs from file, then...
+        if (buffer.getInt(16) != buffer.limit() - HEADER_SIZE)
+            throw new IOException(filename + " is truncated.");
+
+        // Position mapping at payload.
+        buffer.position(HEADER_SIZE);
+
+        // If verifying whole payload, then...
+        if (checksumInd)
+        {
+
+            // Verifying whole payload.
+
+            // Calculate checksum of payload.
+            checksum = new CRC32();
+            checksum.update(buffer.slice());
+
+            // If checksum differs, then...
+            if (checksum.getValue() != buffer.getLong(8))
+                throw new IOException(filename + " failed checksum.");
+
+        }
+
+        // Return mapping, positioned at payload.
+        return buffer;
+
+    }
+
+    // filename = File from which to read, including path.
+    // atlas = Atlas to which to register regions.  Should be empty.
+    // atlasItems = Atlas items to which to add items.  Should be empty.
+    // budgetBytes = Memory budget for regions kept in memory, in bytes.
+    // sourceStamp = Combined size and latest modification time of the current JSON files (see sourceStamp).
+    public static void open(String filename, Atlas atlas, AtlasItems atlasItems, long budgetBytes,
+      long[] sourceStamp) throws IOException
+    {
+
+        // The function opens the passed file, leaving the regions in the file until needed.
+        // The function registers the region names and numbers with the atlas (from the index), reads the 
+        // atlas items, and attaches a region cache that loads regions from the mapping on demand.
+
+        ByteBuffer body; // View of the body.
+        MappedByteBuffer buffer; // Read-only mapping of the file.
+        int[] checksums; // Checksum of each region.  Index = region number.
+        int indexLength; // Length of the index, in bytes.
+        int itemsChecksum; // Checksum of the items.
+        int itemsLength; // Length of the items in the body.
+        int itemsOffset; // Offset of the items in the body.
+        int[] lengths; // Length of each region in the body.  Index = region number.
+        int mapCountFile; // Number of regions.
+        int[] offsets; // Offset of each region in the body.  Index = region number.
+        ByteBuffer payload; // View of the payload.
+
+        // Map file and validate header.
+        buffer = mapFile(filename, false);
+
+        // If file converted from other JSON files, then...
+        if (buffer.getLong(24) != sourceStamp[0] || buffer.getLong(32) != sourceStamp[1])
+            throw new IOException(filename + " is out of date with the JSON atlas.  Rerun AtlasConverter.");
+
+        // Store payload, region count, and index length.
+        payload = buffer.slice();
+        mapCountFile = buffer.getInt(20);
+        indexLength = buffer.getInt(40);
+
+        // If index does not fit in payload, then...
+        if (mapCountFile < 0 || indexLength < 0 || indexLength > payload.limit())
+            throw new IOException(filename + " contains an index out of range.");
+
+        // If index checksum differs, then...
+        if (sectionChecksum(payload, 0, indexLength) != buffer.getInt(44))
+            throw new IOException(filename + " failed index checksum.");
+
+        // Store view of body.
+        payload.position(indexLength);
+        body = payload.slice();
+        payload.position(0);
+
+        // Initialize arrays.
+        offsets = new int[mapCountFile];
+        lengths = new int[mapCountFile];
+        checksums = new int[mapCountFile];
+
+        // 1.  Read index.
+
+        // Loop through regions.
+        for (int counter = 0; counter < mapCountFile; counter++)
+        {
+
+            // Store offset, length, and checksum of region.
+            offsets[counter] = payload.getInt();
+            lengths[counter] = payload.getInt();
+            checksums[counter] = payload.getInt();
+
+            // If region does not fit in body, then...
+            if (offsets[counter] < 0 || lengths[counter] < 0 || offsets[counter] > body.limit() - lengths[counter])
+                throw new IOException(filename + " contains region " + counter + " out of range.");
+
+            // Register region.
+            atlas.registerMap(counter, readString(payload));
+
+        }
+
+        // Store offset, length, and checksum of items.
+        itemsOffset = payload.getInt();
+        itemsLength = payload.getInt();
+        itemsChecksum = payload.getInt();
+
+        // If items do not fit in body, then...
+        if (itemsOffset < 0 || itemsLength < 0 || itemsOffset > body.limit() - itemsLength)
+            throw new IOException(filename + " contains items out of range.");
+
+        // If items checksum differs, then...
+        if (sectionChecksum(body, itemsOffset, itemsLength) != itemsChecksum)
+            throw new IOException(filename + " failed items checksum.");
+
+        // 2.  Read items.
+        body.position(itemsOffset);
+        readItems(body, atlas, atlasItems);
+
+        // 3.  Attach region cache.
+        atlas.setRegionCache(new RegionCache(new RegionIndex(body, offsets, lengths, checksums), budgetBytes));
+
+    }
+
+    // filename = File from which to read, including path.
+    // atlas = Atlas to which to add regions.  Should be empty.
+    // atlasItems = Atlas items to which to add items.  Should be empty.
+    public static void read(String filename, Atlas atlas, AtlasItems atlasItems) throws IOException
+    {
+
+        // The function reads the atlas and atlas items from the passed file into the passed objects.
+        // All regions get read into memory, after verifying the checksum of the whole payload.
+
+        ByteBuffer body; // View of the body.
+        MappedByteBuffer buffer; // Read-only mapping of the file.
+        int mapCountFile; // Number of regions.
+
+        // Map and validate file.
+        buffer = mapFile(filename, true);
+        mapCountFile = buffer.getInt(20);
+
+        // Store view of body, skipping index.
+        buffer.position(HEADER_SIZE + buffer.getInt(40));
+        body = buffer.slice();
+
+        // Read regions.
+        for (int counter = 0; counter < mapCountFile; counter++)
+            atlas.addMap(readRegion(body));
+
+        // Read items.
+        readItems(body, atlas, atlasItems);
+
+    }
+
+    // payload = Payload from which to read, positioned at the start of the items.
+    // atlas = Atlas containing the regions.
+    // atlasItems = Atlas items to which to add items.  Should be empty.
+    private static void readItems(ByteBuffer payload, Atlas atlas, AtlasItems atlasItems)
+    {
+
+        // The function reads the atlas items from the passed payload.
+
+        HeroineEnum.ItemEnum[] addlItems; // Additional items in current chest.
+        int alterMapCount; // Number of map alteration events.
+        int bonePileCount; // Number of bone piles.
+        int chestCount; // Number of chests.
+        int hayBaleCount; // Number of hay bales.
+        int lockedDoorCount; // Number of locked doors.
+        HeroineEnum.ItemEnum primaryItem; // Primary item in current chest.
+        int primaryItemCount; // Quantity of primary item in current chest.
+        int regionNbr; // Region number read from current record.
+        int specificEnemyCount; // Number of specific enemies.
+        int x; // X-coordinate read from current record.
+        int y; // Y-coordinate read from current record.
+
+        // Read map alteration events.
+        alterMapCount = payload.getInt();
+
+        for (int counter = 0; counter < alterMapCount; counter++)
+        {
+
+            // If a campaign event, then...
+            if (payload.get() != 0)
+                // Campaign event.  Add map alteration event with condition.
+                atlasItems.addAlterMap(payload.getInt(), payload.getInt(), payload.getInt(), payload.getInt(),
+                  readString(payload), payload.get() != 0);
+
+            else
+                // NOT a campaign event.  Add map alteration event.
+                atlasItems.addAlterMap(payload.getInt(), payload.getInt(), payload.getInt(), payload.getInt());
+
+        }
+
+        // Read bone piles.
+        bonePileCount = payload.getInt();
+
+        for (int counter = 0; counter < bonePileCount; counter++)
+            atlasItems.addBonePile(payload.getInt(), payload.getInt(), payload.getInt());
+
+        // Read chests.
+        chestCount = payload.getInt();
+
+        for (int counter = 0; counter < chestCount; counter++)
+        {
+
+            // Read location.
+            x = payload.getInt();
+            y = payload.getInt();
+            regionNbr = payload.getInt();
+
+            // Read primary item and count.
+            primaryItem = HeroineEnum.ItemEnum.valueOf(readString(payload));
+            primaryItemCount = payload.getInt();
+
+            // Read additional items.
+            addlItems = new HeroineEnum.ItemEnum[payload.getInt()];
+
+            for (int itemCounter = 0; itemCounter < addlItems.length; itemCounter++)
+                addlItems[itemCounter] = HeroineEnum.ItemEnum.valueOf(readString(payload));
+
+            // Add chest.
+            atlasItems.addChest(x, y, regionNbr, primaryItem, primaryItemCount, addlItems);
+
+        }
+
+        // Read hay bales.
+        hayBaleCount = payload.getInt();
+
+        for (int counter = 0; counter < hayBaleCount; counter++)
+            atlasItems.addHayBale(payload.getInt(), payload.getInt(), payload.getInt());
+
+        // Read locked doors.
+        lockedDoorCount = payload.getInt();
+
+        for (int counter = 0; counter < lockedDoorCount; counter++)
+            atlasItems.addLockedDoor(payload.getInt(), payload.getInt(), payload.getInt());
+
+        // Read specific enemies.
+        specificEnemyCount = payload.getInt();
+
+        for (int counter = 0; counter < specificEnemyCount; counter++)
+            atlasItems.addSpecificEnemy(payload.getInt(), payload.getInt(), payload.getInt(),
+              HeroineEnum.EnemyEnum.valueOf(readString(payload)));
+
+        // Store item information by region and validate counts.
+        atlasItems.finishRead(atlas.getMapCount(), alterMapCount, bonePileCount, chestCount, hayBaleCount,
+          lockedDoorCount, specificEnemyCount);
+
+    }
+
+    // payload = Payload from which to read, positioned at the start of a region.
+    private static RegionMap readRegion(ByteBuffer payload)
+    {
+
+        // The function reads a single region from the passed payload, leaving the payload positioned after it.
+        // The function returns the region, with its tiles viewed straight from the payload.
+
+        HeroineEnum.EnemyEnum[] enemies; // Enemies in region.
+        int height; // Height of region, in tiles.
+        RegionMap region; // Region read.
+        String regionBackground; // Background of region.
+        String regionMusic; // Music of region.
+        String regionName; // Name of region.
+        int regionNbr; // Number of region.
+        int sideTileCount; // Number of side tiles in current direction.
+        int width; // Width of region, in tiles.
+        int x; // X-coordinate read from current record.
+        int y; // Y-coordinate read from current record.
+
+        // Read region header.
+        regionNbr = payload.getInt();
+        regionName = readString(payload);
+        regionMusic = readString(payload);
+        regionBackground = readString(payload);
+        width = payload.getInt();
+        height = payload.getInt();
+
+        // Read enemies.
+        enemies = new HeroineEnum.EnemyEnum[payload.getInt()];
+
+        for (int enemyCounter = 0; enemyCounter < enemies.length; enemyCounter++)
+            enemies[enemyCounter] = HeroineEnum.EnemyEnum.valueOf(readString(payload));
+
+        // Create region.
+        region = new RegionMap(regionName, HeroineEnum.MusicEnum.valueOf(regionMusic), width, height,
+          HeroineEnum.ImgBackgroundEnum.valueOf(regionBackground), regionNbr, enemies);
+
+        // Read exits.
+        for (int exitCount = payload.getInt(); exitCount > 0; exitCount--)
+            region.addRegionExit(payload.getInt(), payload.getInt(), payload.getInt(), payload.getInt(),
+              payload.getInt());
+
+        // Read shops.
+        for (int shopCount = payload.getInt(); shopCount > 0; shopCount--)
+        {
+            x = payload.getInt();
+            y = payload.getInt();
+            region.addRegionShop(x, y, HeroineEnum.ShopEnum.valueOf(readString(payload)), payload.getInt(),
+              payload.getInt());
+        }
+
+        // Read side tiles -- north, south, east, then west.
+        for (int direction = 0; direction < 4; direction++)
+        {
+
+            // Store number of side tiles in direction.
+            sideTileCount = payload.getInt();
+
+            // Loop through side tiles in direction.
+            for (int sideCounter = 0; sideCounter < sideTileCount; sideCounter++)
+            {
+
+                // Read location.
+                x = payload.getInt();
+                y = payload.getInt();
+
+                // Depending on direction, add side tile.
+                switch (direction)
+                {
+                    case 0:
+                        region.addTile_North(x, y, payload.getInt());
+                        break;
+                    case 1:
+                        region.addTile_South(x, y, payload.getInt());
+                        break;
+                    case 2:
+                        region.addTile_East(x, y, payload.getInt());
+                        break;
+                    default:
+                        region.addTile_West(x, y, payload.getInt());
+                        break;
+                }
+
+            }
+
+        }
+
+        // View tiles straight from payload, then skip past them.
+        region.getRegionTiles().mapTiles(payload.asShortBuffer());
+        payload.position(payload.position() + (width * height * 2));
+
+        // Return region.
+        return region;
+
+    }
+
+    // buffer = Buffer from which to read.
+    private static String readString(ByteBuffer buffer)
+    {
+
+        // The function reads a string from the passed buffer.
+        // The function returns the string (or null).
+
+        byte[] bytes; // UTF-8 bytes of the string.
+        short length; // Length of the string, in bytes.  -1 = null.
+
+        // Read length.
+        length = buffer.getShort();
+
+        // If null, then...
+        if (length < 0)
+            // Null.
+            return null;
+
+        // Read and decode bytes.
+        bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+
+    }
+
+    // buffer = Buffer containing the section.
+    // offset = Offset of the section in the buffer.
+    // length = Length of the section, in bytes.
+    private static int sectionChecksum(ByteBuffer buffer, int offset, int length)
+    {
+
+        // The function returns the checksum (CRC32) of the passed section of the passed buffer.
+        // The position of the passed buffer stays unchanged.
+
+        CRC32 checksum; // Checksum of the section.
+        ByteBuffer view; // View of the section.
+
+        // Create view of section.
+        view = buffer.duplicate();
+        view.limit(offset + length);
+        view.position(offset);
+
+        // Calculate and return checksum.
+        checksum = new CRC32();
+        checksum.update(view);
+        return (int)checksum.getValue();
+
+    }
+
+    // atlasSource = Class path of the JSON atlas.
+    // atlasItemsSource = Class path of the JSON atlas items.
+    public static long[] sourceStamp(String atlasSource, String atlasItemsSource) throws IOException
+    {
+
+        // The function returns the combined size and latest modification time of the passed JSON atlas and 
+        // atlas items files -- {size, modified}.
+        // Stored when converting, so that opening can tell whether the JSON files changed since without 
+        // reading them.
+
+        URLConnection connection; // Connection to current file.
+        long modified; // Latest modification time of the files.
+        long size; // Combined size of the files, in bytes.
+        URL url; // Location of current file.
+
+        // Set defaults.
+        modified = 0;
+        size = 0;
+
+        // Loop through files.
+        for (String source : new String[] {atlasSource, atlasItemsSource})
+        {
+
+            // Locate file.
+            url = AtlasBinary.class.getResource(source);
+
+            // If file missing, then...
+            if (url == null)
+                throw new IOException("JSON file " + source + " not found.");
+
+            // Add size and modification time of file.
+            connection = url.openConnection();
+            size += connection.getContentLengthLong();
+            modified = Math.max(modified, connection.getLastModified());
+
+            // Close stream opened when connecting.
+            connection.getInputStream().close();
+
+        }
+
+        // Return size and modification time.
+        return new long[] {size, modified};
+
+    }
+
+    // atlas = Atlas containing the regions to write.
+    // atlasItems = Atlas items containing the items to write.
+    // filename = File to which to write, including path.
+    // sourceStamp = Combined size and latest modification time of the JSON files converted (see sourceStamp).
+    public static void write(Atlas atlas, AtlasItems atlasItems, String filename, long[] sourceStamp) 
+      throws IOException
+    {
+
+        // The function writes the atlas and atlas items to the passed file.
+
+        byte[] body; // Body -- regions, then items.
+        ByteArrayOutputStream bytes; // Holds the body.
+        CRC32 checksum; // Checksum of the payload.
+        DataOutputStream header; // Writes the header.
+        DataOutputStream index; // Writes the index.
+        ByteArrayOutputStream indexBytes; // Holds the index.
+        byte[] indexData; // Index.
+        int itemsOffset; // Offset of the items in the body.
+        DataOutputStream out; // Writes the body.
+        RegionMap region; // Current region.
+        int[] regionOffsets; // Offset of each region in the body.  Index = region number.
+        int regionLength; // Length of current region in the body.
+        ArrayList<int[]> sideTiles; // Side tiles in current direction -- x, y, tile.
+        Integer sideTile; // Side tile at current location (or null).
+
+        // Initialize body stream.
+        bytes = new ByteArrayOutputStream();
+        out = new DataOutputStream(bytes);
+
+        // Initialize array.
+        regionOffsets = new int[atlas.getMapCount()];
+
+        // 1.  Write regions, in region number order.
+
+        // Loop through regions.
+        for (int counter = 0; counter < atlas.getMapCount(); counter++)
+        {
+
+            // Get region and store offset.
+            region = atlas.getRegionMap(counter);
+            regionOffsets[counter] = out.size();
+
+            // Write region header.
+            out.writeInt(region.getRegionNbr());
+            writeString(out, region.getRegionName());
+            writeString(out, region.getRegionMusic().name());
+            writeString(out, region.getRegionBackground().name());
+            out.writeInt(region.getRegionWidth());
+            out.writeInt(region.getRegionHeight());
+
+            // Write enemies.
+            out.writeInt(region.getEnemyList().size());
+
+            for (HeroineEnum.EnemyEnum enemyEnum : region.getEnemyList())
+                writeString(out, enemyEnum.name());
+
+            // Write exits.
+            out.writeInt(region.getExitCount());
+
+            for (RegionMap.RegionExit exit : region.getRegionExits())
+            {
+                out.writeInt(exit.exit_x);
+                out.writeInt(exit.exit_y);
+                out.writeInt(exit.dest_map);
+                out.writeInt(exit.dest_x);
+                out.writeInt(exit.dest_y);
+            }
+
+            // Write shops.
+            out.writeInt(region.getShopCount());
+
+            for (RegionMap.RegionShop shop : region.getRegionShops())
+            {
+                out.writeInt(shop.exit_x);
+                out.writeInt(shop.exit_y);
+                writeString(out, shop.shop_id.name());
+                out.writeInt(shop.dest_x);
+                out.writeInt(shop.dest_y);
+            }
+
+            // Write side tiles -- north, south, east, then west.
+            for (int direction = 0; direction < 4; direction++)
+            {
+
+                // Initialize list.
+                sideTiles = new ArrayList<>();
+
+                // Loop through locations in region.
+                for (int y = 0; y < region.getRegionHeight(); y++)
+                {
+
+                    for (int x = 0; x < region.getRegionWidth(); x++)
+                    {
+
+                        // Depending on direction, get side tile.
+                        switch (direction)
+                        {
+                            case 0:
+                                sideTile = region.getSideTilesNorth(x, y);
+                                break;
+                            case 1:
+                                sideTile = region.getSideTilesSouth(x, y);
+                                break;
+                            case 2:
+                                sideTile = region.getSideTilesEast(x, y);
+                                break;
+                            default:
+                                sideTile = region.getSideTilesWest(x, y);
+                                break;
+                        }
+
+                        // If side tile exists, then add to list.
+                        if (sideTile != null)
+                            sideTiles.add(new int[] {x, y, sideTile});
+
+                    }
+
+                }
+
+                // Write side tiles in direction.
+                out.writeInt(sideTiles.size());
+
+                for (int[] entry : sideTiles)
+                {
+                    out.writeInt(entry[0]);
+                    out.writeInt(entry[1]);
+                    out.writeInt(entry[2]);
+                }
+
+            }
+
+            // Write tiles, row-major.
+            for (int y = 0; y < region.getRegionHeight(); y++)
+                for (int x = 0; x < region.getRegionWidth(); x++)
+                    out.writeShort(region.getRegionTiles().getTile(x, y));
+
+        } // End ... Loop through regions.
+
+        // 2.  Write items.
+
+        // Store offset of items.
+        itemsOffset = out.size();
+
+        // Write map alteration events.
+        out.writeInt(atlasItems.getAlterMapList().size());
+
+        for (AtlasItems.AlterMap alterMap : atlasItems.getAlterMapList())
+        {
+
+            // Write whether a campaign event.
+            out.writeByte(alterMap.isCampaignEventInd() ? 1 : 0);
+
+            // Write location and tile.
+            out.writeInt(alterMap.getPos_x());
+            out.writeInt(alterMap.getPos_y());
+            out.writeInt(alterMap.getRegionNbr());
+            out.writeInt(alterMap.getTileNbr());
+
+            // If a campaign event, then...
+            if (alterMap.isCampaignEventInd())
+            {
+                // Campaign event.  Write condition.
+                writeString(out, alterMap.getCampaignEvent());
+                out.writeByte(alterMap.isCampaignEventType() ? 1 : 0);
+            }
+
+        }
+
+        // Write bone piles.
+        out.writeInt(atlasItems.getBonePileList().size());
+
+        for (AtlasItems.BonePile bonePile : atlasItems.getBonePileList())
+        {
+            out.writeInt(bonePile.getPos_x());
+            out.writeInt(bonePile.getPos_y());
+            out.writeInt(bonePile.getRegionNbr());
+        }
+
+        // Write chests.
+        out.writeInt(atlasItems.getChestList().size());
+
+        for (AtlasItems.Chest chest : atlasItems.getChestList())
+        {
+
+            // Write location, primary item, and count.
+            out.writeInt(chest.getPos_x());
+            out.writeInt(chest.getPos_y());
+            out.writeInt(chest.getRegionNbr());
+            writeString(out, chest.getPrimaryItem().name());
+            out.writeInt(chest.getPrimaryItemCount());
+
+            // Write additional items.
+            out.writeInt(chest.getAddlItemList().size());
+
+            for (HeroineEnum.ItemEnum itemEnum : chest.getAddlItemList())
+                writeString(out, itemEnum.name());
+
+        }
+
+        // Write hay bales.
+        out.writeInt(atlasItems.getHayBaleList().size());
+
+        for (AtlasItems.HayBale hayBale : atlasItems.getHayBaleList())
+        {
+            out.writeInt(hayBale.getPos_x());
+            out.writeInt(hayBale.getPos_y());
+            out.writeInt(hayBale.getRegionNbr());
+        }
+
+        // Write locked doors.
+        out.writeInt(atlasItems.getLockedDoorList().size());
+
+        for (AtlasItems.LockedDoor lockedDoor : atlasItems.getLockedDoorList())
+        {
+            out.writeInt(lockedDoor.getPos_x());
+            out.writeInt(lockedDoor.getPos_y());
+            out.writeInt(lockedDoor.getRegionNbr());
+        }
+
+        // Write specific enemies.
+        out.writeInt(atlasItems.getSpecificEnemyList().size());
+
+        for (AtlasItems.SpecificEnemy specificEnemy : atlasItems.getSpecificEnemyList())
+        {
+            out.writeInt(specificEnemy.getPos_x());
+            out.writeInt(specificEnemy.getPos_y());
+            out.writeInt(specificEnemy.getRegionNbr());
+            writeString(out, specificEnemy.getEnemyType().name());
+        }
+
+        // 3.  Write index.
+
+        // Store body.
+        out.flush();
+        body = bytes.toByteArray();
+
+        // Initialize index stream.
+        indexBytes = new ByteArrayOutputStream();
+        index = new DataOutputStream(indexBytes);
+
+        // Loop through regions.
+        for (int counter = 0; counter < atlas.getMapCount(); counter++)
+        {
+
+            // Calculate length of region -- up to the next region or the items.
+            regionLength = (counter + 1 < atlas.getMapCount() ? regionOffsets[counter + 1] : itemsOffset) - 
+              regionOffsets[counter];
+
+            // Write offset, length, checksum, and name of region.
+            index.writeInt(regionOffsets[counter]);
+            index.writeInt(regionLength);
+            index.writeInt(sectionChecksum(ByteBuffer.wrap(body), regionOffsets[counter], regionLength));
+            writeString(index, atlas.getRegionMap(counter).getRegionName());
+
+        }
+
+        // Write offset, length, and checksum of items.
+        index.writeInt(itemsOffset);
+        index.writeInt(body.length - itemsOffset);
+        index.writeInt(sectionChecksum(ByteBuffer.wrap(body), itemsOffset, body.length - itemsOffset));
+
+        // Store index.
+        index.flush();
+        indexData = indexBytes.toByteArray();
+
+        // 4.  Write header and payload to file.
+
+        // Calculate checksum of payload -- index, then body.
+        checksum = new CRC32();
+        checksum.update(indexData, 0, indexData.length);
+        checksum.update(body, 0, body.length);
+
+        // Open file.
+        try (OutputStream file = new FileOutputStream(filename)) {
+
+            // Write header.
+            header = new DataOutputStream(file);
+            header.writeInt(MAGIC);
+            header.writeInt(VERSION);
+            header.writeLong(checksum.getValue());
+            header.writeInt(indexData.length + body.length);
+            header.writeInt(atlas.getMapCount());
+            header.writeLong(sourceStamp[0]);
+            header.writeLong(sourceStamp[1]);
+            header.writeInt(indexData.length);
+            header.writeInt(sectionChecksum(ByteBuffer.wrap(indexData), 0, indexData.length));
+
+            // Write payload -- index, then body.
+            header.write(indexData);
+            header.write(body);
+            header.flush();
+
+        }
+
+    }
+
+    // out = Stream to which to write.
+    // text = String to write (or null).
+    private static void writeString(DataOutputStream out, String text) throws IOException
+    {
+
+        // The function writes a string to the passed stream.
+
+        byte[] bytes; // UTF-8 bytes of the string.
+
+        // If null, then...
+        if (text == null)
+        {
+            // Null.  Write length of -1.
+            out.writeShort(-1);
+            return;
+        }
+
+        // Write length and bytes.
+        bytes = text.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+
+    }
+
+}
@@ -0,0 +1,93 @@
+package heroinedusk;
+
+// Java imports.
+import java.io.IOException;
+
+public class AtlasConverter
+{
+
+    /*
+    The class converts the JSON atlas and atlas items into the binary format read by AtlasBinary.
+
+    Usage:  java -cp <classpath> heroinedusk.AtlasConverter [atlas] [atlas items] [output file]
+
+    atlas = Class path of the JSON atlas.  Defaults to /json/Atlas.json.
+    atlas items = Class path of the JSON atlas items.  Defaults to /json/AtlasItems.json.
+    output file = Binary file to write.  Defaults to atlas.bin.
+
+    Notes:
+    1.  Place the output file in the working directory of the game to have the intro screen read it instead
+        of the JSON files.  Rerun the conversion after editing the JSON files -- the intro screen ignores a
+        file converted from other JSON files.
+    2.  The converter reads the output file back, verifying the checksum of the whole file, and compares region
+        and item counts, as a quick check.
+
+    Methods include:
+
+    main:  Converts the atlas and atlas items using the passed command line arguments.
+    */
+
+    // Declare constants.
+    private static final String DEFAULT_ATLAS = "/json/Atlas.json"; // Default class path of the JSON atlas.
+    private static final String DEFAULT_ATLAS_ITEMS = "/json/AtlasItems.json"; // Default class path of items.
+
+    // args = Command line arguments -- atlas, atlas items, and output file (all optional).
+    public static void main(String[] args)
+    {
+
+        // The function converts the atlas and atlas items using the passed command line arguments.
+
+        Atlas atlas; // Atlas read from JSON.
+        AtlasItems atlasItems; // Atlas items read from JSON.
+        Atlas atlasCheck; // Atlas read back from binary file.
+        AtlasItems atlasItemsCheck; // Atlas items read back from binary file.
+        String atlasSource; // Class path of the JSON atlas.
+        String atlasItemsSource; // Class path of the JSON atlas items.
+        JSON_Processor json; // Handles JSON functionality.
+        String output; // Binary file to write.
+
+        // Read arguments, using defaults for any missing.
+        atlasSource = args.length > 0 ? args[0] : DEFAULT_ATLAS;
+        atlasItemsSource = args.length > 1 ? args[1] : DEFAULT_ATLAS_ITEMS;
+        output = args.length > 2 ? args[2] : AtlasBinary.DEFAULT_FILENAME;
+
+        // Read atlas and atlas items from JSON.
+        json = new JSON_Processor();
+        atlas = json.readAtlas(atlasSource);
+        atlasItems = json.readAtlasItems(atlasItemsSource, atlas.getMapCount());
+
+        // Try writing and checking the binary file.
+        try {
+
+            // Write binary file, marked with the size and modification time of the JSON files.
+            AtlasBinary.write(atlas, atlasItems, output, AtlasBinary.sourceStamp(atlasSource, atlasItemsSource));
+
+            // Read binary file back.
+            atlasCheck = new Atlas();
+            atlasItemsCheck = new AtlasItems();
+            AtlasBinary.read(output, atlasCheck, atlasItemsCheck);
+
+            // If counts differ, then...
+            if (atlasCheck.getMapCount() != atlas.getMapCount() ||
+              atlasItemsCheck.getChestList().size() != atlasItems.getChestList().size() ||
+              atlasItemsCheck.getAlterMapList().size() != atlasItems.getAlterMapList().size())
+                // Counts differ.  Display warning.
+                System.out.println("Warning:  Binary atlas read back with different counts.");
+
+            else
+                // Counts match.  Display summary.
+                System.out.println("Wrote " + atlas.getMapCount() + " regions to " + output + ".");
+
+        }
+
+        // Catch any io exceptions occurring when writing or reading the file.
+        catch (IOException ex) {
+
+            // Display error message.
+            System.out.println("Warning:  Error writing binary atlas.\nMessage: " + ex.getMessage());
+
+        }
+
+    }
+
+}
@@ -1,13 +1,13 @@
 package heroinedusk;
 
+// Jackson imports.
+import com.fasterxml.jackson.core.JsonGenerator;
+
 // Java imports.
+import java.io.IOException;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Set;
 
 /*
 Interface (implements) vs Sub-Class (extends)...
@@ -56,25 +56,26 @@ public class AtlasItems
     adjChestCount:  Adjusts chest quantity in variable, chestCount, by the passed parameter.
     adjItemCountChest:  Adjusts chest quantity in list variable, itemCountList, by the passed parameter.
     adjItemTotal:  Adjusts total item quantity in list variable, itemTotalList, by the passed parameter.
-    populateHashMap:  Populates the hash map containing all region (specific location) information.
-    readHashMap:  Builds the entire atlas using the passed hash map.
+    finishRead:  Completes loading of the item data, after JSON_Processor streams the items from the file.
     removeBonePile:  Encapsulates logic for setting a bone pile (based on map / region and index) as 
-      inactive in the array list.
-    removeBonePileEntry:  Removes the bone pile based on the passed information from the hash map,
-      mapRegionItems.
+      inactive in the array list.  Logs the removal to the journal (if any).
+    removeBonePileEntry:  Removes the bone pile based on the passed information from the index,
+      mapRegionBonePiles.
     removeBonePileFirst:  Encapsulates logic for removing the first bone pile from the passed map location.
     removeChest:  Encapsulates logic for setting a chest (based on map / region and index) as inactive in 
-      the array list.
-    removeChestEntry:  Removes the chest based on the passed information from the hash map, mapRegionItems.
+      the array list.  Logs the removal to the journal (if any).
+    removeChestEntry:  Removes the chest based on the passed information from the index, mapRegionChests.
     removeChests:  Encapsulates logic for removing (setting as inactive) the passed chests from the 
-      specified region, including for the hash map.
+      specified region, including for the index.
     removeLockedDoor:  Encapsulates logic for setting a locked door (based on map / region and index) as 
-      inactive in the array list.
-    removeLockedDoorEntry:  Removes the locked door based on the passed information from the hash map, 
-      mapRegionItems.
+      inactive in the array list.  Logs the removal to the journal (if any).
+    removeLockedDoorEntry:  Removes the locked door based on the passed information from the index, 
+      mapRegionLockedDoors.
     removeLockedDoorFirst:  Encapsulates logic for removing the first locked door from the passed map
       location.
-    storeRegionInfo:  Stores the hash maps and array lists with the information by region / location.
+    storeRegionInfo:  Stores the index and array lists with the information by region / location.
+    writeJSON:  Writes the atlas items as a JSON object to the passed generator.
+    writeLocationJSON:  Writes an item consisting only of a location as a JSON object to the passed generator.
     */
     
     // Declare object variables.
@@ -84,13 +85,17 @@ public class AtlasItems
     private ArrayList<HayBale> hayBaleList; // List of chests.
     private ArrayList<ItemCounts> itemCountList; // List of counts by item for each region.
     private ArrayList<Integer> itemTotalList; // Total item count for each region.
+    private MutationJournal journal; // Journal in which to log removed items.  Null = no logging.
     private ArrayList<LockedDoor> lockedDoorList; // List of locked doors.
-    private Map<String, Object> mapJSON; // Hash map containing key / value pairs covering all atlas item 
-      // data -- used with JSON.
-    private HashMap<String, ArrayList<Object>> mapRegionItems; // Hash map containing item lists based on 
-      // locations.
-      // Key:  region,x,y,type.  Type matches one of the ItemCategoryEnum values.  Example:  4,1,14,ITEM_CTGY_BONE_PILE.
-      // Value:  ArrayList of objects matching the item type in the key.
+    private ItemIndex<AlterMap> mapRegionAlterMaps; // Index containing map alteration events by location.
+    private ItemIndex<BonePile> mapRegionBonePiles; // Index containing bone piles by location.
+    private ItemIndex<Chest> mapRegionChests; // Index containing chests by location.
+    private ItemIndex<HayBale> mapRegionHayBales; // Index containing hay bales by location.
+    private ItemIndex<LockedDoor> mapRegionLockedDoors; // Index containing locked doors by location.
+    private ItemIndex<SpecificEnemy> mapRegionSpecificEnemies; // Index containing enemies at specific 
+      // locations by location.
+      // Key (all indices):  region, x, y, category -- packed into a long (see ItemIndex.packKey).
+      // Value (all indices):  ArrayList of items of the matching type at the location.
     public ArrayList<SpecificEnemy> specificEnemyList; // List of enemies at specific locations.
     
     // Declare regular variables.
@@ -737,609 +742,19 @@ public class AtlasItems
         
     }
     
-    public void populateHashMap()
-    {
-        
-        // The function populates the hash map containing all atlas item information.
-        
-        int counter; // Used to iterate through items.
-        
-        Map<String, Object> mapJSON_AlterMap; // Hash map containing key / value pairs covering current
-          // map alteration event data -- used with JSON.
-        Map<String, Object> mapJSON_AlterMaps; // Hash map containing key / value pairs covering all
-          // map alteration event data -- used with JSON.
-        Map<String, Object> mapJSON_BonePile; // Hash map containing key / value pairs covering current bone
-          // pile data -- used with JSON.
-        Map<String, Object> mapJSON_BonePiles; // Hash map containing key / value pairs covering all bone
-          // pile data -- used with JSON.
-        Map<String, Object> mapJSON_Chest; // Hash map containing key / value pairs covering current 
-          // chest data -- used with JSON.
-        Map<String, Object> mapJSON_Chests; // Hash map containing key / value pairs covering all 
-          // chest data -- used with JSON.
-        Map<String, Object> mapJSON_HayBale; // Hash map containing key / value pairs covering current
-          // hay bale data -- used with JSON.
-        Map<String, Object> mapJSON_HayBales; // Hash map containing key / value pairs covering all
-          // hay bale data -- used with JSON.
-        Map<String, Object> mapJSON_LockedDoor; // Hash map containing key / value pairs covering current 
-          // locked door data -- used with JSON.
-        Map<String, Object> mapJSON_LockedDoors; // Hash map containing key / value pairs covering all 
-          // locked door data -- used with JSON.
-        Map<String, Object> mapJSON_SpecificEnemy; // Hash map containing key / value pairs covering current
-          // specific enemy data -- used with JSON.
-        Map<String, Object> mapJSON_SpecificEnemies; // Hash map containing key / value pairs covering all
-          // specific enemy data -- used with JSON.
-        
-        // Set defaults.
-        counter = 1;
-        
-        // Initialize hash map.
-        mapJSON = new HashMap<>();
-        mapJSON_AlterMaps = new HashMap<>();
-        mapJSON_BonePiles = new HashMap<>();
-        mapJSON_Chests = new HashMap<>();
-        mapJSON_HayBales = new HashMap<>();
-        mapJSON_LockedDoors = new HashMap<>();
-        mapJSON_SpecificEnemies = new HashMap<>();
-        
-        // If atlas contains map alteration event(s), then...
-        if (alterMapCount > 0)    
-        {
-            
-            // Atlas contains one or more map alteration events.
-            
-            // Loop through map alteration events.
-            for (AlterMap currAlterMap : alterMapList)
-            {
-
-                // Reinitialize hash map for current map alteration event.
-                // Necessary or same data written for each entry.
-                mapJSON_AlterMap = new HashMap<>();
-                
-                // Add information to hash map containing data for a single map alteration event.
-                mapJSON_AlterMap.put("POS_X", currAlterMap.pos_x);
-                mapJSON_AlterMap.put("POS_Y", currAlterMap.pos_y);
-                mapJSON_AlterMap.put("REGION_NBR", currAlterMap.regionNbr);
-                mapJSON_AlterMap.put("TILE_NBR", currAlterMap.tileNbr);
-                
-                // If a campaign event, then...
-                if (currAlterMap.campaignEventInd)
-                {
-                    
-                    // Campaign event.
-                    
-                    // Add campaign event information.
-                    mapJSON_AlterMap.put("CAMPAIGN_EVENT_TYPE", currAlterMap.campaignEventType);
-                    mapJSON_AlterMap.put("CAMPAIGN_EVENT", currAlterMap.campaignEvent);
-                    mapJSON_AlterMap.put("CAMPAIGN_EVENT_IND", true);
-                    
-                }
-                
-                else
-                {
-                    
-                    // NOT a campaign event.
-                    
-                    // Add campaign event information.
-                    mapJSON_AlterMap.put("CAMPAIGN_EVENT_IND", false);
-                    
-                }
-                
-                // Add hash map for current to container.
-                mapJSON_AlterMaps.put("ALTER_MAP_" + decimalFormat00.format(counter), mapJSON_AlterMap);
-
-                // Increment counter.
-                counter++;
-
-            }
-            
-            // Reset counter.
-            counter = 1;
-            
-        }
-        
-        // If atlas contains bone pile(s), then...
-        if (bonePileCount > 0)    
-        {
-            
-            // Atlas contains one or more bone piles.
-            
-            // Loop through bone piles.
-            for (BonePile currBonePile : bonePileList)
-            {
-
-                // Reinitialize hash map for current bone pile.  Necessary or same data written for each entry.
-                mapJSON_BonePile = new HashMap<>();
-                
-                // Add information to hash map containing data for a single bone pile.
-                mapJSON_BonePile.put("POS_X", currBonePile.pos_x);
-                mapJSON_BonePile.put("POS_Y", currBonePile.pos_y);
-                mapJSON_BonePile.put("REGION_NBR", currBonePile.regionNbr);
-                
-                // Add hash map for current to container.
-                mapJSON_BonePiles.put("BONE_PILE_" + decimalFormat00.format(counter), mapJSON_BonePile);
-
-                // Increment counter.
-                counter++;
-
-            }
-
-            // Reset counter.
-            counter = 1;
-            
-        }
-        
-        // If atlas contains chest(s), then...
-        if (chestCount > 0)    
-        {
-            
-            // Atlas contains one or more chests.
-            
-            // Loop through chests.
-            for (Chest currChest : chestList)
-            {
-                
-                // Reinitialize hash map for current chest.  Necessary or same data written for each entry.
-                mapJSON_Chest = new HashMap<>();
-                
-                // Add information to hash map containing data for a single chest.
-                mapJSON_Chest.put("POS_X", currChest.pos_x);
-                mapJSON_Chest.put("POS_Y", currChest.pos_y);
-                mapJSON_Chest.put("REGION_NBR", currChest.regionNbr);
-                mapJSON_Chest.put("PRIMARY_ITEM", currChest.primaryItem);
-                mapJSON_Chest.put("PRIMARY_ITEM_CNT", currChest.primaryItemCount);
-                mapJSON_Chest.put("ADDL_ITEM_CNT", currChest.addlItemCount);
-                
-                // If additional items exist in chest, then...
-                if (currChest.addlItemCount > 0)
-                {
-                    
-                    // Additional items exist in chest.
-                    
-                    // Store additional items data.
-                    mapJSON_Chest.put("ADDL_ITEMS", currChest.addlItemList);
-                    
-                }
-                
-                // Add hash map for current to container.
-                mapJSON_Chests.put("CHEST_" + decimalFormat00.format(counter), mapJSON_Chest);
-
-                // Increment counter.
-                counter++;
-
-            }
-
-            // Reset counter.
-            counter = 1;
-            
-        }
-        
-        // If atlas contains hay bale(s), then...
-        if (hayBaleCount > 0)    
-        {
-            
-            // Atlas contains one or more hay bales.
-            
-            // Loop through hay bales.
-            for (HayBale currHayBale : hayBaleList)
-            {
-
-                // Reinitialize hash map for current hay bale.  Necessary or same data written for each entry.
-                mapJSON_HayBale = new HashMap<>();
-                
-                // Add information to hash map containing data for a single hay bale.
-                mapJSON_HayBale.put("POS_X", currHayBale.pos_x);
-                mapJSON_HayBale.put("POS_Y", currHayBale.pos_y);
-                mapJSON_HayBale.put("REGION_NBR", currHayBale.regionNbr);
-                
-                // Add hash map for current to container.
-                mapJSON_HayBales.put("HAY_BALE_" + decimalFormat00.format(counter), mapJSON_HayBale);
-
-                // Increment counter.
-                counter++;
-
-            }
-
-            // Reset counter.
-            counter = 1;
-            
-        }
-        
-        // If atlas contains locked door(s), then...
-        if (lockedDoorCount > 0)    
-        {
-            
-            // Atlas contains one or more locked doors.
-            
-            // Loop through locked doors.
-            for (LockedDoor currLockedDoor : lockedDoorList)
-            {
-
-                // Reinitialize hash map for current locked door.  Necessary or same data written for each entry.
-                mapJSON_LockedDoor = new HashMap<>();
-                
-                // Add information to hash map containing data for a single locked door.
-                mapJSON_LockedDoor.put("POS_X", currLockedDoor.pos_x);
-                mapJSON_LockedDoor.put("POS_Y", currLockedDoor.pos_y);
-                mapJSON_LockedDoor.put("REGION_NBR", currLockedDoor.regionNbr);
-                
-                // Add hash map for current to container.
-                mapJSON_LockedDoors.put("LOCKED_DOOR_" + decimalFormat00.format(counter), mapJSON_LockedDoor);
-
-                // Increment counter.
-                counter++;
-
-            }
-
-            // Reset counter.
-            counter = 1;
-            
-        }
-        
-        // If atlas contains specific enem(ies), then...
-        if (specificEnemyCount > 0)    
-        {
-            
-            // Atlas contains one or more specific enemies.
-            
-            // Loop through specific enemies.
-            for (SpecificEnemy currSpecificEnemy : specificEnemyList)
-            {
-
-                // Reinitialize hash map for current specific enemy.  Necessary or same data written for each entry.
-                mapJSON_SpecificEnemy = new HashMap<>();
-                
-                // Add information to hash map containing data for a single specific enemy.
-                mapJSON_SpecificEnemy.put("POS_X", currSpecificEnemy.pos_x);
-                mapJSON_SpecificEnemy.put("POS_Y", currSpecificEnemy.pos_y);
-                mapJSON_SpecificEnemy.put("REGION_NBR", currSpecificEnemy.regionNbr);
-                mapJSON_SpecificEnemy.put("ENEMY_TYPE", currSpecificEnemy.enemyType);
-                
-                // Add hash map for current to container.
-                mapJSON_SpecificEnemies.put("SPECIFIC_ENEMY_" + decimalFormat00.format(counter), 
-                  mapJSON_SpecificEnemy);
-
-                // Increment counter.
-                counter++;
-
-            }
-
-            // Reset counter.
-            counter = 1;
-            
-        }
-        
-        // Add values for the atlas to hash map.
-        
-        // Start with counts.
-        mapJSON.put("ALTER_MAP_CNT", alterMapCount);
-        mapJSON.put("BONE_PILE_CNT", bonePileCount);
-        mapJSON.put("CHEST_CNT", chestCount);
-        mapJSON.put("HAY_BALE_CNT", hayBaleCount);
-        mapJSON.put("LOCKED_DOOR_CNT", lockedDoorCount);
-        mapJSON.put("SPECIFIC_ENEMY_CNT", specificEnemyCount);
-        
-        // Next, add item information (as necessary).
-        
-        // If one or more map alteration events exist, then...
-        if (alterMapCount > 0)
-            mapJSON.put("ALTER_MAP_EVENTS", mapJSON_AlterMaps);
-        
-        // If one or more bone piles exist, then...
-        if (bonePileCount > 0)
-            mapJSON.put("BONE_PILES", mapJSON_BonePiles);
-        
-        // If one or more chests exist, then...
-        if (chestCount > 0)
-            mapJSON.put("CHESTS", mapJSON_Chests);
-        
-        // If one or more hay bales exist, then...
-        if (hayBaleCount > 0)
-            mapJSON.put("HAY_BALES", mapJSON_HayBales);
-        
-        // If one or more locked doors exist, then...
-        if (lockedDoorCount > 0)
-            mapJSON.put("LOCKED_DOORS", mapJSON_LockedDoors);
-        
-        // If one or more specific enemies exist, then...
-        if (specificEnemyCount > 0)
-            mapJSON.put("SPECIFIC_ENEMIES", mapJSON_SpecificEnemies);
-        
-    }
-    
-    // mapJSONBuild = Hash map containing item data for the atlas.
     // regionCount = Number of regions.
-    public void readHashMap(Map<String, Object> mapJSONBuild, int regionCount)
+    // fileAlterMapCount = Number of map alteration events in the file.
+    // fileBonePileCount = Number of bone piles in the file.
+    // fileChestCount = Number of chests in the file.
+    // fileHayBaleCount = Number of hay bales in the file.
+    // fileLockedDoorCount = Number of locked doors in the file.
+    // fileSpecificEnemyCount = Number of specific enemies in the file.
+    void finishRead(int regionCount, int fileAlterMapCount, int fileBonePileCount, int fileChestCount, 
+      int fileHayBaleCount, int fileLockedDoorCount, int fileSpecificEnemyCount)
     {
         
-        // The function builds the item data for the atlas using the passed hash map.
-        
-        // Declare object variables.
-        Set<Map.Entry<String, Object>> entrySetAlterMap; // Set view of the map alteration event mappings in the hash map.
-        Set<Map.Entry<String, Object>> entrySetBonePile; // Set view of the bone pile mappings in the hash map.
-        Set<Map.Entry<String, Object>> entrySetChest; // Set view of the chest mappings in the hash map.
-        Set<Map.Entry<String, Object>> entrySetHayBale; // Set view of the hay bale mappings in the hash map.
-        Set<Map.Entry<String, Object>> entrySetLockedDoor; // Set view of the locked door mappings in the hash map.
-        Set<Map.Entry<String, Object>> entrySetSpecificEnemy; // Set view of the specific enemy mappings in the hash map.
-        HashMap<String, Object> alterMapData; // Hash map containing information for a single map alteration event.
-        HashMap<String, Object> alterMapMap; // Hash map containing information for map alteration events in loop.
-        HashMap<String, Object> atlasItemsMap; // Hash map containing top-level object / parent.
-          // The children include the counts and other hash maps.
-        HashMap<String, Object> bonePileData; // Hash map containing information for a single bone pile.
-        HashMap<String, Object> bonePileMap; // Hash map containing information for bone piles in loop.
-        HashMap<String, Object> chestData; // Hash map containing information for a single chest.
-        HashMap<String, Object> chestMap; // Hash map containing information for chests in loop.
-        HashMap<String, Object> hayBaleData; // Hash map containing information for a single hay bale.
-        HashMap<String, Object> hayBaleMap; // Hash map containing information for hay bales in loop.
-        HashMap<String, Object> lockedDoorData; // Hash map containing information for a single locked door.
-        HashMap<String, Object> lockedDoorMap; // Hash map containing information for locked doors in loop.
-        HashMap<String, Object> specificEnemyData; // Hash map containing information for a single specific enemy.
-        HashMap<String, Object> specificEnemyMap; // Hash map containing information for specific enemies in loop.
-        
-        // Declare regular variables.
-        int chestAddlItemCount; // Number of additional items in the current chest.
-        int fileAlterMapCount; // Number of map alteration events in the file.  Used for validation.
-        int fileBonePileCount; // Number of bone piles in the file.  Used for validation.
-        int fileChestCount; // Number of chests in the file.  Used for validation.
-        int fileHayBaleCount; // Number of hay bales in the file.  Used for validation.
-        int fileLockedDoorCount; // Number of locked doors in the file.  Used for validation.
-        int fileSpecificEnemyCount; // Number of specific enemies in the file.  Used for validation.
-        
-        // Reinitialize class-level lists.
-        alterMapList = new ArrayList<>();
-        bonePileList = new ArrayList<>();
-        chestList = new ArrayList<>();
-        hayBaleList = new ArrayList<>();
-        lockedDoorList = new ArrayList<>();
-        specificEnemyList = new ArrayList<>();
-        
-        // Initialize hash maps containing item information.
-        alterMapMap = new HashMap<>();
-        atlasItemsMap = new HashMap<>();
-        bonePileMap = new HashMap<>();
-        chestMap = new HashMap<>();
-        hayBaleMap = new HashMap<>();
-        lockedDoorMap = new HashMap<>();
-        specificEnemyMap = new HashMap<>();
-        
-        // Get the top-level / parent hash map.
-        atlasItemsMap.putAll((HashMap)mapJSONBuild.get("items"));
-        
-        // Populate the counts -- used for validation.
-        fileAlterMapCount = (int)atlasItemsMap.get("ALTER_MAP_CNT");
-        fileBonePileCount = (int)atlasItemsMap.get("BONE_PILE_CNT");
-        fileChestCount = (int)atlasItemsMap.get("CHEST_CNT");
-        fileHayBaleCount = (int)atlasItemsMap.get("HAY_BALE_CNT");
-        fileLockedDoorCount = (int)atlasItemsMap.get("LOCKED_DOOR_CNT");
-        fileSpecificEnemyCount = (int)atlasItemsMap.get("SPECIFIC_ENEMY_CNT");
-        
-        // If one or more map alteration event(s) exist, then...
-        if (fileAlterMapCount > 0)
-        {
-
-            // One or more map alteration event(s) exist.
-
-            // Copy all data for map alteration events into hash map. 
-            alterMapMap.putAll((HashMap)atlasItemsMap.get("ALTER_MAP_EVENTS"));
-
-            // Store a set view of the map alteration event mappings for the hash map.
-            entrySetAlterMap = alterMapMap.entrySet();
-
-            // Loop through entries for map alteration events.
-            for (Entry entryAlterMap : entrySetAlterMap)
-            {
-
-                // Reinitialize hash map for single map alteration event.
-                alterMapData = new HashMap<>();
-
-                // Copy all data for current map alteration event in loop to hash map.
-                alterMapData.putAll((HashMap)entryAlterMap.getValue());
-
-                // Add the map alteration event.
-                
-                // If a campaign event, then...
-                if (((boolean)alterMapData.get("CAMPAIGN_EVENT_IND")))    
-                {
-                    
-                    // Campaign event.
-                    
-                    // Add map alteration event.
-                    addAlterMap((int)alterMapData.get("POS_X"), (int)alterMapData.get("POS_Y"), 
-                      (int)alterMapData.get("REGION_NBR"), (int)alterMapData.get("TILE_NBR"), 
-                      (String)alterMapData.get("CAMPAIGN_EVENT"), (boolean)alterMapData.get("CAMPAIGN_EVENT_TYPE"));
-                
-                }
-                
-                else
-                {
-                    
-                    // NOT a campaign event.
-                    
-                    // Add map alteration event.
-                    addAlterMap((int)alterMapData.get("POS_X"), (int)alterMapData.get("POS_Y"), 
-                      (int)alterMapData.get("REGION_NBR"), (int)alterMapData.get("TILE_NBR"));
-                    
-                }
-            
-            } // End ... Loop through entries for map alteration event(s).
-
-        } // End ... If one or more map alteration event(s) exist.
-        
-        // If one or more bone pile(s) exist, then...
-        if (fileBonePileCount > 0)
-        {
-
-            // One or more bone pile(s) exist.
-
-            // Copy all data for bone piles into hash map. 
-            bonePileMap.putAll((HashMap)atlasItemsMap.get("BONE_PILES"));
-
-            // Store a set view of the bone pile mappings for the hash map.
-            entrySetBonePile = bonePileMap.entrySet();
-
-            // Loop through entries for bone piles.
-            for (Entry entryBonePile : entrySetBonePile)
-            {
-
-                // Reinitialize hash map for single bone pile.
-                bonePileData = new HashMap<>();
-
-                // Copy all data for current bone pile in loop to hash map.
-                bonePileData.putAll((HashMap)entryBonePile.getValue());
-
-                // Add the bone pile.
-                addBonePile((int)bonePileData.get("POS_X"), (int)bonePileData.get("POS_Y"), 
-                  (int)bonePileData.get("REGION_NBR"));
-            
-            } // End ... Loop through entries for bone pile(s).
-
-        } // End ... If one or more bone pile(s) exist.
-        
-        // If one or more chest(s) exist, then...
-        if (fileChestCount > 0)
-        {
-
-            // One or more chest(s) exist.
-
-            // Copy all data for chests into hash map. 
-            chestMap.putAll((HashMap)atlasItemsMap.get("CHESTS"));
-
-            // Store a set view of the chest mappings for the hash map.
-            entrySetChest = chestMap.entrySet();
-
-            // Loop through entries for chests.
-            for (Entry entryChest : entrySetChest)
-            {
-
-                // Reinitialize hash map for single chest.
-                chestData = new HashMap<>();
-
-                // Copy all data for current chest in loop to hash map.
-                chestData.putAll((HashMap)entryChest.getValue());
-
-                // Store the number of additional item(s) in the chest.
-                chestAddlItemCount = (int)chestData.get("ADDL_ITEM_CNT");
-                
-                // If the chest contains one or more additional item(s), then...
-                if (chestAddlItemCount > 0)
-                {
-                    
-                    // One or more additional item(s) exist in the chest.
-                    
-                    // Add the chest.
-                    addChest((int)chestData.get("POS_X"), (int)chestData.get("POS_Y"), 
-                      (int)chestData.get("REGION_NBR"), 
-                      HeroineEnum.ItemEnum.valueOf((String)chestData.get("PRIMARY_ITEM")), 
-                      (int)chestData.get("PRIMARY_ITEM_CNT"), (ArrayList)chestData.get("ADDL_ITEMS"));
-                    
-                }
-                
-                else
-                {
-                    
-                    // No additional item(s) exist in the chest.
-                    
-                    // Add the chest.
-                    addChest((int)chestData.get("POS_X"), (int)chestData.get("POS_Y"), 
-                      (int)chestData.get("REGION_NBR"), 
-                      HeroineEnum.ItemEnum.valueOf((String)chestData.get("PRIMARY_ITEM")), 
-                      (int)chestData.get("PRIMARY_ITEM_CNT"));
-                    
-                }
-            
-            } // End ... Loop through entries for chest(s).
-
-        } // End ... If one or more chest(s) exist.
-        
-        // If one or more hay bale(s) exist, then...
-        if (fileHayBaleCount > 0)
-        {
-
-            // One or more hay bale(s) exist.
-
-            // Copy all data for hay bales into hash map. 
-            hayBaleMap.putAll((HashMap)atlasItemsMap.get("HAY_BALES"));
-
-            // Store a set view of the hay bale mappings for the hash map.
-            entrySetHayBale = hayBaleMap.entrySet();
-
-            // Loop through entries for hay bales.
-            for (Entry entryHayBale : entrySetHayBale)
-            {
-
-                // Reinitialize hash map for single hay bale.
-                hayBaleData = new HashMap<>();
-
-                // Copy all data for current hay bale in loop to hash map.
-                hayBaleData.putAll((HashMap)entryHayBale.getValue());
-                    
-                // Add the hay bale.
-                addHayBale((int)hayBaleData.get("POS_X"), (int)hayBaleData.get("POS_Y"), 
-                  (int)hayBaleData.get("REGION_NBR"));
-            
-            } // End ... Loop through entries for hay bale(s).
-
-        } // End ... If one or more hay bale(s) exist.
-        
-        // If one or more locked door(s) exist, then...
-        if (fileLockedDoorCount > 0)
-        {
-
-            // One or more locked door(s) exist.
-
-            // Copy all data for locked doors into hash map. 
-            lockedDoorMap.putAll((HashMap)atlasItemsMap.get("LOCKED_DOORS"));
-
-            // Store a set view of the locked door mappings for the hash map.
-            entrySetLockedDoor = lockedDoorMap.entrySet();
-
-            // Loop through entries for locked doors.
-            for (Entry entryLockedDoor : entrySetLockedDoor)
-            {
-
-                // Reinitialize hash map for single locked door.
-                lockedDoorData = new HashMap<>();
-
-                // Copy all data for current locked door in loop to hash map.
-                lockedDoorData.putAll((HashMap)entryLockedDoor.getValue());
-                
-                // Add the locked door.
-                addLockedDoor((int)lockedDoorData.get("POS_X"), (int)lockedDoorData.get("POS_Y"), 
-                  (int)lockedDoorData.get("REGION_NBR"));
-            
-            } // End ... Loop through entries for locked door(s).
-
-        } // End ... If one or more locked door(s) exist.
-        
-        // If one or more specific enem(ies) exist, then...
-        if (fileSpecificEnemyCount > 0)
-        {
-            
-            // One or more specific enem(ies) exist.
-
-            // Copy all data for specific enemies into hash map. 
-            specificEnemyMap.putAll((HashMap)atlasItemsMap.get("SPECIFIC_ENEMIES"));
-
-            // Store a set view of the specific enemy mappings for the hash map.
-            entrySetSpecificEnemy = specificEnemyMap.entrySet();
-
-            // Loop through entries for specific enemies.
-            for (Entry entrySpecificEnemy : entrySetSpecificEnemy)
-            {
-
-                // Reinitialize hash map for single specific enemy.
-                specificEnemyData = new HashMap<>();
-
-                // Copy all data for current specific enemy in loop to hash map.
-                specificEnemyData.putAll((HashMap)entrySpecificEnemy.getValue());
-                
-                // Add the specific enemy.
-                addSpecificEnemy((int)specificEnemyData.get("POS_X"), (int)specificEnemyData.get("POS_Y"), 
-                  (int)specificEnemyData.get("REGION_NBR"), 
-                  HeroineEnum.EnemyEnum.valueOf((String)specificEnemyData.get("ENEMY_TYPE")));
-            
-            } // End ... Loop through entries for specific enem(ies).
-
-        } // End ... If one or more specific(ies) exist.
+        // The function completes loading of the item data, after JSON_Processor streams the items from the 
+        // file through the add functions.
         
         // Store item information by region.
         storeRegionInfo(regionCount);
@@ -1364,14 +779,17 @@ public class AtlasItems
     private void storeRegionInfo(int regionCount)
     {
         
-        // The function stores the hash maps and array lists with the information by region / location.
+        // The function stores the index and array lists with the information by region / location.
         
         int counterIndex; // Counter used to increment through list indices.
-        ArrayList<Object> temp; // Used when first adding an array list to the hash map with items by location.
-        String key; // Key value for populating hash map with items by location.
         
-        // First, initialize hash maps.
-        mapRegionItems = new HashMap<>();
+        // First, initialize indices with items by location -- one per item category.
+        mapRegionAlterMaps = new ItemIndex<>(HeroineEnum.ItemCategoryEnum.ITEM_CTGY_ALTER_MAP);
+        mapRegionBonePiles = new ItemIndex<>(HeroineEnum.ItemCategoryEnum.ITEM_CTGY_BONE_PILE);
+        mapRegionChests = new ItemIndex<>(HeroineEnum.ItemCategoryEnum.ITEM_CTGY_CHEST);
+        mapRegionHayBales = new ItemIndex<>(HeroineEnum.ItemCategoryEnum.ITEM_CTGY_HAY_BALE);
+        mapRegionLockedDoors = new ItemIndex<>(HeroineEnum.ItemCategoryEnum.ITEM_CTGY_LOCKED_DOOR);
+        mapRegionSpecificEnemies = new ItemIndex<>(HeroineEnum.ItemCategoryEnum.ITEM_CTGY_SPECIFIC_ENEMY);
         
         // Second, store item counts for each region.
         
@@ -1416,41 +834,14 @@ public class AtlasItems
             itemCountList.get(counter).itemCount_HayBale + itemCountList.get(counter).itemCount_LockedDoor + 
             itemCountList.get(counter).itemCount_SpecificEnemy);
         
-        // Last, populate hash maps for locations with items.
+        // Last, populate index for locations with items.
         
         // Loop through map alteration events.
         for (AlterMap alterMap : alterMapList)
         {
             
-            // Determine key.
-            key = Integer.toString(alterMap.regionNbr) + "," + Integer.toString(alterMap.pos_x) + "," + 
-              Integer.toString(alterMap.pos_y) + "," + HeroineEnum.ItemCategoryEnum.ITEM_CTGY_ALTER_MAP;
-            
-            // If necessary, initialize array list for map / region items for the current key.
-            
-            // If item type exists in hash map for location, then...
-            if (mapRegionItems.get(key) != null)
-            {
-                // Item type DOES exist in hash map for location.
-                
-                // Get reference to existing array list.
-                temp = mapRegionItems.get(key);
-            }
-            
-            else
-            {
-                // Item type DOES NOT exist in hash map for location.
-                
-                // Create new array list (reinitialize).
-                temp = new ArrayList<>();
-                
-            }
-            
-            // Add item to array list.
-            temp.add(alterMap);
-            
-            // Add item to hash map.
-            mapRegionItems.put(key, temp);
+            // Add item to list for its location and type (initializing list as necessary).
+            mapRegionAlterMaps.getOrCreate(alterMap.regionNbr, alterMap.pos_x, alterMap.pos_y).add(alterMap);
             
         }
         
@@ -1461,38 +852,11 @@ public class AtlasItems
         for (BonePile bonePile : bonePileList)
         {
             
-            // Determine key.
-            key = Integer.toString(bonePile.regionNbr) + "," + Integer.toString(bonePile.pos_x) + "," + 
-              Integer.toString(bonePile.pos_y) + "," + HeroineEnum.ItemCategoryEnum.ITEM_CTGY_BONE_PILE;
-            
-            // If necessary, initialize array list for map / region items for the current key.
-            
-            // If item type exists in hash map for location, then...
-            if (mapRegionItems.get(key) != null)
-            {
-                // Item type DOES exist in hash map for location.
-                
-                // Get reference to existing array list.
-                temp = mapRegionItems.get(key);
-            }
-            
-            else
-            {
-                // Item type DOES NOT exist in hash map for location.
-                
-                // Create new array list (reinitialize).
-                temp = new ArrayList<>();
-                
-            }
-            
             // Store index.
             bonePile.setBonePileIndex(counterIndex);
             
-            // Add item to array list.
-            temp.add(bonePile);
-            
-            // Add item to hash map.
-            mapRegionItems.put(key, temp);
+            // Add item to list for its location and type (initializing list as necessary).
+            mapRegionBonePiles.getOrCreate(bonePile.regionNbr, bonePile.pos_x, bonePile.pos_y).add(bonePile);
             
             // Increment counter.
             counterIndex++;
@@ -1506,38 +870,11 @@ public class AtlasItems
         for (Chest chest : chestList)
         {
             
-            // Determine key.
-            key = Integer.toString(chest.regionNbr) + "," + Integer.toString(chest.pos_x) + "," + 
-              Integer.toString(chest.pos_y) + "," + HeroineEnum.ItemCategoryEnum.ITEM_CTGY_CHEST;
-            
-            // If necessary, initialize array list for map / region items for the current key.
-            
-            // If item type exists in hash map for location, then...
-            if (mapRegionItems.get(key) != null)
-            {
-                // Item type DOES exist in hash map for location.
-                
-                // Get reference to existing array list.
-                temp = mapRegionItems.get(key);
-            }
-            
-            else
-            {
-                // Item type DOES NOT exist in hash map for location.
-                
-                // Create new array list (reinitialize).
-                temp = new ArrayList<>();
-                
-            }
-            
             // Store index.
             chest.setChestIndex(counterIndex);
             
-            // Add item to array list.
-            temp.add(chest);
-            
-            // Add item to hash map.
-            mapRegionItems.put(key, temp);
+            // Add item to list for its location and type (initializing list as necessary).
+            mapRegionChests.getOrCreate(chest.regionNbr, chest.pos_x, chest.pos_y).add(chest);
             
             // Increment counter.
             counterIndex++;
@@ -1548,35 +885,8 @@ public class AtlasItems
         for (HayBale hayBale : hayBaleList)
         {
             
-            // Determine key.
-            key = Integer.toString(hayBale.regionNbr) + "," + Integer.toString(hayBale.pos_x) + "," + 
-              Integer.toString(hayBale.pos_y) + "," + HeroineEnum.ItemCategoryEnum.ITEM_CTGY_HAY_BALE;
-            
-            // If necessary, initialize array list for map / region items for the current key.
-            
-            // If item type exists in hash map for location, then...
-            if (mapRegionItems.get(key) != null)
-            {
-                // Item type DOES exist in hash map for location.
-                
-                // Get reference to existing array list.
-                temp = mapRegionItems.get(key);
-            }
-            
-            else
-            {
-                // Item type DOES NOT exist in hash map for location.
-                
-                // Create new array list (reinitialize).
-                temp = new ArrayList<>();
-                
-            }
-            
-            // Add item to array list.
-            temp.add(hayBale);
-            
-            // Add item to hash map.
-            mapRegionItems.put(key, temp);
+            // Add item to list for its location and type (initializing list as necessary).
+            mapRegionHayBales.getOrCreate(hayBale.regionNbr, hayBale.pos_x, hayBale.pos_y).add(hayBale);
             
         }
         
@@ -1587,38 +897,11 @@ public class AtlasItems
         for (LockedDoor lockedDoor : lockedDoorList)
         {
             
-            // Determine key.
-            key = Integer.toString(lockedDoor.regionNbr) + "," + Integer.toString(lockedDoor.pos_x) + "," + 
-              Integer.toString(lockedDoor.pos_y) + "," + HeroineEnum.ItemCategoryEnum.ITEM_CTGY_LOCKED_DOOR;
-            
-            // If necessary, initialize array list for map / region items for the current key.
-            
-            // If item type exists in hash map for location, then...
-            if (mapRegionItems.get(key) != null)
-            {
-                // Item type DOES exist in hash map for location.
-                
-                // Get reference to existing array list.
-                temp = mapRegionItems.get(key);
-            }
-            
-            else
-            {
-                // Item type DOES NOT exist in hash map for location.
-                
-                // Create new array list (reinitialize).
-                temp = new ArrayList<>();
-                
-            }
-            
             // Store index.
             lockedDoor.setLockedDoorIndex(counterIndex);
             
-            // Add item to array list.
-            temp.add(lockedDoor);
-            
-            // Add item to hash map.
-            mapRegionItems.put(key, temp);
+            // Add item to list for its location and type (initializing list as necessary).
+            mapRegionLockedDoors.getOrCreate(lockedDoor.regionNbr, lockedDoor.pos_x, lockedDoor.pos_y).add(lockedDoor);
             
             // Increment counter.
             counterIndex++;
@@ -1629,35 +912,8 @@ public class AtlasItems
         for (SpecificEnemy specificEnemy : specificEnemyList)
         {
             
-            // Determine key.
-            key = Integer.toString(specificEnemy.regionNbr) + "," + Integer.toString(specificEnemy.pos_x) + "," + 
-              Integer.toString(specificEnemy.pos_y) + "," + HeroineEnum.ItemCategoryEnum.ITEM_CTGY_SPECIFIC_ENEMY;
-            
-            // If necessary, initialize array list for map / region items for the current key.
-            
-            // If item type exists in hash map for location, then...
-            if (mapRegionItems.get(key) != null)
-            {
-                // Item type DOES exist in hash map for location.
-                
-                // Get reference to existing array list.
-                temp = mapRegionItems.get(key);
-            }
-            
-            else
-            {
-                // Item type DOES NOT exist in hash map for location.
-                
-                // Create new array list (reinitialize).
-                temp = new ArrayList<>();
-                
-            }
-            
-            // Add item to array list.
-            temp.add(specificEnemy);
-            
-            // Add item to hash map.
-            mapRegionItems.put(key, temp);
+            // Add item to list for its location and type (initializing list as necessary).
+            mapRegionSpecificEnemies.getOrCreate(specificEnemy.regionNbr, specificEnemy.pos_x, specificEnemy.pos_y).add(specificEnemy);
             
         }
         
@@ -1672,18 +928,19 @@ public class AtlasItems
         inactive in the array list.  The function also reduces the bone pile counts in the related lists.
         
         Notes:
-        1.  The hash map, mapRegionItems, stores a list of objects, by type, at each location.
-        2.  Keys in the hash map use the format, map_id,x,y,*ITEM CATEGORY*.
-        3.  *ITEM CATEGORY* = One of the enumerated values in HeroineEnum.ItemCategoryEnum.
-        4.  The "value" in the hash map contains an array list of the specified item category.
-        5.  For example, the "value" would contain one to many bone piles if category = ITEM_CTGY_BONE_PILE.
-        7.  The function does NOT remove the bone pile from the hash map.
+        1.  The index, mapRegionBonePiles, stores a list of bone piles at each location.
+        2.  Keys in the index pack map_id, x, y, and the item category (ITEM_CTGY_BONE_PILE) into a long.
+        3.  The function does NOT remove the bone pile from the index.
         */
         
         // Set the bone pile inactive to simulate removing from the array list.
         bonePileList.get(index).setActiveInd(false);
         //bonePileList.remove(index);
         
+        // If logging changes, then log removal.
+        if (journal != null)
+            journal.logBonePileRemoved(index);
+        
         // Reduce bone pile count.
         bonePileCount--;
         
@@ -1701,11 +958,11 @@ public class AtlasItems
     public void removeBonePileEntry(int map_id, int posX, int posY)
     {
         
-        // The function removes the bone pile based on the passed information from the hash map, mapRegionItems.
+        // The function removes the bone pile based on the passed information from the index, 
+        // mapRegionBonePiles.
         
-        // Remove bone pile from hash map.
-        mapRegionItems.remove(getMapRegionItemKey(map_id, posX, posY, 
-          HeroineEnum.ItemCategoryEnum.ITEM_CTGY_BONE_PILE));
+        // Remove bone pile from index.
+        mapRegionBonePiles.remove(map_id, posX, posY);
         
     }
     
@@ -1722,23 +979,18 @@ public class AtlasItems
         */
         
         BonePile bonePile; // First bone pile at passed location.
-        ArrayList<Object> objBonePileList; // List of bone piles at passed location.
-        String key; // Key to use in get call to hash map with atlas items.
-        
-        // Specify key to use in get call to hash map with atlas items.
-        key = getMapRegionItemKey(mapLocation.getMap_id(), mapLocation.getX(), mapLocation.getY(), 
-          HeroineEnum.ItemCategoryEnum.ITEM_CTGY_BONE_PILE);
+        ArrayList<BonePile> bonePiles; // List of bone piles at passed location.
         
         // Get list of bone piles at passed location.
-        objBonePileList = (ArrayList<Object>)mapRegionItems.get(key);
+        bonePiles = mapRegionBonePiles.get(mapLocation.getMap_id(), mapLocation.getX(), mapLocation.getY());
         
         // Get reference to first bone pile at passed location.
-        bonePile = (BonePile)objBonePileList.get(0);
+        bonePile = bonePiles.get(0);
         
         // Set bone pile in array list as inactive.
         removeBonePile(bonePile.getBonePileIndex(), mapLocation.getMap_id());
             
-        // Remove entry from mapRegionItems hash map.
+        // Remove entry from mapRegionBonePiles index.
         removeBonePileEntry(mapLocation.getMap_id(), mapLocation.getX(), mapLocation.getY());
         
     }
@@ -1753,12 +1005,9 @@ public class AtlasItems
         
         Notes:
         1.  A list of chests for a specific location can be retrieved with getChestList( map_id, posX, posY );
-        2.  The hash map, mapRegionItems, stores a list of objects, by type, at each location.
-        3.  Keys in the hash map use the format, map_id,x,y,*ITEM CATEGORY*.
-        4.  *ITEM CATEGORY* = One of the enumerated values in HeroineEnum.ItemCategoryEnum.
-        5.  The "value" in the hash map contains an array list of the specified item category.
-        6.  For example, the "value" would contain one to many chests if category = ITEM_CTGY_CHEST.
-        7.  The function does NOT remove the chest from the hash map, as one to many chests exist 
+        2.  The index, mapRegionChests, stores a list of chests at each location.
+        3.  Keys in the index pack map_id, x, y, and the item category (ITEM_CTGY_CHEST) into a long.
+        4.  The function does NOT remove the chest from the index, as one to many chests exist 
             for each entry.
         */
         
@@ -1766,6 +1015,10 @@ public class AtlasItems
         chestList.get(index).setActiveInd(false);
         //chestList.remove(index);
         
+        // If logging changes, then log removal.
+        if (journal != null)
+            journal.logChestRemoved(index);
+        
         // Reduce chest count.
         chestCount--;
         
@@ -1786,7 +1039,7 @@ public class AtlasItems
         
         /*
         The function encapsulates logic for removing the passed chests from the 
-        specified region, including for the hash map.
+        specified region, including for the index.
         The function actually sets the chests in the array list as inactive and removes
         the entry in the hash map.
         */
@@ -1820,7 +1073,7 @@ public class AtlasItems
 
         });
         
-        // Remove entry from mapRegionItems hash map.
+        // Remove entry from mapRegionChests index.
         removeChestEntry(map_id, posX, posY);
         
         /*
@@ -1839,11 +1092,10 @@ public class AtlasItems
     public void removeChestEntry(int map_id, int posX, int posY)
     {
         
-        // The function removes the chest based on the passed information from the hash map, mapRegionItems.
+        // The function removes the chest based on the passed information from the index, mapRegionChests.
         
-        // Remove chest from hash map.
-        mapRegionItems.remove(Integer.toString(map_id) + "," + Integer.toString(posX) + "," + 
-          Integer.toString(posY) + "," + HeroineEnum.ItemCategoryEnum.ITEM_CTGY_CHEST);
+        // Remove chest from index.
+        mapRegionChests.remove(map_id, posX, posY);
         
     }
     
@@ -1856,18 +1108,19 @@ public class AtlasItems
         inactive in the array list.  The function also reduces the locked door counts in the related lists.
         
         Notes:
-        1.  The hash map, mapRegionItems, stores a list of objects, by type, at each location.
-        2.  Keys in the hash map use the format, map_id,x,y,*ITEM CATEGORY*.
-        3.  *ITEM CATEGORY* = One of the enumerated values in HeroineEnum.ItemCategoryEnum.
-        4.  The "value" in the hash map contains an array list of the specified item category.
-        5.  For example, the "value" would contain one to many locked doors if category = ITEM_CTGY_LOCKED_DOOR.
-        7.  The function does NOT remove the locked door from the hash map.
+        1.  The index, mapRegionLockedDoors, stores a list of locked doors at each location.
+        2.  Keys in the index pack map_id, x, y, and the item category (ITEM_CTGY_LOCKED_DOOR) into a long.
+        3.  The function does NOT remove the locked door from the index.
         */
         
         // Set the locked door inactive to simulate removing from the array list.
         lockedDoorList.get(index).setActiveInd(false);
         //lockedDoorList.remove(index);
         
+        // If logging changes, then log removal.
+        if (journal != null)
+            journal.logLockedDoorRemoved(index);
+        
         // Reduce locked door count.
         lockedDoorCount--;
         
@@ -1885,12 +1138,11 @@ public class AtlasItems
     public void removeLockedDoorEntry(int map_id, int posX, int posY)
     {
         
-        // The function removes the locked door based on the passed information from the hash map, 
-        // mapRegionItems.
+        // The function removes the locked door based on the passed information from the index, 
+        // mapRegionLockedDoors.
         
-        // Remove locked door from hash map.
-        mapRegionItems.remove(getMapRegionItemKey(map_id, posX, posY, 
-          HeroineEnum.ItemCategoryEnum.ITEM_CTGY_LOCKED_DOOR));
+        // Remove locked door from index.
+        mapRegionLockedDoors.remove(map_id, posX, posY);
         
     }
     
@@ -1907,27 +1159,246 @@ public class AtlasItems
         */
         
         LockedDoor lockedDoor; // First locked door at passed location.
-        ArrayList<Object> objLockedDoorList; // List of locked doors at passed location.
-        String key; // Key to use in get call to hash map with atlas items.
-        
-        // Specify key to use in get call to hash map with atlas items.
-        key = getMapRegionItemKey(mapLocation.getMap_id(), mapLocation.getX(), mapLocation.getY(), 
-          HeroineEnum.ItemCategoryEnum.ITEM_CTGY_LOCKED_DOOR);
+        ArrayList<LockedDoor> lockedDoors; // List of locked doors at passed location.
         
         // Get list of locked doors at passed location.
-        objLockedDoorList = (ArrayList<Object>)mapRegionItems.get(key);
+        lockedDoors = mapRegionLockedDoors.get(mapLocation.getMap_id(), mapLocation.getX(), mapLocation.getY());
         
         // Get reference to first locked door at passed location.
-        lockedDoor = (LockedDoor)objLockedDoorList.get(0);
+        lockedDoor = lockedDoors.get(0);
         
         // Set bone pile in array list as inactive.
         removeLockedDoor(lockedDoor.getLockedDoorIndex(), mapLocation.getMap_id());
         
-        // Remove entry from mapRegionItems hash map.
+        // Remove entry from mapRegionLockedDoors index.
         removeLockedDoorEntry(mapLocation.getMap_id(), mapLocation.getX(), mapLocation.getY());
         
     }
     
+    // generator = Streaming JSON generator to which to write.
+    public void writeJSON(JsonGenerator generator) throws IOException
+    {
+        
+        // The function writes the atlas items as a JSON object to the passed generator, with the keys and 
+        // values read by JSON_Processor.readAtlasItems.  Keys get written in sorted order (with numbered keys, 
+        // such as CHEST_01, in numeric order).
+        
+        int counter; // Used to number items.
+        
+        // Start atlas items.
+        generator.writeStartObject();
+        
+        // Write map alteration event count.
+        generator.writeNumberField("ALTER_MAP_CNT", alterMapCount);
+        
+        // If atlas contains map alteration event(s), then...
+        if (alterMapCount > 0)
+        {
+            
+            // Atlas contains one or more map alteration events.
+            
+            // Write map alteration events.
+            generator.writeObjectFieldStart("ALTER_MAP_EVENTS");
+            counter = 1;
+            
+            for (AlterMap currAlterMap : alterMapList)
+            {
+                
+                generator.writeObjectFieldStart("ALTER_MAP_" + decimalFormat00.format(counter));
+                
+                // If a campaign event, then write campaign event information.
+                if (currAlterMap.campaignEventInd)
+                {
+                    generator.writeStringField("CAMPAIGN_EVENT", currAlterMap.campaignEvent);
+                    generator.writeBooleanField("CAMPAIGN_EVENT_IND", true);
+                    generator.writeBooleanField("CAMPAIGN_EVENT_TYPE", currAlterMap.campaignEventType);
+                }
+                
+                else
+                    // NOT a campaign event.
+                    generator.writeBooleanField("CAMPAIGN_EVENT_IND", false);
+                
+                generator.writeNumberField("POS_X", currAlterMap.pos_x);
+                generator.writeNumberField("POS_Y", currAlterMap.pos_y);
+                generator.writeNumberField("REGION_NBR", currAlterMap.regionNbr);
+                generator.writeNumberField("TILE_NBR", currAlterMap.tileNbr);
+                generator.writeEndObject();
+                counter++;
+                
+            }
+            
+            generator.writeEndObject();
+            
+        }
+        
+        // If atlas contains bone pile(s), then...
+        if (bonePileCount > 0)
+        {
+            
+            // Atlas contains one or more bone piles.
+            
+            // Write bone piles.
+            generator.writeObjectFieldStart("BONE_PILES");
+            counter = 1;
+            
+            for (BonePile currBonePile : bonePileList)
+            {
+                writeLocationJSON(generator, "BONE_PILE_" + decimalFormat00.format(counter), 
+                  currBonePile.pos_x, currBonePile.pos_y, currBonePile.regionNbr);
+                counter++;
+            }
+            
+            generator.writeEndObject();
+            
+        }
+        
+        // Write bone pile count.
+        generator.writeNumberField("BONE_PILE_CNT", bonePileCount);
+        
+        // If atlas contains chest(s), then...
+        if (chestCount > 0)
+        {
+            
+            // Atlas contains one or more chests.
+            
+            // Write chests.
+            generator.writeObjectFieldStart("CHESTS");
+            counter = 1;
+            
+            for (Chest currChest : chestList)
+            {
+                
+                generator.writeObjectFieldStart("CHEST_" + decimalFormat00.format(counter));
+                
+                // If additional items exist in chest, then write additional items.
+                if (currChest.addlItemCount > 0)
+                {
+                    generator.writeArrayFieldStart("ADDL_ITEMS");
+                    for (HeroineEnum.ItemEnum item : currChest.addlItemList)
+                        generator.writeString(item.name());
+                    generator.writeEndArray();
+                }
+                
+                generator.writeNumberField("ADDL_ITEM_CNT", currChest.addlItemCount);
+                generator.writeNumberField("POS_X", currChest.pos_x);
+                generator.writeNumberField("POS_Y", currChest.pos_y);
+                generator.writeStringField("PRIMARY_ITEM", currChest.primaryItem.name());
+                generator.writeNumberField("PRIMARY_ITEM_CNT", currChest.primaryItemCount);
+                generator.writeNumberField("REGION_NBR", currChest.regionNbr);
+                generator.writeEndObject();
+                counter++;
+                
+            }
+            
+            generator.writeEndObject();
+            
+        }
+        
+        // Write chest count.
+        generator.writeNumberField("CHEST_CNT", chestCount);
+        
+        // If atlas contains hay bale(s), then...
+        if (hayBaleCount > 0)
+        {
+            
+            // Atlas contains one or more hay bales.
+            
+            // Write hay bales.
+            generator.writeObjectFieldStart("HAY_BALES");
+            counter = 1;
+            
+            for (HayBale currHayBale : hayBaleList)
+            {
+                writeLocationJSON(generator, "HAY_BALE_" + decimalFormat00.format(counter), 
+                  currHayBale.pos_x, currHayBale.pos_y, currHayBale.regionNbr);
+                counter++;
+            }
+            
+            generator.writeEndObject();
+            
+        }
+        
+        // Write hay bale count.
+        generator.writeNumberField("HAY_BALE_CNT", hayBaleCount);
+        
+        // If atlas contains locked door(s), then...
+        if (lockedDoorCount > 0)
+        {
+            
+            // Atlas contains one or more locked doors.
+            
+            // Write locked doors.
+            generator.writeObjectFieldStart("LOCKED_DOORS");
+            counter = 1;
+            
+            for (LockedDoor currLockedDoor : lockedDoorList)
+            {
+                writeLocationJSON(generator, "LOCKED_DOOR_" + decimalFormat00.format(counter), 
+                  currLockedDoor.pos_x, currLockedDoor.pos_y, currLockedDoor.regionNbr);
+                counter++;
+            }
+            
+            generator.writeEndObject();
+            
+        }
+        
+        // Write locked door count.
+        generator.writeNumberField("LOCKED_DOOR_CNT", lockedDoorCount);
+        
+        // If atlas contains specific enem(ies), then...
+        if (specificEnemyCount > 0)
+        {
+            
+            // Atlas contains one or more specific enemies.
+            
+            // Write specific enemies.
+            generator.writeObjectFieldStart("SPECIFIC_ENEMIES");
+            counter = 1;
+            
+            for (SpecificEnemy currSpecificEnemy : specificEnemyList)
+            {
+                generator.writeObjectFieldStart("SPECIFIC_ENEMY_" + decimalFormat00.format(counter));
+                generator.writeStringField("ENEMY_TYPE", currSpecificEnemy.enemyType.name());
+                generator.writeNumberField("POS_X", currSpecificEnemy.pos_x);
+                generator.writeNumberField("POS_Y", currSpecificEnemy.pos_y);
+                generator.writeNumberField("REGION_NBR", currSpecificEnemy.regionNbr);
+                generator.writeEndObject();
+                counter++;
+            }
+            
+            generator.writeEndObject();
+            
+        }
+        
+        // Write specific enemy count.
+        generator.writeNumberField("SPECIFIC_ENEMY_CNT", specificEnemyCount);
+        
+        // End atlas items.
+        generator.writeEndObject();
+        
+    }
+    
+    // generator = Streaming JSON generator to which to write.
+    // fieldName = Name of field holding the item -- for example, BONE_PILE_01.
+    // pos_x = X-coordinate of the tile with the item.
+    // pos_y = Y-coordinate of the tile with the item.
+    // regionNbr = Region number.  Base 0.
+    private static void writeLocationJSON(JsonGenerator generator, String fieldName, int pos_x, int pos_y, 
+      int regionNbr) throws IOException
+    {
+        
+        // The function writes an item consisting only of a location (bone pile, hay bale, or locked door) as 
+        // a JSON object to the passed generator.
+        
+        // Write item.
+        generator.writeObjectFieldStart(fieldName);
+        generator.writeNumberField("POS_X", pos_x);
+        generator.writeNumberField("POS_Y", pos_y);
+        generator.writeNumberField("REGION_NBR", regionNbr);
+        generator.writeEndObject();
+        
+    }
+    
     // Getters and setters below...
     
     // whichAlterMap = Index number of map alteration event to return.  Base 0.
@@ -1971,14 +1442,8 @@ public class AtlasItems
         
         // The function returns whether chest(s) exist at the passed location.
         
-        String key; // Key to use when getting chest list.
-        
-        // Determine key.
-        key = Integer.toString(map_id) + "," + Integer.toString(x) + "," + Integer.toString(y) + "," + 
-          HeroineEnum.ItemCategoryEnum.ITEM_CTGY_CHEST;
-        
         // Return whether chest(s) exist at passed location.
-        return mapRegionItems.get(key) != null;
+        return mapRegionChests.contains(map_id, x, y);
         
     }
     
@@ -1990,39 +1455,36 @@ public class AtlasItems
         /*
         The function returns the list of chests at the passed location.
         
-        The function retrieves the chest list from the hash map, mapRegionItems.
-        The hash map stores a list of objects, by type, at each location.
-        Keys in the hash map use the format, map_id,x,y,*ITEM CATEGORY*.
-        *ITEM CATEGORY* = One of the enumerated values in HeroineEnum.ItemCategoryEnum.
-        The "value" in the hash map contains an array list of the specified item category.
-        For example, the "value" would contain one to many chests if category = ITEM_CTGY_CHEST.
+        The function retrieves the chest list from the index, mapRegionChests.
+        The index stores a list of chests at each location.
+        Keys in the index pack map_id, x, y, and the item category (ITEM_CTGY_CHEST) into a long.
+        The function returns a copy, so that callers may remove chests while looping through the list.
         */
         
         int count; // Number of chests at passed location.
-        String key; // Key to use when getting chest list.
+        ArrayList<Chest> items; // Chests at passed location (or null).
         ArrayList<Chest> temp; // Holder for list of chests at passed location.
         
-        // Determine key.
-        key = Integer.toString(map_id) + "," + Integer.toString(x) + "," + Integer.toString(y) + "," + 
-          HeroineEnum.ItemCategoryEnum.ITEM_CTGY_CHEST;
+        // Get chests at passed location.
+        items = mapRegionChests.get(map_id, x, y);
         
         // Initialize array list.
-        temp = new ArrayList<>();
+        temp = new ArrayList<>(items != null ? items.size() : 0);
         
         // If chests exist at passed location, then...
-        if (mapRegionItems.get(key) != null)
+        if (items != null)
         {
             
             // Chests exist at passed location.
             
             // Store number of chests at passed location.
-            count = mapRegionItems.get(key).size();
+            count = items.size();
             
             // Loop through chests at passed location.
             for (int counter = 0; counter < count; counter++)
             {
                 // Add chest to list to pass back.
-                temp.add((Chest)mapRegionItems.get(key).get(counter));
+                temp.add(items.get(counter));
             }
         }
         
@@ -2045,6 +1507,16 @@ public class AtlasItems
         return hayBaleList;
     }
     
+    // map_id = Region / map location (number) to check.
+    // x = X-coordinate within map to check.
+    // y = Y-coordinate within map to check.
+    public boolean getItemInd(int map_id, int x, int y) {
+        // The function returns whether item(s) of any category exist at the passed location.
+        return mapRegionAlterMaps.contains(map_id, x, y) || mapRegionBonePiles.contains(map_id, x, y) ||
+          mapRegionChests.contains(map_id, x, y) || mapRegionHayBales.contains(map_id, x, y) ||
+          mapRegionLockedDoors.contains(map_id, x, y) || mapRegionSpecificEnemies.contains(map_id, x, y);
+    }
+    
     public ArrayList<ItemCounts> getItemCountList() {
         return itemCountList;
     }
@@ -2067,22 +1539,13 @@ public class AtlasItems
         return lockedDoorList;
     }
 
-    public Map<String, Object> getMapJSON() {
-        return mapJSON;
-    }
-    
     // map_id = Map / region number of item.
     // posX = X-coordinate associated with the item.
     // posY = Y-coordinate associated with the item.
     // itemCategoryEnum = Enumerated value for the item -- a value from the ItemCategoryEnum list.
-    public String getMapRegionItemKey(int map_id, int posX, int posY, 
+    public long getMapRegionItemKey(int map_id, int posX, int posY, 
       HeroineEnum.ItemCategoryEnum itemCategoryEnum) {
-        return Integer.toString(map_id) + "," + Integer.toString(posX) + "," + Integer.toString(posY) + "," + 
-          itemCategoryEnum;
-    }
-    
-    public HashMap<String, ArrayList<Object>> getMapRegionItems() {
-        return mapRegionItems;
+        return ItemIndex.packKey(map_id, posX, posY, itemCategoryEnum);
     }
     
     // whichSpecifiedEnemy = Index number of specific enemy to return.  Base 0.
@@ -2098,14 +1561,8 @@ public class AtlasItems
         
         // The function returns whether specific enem(ies) exist at the passed location.
         
-        String key; // Key to use when getting specific enemy list.
-        
-        // Determine key.
-        key = Integer.toString(map_id) + "," + Integer.toString(x) + "," + Integer.toString(y) + "," + 
-          HeroineEnum.ItemCategoryEnum.ITEM_CTGY_SPECIFIC_ENEMY;
-        
         // Return whether speicifc enem(ies) exist at passed location.
-        return mapRegionItems.get(key) != null;
+        return mapRegionSpecificEnemies.contains(map_id, x, y);
         
     }
     
@@ -2117,40 +1574,35 @@ public class AtlasItems
         /*
         The function returns the list of specific enemies at the passed location.
         
-        The function retrieves the specific enemy list from the hash map, mapRegionItems.
-        The hash map stores a list of objects, by type, at each location.
-        Keys in the hash map use the format, map_id,x,y,*ITEM CATEGORY*.
-        *ITEM CATEGORY* = One of the enumerated values in HeroineEnum.ItemCategoryEnum.
-        The "value" in the hash map contains an array list of the specified item category.
-        For example, the "value" would contain one to many specific enemies if 
-        category = ITEM_CTGY_SPECIFIC_ENEMY.
+        The function retrieves the specific enemy list from the index, mapRegionSpecificEnemies.
+        The index stores a list of specific enemies at each location.
+        Keys in the index pack map_id, x, y, and the item category (ITEM_CTGY_SPECIFIC_ENEMY) into a long.
         */
         
         int count; // Number of chests at passed location.
-        String key; // Key to use when getting specific enemy list.
+        ArrayList<SpecificEnemy> items; // Specific enemies at passed location (or null).
         ArrayList<SpecificEnemy> temp; // Holder for list of specific enemies at passed location.
         
-        // Determine key.
-        key = Integer.toString(map_id) + "," + Integer.toString(x) + "," + Integer.toString(y) + "," + 
-          HeroineEnum.ItemCategoryEnum.ITEM_CTGY_SPECIFIC_ENEMY;
+        // Get specific enemies at passed location.
+        items = mapRegionSpecificEnemies.get(map_id, x, y);
         
         // Initialize array list.
-        temp = new ArrayList<>();
+        temp = new ArrayList<>(items != null ? items.size() : 0);
         
         // If specific enemies exist at passed location, then...
-        if (mapRegionItems.get(key) != null)
+        if (items != null)
         {
             
             // Specific enemies exist at passed location.
             
             // Store number of specific enemies at passed location.
-            count = mapRegionItems.get(key).size();
+            count = items.size();
             
             // Loop through specific enemies at passed location.
             for (int counter = 0; counter < count; counter++)
             {
                 // Add specific enemies to list to pass back.
-                temp.add((SpecificEnemy)mapRegionItems.get(key).get(counter));
+                temp.add(items.get(counter));
             }
         }
         
@@ -2163,4 +1615,9 @@ public class AtlasItems
         return specificEnemyList;
     }
     
+    // journal = Journal in which to log removed chests, bone piles, and locked doors.  Null = no logging.
+    public void setJournal(MutationJournal journal) {
+        this.journal = journal;
+    }
+    
 }
\ No newline at end of file
@@ -128,6 +128,7 @@ public class Avatar
         // The function updates the (possible) player position based on a movement action.
         // If the player can walk to the adjusted position, update the current x and y coordinates.
         
+        HeroineEnum.FacingEnum entrySide; // Side of new location crossed when moving -- faces current location.
         boolean movementInd; // Whether movement occurred.
         int newX; // New x-coordinate.
         int newY; // New y-coordinate.
@@ -137,22 +138,24 @@ public class Avatar
         {
             // Moving forward / up.
             
-            // Determine pending new location.
+            // Determine pending new location and side of new location crossed.
             newX = x + facing.getValue_MoveUpDx();
             newY = y + facing.getValue_MoveUpDy();
+            entrySide = facing.getValue_FacingOpposite();
         }
         
         else
         {
             // Moving backward / down.
             
-            // Determine pending new location.
+            // Determine pending new location and side of new location crossed.
             newX = x + facing.getValue_MoveDownDx();
             newY = y + facing.getValue_MoveDownDy();
+            entrySide = facing;
         }
         
         // If proposed position within current region / map bounds, then...
-        if (newX >= 0 && newY >= 0 && newX < mazemap.getRegionWidth() && newY < mazemap.getRegionHeight())
+        if (mazemap.getRegionTiles().isInBounds(newX, newY))
         {
         
             // Proposed position within current region / map bounds.
@@ -160,11 +163,8 @@ public class Avatar
             //System.out.println("Proposed tile (" + (mazemap.getImgTileEnum(newX, newY).getValue_Walkable() ? "Y" : "N") + "): " + mazemap.getImgTileEnum(newX, newY));
             //System.out.println("Proposed side tile (" + (mazemap.getImgTileEnum_Side(this, forwardInd).getValue_Walkable() ? "Y" : "N") + "): " + mazemap.getImgTileEnum_Side(this, forwardInd));
             
-            // If proposed position walkable, then...
-            if ( (mazemap.getImgTileEnum(newX, newY).getValue_Walkable() && 
-                  mazemap.getImgTileEnum_Side(this, forwardInd) == 
-                  HeroineEnum.ImgTileEnum.IMG_TILE_IGNORE_SIDE) || 
-                mazemap.getImgTileEnum_Side(this, forwardInd).getValue_Walkable() )
+            // If proposed position walkable (checking side tile crossed, if any, then tile), then...
+            if (mazemap.canEnter(newX, newY, entrySide))
             {
 
                 // Proposed position walkable.
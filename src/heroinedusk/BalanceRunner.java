@@ -0,0 +1,294 @@
+package heroinedusk;
+
+// Java imports.
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Locale;
+
+public class BalanceRunner
+{
+
+    /*
+    The class runs a Monte Carlo balance pass from the command line -- simulating combats for every region,
+    enemy, and weapon / armor / spell loadout available from the shops -- and streams the results to CSV.
+
+    Usage:  java -cp <classpath> heroinedusk.BalanceRunner [fights] [seed] [output file]
+
+    fights = Number of combats to simulate for each loadout and enemy.  Defaults to 100,000.
+    seed = Seed from which to derive the random number streams.  Defaults to 1.
+    output file = CSV file to write.  Defaults to balance.csv.
+
+    Notes:
+    1.  Loadouts combine the starting equipment of the player and every weapon, armor, and spell sold in the
+        shops.  The player starts each combat at the maximum hit and magic points of a new player.
+    2.  Enemies repeat across regions, so each loadout and enemy pair gets simulated once and reused.
+    3.  Each region produces one row per enemy plus an ALL row, weighted by how often the enemy appears in
+        the region enemy list (matching the odds of encountering it).
+    4.  Simulations run in parallel on the common fork / join pool (see CombatSimulator).
+
+    Methods include:
+
+    build_loadouts:  Returns the loadouts formed by the starting equipment and the items sold in the shops.
+    fraction:  Returns the passed part as a fraction of the passed whole.
+    main:  Runs the balance pass using the passed command line arguments.
+    quote:  Returns the passed text as a quoted CSV field, doubling any embedded quotes.
+    run:  Simulates all loadouts against all enemies and writes the results for each region.
+    write_row:  Writes a single row of results.
+    */
+
+    // Declare constants.
+    private static final String CSV_HEADER = "region_nbr,region_name,weapon,armor,spell,enemy,weight,fights," +
+      "win_rate,defeat_rate,unresolved_rate,avg_rounds,avg_hp_lost,avg_mp_lost,avg_gold"; // Header row.
+    private static final int DEFAULT_FIGHTS = 100000; // Default number of combats for each loadout and enemy.
+    private static final String DEFAULT_OUTPUT = "balance.csv"; // Default output file.
+    private static final long DEFAULT_SEED = 1L; // Default seed.
+
+    // avatar = Player information used for starting equipment and maximum hit and magic points.
+    // shops = Shop information containing items for sale.
+    private static ArrayList<CombatLoadout> build_loadouts(Avatar avatar, Shops shops)
+    {
+
+        // The function returns the loadouts formed by the starting equipment and the items sold in the shops.
+
+        EnumSet<HeroineEnum.ArmorEnum> armors; // Armors to include.
+        ArrayList<CombatLoadout> loadouts; // Loadouts to return.
+        EnumSet<HeroineEnum.SpellEnum> spells; // Spells (highest known) to include.
+        EnumSet<HeroineEnum.WeaponEnum> weapons; // Weapons to include.
+
+        // Start with equipment of a new player, before any spells.
+        weapons = EnumSet.of(avatar.getWeapon());
+        armors = EnumSet.of(avatar.getArmor());
+        spells = EnumSet.of(HeroineEnum.SpellEnum.NO_SPELL);
+
+        // Loop through shops.
+        for (Shop shop : shops.getShopList())
+        {
+
+            // Loop through type / value pairs in shop.
+            for (Shop.TypeValue typeValue : shop.getTypeValueList())
+            {
+
+                // Add item for sale, if any.
+                if (typeValue.getMsgType() == HeroineEnum.ShopTypeEnum.SHOP_WEAPON.getValue())
+                    weapons.add(HeroineEnum.WeaponEnum.valueOf(typeValue.getValue()));
+                else if (typeValue.getMsgType() == HeroineEnum.ShopTypeEnum.SHOP_ARMOR.getValue())
+                    armors.add(HeroineEnum.ArmorEnum.valueOf(typeValue.getValue()));
+                else if (typeValue.getMsgType() == HeroineEnum.ShopTypeEnum.SHOP_SPELL.getValue())
+                    spells.add(HeroineEnum.SpellEnum.valueOf(typeValue.getValue()));
+
+            }
+
+        }
+
+        // Initialize array list.
+        loadouts = new ArrayList<>();
+
+        // Loop through combinations of weapon, armor, and spell.
+        for (HeroineEnum.WeaponEnum weapon : weapons)
+            for (HeroineEnum.ArmorEnum armor : armors)
+                for (HeroineEnum.SpellEnum spell : spells)
+                    // Add loadout.
+                    loadouts.add(new CombatLoadout(avatar.getMax_hp(), avatar.getMax_mp(), weapon, armor, spell));
+
+        // Return loadouts.
+        return loadouts;
+
+    }
+
+    // part = Numerator.
+    // whole = Denominator.
+    private static double fraction(long part, long whole)
+    {
+        // The function returns the passed part as a fraction of the passed whole (zero when whole is zero).
+        return whole == 0 ? 0 : (double)part / whole;
+    }
+
+    // args = Command line arguments -- number of combats, seed, and output file (all optional).
+    public static void main(String[] args)
+    {
+
+        // The function runs the balance pass using the passed command line arguments.
+
+        Atlas atlas; // Atlas containing the regions and their enemies.
+        int fights; // Number of combats to simulate for each loadout and enemy.
+        long seed; // Seed from which to derive the random number streams.
+        long timeStart; // Time when the balance pass started, in nanoseconds.
+
+        // Read arguments, using defaults for any missing.
+        fights = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_FIGHTS;
+        seed = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_SEED;
+
+        // Load atlas.
+        atlas = new JSON_Processor().readAtlas("/json/Atlas.json");
+
+        // Store start time.
+        timeStart = System.nanoTime();
+
+        // Try running the balance pass, closing the output file when done (even on error).
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(args.length > 2 ? args[2] :
+          DEFAULT_OUTPUT))) {
+
+            // Run balance pass.
+            run(atlas, build_loadouts(new Avatar(), new Shops(null)), fights, seed, writer);
+
+        }
+
+        // Catch any io exceptions occurring when writing the results.
+        catch (IOException ex) {
+
+            // Display error message.
+            System.out.println("Warning:  Error writing balance results.\nMessage: " + ex.getMessage());
+
+        }
+
+        // Display elapsed time.
+        System.out.println("Balance pass finished in " + (System.nanoTime() - timeStart) / 1000000 + " ms.");
+
+    }
+
+    // text = Text to quote.
+    private static String quote(String text)
+    {
+        // The function returns the passed text as a quoted CSV field, doubling any embedded quotes.
+        return "\"" + text.replace("\"", "\"\"") + "\"";
+    }
+
+    // atlas = Atlas containing the regions and their enemies.
+    // loadouts = Loadouts to simulate.
+    // fights = Number of combats to simulate for each loadout and enemy.
+    // seed = Seed from which to derive the random number streams.
+    // writer = Writes the results.
+    public static void run(Atlas atlas, ArrayList<CombatLoadout> loadouts, int fights, long seed,
+      BufferedWriter writer) throws IOException
+    {
+
+        /*
+        The function simulates all loadouts against all enemies and writes the results for each region.
+        Rows stream out after each region, so partial results survive an interrupted run.
+        Each loadout and enemy pair uses a seed offset by its position in the loadout and enemy lists, so
+        results do not depend on the order in which regions get processed.
+        */
+
+        CombatTotals combined; // Totals for a region, weighted by enemy frequency.
+        EnumMap<HeroineEnum.EnemyEnum, Integer> enemyWeights; // Number of times each enemy appears in region.
+        long pairIndex; // Index of the current loadout and enemy pair -- used to offset the seed.
+        ArrayList<RegionMap> regions; // Regions, ordered by region number.
+        ArrayList<EnumMap<HeroineEnum.EnemyEnum, CombatTotals>> results; // Totals, by loadout and enemy.
+        CombatSimulator simulator; // Runs the simulations.
+        CombatTotals totals; // Totals for a loadout and enemy.
+
+        // Initialize simulator.
+        simulator = new CombatSimulator();
+
+        // Initialize results, with one (initially empty) entry per loadout.
+        results = new ArrayList<>();
+
+        for (CombatLoadout loadout : loadouts)
+            results.add(new EnumMap<HeroineEnum.EnemyEnum, CombatTotals>(HeroineEnum.EnemyEnum.class));
+
+        // Order regions by number.
+        regions = new ArrayList<>();
+
+        for (int map_id = 0; map_id < atlas.getMapCount(); map_id++)
+            regions.add(atlas.getRegionMap(map_id));
+
+        // Write header row.
+        writer.write(CSV_HEADER);
+        writer.newLine();
+
+        // Loop through regions.
+        for (RegionMap region : regions)
+        {
+
+            // If region contains no enemies, then skip to next.
+            if (region.getEnemyList().isEmpty())
+                continue;
+
+            // Count number of times each enemy appears in region.
+            enemyWeights = new EnumMap<>(HeroineEnum.EnemyEnum.class);
+
+            for (HeroineEnum.EnemyEnum enemyEnum : region.getEnemyList())
+                enemyWeights.put(enemyEnum, enemyWeights.containsKey(enemyEnum) ?
+                  enemyWeights.get(enemyEnum) + 1 : 1);
+
+            // Loop through loadouts.
+            for (int counter = 0; counter < loadouts.size(); counter++)
+            {
+
+                // Initialize weighted totals for region.
+                combined = new CombatTotals();
+
+                // Loop through enemies in region.
+                for (HeroineEnum.EnemyEnum enemyEnum : enemyWeights.keySet())
+                {
+
+                    // Get totals for loadout and enemy.
+                    totals = results.get(counter).get(enemyEnum);
+
+                    // If loadout and enemy pair not yet simulated, then...
+                    if (totals == null)
+                    {
+
+                        // Loadout and enemy pair not yet simulated.
+
+                        // Simulate pair, offsetting the seed so that no two pairs share streams.
+                        pairIndex = (long)counter * HeroineEnum.EnemyEnum.values().length + enemyEnum.ordinal();
+                        totals = simulator.simulate(loadouts.get(counter), enemyEnum, fights,
+                          seed + pairIndex * fights);
+
+                        // Store totals for reuse in later regions.
+                        results.get(counter).put(enemyEnum, totals);
+
+                    }
+
+                    // Write row for enemy.
+                    write_row(writer, region, loadouts.get(counter), enemyEnum.getValue_Name(),
+                      enemyWeights.get(enemyEnum), totals);
+
+                    // Add totals to region, once per appearance in enemy list.
+                    for (int weight = 0; weight < enemyWeights.get(enemyEnum); weight++)
+                        combined.add(totals);
+
+                }
+
+                // Write row for region as a whole.
+                write_row(writer, region, loadouts.get(counter), "ALL", region.getEnemyList().size(), combined);
+
+            }
+
+            // Push region rows out.
+            writer.flush();
+
+        }
+
+    }
+
+    // writer = Writes the results.
+    // region = Region / map for the row.
+    // loadout = Loadout for the row.
+    // enemyName = Enemy name (or ALL) for the row.
+    // weight = Number of times the enemy appears in the region enemy list.
+    // totals = Totals for the row.
+    private static void write_row(BufferedWriter writer, RegionMap region, CombatLoadout loadout,
+      String enemyName, int weight, CombatTotals totals) throws IOException
+    {
+
+        // The function writes a single row of results.
+
+        // Write row.
+        writer.write(String.format(Locale.ROOT, "%d,%s,%s,%s,%s,%s,%d,%d,%.5f,%.5f,%.5f,%.3f,%.3f,%.3f,%.3f",
+          region.getRegionNbr(), quote(region.getRegionName()), quote(loadout.getWeapon().getValue_CleanText()),
+          quote(loadout.getArmor().getValue_CleanText()), quote(loadout.getSpellbook().getValue_CleanText()),
+          quote(enemyName), weight, totals.getFights(),
+          totals.getWinRate(), fraction(totals.getDefeats(), totals.getFights()),
+          fraction(totals.getUnresolved(), totals.getFights()), totals.getAvgRounds(), totals.getAvgHpLost(),
+          totals.getAvgMpLost(), totals.getAvgGold()));
+        writer.newLine();
+
+    }
+
+}
@@ -0,0 +1,170 @@
+package heroinedusk;
+
+public class CollisionGrid
+{
+
+    /*
+    The class stores the walkability of a region in packed bit sets, so that a movement check costs a couple
+    of bit tests rather than tile, side tile, and enumeration lookups.
+
+    Notes:
+    1.  One bit set holds whether the tile at each location is walkable.  For each side (north, south, east,
+        west), one bit set holds whether the location shows a side tile there and another whether that side
+        tile is walkable.
+    2.  Entering a location through a side showing a side tile depends on the side tile alone.  Otherwise,
+        entering depends on the tile at the location.  Matches the rule previously applied in
+        Avatar.avatar_move.
+    3.  Side tiles set to IMG_TILE_IGNORE_SIDE count as no side tile.
+    4.  Bit index = (y * width) + x, packed 64 to a long.  Sides get indexed by the numeric value of
+        FacingEnum.
+    5.  RegionMap builds the grid on first use and updates it as tiles change (see RegionMap.noteTileChange),
+        so changes such as unlocked doors apply right away.
+
+    Methods include:
+
+    canEnter:  Returns whether the player can enter the passed location through the passed side.
+    isWalkable:  Returns whether the tile at the passed location is walkable.
+    setBit:  Sets or clears the bit at the passed index in the passed bit set.
+    setSideTile:  Stores the walkability of the side tile at the passed location and side.
+    setTile:  Stores the walkability of the tile at the passed location.
+    testBit:  Returns whether the bit at the passed index in the passed bit set is set.
+    */
+
+    // Declare object variables.
+    private final long[][] sideTileBits; // Whether each location shows a side tile, by side (FacingEnum value).
+    private final long[][] sideWalkableBits; // Whether the side tile at each location is walkable, by side
+      // (FacingEnum value).
+    private final long[] walkableBits; // Whether the tile at each location is walkable.
+
+    // Declare regular variables.
+    private final int height; // Grid height, in locations.
+    private final int width; // Grid width, in locations.
+
+    // width = Grid width, in locations.
+    // height = Grid height, in locations.
+    public CollisionGrid(int width, int height)
+    {
+
+        // The constructor allocates the bit sets, with every location unwalkable and without side tiles.
+
+        int words; // Number of longs needed per bit set.
+
+        // Store passed values.
+        this.width = width;
+        this.height = height;
+
+        // Calculate number of longs needed per bit set.
+        words = ((width * height) + 63) >>> 6;
+
+        // Allocate bit sets.
+        walkableBits = new long[words];
+        sideTileBits = new long[HeroineEnum.FacingEnum.values().length][words];
+        sideWalkableBits = new long[HeroineEnum.FacingEnum.values().length][words];
+
+    }
+
+    // posX = X-coordinate of location to enter.
+    // posY = Y-coordinate of location to enter.
+    // entrySide = Side of the location crossed when entering -- the side facing the location left.
+    public boolean canEnter(int posX, int posY, HeroineEnum.FacingEnum entrySide)
+    {
+
+        // The function returns whether the player can enter the passed location through the passed side.
+        // The location must lie within the grid.
+
+        int index; // Bit index of location.
+        int side; // Index of side in side bit sets.
+
+        // Calculate bit index of location and index of side.
+        index = (posY * width) + posX;
+        side = entrySide.getValue();
+
+        // If location shows a side tile on the side crossed, then...
+        if (testBit(sideTileBits[side], index))
+            // Side tile shown.  Walkability of side tile decides.
+            return testBit(sideWalkableBits[side], index);
+
+        // Return walkability of tile.
+        return testBit(walkableBits, index);
+
+    }
+
+    // posX = X-coordinate of location to check.
+    // posY = Y-coordinate of location to check.
+    public boolean isWalkable(int posX, int posY)
+    {
+        // The function returns whether the tile at the passed location is walkable.
+        return testBit(walkableBits, (posY * width) + posX);
+    }
+
+    // bits = Bit set in which to set or clear the bit.
+    // index = Index of bit.
+    // value = Whether to set (true) or clear (false) the bit.
+    private static void setBit(long[] bits, int index, boolean value)
+    {
+
+        // The function sets or clears the bit at the passed index in the passed bit set.
+
+        // If setting, then set bit.  Otherwise, clear bit.
+        if (value)
+            bits[index >>> 6] |= 1L << index;
+        else
+            bits[index >>> 6] &= ~(1L << index);
+
+    }
+
+    // side = Side of location holding the side tile.
+    // posX = X-coordinate of location.
+    // posY = Y-coordinate of location.
+    // tile = Side tile number.  RegionMap.SIDE_TILE_NONE = none.
+    public void setSideTile(HeroineEnum.FacingEnum side, int posX, int posY, int tile)
+    {
+
+        // The function stores the walkability of the side tile at the passed location and side.
+
+        int index; // Bit index of location.
+        boolean shownInd; // Whether the location shows a side tile on the passed side.
+
+        // Calculate bit index of location.
+        index = (posY * width) + posX;
+
+        // Determine whether a side tile gets shown.  Placeholder side tiles count as none.
+        shownInd = tile != RegionMap.SIDE_TILE_NONE &&
+          tile != HeroineEnum.ImgTileEnum.IMG_TILE_IGNORE_SIDE.getValue();
+
+        // Store whether side tile shown and walkable.
+        setBit(sideTileBits[side.getValue()], index, shownInd);
+        setBit(sideWalkableBits[side.getValue()], index, shownInd && HeroineEnum.ImgTileEnum.isWalkable(tile));
+
+    }
+
+    // posX = X-coordinate of location.
+    // posY = Y-coordinate of location.
+    // tile = Tile number.
+    public void setTile(int posX, int posY, int tile)
+    {
+
+        // The function stores the walkability of the tile at the passed location.
+        setBit(walkableBits, (posY * width) + posX, HeroineEnum.ImgTileEnum.isWalkable(tile));
+
+    }
+
+    // bits = Bit set to check.
+    // index = Index of bit.
+    private static boolean testBit(long[] bits, int index)
+    {
+        // The function returns whether the bit at the passed index in the passed bit set is set.
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    // Getters and setters below...
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+}
@@ -8,11 +8,9 @@ import core.AssetMgr;
 import core.BaseActor;
 import core.ShakyActor;
 import gui.CustomLabel;
-import routines.UtilityRoutines;
 import screens.ExploreScreen;
 
 // Java imports.
-import java.security.SecureRandom;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -38,6 +36,7 @@ public class Combat
     
     Methods include:
 
+    enemy_action:  Encapsulates non-visual logic related to the enemy acting against the player.
     fight:  Encapsulates logic related to a round of combat.
     initiate_combat:  Initializes variables related to a new combat.
     offense_finish:  Encapsulates display logic related to the last segment of the player portion
@@ -54,33 +53,29 @@ public class Combat
     private final ActionResult actionResultEnemy; // Result from (usually last) enemy action.
     private final ActionResult actionResultPlayer; // Result from (usually last) player action.
     private final Avatar avatar; // Reference to player information class.
+    private final CombatEngine engine; // Resolves the rules of combat (rolls, damage, spells, enemy powers).
     private final Map<HeroineEnum.ActionButtonEnum, Boolean> mapActionButtonEnabled_Start; // Hash map containing 
       // enabled status of action buttons.  Copy of values from start of current combat.
     private final MazeMap mazemap; // Stores data for the current active region / map.
     
     // Declare regular variables.
-    private boolean boneshield_active; // Whether bone shield power (of enemy) active.
-    private int boneshield_counter; // Number of times bone shield power used.
     private boolean boneshield_fade; // Whether to fade bone shield.
     private HeroineEnum.CombatPhaseEnum combatPhase; // Current combat phase.
-    private HeroineEnum.EnemyEnum enemyEnum; // Type of enemy involved in combat.
-    private int enemyHp; // Current number of hit points of enemy.
     private HeroineEnum.FightEnum fightEnum; // Current player action.
-    private final SecureRandom number; // Used for generating random numbers.
     @SuppressWarnings("FieldMayBeFinal")
     private int selectorAdjPos; // Position adjustment related to selector.
     private boolean shakeActiveInd; // Whether shake active.
     
     // Declare constants.
     private final Color COLOR_MED_GRAY = new Color(0.50f, 0.50f, 0.50f, 1);
-    private final boolean DEBUG_RUN = true; // Set to true to cause run to be successful every time.
     
     // Constructors below...
     
     // avatar = Reference to player information class.
     // mazemap = Reference to data for the current active region / map.
+    // random = Random number streams used by gameplay.
     // scale = Output scale factor -- multiple of 160 and 120.
-    public Combat(Avatar avatar, MazeMap mazemap, int scale)
+    public Combat(Avatar avatar, MazeMap mazemap, GameRandom random, int scale)
     {
         
         // The constructor initializes the combat engine and stores the parameters in their related class
@@ -93,8 +88,9 @@ public class Combat
         // Initialize hash maps.
         mapActionButtonEnabled_Start = new HashMap<>();
         
-        // Start random number generator.
-        number = new SecureRandom();
+        // Initialize combat engine using the random number streams for combat and spells.
+        engine = new CombatEngine(random.getStream(HeroineEnum.RandomStreamEnum.RND_STREAM_COMBAT), 
+          random.getStream(HeroineEnum.RandomStreamEnum.RND_STREAM_SPELL));
         
         // Store reference to player information class.
         this.avatar = avatar;
@@ -211,7 +207,7 @@ public class Combat
         // Phases:  COMBAT_PHASE_VICTORY, COMBAT_PHASE_DEFEAT.
 
         // If enemy defeated (at or below zero hit points) and player still alive, then...
-        if ( enemyHp <= 0 && avatar.getHp() > 0 )
+        if ( engine.isEnemyDead() && avatar.getHp() > 0 )
         {
 
             // Enemy defeated -- at or below zero hit points -- and player still alive.
@@ -344,311 +340,15 @@ public class Combat
         
     }
     
-    // sounds = Reference to sounds class.
-    private void enemy_attack(Sounds sounds)
-    {
-        
-        /*
-        The function encapsulates non-visual logic related to the enemy attacking the player.
-        The function excludes visual results.
-        
-        The function updates the action results related to the enemy-related labels.
-        The function does not update the enemy-related labels or shake the screen.
-        
-        Other functions handle:
-        1.  The visual results of the enemy action, including shaking the screen.
-        2.  Victory conditions.
-        3.  Loss conditions.
-        */
-        
-        int attack_damage; // Amount of damage caused by enemy in current round.
-        int hit_chance; // Random number indicating whether enemy hit player.
-        HeroineEnum.EnemyPowerEnum enemyPower; // Type of enemy attack.
-        
-        // 1.  Determine type of enemy attack.
-        enemyPower = enemyEnum.getValue_RandomPower(number);
-        
-        // 2.  Use enemy "power" against player.
-        
-        // Depending on enemy power used, ...
-        switch (enemyPower) {
-            
-            case ENEMY_POWER_ATTACK:
-                
-                // Enemy performs standard physical attack.
-                enemy_power_attack(sounds);
-                
-                // Exit selector.
-                break;
-                
-            case ENEMY_POWER_SCORCH:
-                
-                // Enemy performs scorch attack (another version of burn).
-                enemy_power_scorch(sounds);
-                
-                // Exit selector.
-                break;
-                
-            case ENEMY_POWER_HPDRAIN:
-                
-                // Enemy performs hit point drain attack.
-                
-                // Set action text to HP DRAIN!.
-                actionResultEnemy.setTextAction(HeroineEnum.PowerActionEnum.POWER_ACTION_HP_DRAIN);
-                
-                // "Roll" to determine if enemy hit player -- 1 to 100.
-                hit_chance = UtilityRoutines.generateStandardRnd(number, 1, 100);
-
-                // If miss occurred, then...
-                if (hit_chance <= 30)
-                {
-
-                    // Miss occurred.
-
-                    // Store defense result.
-                    actionResultEnemy.setTextResult(HeroineEnum.PowerResultEnum.POWER_RESULT_MISS);
-
-                    // Play miss sound.
-                    sounds.playSound(HeroineEnum.SoundEnum.SOUND_MISS);
-
-                } // End ... If miss occurred.
-                
-                else
-                
-                // Otherwise, ...
-                {
-                    
-                    // Enemy successfully hit player.
-                    
-                    // Play hit point drain sound.
-                    sounds.playSound(HeroineEnum.SoundEnum.SOUND_HP_DRAIN);
-                    
-                    // Flag player as hit.
-                    actionResultEnemy.setOpponentHurt(true);
-
-                    // Randomly determine damage based on enemy minimum and maximum.
-                    attack_damage = UtilityRoutines.generateStandardRnd(number, enemyEnum.getValue_AtkMin(), 
-                      enemyEnum.getValue_AtkMax());
-
-                    // Hit point drain never causes a critical hit.
-                    
-                    // Allow for player armor to absorb some of the damage.
-                    attack_damage -= avatar.getArmor().getValue_Def();
-                    attack_damage -= avatar.getBonus_def();
-
-                    // Ensure that at least one hit point of damage occurs.
-                    if (attack_damage < 1)
-                        attack_damage = 1;
-                    
-                    // Reduce player hit points.
-                    avatar.adjHp(-attack_damage);
-
-                    // Add to enemy hit points.
-                    enemyHp += attack_damage;
-                    
-                    // Store defense result.
-                    actionResultEnemy.setTextResult_Damage(attack_damage);
-                
-                } // End ... If hit occurred.
-                
-                // Exit selector.
-                break;
-                
-            case ENEMY_POWER_MPDRAIN:
-                
-                // power_mpdrain();
-                
-                // Enemy performs magic point drain attack.
-                
-                // Set action text to MP DRAIN!.
-                actionResultEnemy.setTextAction(HeroineEnum.PowerActionEnum.POWER_ACTION_MP_DRAIN);
-                
-                // "Roll" to determine if enemy hit player -- 1 to 100.
-                hit_chance = UtilityRoutines.generateStandardRnd(number, 1, 100);
-
-                // If miss occurred, then...
-                if (hit_chance <= 30)
-                {
-
-                    // Miss occurred.
-
-                    // Store defense result.
-                    actionResultEnemy.setTextResult(HeroineEnum.PowerResultEnum.POWER_RESULT_MISS);
-
-                    // Play miss sound.
-                    sounds.playSound(HeroineEnum.SoundEnum.SOUND_MISS);
-
-                } // End ... If miss occurred.
-                
-                else
-                
-                // Otherwise, ...
-                {
-                    
-                    // Enemy successfully hit player.
-                    
-                    // Play magic point drain sound.
-                    sounds.playSound(HeroineEnum.SoundEnum.SOUND_MP_DRAIN);
-                    
-                    // Flag player as hit.
-                    actionResultEnemy.setOpponentHurt(true);
-
-                    // If player has one or more magic points, then...
-                    if (avatar.getMp() > 0)
-                    {
-                        
-                        // Player has one or more magic points.
-                        
-                        // Reduce player magic points by one.
-                        avatar.decrement_mp();
-                        
-                        // Store defense result.
-                        actionResultEnemy.setTextResult("-1 MP");
-                        
-                    }
-                    
-                    else
-                    {
-                        
-                        // Player has no remaining magic points.
-                        
-                        // Store defense result.
-                        actionResultEnemy.setTextResult("No effect");
-                        
-                    }
-                
-                } // End ... If hit occurred.
-                
-                // Exit selector.
-                break;
-                
-            default:
-                
-                // Unknown enemy power.
-                
-                // Display warning.
-                System.out.println("Warning:  Enemy used unknown power!");
-                
-                // Exit selector.
-                break;
-            
-        } // End ... Depending on enemy power used.
-        
-        // Ensure that player hit points at least zero (avoid negatives).
-        avatar.setHp_Min();
-        
-    }
-    
     // boneshield = BaseActor object that acts as the death speaker bone shield.
     // sounds = Reference to sounds class.
-    private void enemy_attack_death_speaker(BaseActor boneshield, Sounds sounds)
-    {
-        
-        /*
-        The function encapsulates non-visual logic related to the death speaker enemy attacking the player.
-        The function excludes visual results.
-        
-        The function updates the action results related to the enemy-related labels.
-        The function does not update the enemy-related labels or shake the screen.
-        
-        Other functions handle:
-        1.  Normal power use -- occurs 66% of the time.
-        2.  Scorch power use -- occurs 33% of the time or when bone shield already active or used three times.
-        3.  The visual results of the enemy action, including shaking the screen.
-        4.  Victory conditions.
-        5.  Loss conditions.
-        */
-        
-        int attack_type; // Number determining attack type -- 1 to 66 = Regular, 67 to 100 = Special.
-        int power_roll; // Number determining power used -- 1 to 33 = Scorch, 34 to 100 = Bone Shield.
-        
-        // "Roll" for attack type -- regular or special.
-        attack_type = UtilityRoutines.generateStandardRnd(number, 1, 100);
-        
-        // If regular attack occurring, then...
-        if (attack_type <= 66)
-        {
-            
-            // Regular attack occurring.
-            
-            // Enemy performs standard physical attack.
-            enemy_power_attack(sounds);
-            
-        } // End ... If regular attack occurring.
-        
-        else
-        {
-            
-            // Special attack occurring.
-            
-            // If bone shield active or already used three times in current combat, then...
-            if (boneshield_active || boneshield_counter == 3)
-            {
-                
-                // Bone shield active or already used three times in current combat.
-                
-                // Enemy performs scorch attack (another version of burn).
-                enemy_power_scorch(sounds);
-                
-            }
-            
-            else
-            {
-                
-                // Bone shield inactive and used less than three times in current combat.
-                
-                // "Roll" for power type -- bone shield or scorch.
-                power_roll = UtilityRoutines.generateStandardRnd(number, 1, 100);
-                
-                // If scorch attack occurring, then...
-                if (power_roll <= 33)
-                {
-                    
-                    // Scorch attack occurring.
-                    
-                    // Enemy performs scorch attack (another version of burn).
-                    enemy_power_scorch(sounds);
-                    
-                }
-                
-                else
-                {
-                    
-                    // Bone shield defense occurring.
-                    
-                    // Set enemy action text to BONE SHIELD!.
-                    actionResultEnemy.setTextAction(HeroineEnum.PowerActionEnum.POWER_ACTION_BONE_SHIELD);
-                    
-                    // Store enemy defense result.
-                    actionResultEnemy.setTextResult(HeroineEnum.PowerResultEnum.POWER_RESULT_DEF_UP);
-                    
-                    // Show bone shield actor.
-                    boneshield.setVisible(true);
-                    
-                    // Play bone shield sound.
-                    sounds.playSound(HeroineEnum.SoundEnum.SOUND_BONESHIELD);
-                    
-                    // Flag bone shield as active.
-                    boneshield_active = true;
-                    
-                    // Increment bone shield usage counter.
-                    boneshield_counter++;
-                    
-                } // End ... If bone shield defense occurring.
-                
-            } // End ... If bone shield inactive and used less than three times in current combat.
-            
-        } // End ... If special attack occurring.
-        
-    }
-    
-    // sounds = Reference to sounds class.
-    private void enemy_power_attack(Sounds sounds)
+    private void enemy_action(BaseActor boneshield, Sounds sounds)
     {
         
         /*
-        The function handles the enemy using a physical attack against the player.
-        The function excludes visual results.
+        The function encapsulates non-visual logic related to the enemy acting against the player.
+        The combat engine resolves the action.  The function copies the results back to the player, plays 
+        the related sound, and shows the bone shield when raised.
         
         The function updates the action results related to the enemy-related labels.
         The function does not update the enemy-related labels or shake the screen.
@@ -659,177 +359,30 @@ public class Combat
         3.  Loss conditions.
         */
         
-        int attack_damage; // Amount of damage caused by enemy in current round.
-        int crit_chance; // Whether enemy caused a critical hit to the player.
-        int hit_chance; // Random number indicating whether enemy hit player.
+        boolean boneshieldInd; // Whether enemy bone shield active before enemy action.
         
-        // "Roll" to determine if enemy hit player -- 1 to 100.
-        hit_chance = UtilityRoutines.generateStandardRnd(number, 1, 100);
-
-        // If miss occurred, then...
-        if (hit_chance <= 30)
-        {
-
-            // Miss occurred.
-
-            // Set action text to ATTACK!.
-            actionResultEnemy.setTextAction(HeroineEnum.PowerActionEnum.POWER_ACTION_ATTACK);
-
-            // Store defense result.
-            actionResultEnemy.setTextResult(HeroineEnum.PowerResultEnum.POWER_RESULT_MISS);
-
-            // Play miss sound.
-            sounds.playSound(HeroineEnum.SoundEnum.SOUND_MISS);
-
-        } // End ... If miss occurred.
-
-        else
-
-        // Otherwise, ...
-        {
-
-            // Enemy successfully hit player.
-
-            // Flag player as hit.
-            actionResultEnemy.setOpponentHurt(true);
-
-            // Randomly determine damage based on enemy minimum and maximum.
-            attack_damage = UtilityRoutines.generateStandardRnd(number, enemyEnum.getValue_AtkMin(), 
-              enemyEnum.getValue_AtkMax());
-
-            // Check for critical hit.
-            // A critical hit adds the minimum possible damage (ignoring bonuses) to what
-            // was already "rolled".
-
-            // "Roll" for critical hit.
-            crit_chance = UtilityRoutines.generateStandardRnd(number, 1, 100);
-
-            // If critical hit occurred, then...
-            if (crit_chance <= 5)
-            {
-
-                // Critical hit occurred.
-
-                // Add minimum possible damage to current.
-                attack_damage += enemyEnum.getValue_AtkMin();
-
-                // Set action text to CRITICAL!.
-                actionResultEnemy.setTextAction(HeroineEnum.PowerActionEnum.POWER_ACTION_CRITICAL);
-
-                // Play critical hit sound.
-                sounds.playSound(HeroineEnum.SoundEnum.SOUND_CRITICAL);
-
-            }
-
-            else
-            {
-
-                // Normal hit occured.
-
-                // Set action text to ATTACK!.
-                actionResultEnemy.setTextAction(HeroineEnum.PowerActionEnum.POWER_ACTION_ATTACK);
-
-                // Play normal hit sound.
-                sounds.playSound(HeroineEnum.SoundEnum.SOUND_ATTACK);
-
-            }
-
-            // Allow for player armor to absorb some of the damage.
-            attack_damage -= avatar.getArmor().getValue_Def();
-            attack_damage -= avatar.getBonus_def();
-
-            // Ensure that at least one hit point of damage occurs.
-            if (attack_damage < 1)
-                attack_damage = 1;
-
-            // Reduce player hit points.
-            avatar.adjHp(-attack_damage);
-
-            // Store defense result.
-            actionResultEnemy.setTextResult_Damage(attack_damage);
-
-        } // End ... If hit occurred.
+        // Store whether enemy bone shield active before enemy action.
+        boneshieldInd = engine.isBoneshieldActive();
         
-    }
-    
-    // sounds = Reference to sounds class.
-    private void enemy_power_scorch(Sounds sounds)
-    {
+        // Load current player statistics into combat engine.
+        engine.setPlayer(avatar);
         
-        /*
-        The function handles the enemy using a scorch attack against the player.
-        Scorch represents another version of the burn spell of the player.
-        The function excludes visual results.
+        // Resolve enemy action.
+        engine.resolveEnemyAction(actionResultEnemy);
         
-        The function updates the action results related to the enemy-related labels.
-        The function does not update the enemy-related labels or shake the screen.
+        // Copy hit and magic points back to player.
+        avatar.setHp(engine.getPlayerHp());
+        avatar.setMp(engine.getPlayerMp());
         
-        Other functions handle:
-        1.  The visual results of the enemy action, including shaking the screen.
-        2.  Victory conditions.
-        3.  Loss conditions.
-        */
-        
-        int attack_damage; // Amount of damage caused by enemy in current round.
-        int hit_chance; // Random number indicating whether enemy hit player.
+        // If sound related to enemy action, then...
+        if (actionResultEnemy.getSound() != null)
+            // Sound related to enemy action.  Play sound.
+            sounds.playSound(actionResultEnemy.getSound());
         
-        // Set action text to SCORCH!.
-        actionResultEnemy.setTextAction(HeroineEnum.PowerActionEnum.POWER_ACTION_SCORCH);
-
-        // "Roll" to determine if enemy hit player -- 1 to 100.
-        hit_chance = UtilityRoutines.generateStandardRnd(number, 1, 100);
-
-        // If miss occurred, then...
-        if (hit_chance <= 30)
-        {
-
-            // Miss occurred.
-
-            // Store defense result.
-            actionResultEnemy.setTextResult(HeroineEnum.PowerResultEnum.POWER_RESULT_MISS);
-
-            // Play miss sound.
-            sounds.playSound(HeroineEnum.SoundEnum.SOUND_MISS);
-
-        } // End ... If miss occurred.
-
-        else
-
-        // Otherwise, ...
-        {
-
-            // Enemy successfully hit player.
-
-            // Play fire sound.
-            sounds.playSound(HeroineEnum.SoundEnum.SOUND_FIRE);
-
-            // Flag player as hit.
-            actionResultEnemy.setOpponentHurt(true);
-
-            // Randomly determine damage based on enemy minimum and maximum.
-            attack_damage = UtilityRoutines.generateStandardRnd(number, enemyEnum.getValue_AtkMin(), 
-              enemyEnum.getValue_AtkMax());
-
-            // Scorch always causes a critical hit.
-
-            // Add minimum possible damage to current.
-            attack_damage += enemyEnum.getValue_AtkMin();
-
-            // Allow for player armor to absorb some of the damage.
-            attack_damage -= avatar.getArmor().getValue_Def();
-            attack_damage -= avatar.getBonus_def();
-
-            // Ensure that at least one hit point of damage occurs.
-            if (attack_damage < 1)
-                attack_damage = 1;
-
-            // Reduce player hit points.
-            avatar.adjHp(-attack_damage);
-
-            // Store defense result.
-            actionResultEnemy.setTextResult_Damage(attack_damage);
-
-        } // End ... If hit occurred.
+        // If enemy raised bone shield, then...
+        if (!boneshieldInd && engine.isBoneshieldActive())
+            // Enemy raised bone shield.  Show bone shield actor.
+            boneshield.setVisible(true);
         
     }
     
@@ -845,19 +398,18 @@ public class Combat
     // enemy = ShakyActor object that will act as the enemy.
     // mapActionButtons = Hash map containing BaseActor objects that act as the action buttons.
     // mapActionButtonEnabled = Hash map containing enabled status of action buttons.
-    // damage = Damage caused by action before calling method (usually base amount).
     // boneshield = BaseActor object that acts as the death speaker bone shield.
     public boolean fight(HeroineEnum.FightEnum fightEnum, Sounds sounds, Avatar avatar, 
       CustomLabel powerSourceLabel, CustomLabel powerActionLabel, CustomLabel powerResultLabel, 
       CustomLabel hpLabel, CustomLabel mpLabel, BaseActor buttonActor, ShakyActor enemy,
       Map<HeroineEnum.ActionButtonEnum, BaseActor> mapActionButtons,
-      Map<HeroineEnum.ActionButtonEnum, Boolean> mapActionButtonEnabled, Integer damage,
-      BaseActor boneshield)
+      Map<HeroineEnum.ActionButtonEnum, Boolean> mapActionButtonEnabled, BaseActor boneshield)
     {
         
         /*
         The function encapsulates logic related to the player action in a round of combat.
-        The function excludes visual results.
+        The combat engine resolves the action.  The function copies the results back to the player, plays 
+        the related sound, and updates the labels and buttons affected by spells.
         
         The function returns whether to enable the action buttons immediately.
         Enabling of action buttons immediately occurs, for example, when a spell cannot be cast.
@@ -869,33 +421,16 @@ public class Combat
         4.  Loss conditions.
         */
         
-        int atk_max; // Maximum damage caused by player.
-        int atk_min; // Minimum damage caused by player.
-        int attack_damage; // Amount of damage caused by player in current round.
-        boolean boneshieldInd; // Whether bone shield deflected player attack.
-        int crit_chance; // Whether player caused a critical hit to the enemy.
+        boolean boneshieldInd; // Whether enemy bone shield active before player action.
         boolean enableButtons; // Whether to enable action buttons after function finishes.
-        int hit_chance; // Random number indicating whether player hit enemy.
+        int mpStart; // Player magic points before player action.
         boolean proceedInd; // Whether to proceed to enemy attack and next round (or run).
-        int run_chance; // Random number indicating whether player successfully ran away from enemy.
-        boolean run_success; // Whether run attempt successful.
         
         // Set defaults.
-        run_success = false;
-        proceedInd = false;
-        boneshieldInd = false;
         enableButtons = false;
         
-        // Clear action results.
+        // Clear enemy action result.
         actionResultEnemy.clear();
-        actionResultPlayer.clear();
-        
-        // Set defaults for action results.
-        actionResultEnemy.setTextSource("ENEMY:");
-        actionResultPlayer.setTextSource("YOU:");
-        
-        // Start with offense action text based on player fighting action.
-        actionResultPlayer.setTextAction(fightEnum.getValue_Desc());
         
         // Move to beginning of new round of combat.
         combatPhase = HeroineEnum.CombatPhaseEnum.COMBAT_PHASE_INPUT;
@@ -903,357 +438,52 @@ public class Combat
         // Store current player action.
         this.fightEnum = fightEnum;
         
-        // Depending on player fighting action, ...
-        switch (fightEnum) {
+        // Store state before player action.
+        boneshieldInd = engine.isBoneshieldActive();
+        mpStart = avatar.getMp();
+        
+        // Load current player statistics into combat engine.
+        engine.setPlayer(avatar);
+        
+        // Resolve player action.
+        proceedInd = engine.resolvePlayerAction(fightEnum, actionResultPlayer);
+        
+        // Copy hit and magic points back to player.
+        avatar.setHp(engine.getPlayerHp());
+        avatar.setMp(engine.getPlayerMp());
+        
+        // If sound related to player action, then...
+        if (actionResultPlayer.getSound() != null)
+            // Sound related to player action.  Play sound.
+            sounds.playSound(actionResultPlayer.getSound());
+        
+        // If player action removed enemy bone shield, then...
+        if (boneshieldInd && !engine.isBoneshieldActive())
+            // Player action removed enemy bone shield.  Flag to fade out bone shield.
+            this.boneshield_fade = true;
+        
+        // If player used magic points, then...
+        if (avatar.getMp() < mpStart)
+        {
             
-            case FIGHT_ATTACK:
-                
-                // Player attacked enemy.
-                
-                // If enemy bone shield active, then...
-                if (boneshield_active)
-                {
-                    
-                    // Enemy bone shield active.
-                    // Override hero action when the enemy has the bone shield up.
-                    
-                    // Play blocked sound.
-                    sounds.playSound(HeroineEnum.SoundEnum.SOUND_BLOCKED);
-                    
-                    // Flag bone shield as deflecting player attack.
-                    boneshieldInd = true;
-                    
-                    // Populate action result with absorbed message.
-                    actionResultPlayer.setTextResult(HeroineEnum.PowerResultEnum.POWER_RESULT_ABSORBED);
-                    
-                }
-                
-                else
-                {
-                    
-                    // No enemy bone shield active.
-                    
-                    // "Roll" to determine if player hit enemy -- 1 to 100.
-                    hit_chance = UtilityRoutines.generateStandardRnd(number, 1, 100);
-                    
-                    // If miss occurred, then...
-                    if (hit_chance <= 20)
-                    {
-                        
-                        // Miss occurred.
-                        
-                        // Store offense result.
-                        actionResultPlayer.setTextResult(HeroineEnum.PowerResultEnum.POWER_RESULT_MISS);
-                        
-                        // Play miss sound.
-                        sounds.playSound(HeroineEnum.SoundEnum.SOUND_MISS);
-                        
-                    } // End ... If miss occurred.
-                    
-                    // Otherwise, ... > Hit occurred.
-                    else
-                    {
-                        
-                        // Hit occurred.
-                        
-                        // Flag enemy as hit.
-                        actionResultPlayer.setOpponentHurt(true);
-                        
-                        // Store minimum and maximum damage caused by player.
-                        atk_min = avatar.getMinDamage();
-                        atk_max = avatar.getMaxDamage();
-                        
-                        // Randomly determine damage based on player minimum and maximum.
-                        attack_damage = UtilityRoutines.generateStandardRnd(number, atk_min, atk_max);
-                        
-                        // Check for critical hit.
-                        // A critical hit adds the maximum possible damage (ignoring bonuses) to what
-                        // was already "rolled".
-                        
-                        // "Roll" for critical hit.
-                        crit_chance = UtilityRoutines.generateStandardRnd(number, 1, 100);
-                        
-                        // If critical hit occurred, then...
-                        if (crit_chance <= 10)
-                        {
-                            
-                            // Critical hit occurred.
-                            
-                            // Add maximum possible damage (ignoring bonuses) to current.
-                            attack_damage += atk_max;
-                            
-                            // Revise offense action text.
-                            actionResultPlayer.setTextAction(HeroineEnum.PowerActionEnum.POWER_ACTION_CRITICAL);
-                            
-                            // Play critical hit sound.
-                            sounds.playSound(HeroineEnum.SoundEnum.SOUND_CRITICAL);
-                            
-                        }
-                        
-                        else
-                        {
-                            
-                            // Normal hit occured.
-                        
-                            // Play normal hit sound.
-                            sounds.playSound(HeroineEnum.SoundEnum.SOUND_ATTACK);
-                            
-                        }
-                        
-                        // Reduce enemy hit points.
-                        enemyHp -= attack_damage;
-                        
-                        // Store offense result.
-                        actionResultPlayer.setTextResult_Damage(attack_damage);
-                        
-                    } // End ... If hit occurred.
-                    
-                } // End ... If enemy bone shield NOT active.
-                
-                // Flag to proceed to enemy attack and next round.
-                proceedInd = true;
-                
-                // Exit selector.
-                break;
-                
-            case FIGHT_RUN:
-                
-                // Player trying to run from enemy.
-                
-                // Play run sound.
-                sounds.playSound(HeroineEnum.SoundEnum.SOUND_RUN);
-                
-                // "Roll" to determine if player successfully ran away from enemy.
-                run_chance = UtilityRoutines.generateStandardRnd(number, 1, 100);
-                
-                // If player successfully ran away from enemy, then...
-                if (run_chance <= 66 || DEBUG_RUN)
-                {
-                    
-                    // Player successfully ran away from enemy.
-                    
-                    // Flag run attempt as successful.
-                    run_success = true;
-                    actionResultPlayer.setResult(true);
-
-                    
-                    // Store offense result.
-                    actionResultPlayer.setTextResult(HeroineEnum.PowerResultEnum.POWER_RESULT_RUN_SUCCESSFUL);
-                    
-                }
-                
-                else
-                {
-                    
-                    // Player failed to run away from enemy.
-                    
-                    // Flag run attempt as a failure.
-                    run_success = false;
-                    actionResultPlayer.setResult(false);
-                    
-                    // Store offense result.
-                    actionResultPlayer.setTextResult(HeroineEnum.PowerResultEnum.POWER_RESULT_BLOCKED);
-                    
-                }
-                
-                // Flag to proceed to enemy attack and next round (or run).
-                proceedInd = true;
-                
-                // Exit selector.
-                break;
-                
-            case FIGHT_HEAL:
-                
-                // Player cast healing spell.
-                
-                // Cast heal spell.
-                Spells.cast_heal(avatar, true, powerActionLabel, powerResultLabel, hpLabel, 
-                  mpLabel, buttonActor, mapActionButtons, mapActionButtonEnabled, sounds, 
-                  actionResultPlayer);
-                
-                // If player able to cast heal spell, then...
-                if (actionResultPlayer.getResult())
-                {
-                    
-                    // Player able to cast heal spell.
-                    
-                    // Flag to proceed to enemy attack and next round.
-                    proceedInd = true;
-                    
-                }
-                
-                // Exit selector.
-                break;
-                
-            case FIGHT_BURN:
-                
-                // Player cast burn spell.
-                
-                // Cast burn spell and return base damage.
-                Spells.cast_burn(avatar, null, true, false, null, powerActionLabel, 
-                  powerResultLabel, mpLabel, null, null, buttonActor, mapActionButtons,
-                  mapActionButtonEnabled, number, sounds, actionResultPlayer);
-                
-                // If burn spell successful (fails when player has insufficient mp), then...
-                if (actionResultPlayer.getResult())
-                {
-                    
-                    // Burn spell successful.
-                    
-                    // Store base attack damage.
-                    attack_damage = actionResultPlayer.getResultNumeric(); //damage;
-
-                    // If enemy category is undead, then...
-                    if (enemyEnum.getValue_Category() == HeroineEnum.EnemyCategoryEnum.ENEMY_CATEGORY_UNDEAD)
-                    {
-
-                        // Enemy category is undead.
-
-                        // Store maximum damage caused by player.
-                        atk_max = avatar.getMaxDamage();
-
-                        // Add 2x maximum to damage to cause to enemy.
-                        attack_damage += atk_max += atk_max;
-
-                    } // End ... If enemy category is undead.
-
-                    // Otherwise, if enemy category is demon, then...
-                    else if(enemyEnum.getValue_Category() == HeroineEnum.EnemyCategoryEnum.ENEMY_CATEGORY_DEMON)
-                    {
-
-                        // Enemy category is demon.
-
-                        // Store maximum damage caused by player.
-                        atk_max = avatar.getMaxDamage();
-
-                        // Add 1x maximum to damage to cause to enemy.
-                        attack_damage += atk_max;
-
-                    } // End ... If enemy category is demon.
-
-                    // Reduce enemy hit points.
-                    enemyHp -= attack_damage;
-
-                    // Store offense result.
-                    actionResultPlayer.setTextResult_Damage(attack_damage);
-
-                    // If enemy bone shield is active, then...
-                    if (this.boneshield_active)
-                    {
-
-                        // Enemy bone shield is active.
-                        // Burn removes enemy bone shield.
-
-                        // Flag to fade out bone shield.
-                        this.boneshield_fade = true;
-                        
-                        // Turn off enemy bone shield.
-                        this.boneshield_active = false;
-
-                    }
-
-                    // Flag to proceed to enemy attack and next round.
-                    proceedInd = true;
-                    
-                } // End .... If burn spell successful.
-                
-                // Exit selector.
-                break;
-                
-            case FIGHT_UNLOCK:
-                
-                // Player cast unlock spell.
-                
-                // If enemy category is automaton, then...
-                if (enemyEnum.getValue_Category() == HeroineEnum.EnemyCategoryEnum.ENEMY_CATEGORY_AUTOMATON)
-                {
-                    
-                    // Enemy category is automaton.
-                    
-                    // Cast unlock spell and return base damage.
-                    Spells.cast_unlock(avatar, null, true, false, null, powerActionLabel, 
-                      powerResultLabel, mpLabel, null, null, buttonActor, mapActionButtons,
-                      mapActionButtonEnabled, number, sounds, actionResultPlayer);
-                    
-                    // Store base attack damage.
-                    attack_damage = actionResultPlayer.getResultNumeric(); //damage;
-                    
-                    // Store maximum damage caused by player.
-                    atk_max = avatar.getMaxDamage();
-                    
-                    // Add 2x maximum to damage to cause to enemy.
-                    attack_damage += atk_max += atk_max;
-                    
-                    // Reduce enemy hit points.
-                    enemyHp -= attack_damage;
-
-                    // Store offense result.
-                    actionResultPlayer.setTextResult_Damage(attack_damage);
-                    
-                    // Flag to proceed to enemy attack and next round.
-                    proceedInd = true;
-                    
-                } // End ... If enemy category is automaton.
-                
-                else
-                {
-                    
-                    // Enemy category other than automaton.
-                    
-                    // Play error sound.
-                    sounds.playSound(HeroineEnum.SoundEnum.SOUND_BLOCKED);
-                    
-                    // Populate action result with no target message.
-                    actionResultPlayer.setResult(false);
-                    actionResultPlayer.setResultNumeric(-1);
-                    actionResultPlayer.setTextAction(HeroineEnum.PowerActionEnum.POWER_ACTION_NO_TARGET);
-                    
-                } // End ... If enemy category other than automaton.
-                
-                // Exit selector.
-                break;
-                
-            case FIGHT_LIGHT:
-                
-                // Player cast light spell.
-                
-                // Display message about future functionality.
-                System.out.println("Future functionality:  Light spell.");
-                
-                // Exit selector.
-                break;
-                
-            case FIGHT_FREEZE:
-                
-                // Player cast freeze spell.
-                
-                // Display message about future functionality.
-                System.out.println("Future functionality:  Freeze spell.");
-                
-                // Exit selector.
-                break;
-                
-            case FIGHT_REFLECT:
-                
-                // Player cast reflect spell.
-                
-                // Display message about future functionality.
-                System.out.println("Future functionality:  Reflect spell.");
-                
-                // Exit selector.
-                break;
-                
-            default:
-                
-                // Unknown player fighting action occurred.
-                
-                // Display warning.
-                System.out.println("Warning:  An unknown player fighting action occurred!");
-                
-                // Exit selector.
-                break;
-                
-        } // End ... Depending on player fighting action.
+            // Player used magic points.
+            
+            // Update hit and magic points labels.
+            hpLabel.setLabelText(avatar.getHpText());
+            mpLabel.setLabelText(avatar.getMpText());
+            
+            // If player has no (remaining) magic points, then...
+            if (avatar.getMp() == 0)
+                // Player has no (remaining) magic points.  Disable all spell-associated buttons.
+                ExploreScreen.disableButtons_Spell(mapActionButtons, mapActionButtonEnabled);
+            
+            // Otherwise, if player healed to maximum hit points, then...
+            else if (fightEnum == HeroineEnum.FightEnum.FIGHT_HEAL && avatar.getHp_AtMax())
+                // Player healed to maximum hit points.  Disable heal button.
+                ExploreScreen.disableButton(buttonActor, HeroineEnum.ActionButtonEnum.ACTION_BUTTON_HEAL, 
+                  mapActionButtonEnabled);
+            
+        }
             
         // If proceeding to next phase (offense) in current combat round, then...
         if (proceedInd)
@@ -1321,18 +551,13 @@ public class Combat
         
         // Set defaults.
         combatPhase = HeroineEnum.CombatPhaseEnum.COMBAT_PHASE_INTRO;
-        boneshield_active = false;
-        boneshield_counter = 0;
         boneshield_fade = false;
         shakeActiveInd = false;
         
         System.out.println("Encountered enemy of type, " + enemyEnum + ".");
         
-        // Store passed values.
-        this.enemyEnum = enemyEnum;
-        
-        // Set starting number of hit points of enemy.
-        this.enemyHp = enemyEnum.getValue_HP();
+        // Start new combat in engine -- stores enemy and starting hit points, resets bone shield.
+        engine.start(enemyEnum);
         
         // Clear hash map with enabled statuses of action buttons.
         mapActionButtonEnabled_Start.clear();
@@ -1503,7 +728,7 @@ public class Combat
             // Victory occurred.
             
             // If bone shield active, then...
-            if (boneshield_active)
+            if (engine.isBoneshieldActive())
             {
                 
                 // Bone shield active.
@@ -1918,26 +1143,8 @@ public class Combat
             // Implement an enemy attack on the player -- non-visual logic (updates action results for 
             // labels, ...).
             
-            // If fighting the death speaker, then...
-            if (enemyEnum == HeroineEnum.EnemyEnum.ENEMY_DEATH_SPEAKER)
-            {
-                
-                // Fighting the death speaker.
-                
-                // Process death speaker attack.
-                enemy_attack_death_speaker(boneshield, sounds);
-                
-            }
-            
-            else
-            {
-                
-                // Fighting an enemy other than the death speaker.
-                
-                // Process standard enemy attack.
-                enemy_attack(sounds);
-                
-            }            
+            // Process enemy action.
+            enemy_action(boneshield, sounds);
             
             // Call function to handle logic related to start of defense phase.
             // The function displays the results of the enemy attack, shaking the tiles if player is hit.
@@ -2033,7 +1240,7 @@ public class Combat
         
         // Update enemy actor properties.
         enemy.updateShakyActor_Center(enemyEnum.toString(), 
-          assetMgr.getImage_xRef(enemyEnum.getValue_ImageEnum().getValue_Key()), true);
+          assetMgr.getImageRegion_xRef(enemyEnum.getValue_ImageEnum().getValue_Key()), true);
         
         // Show the actor.
         enemy.setVisible(true);
@@ -2047,19 +1254,19 @@ public class Combat
     }
     
     public boolean isEnemyAlive() {
-        return this.enemyHp > 0;
+        return !engine.isEnemyDead();
     }
     
     public HeroineEnum.EnemyEnum getEnemyEnum() {
-        return enemyEnum;
+        return engine.getEnemyEnum();
     }
 
     public boolean isEnemyDead() {
-        return this.enemyHp <= 0;
+        return engine.isEnemyDead();
     }
     
     public void setEnemyEnum(HeroineEnum.EnemyEnum enemyEnum) {
-        this.enemyEnum = enemyEnum;
+        engine.setEnemyEnum(enemyEnum);
     }
     
     public boolean isRunSuccessful() {
@@ -0,0 +1,872 @@
+package heroinedusk;
+
+// Local project imports.
+import routines.RandomSource;
+import routines.UtilityRoutines;
+
+public class CombatEngine
+{
+
+    /*
+    The class resolves the rules of combat -- rolls, damage, spells, and enemy powers -- without touching
+    labels, actors, sounds, or buttons.  Each action fills an ActionResult describing the outcome, including
+    the sound to play, which the Combat class then renders.
+
+    Notes:
+    1.  The engine works on its own copy of the player statistics (hit points, magic points, damage range,
+        and defense).  Load them with setPlayer before resolving actions and read them back afterwards.
+    2.  The engine allocates nothing while resolving actions, so a single instance can run many fights in
+        a row.  Each instance serves a single thread -- see CombatSimulator for batch runs.
+    3.  Rules match the game:  the enemy acts after every player action other than a successful run, even
+        when the player action left the enemy at or below zero hit points.
+
+    Methods include:
+
+    enemy_attack:  Resolves a standard enemy action, choosing one of the powers of the enemy.
+    enemy_attack_death_speaker:  Resolves an action by the death speaker -- attack, scorch, or bone shield.
+    enemy_power_attack:  Resolves an enemy physical attack against the player.
+    enemy_power_hpdrain:  Resolves an enemy hit point drain against the player.
+    enemy_power_mpdrain:  Resolves an enemy magic point drain against the player.
+    enemy_power_scorch:  Resolves an enemy scorch attack against the player.
+    player_attack:  Resolves a player physical attack against the enemy.
+    player_burn:  Resolves the player casting burn against the enemy.
+    player_heal:  Resolves the player casting heal.
+    player_run:  Resolves the player trying to run from the enemy.
+    player_unlock:  Resolves the player casting unlock against the enemy.
+    reduce_damage:  Returns damage to the player after allowing for armor (at least one point).
+    resolveEnemyAction:  Resolves the enemy portion of a round of combat.
+    resolvePlayerAction:  Resolves the player portion of a round of combat.
+    resolveRound:  Resolves a full round of combat -- player action, then (usually) enemy action.
+    setPlayer:  Loads the statistics of the player used in combat.
+    start:  Starts a new combat against the passed enemy.
+    */
+
+    // Declare object variables.
+    private HeroineEnum.EnemyEnum enemyEnum; // Type of enemy involved in combat.
+    private final RandomSource number; // Used for generating random numbers (combat rolls, enemy powers).
+    private final RandomSource numberSpell; // Used for generating random numbers (spell amounts).
+
+    // Declare regular variables.
+    private boolean boneshield_active; // Whether bone shield power (of enemy) active.
+    private int boneshield_counter; // Number of times bone shield power used.
+    private int enemyHp; // Current number of hit points of enemy.
+    private int playerAtkMax; // Maximum damage caused by player -- weapon plus bonus.
+    private int playerAtkMin; // Minimum damage caused by player -- weapon plus bonus.
+    private int playerDef; // Damage absorbed from each enemy hit -- armor plus bonus.
+    private int playerHp; // Current number of hit points of player.
+    private int playerHpMax; // Maximum number of hit points of player.
+    private int playerMp; // Current number of magic points of player.
+    private boolean runSuccessInd; // Whether last player action was a successful run.
+
+    // Declare constants.
+    private static final int BONESHIELD_MAX = 3; // Maximum number of times death speaker uses bone shield.
+    private static final int CHANCE_CRIT_ENEMY = 5; // Percent chance of critical hit by enemy.
+    private static final int CHANCE_CRIT_PLAYER = 10; // Percent chance of critical hit by player.
+    private static final int CHANCE_MISS_ENEMY = 30; // Percent chance of enemy missing player.
+    private static final int CHANCE_MISS_PLAYER = 20; // Percent chance of player missing enemy.
+    private static final int CHANCE_RUN = 66; // Percent chance of player running away.
+    private static final int CHANCE_SCORCH_DEATH_SPEAKER = 33; // Percent chance of death speaker choosing
+      // scorch over bone shield for a special attack.
+    private static final int CHANCE_SPECIAL_DEATH_SPEAKER = 34; // Percent chance of death speaker using a
+      // special attack instead of a regular one.
+    private static final boolean DEBUG_RUN = true; // Set to true to cause run to be successful every time.
+
+    // number = Used for generating random numbers (combat rolls, enemy powers).
+    // numberSpell = Used for generating random numbers (spell amounts).
+    public CombatEngine(RandomSource number, RandomSource numberSpell)
+    {
+
+        // The constructor stores the sources of random numbers.
+
+        // Store sources of random numbers.
+        this.number = number;
+        this.numberSpell = numberSpell;
+
+    }
+
+    // actionResult = Object to populate with the outcome of the enemy action.
+    private void enemy_attack(ActionResult actionResult)
+    {
+
+        // The function resolves a standard enemy action, choosing one of the powers of the enemy.
+
+        // Depending on enemy power used, ...
+        switch (enemyEnum.getValue_RandomPower(number)) {
+
+            case ENEMY_POWER_ATTACK:
+
+                // Enemy performs standard physical attack.
+                enemy_power_attack(actionResult);
+
+                // Exit selector.
+                break;
+
+            case ENEMY_POWER_SCORCH:
+
+                // Enemy performs scorch attack (another version of burn).
+                enemy_power_scorch(actionResult);
+
+                // Exit selector.
+                break;
+
+            case ENEMY_POWER_HPDRAIN:
+
+                // Enemy performs hit point drain attack.
+                enemy_power_hpdrain(actionResult);
+
+                // Exit selector.
+                break;
+
+            case ENEMY_POWER_MPDRAIN:
+
+                // Enemy performs magic point drain attack.
+                enemy_power_mpdrain(actionResult);
+
+                // Exit selector.
+                break;
+
+            default:
+
+                // Unknown enemy power.
+
+                // Display warning.
+                System.out.println("Warning:  Enemy used unknown power!");
+
+                // Exit selector.
+                break;
+
+        } // End ... Depending on enemy power used.
+
+    }
+
+    // actionResult = Object to populate with the outcome of the enemy action.
+    private void enemy_attack_death_speaker(ActionResult actionResult)
+    {
+
+        // The function resolves an action by the death speaker.
+        // Regular attacks occur 66% of the time.  Otherwise, the death speaker uses scorch (33%) or raises
+        // its bone shield (67%).  Scorch always occurs when the bone shield is already active or used
+        // three times.
+
+        // If regular attack occurring, then...
+        if (UtilityRoutines.generateStandardRnd(number, 1, 100) <= 100 - CHANCE_SPECIAL_DEATH_SPEAKER)
+            // Regular attack occurring.  Enemy performs standard physical attack.
+            enemy_power_attack(actionResult);
+
+        // Otherwise, if bone shield active or already used three times in current combat, then...
+        else if (boneshield_active || boneshield_counter == BONESHIELD_MAX)
+            // Bone shield active or already used three times.  Enemy performs scorch attack.
+            enemy_power_scorch(actionResult);
+
+        // Otherwise, if scorch attack occurring, then...
+        else if (UtilityRoutines.generateStandardRnd(number, 1, 100) <= CHANCE_SCORCH_DEATH_SPEAKER)
+            // Scorch attack occurring.
+            enemy_power_scorch(actionResult);
+
+        else
+        {
+
+            // Bone shield defense occurring.
+
+            // Store enemy action and defense result.
+            actionResult.setTextAction(HeroineEnum.PowerActionEnum.POWER_ACTION_BONE_SHIELD);
+            actionResult.setTextResult(HeroineEnum.PowerResultEnum.POWER_RESULT_DEF_UP);
+            actionResult.setSound(HeroineEnum.SoundEnum.SOUND_BONESHIELD);
+
+            // Flag bone shield as active.
+            boneshield_active = true;
+
+            // Increment bone shield usage counter.
+            boneshield_counter++;
+
+        }
+
+    }
+
+    // actionResult = Object to populate with the outcome of the enemy action.
+    private void enemy_power_attack(ActionResult actionResult)
+    {
+
+        // The function resolves an enemy physical attack against the player.
+        // A critical hit adds the minimum possible damage to what was already "rolled".
+
+        int attack_damage; // Amount of damage caused by enemy.
+
+        // Set action text to ATTACK!.
+        actionResult.setTextAction(HeroineEnum.PowerActionEnum.POWER_ACTION_ATTACK);
+
+        // "Roll" to determine if enemy hit player -- 1 to 100.  If miss occurred, then...
+        if (UtilityRoutines.generateStandardRnd(number, 1, 100) <= CHANCE_MISS_ENEMY)
+        {
+
+            // Miss occurred.
+            actionResult.setTextResult(HeroineEnum.PowerResultEnum.POWER_RESULT_MISS);
+            actionResult.setSound(HeroineEnum.SoundEnum.SOUND_MISS);
+
+            // Exit function.
+            return;
+
+        }
+
+        // Randomly determine damage based on enemy minimum and maximum.
+        attack_damage = UtilityRoutines.generateStandardRnd(number, enemyEnum.getValue_AtkMin(),
+          enemyEnum.getValue_AtkMax());
+
+        // "Roll" for critical hit.  If critical hit occurred, then...
+        if (UtilityRoutines.generateStandardRnd(number, 1, 100) <= CHANCE_CRIT_ENEMY)
+        {
+
+            // Critical hit occurred.
+
+            // Add minimum possible damage to current.
+            attack_damage += enemyEnum.getValue_AtkMin();
+
+            // Set action text to CRITICAL!.
+            actionResult.setTextAction(HeroineEnum.PowerActionEnum.POWER_ACTION_CRITICAL);
+            actionResult.setSound(HeroineEnum.SoundEnum.SOUND_CRITICAL);
+
+        }
+
+        else
+            // Normal hit occurred.
+            actionResult.setSound(HeroineEnum.SoundEnum.SOUND_ATTACK);
+
+        // Allow for player armor to absorb some of the damage.
+        attack_damage = reduce_damage(attack_damage);
+
+        // Reduce player hit points.
+        playerHp -= attack_damage;
+
+        // Store defense result.
+        actionResult.setOpponentHurt(true);
+        actionResult.setResultNumeric(attack_damage);
+        actionResult.setTextResult_Damage(attack_damage);
+
+    }
+
+    // actionResult = Object to populate with the outcome of the enemy action.
+    private void enemy_power_hpdrain(ActionResult actionResult)
+    {
+
+        // The function resolves an enemy hit point drain against the player.
+        // Hit point drain never causes a critical hit.  The enemy gains the hit points lost by the player.
+
+        int attack_damage; // Amount of damage caused by enemy.
+
+        // Set action text to HP DRAIN!.
+        actionResult.setTextAction(HeroineEnum.PowerActionEnum.POWER_ACTION_HP_DRAIN);
+
+        // "Roll" to determine if enemy hit player -- 1 to 100.  If miss occurred, then...
+        if (UtilityRoutines.generateStandardRnd(number, 1, 100) <= CHANCE_MISS_ENEMY)
+        {
+
+            // Miss occurred.
+            actionResult.setTextResult(HeroineEnum.PowerResultEnum.POWER_RESULT_MISS);
+            actionResult.setSound(HeroineEnum.SoundEnum.SOUND_MISS);
+
+            // Exit function.
+            return;
+
+        }
+
+        // Randomly determine damage based on enemy minimum and maximum, allowing for player armor.
+        attack_damage = reduce_damage(UtilityRoutines.generateStandardRnd(number, enemyEnum.getValue_AtkMin(),
+          enemyEnum.getValue_AtkMax()));
+
+        // Move hit points from player to enemy.
+        playerHp -= attack_damage;
+        enemyHp += attack_damage;
+
+        // Store defense result.
+        actionResult.setOpponentHurt(true);
+        actionResult.setResultNumeric(attack_damage);
+        actionResult.setTextResult_Damage(attack_damage);
+        actionResult.setSound(HeroineEnum.SoundEnum.SOUND_HP_DRAIN);
+
+    }
+
+    // actionResult = Object to populate with the outcome of the enemy action.
+    private void enemy_power_mpdrain(ActionResult actionResult)
+    {
+
+        // The function resolves an enemy magic point drain against the player.
+
+        // Set action text to MP DRAIN!.
+        actionResult.setTextAction(HeroineEnum.PowerActionEnum.POWER_ACTION_MP_DRAIN);
+
+        // "Roll" to determine if enemy hit player -- 1 to 100.  If miss occurred, then...
+        if (UtilityRoutines.generateStandardRnd(number, 1, 100) <= CHANCE_MISS_ENEMY)
+        {
+
+            // Miss occurred.
+            actionResult.setTextResult(HeroineEnum.PowerResultEnum.POWER_RESULT_MISS);
+            actionResult.setSound(HeroineEnum.SoundEnum.SOUND_MISS);
+
+            // Exit function.
+            return;
+
+        }
+
+        // Flag player as hit.
+        actionResult.setOpponentHurt(true);
+        actionResult.setSound(HeroineEnum.SoundEnum.SOUND_MP_DRAIN);
+
+        // If player has one or more magic points, then...
+        if (playerMp > 0)
+        {
+
+            // Player has one or more magic points.
+
+            // Reduce player magic points by one.
+            playerMp--;
+
+            // Store defense result.
+            actionResult.setResultNumeric(1);
+            actionResult.setTextResult("-1 MP");
+
+        }
+
+        else
+        {
+
+            // Player has no remaining magic points.
+            actionResult.setResultNumeric(0);
+            actionResult.setTextResult("No effect");
+
+        }
+
+    }
+
+    // actionResult = Object to populate with the outcome of the enemy action.
+    private void enemy_power_scorch(ActionResult actionResult)
+    {
+
+        // The function resolves an enemy scorch attack against the player.
+        // Scorch represents another version of the burn spell of the player and always causes a critical hit.
+
+        int attack_damage; // Amount of damage caused by enemy.
+
+        // Set action text to SCORCH!.
+        actionResult.setTextAction(HeroineEnum.PowerActionEnum.POWER_ACTION_SCORCH);
+
+        // "Roll" to determine if enemy hit player -- 1 to 100.  If miss occurred, then...
+        if (UtilityRoutines.generateStandardRnd(number, 1, 100) <= CHANCE_MISS_ENEMY)
+        {
+
+            // Miss occurred.
+            actionResult.setTextResult(HeroineEnum.PowerResultEnum.POWER_RESULT_MISS);
+            actionResult.setSound(HeroineEnum.SoundEnum.SOUND_MISS);
+
+            // Exit function.
+            return;
+
+        }
+
+        // Randomly determine damage based on enemy minimum and maximum, adding the minimum (critical hit).
+        attack_damage = UtilityRoutines.generateStandardRnd(number, enemyEnum.getValue_AtkMin(),
+          enemyEnum.getValue_AtkMax()) + enemyEnum.getValue_AtkMin();
+
+        // Allow for player armor to absorb some of the damage.
+        attack_damage = reduce_damage(attack_damage);
+
+        // Reduce player hit points.
+        playerHp -= attack_damage;
+
+        // Store defense result.
+        actionResult.setOpponentHurt(true);
+        actionResult.setResultNumeric(attack_damage);
+        actionResult.setTextResult_Damage(attack_damage);
+        actionResult.setSound(HeroineEnum.SoundEnum.SOUND_FIRE);
+
+    }
+
+    // actionResult = Object to populate with the outcome of the player action.
+    private boolean player_attack(ActionResult actionResult)
+    {
+
+        // The function resolves a player physical attack against the enemy.
+        // A critical hit adds the maximum possible damage (ignoring bonuses) to what was already "rolled".
+        // The function returns whether to proceed to the enemy action (always true).
+
+        int attack_damage; // Amount of damage caused by player.
+
+        // If enemy bone shield active, then...
+        if (boneshield_active)
+        {
+
+            // Enemy bone shield active -- deflects the attack.
+            actionResult.setTextResult(HeroineEnum.PowerResultEnum.POWER_RESULT_ABSORBED);
+            actionResult.setSound(HeroineEnum.SoundEnum.SOUND_BLOCKED);
+
+        }
+
+        // Otherwise, if miss occurred ("roll" 1 to 100), then...
+        else if (UtilityRoutines.generateStandardRnd(number, 1, 100) <= CHANCE_MISS_PLAYER)
+        {
+
+            // Miss occurred.
+            actionResult.setTextResult(HeroineEnum.PowerResultEnum.POWER_RESULT_MISS);
+            actionResult.setSound(HeroineEnum.SoundEnum.SOUND_MISS);
+
+        }
+
+        else
+        {
+
+            // Hit occurred.
+
+            // Randomly determine damage based on player minimum and maximum.
+            attack_damage = UtilityRoutines.generateStandardRnd(number, playerAtkMin, playerAtkMax);
+
+            // "Roll" for critical hit.  If critical hit occurred, then...
+            if (UtilityRoutines.generateStandardRnd(number, 1, 100) <= CHANCE_CRIT_PLAYER)
+            {
+
+                // Critical hit occurred.
+
+                // Add maximum possible damage to current.
+                attack_damage += playerAtkMax;
+
+                // Revise offense action text.
+                actionResult.setTextAction(HeroineEnum.PowerActionEnum.POWER_ACTION_CRITICAL);
+                actionResult.setSound(HeroineEnum.SoundEnum.SOUND_CRITICAL);
+
+            }
+
+            else
+                // Normal hit occurred.
+                actionResult.setSound(HeroineEnum.SoundEnum.SOUND_ATTACK);
+
+            // Reduce enemy hit points.
+            enemyHp -= attack_damage;
+
+            // Store offense result.
+            actionResult.setOpponentHurt(true);
+            actionResult.setResultNumeric(attack_damage);
+            actionResult.setTextResult_Damage(attack_damage);
+
+        }
+
+        // Proceed to enemy action.
+        return true;
+
+    }
+
+    // actionResult = Object to populate with the outcome of the player action.
+    private boolean player_burn(ActionResult actionResult)
+    {
+
+        // The function resolves the player casting burn against the enemy.
+        // Burn deals extra damage to undead (2x maximum) and demons (1x maximum) and removes the bone shield.
+        // The function returns whether to proceed to the enemy action (false when unable to cast).
+
+        int attack_damage; // Amount of damage caused by player.
+
+        // If player lacks sufficient magic points, then...
+        if (playerMp == 0)
+        {
+
+            // Player lacks sufficient magic points.
+            actionResult.setTextAction("INSUFFICIENT MP!");
+            actionResult.setSound(HeroineEnum.SoundEnum.SOUND_ERROR);
+
+            // Stay in input phase.
+            return false;
+
+        }
+
+        // Randomly determine (base) damage based on player minimum and maximum.
+        attack_damage = UtilityRoutines.generateStandardRnd(numberSpell, playerAtkMin, playerAtkMax);
+
+        // Decrement player magic points.
+        playerMp--;
+
+        // If enemy category is undead, then...
+        if (enemyEnum.getValue_Category() == HeroineEnum.EnemyCategoryEnum.ENEMY_CATEGORY_UNDEAD)
+            // Enemy category is undead.  Add 2x maximum to damage to cause to enemy.
+            attack_damage += playerAtkMax * 2;
+
+        // Otherwise, if enemy category is demon, then...
+        else if (enemyEnum.getValue_Category() == HeroineEnum.EnemyCategoryEnum.ENEMY_CATEGORY_DEMON)
+            // Enemy category is demon.  Add 1x maximum to damage to cause to enemy.
+            attack_damage += playerAtkMax;
+
+        // Reduce enemy hit points.
+        enemyHp -= attack_damage;
+
+        // Burn removes enemy bone shield.
+        boneshield_active = false;
+
+        // Store offense result.
+        actionResult.setResult(true);
+        actionResult.setOpponentHurt(true);
+        actionResult.setResultNumeric(attack_damage);
+        actionResult.setTextAction(HeroineEnum.PowerActionEnum.POWER_ACTION_BURN);
+        actionResult.setTextResult_Damage(attack_damage);
+        actionResult.setSound(HeroineEnum.SoundEnum.SOUND_FIRE);
+
+        // Proceed to enemy action.
+        return true;
+
+    }
+
+    // actionResult = Object to populate with the outcome of the player action.
+    private boolean player_heal(ActionResult actionResult)
+    {
+
+        // The function resolves the player casting heal.
+        // Heal restores half of maximum hit points plus a random amount up to another half, capped at maximum.
+        // The function returns whether to proceed to the enemy action (false when unable to cast).
+
+        int heal_amount; // Number of hit points to heal.
+
+        // If player at maximum hit points, then...
+        if (playerHp >= playerHpMax)
+        {
+
+            // Player at maximum hit points.
+            actionResult.setTextAction("HP AT MAX!");
+            actionResult.setSound(HeroineEnum.SoundEnum.SOUND_ERROR);
+
+            // Stay in input phase.
+            return false;
+
+        }
+
+        // If player lacks sufficient magic points, then...
+        if (playerMp == 0)
+        {
+
+            // Player lacks sufficient magic points.
+            actionResult.setTextAction("INSUFFICIENT MP!");
+            actionResult.setSound(HeroineEnum.SoundEnum.SOUND_ERROR);
+
+            // Stay in input phase.
+            return false;
+
+        }
+
+        // Calculate number of hit points to heal.
+        heal_amount = (playerHpMax / 2) + (int)Math.floor(numberSpell.nextDouble() * playerHpMax / 2);
+        heal_amount = Math.min(heal_amount, playerHpMax - playerHp);
+
+        // Reduce magic points by one and increase hit points by calculated amount.
+        playerMp--;
+        playerHp += heal_amount;
+
+        // Store result.
+        actionResult.setResult(true);
+        actionResult.setResultNumeric(heal_amount);
+        actionResult.setTextAction(HeroineEnum.PowerActionEnum.POWER_ACTION_HEAL);
+        actionResult.setTextResult("+" + Integer.toString(heal_amount) + " HP");
+        actionResult.setSound(HeroineEnum.SoundEnum.SOUND_HEAL);
+
+        // Proceed to enemy action.
+        return true;
+
+    }
+
+    // actionResult = Object to populate with the outcome of the player action.
+    private boolean player_run(ActionResult actionResult)
+    {
+
+        // The function resolves the player trying to run from the enemy.
+        // The function returns whether to proceed to the enemy action or end of combat (always true).
+
+        // "Roll" to determine if player successfully ran away from enemy.
+        runSuccessInd = UtilityRoutines.generateStandardRnd(number, 1, 100) <= CHANCE_RUN || DEBUG_RUN;
+
+        // Store result.
+        actionResult.setResult(runSuccessInd);
+        actionResult.setTextResult(runSuccessInd ? HeroineEnum.PowerResultEnum.POWER_RESULT_RUN_SUCCESSFUL :
+          HeroineEnum.PowerResultEnum.POWER_RESULT_BLOCKED);
+        actionResult.setSound(HeroineEnum.SoundEnum.SOUND_RUN);
+
+        // Proceed to enemy action or end of combat.
+        return true;
+
+    }
+
+    // actionResult = Object to populate with the outcome of the player action.
+    private boolean player_unlock(ActionResult actionResult)
+    {
+
+        // The function resolves the player casting unlock against the enemy.
+        // Unlock only affects automatons, dealing base damage plus 2x maximum.
+        // The function returns whether to proceed to the enemy action (false when unable to cast).
+
+        int attack_damage; // Amount of damage caused by player.
+
+        // If enemy category other than automaton, then...
+        if (enemyEnum.getValue_Category() != HeroineEnum.EnemyCategoryEnum.ENEMY_CATEGORY_AUTOMATON)
+        {
+
+            // Enemy category other than automaton.
+            actionResult.setResult(false);
+            actionResult.setResultNumeric(-1);
+            actionResult.setTextAction(HeroineEnum.PowerActionEnum.POWER_ACTION_NO_TARGET);
+            actionResult.setSound(HeroineEnum.SoundEnum.SOUND_BLOCKED);
+
+            // Stay in input phase.
+            return false;
+
+        }
+
+        // If player lacks sufficient magic points, then...
+        if (playerMp == 0)
+        {
+
+            // Player lacks sufficient magic points.
+            actionResult.setResult(false);
+            actionResult.setResultNumeric(-1);
+            actionResult.setTextAction("INSUFFICIENT MP!");
+            actionResult.setSound(HeroineEnum.SoundEnum.SOUND_ERROR);
+
+            // Stay in input phase.
+            return false;
+
+        }
+
+        // Randomly determine (base) damage based on player minimum and maximum, then add 2x maximum.
+        attack_damage = UtilityRoutines.generateStandardRnd(numberSpell, playerAtkMin, playerAtkMax) +
+          (playerAtkMax * 2);
+
+        // Decrement player magic points.
+        playerMp--;
+
+        // Reduce enemy hit points.
+        enemyHp -= attack_damage;
+
+        // Store offense result.
+        actionResult.setResult(true);
+        actionResult.setOpponentHurt(true);
+        actionResult.setResultNumeric(attack_damage);
+        actionResult.setTextAction(HeroineEnum.PowerActionEnum.POWER_ACTION_UNLOCK);
+        actionResult.setTextResult_Damage(attack_damage);
+        actionResult.setSound(HeroineEnum.SoundEnum.SOUND_UNLOCK);
+
+        // Proceed to enemy action.
+        return true;
+
+    }
+
+    // attack_damage = Damage before allowing for armor.
+    private int reduce_damage(int attack_damage)
+    {
+        // The function returns damage to the player after allowing for armor (at least one point).
+        return Math.max(attack_damage - playerDef, 1);
+    }
+
+    // actionResult = Object to populate with the outcome of the enemy action.
+    public void resolveEnemyAction(ActionResult actionResult)
+    {
+
+        // The function resolves the enemy portion of a round of combat.
+        // Player hit points never drop below zero.
+
+        // Clear action result and set source.
+        actionResult.clear();
+        actionResult.setTextSource("ENEMY:");
+
+        // If fighting the death speaker, then...
+        if (enemyEnum == HeroineEnum.EnemyEnum.ENEMY_DEATH_SPEAKER)
+            // Fighting the death speaker.
+            enemy_attack_death_speaker(actionResult);
+
+        else
+            // Fighting an enemy other than the death speaker.
+            enemy_attack(actionResult);
+
+        // Ensure that player hit points at least zero (avoid negatives).
+        if (playerHp < 0)
+            playerHp = 0;
+
+    }
+
+    // fightEnum = Player fighting action.
+    // actionResult = Object to populate with the outcome of the player action.
+    public boolean resolvePlayerAction(HeroineEnum.FightEnum fightEnum, ActionResult actionResult)
+    {
+
+        // The function resolves the player portion of a round of combat.
+        // The function returns whether to proceed to the enemy action (or end of combat, after a successful
+        // run).  False means the action could not occur (for example, insufficient magic points), leaving
+        // the player to choose again.
+
+        // Clear action result and set defaults.
+        actionResult.clear();
+        actionResult.setTextSource("YOU:");
+        actionResult.setTextAction(fightEnum.getValue_Desc());
+
+        // Reset run flag.
+        runSuccessInd = false;
+
+        // Depending on player fighting action, ...
+        switch (fightEnum) {
+
+            case FIGHT_ATTACK:
+                // Player attacked enemy.
+                return player_attack(actionResult);
+
+            case FIGHT_RUN:
+                // Player trying to run from enemy.
+                return player_run(actionResult);
+
+            case FIGHT_HEAL:
+                // Player cast healing spell.
+                return player_heal(actionResult);
+
+            case FIGHT_BURN:
+                // Player cast burn spell.
+                return player_burn(actionResult);
+
+            case FIGHT_UNLOCK:
+                // Player cast unlock spell.
+                return player_unlock(actionResult);
+
+            case FIGHT_LIGHT:
+            case FIGHT_FREEZE:
+            case FIGHT_REFLECT:
+
+                // Player cast spell not yet supported.
+
+                // Display message about future functionality.
+                System.out.println("Future functionality:  " + fightEnum + ".");
+
+                // Stay in input phase.
+                return false;
+
+            default:
+
+                // Unknown player fighting action occurred.
+
+                // Display warning.
+                System.out.println("Warning:  An unknown player fighting action occurred!");
+
+                // Stay in input phase.
+                return false;
+
+        } // End ... Depending on player fighting action.
+
+    }
+
+    // fightEnum = Player fighting action.
+    // actionResultPlayer = Object to populate with the outcome of the player action.
+    // actionResultEnemy = Object to populate with the outcome of the enemy action.  Cleared when no enemy
+    //   action occurs.
+    public boolean resolveRound(HeroineEnum.FightEnum fightEnum, ActionResult actionResultPlayer,
+      ActionResult actionResultEnemy)
+    {
+
+        // The function resolves a full round of combat -- the player action, then the enemy action unless
+        // the player ran away or the action could not occur.
+        // The function returns whether the round occurred (false when the player action could not occur).
+
+        // Clear enemy action result.
+        actionResultEnemy.clear();
+
+        // Resolve player action.  If action could not occur, then exit function.
+        if (!resolvePlayerAction(fightEnum, actionResultPlayer))
+            return false;
+
+        // If player did not run away, then...
+        if (!runSuccessInd)
+            // Player did not run away.  Resolve enemy action.
+            resolveEnemyAction(actionResultEnemy);
+
+        // Round occurred.
+        return true;
+
+    }
+
+    // avatar = Player information from which to copy statistics.
+    public void setPlayer(Avatar avatar)
+    {
+
+        // The function loads the statistics of the player used in combat from the passed player information.
+        setPlayer(avatar.getHp(), avatar.getMax_hp(), avatar.getMp(), avatar.getMinDamage(),
+          avatar.getMaxDamage(), avatar.getArmor().getValue_Def() + avatar.getBonus_def());
+
+    }
+
+    // hp = Current number of hit points of player.
+    // hpMax = Maximum number of hit points of player.
+    // mp = Current number of magic points of player.
+    // atkMin = Minimum damage caused by player -- weapon plus bonus.
+    // atkMax = Maximum damage caused by player -- weapon plus bonus.
+    // def = Damage absorbed from each enemy hit -- armor plus bonus.
+    public void setPlayer(int hp, int hpMax, int mp, int atkMin, int atkMax, int def)
+    {
+
+        // The function loads the statistics of the player used in combat.
+
+        // Store passed values.
+        this.playerHp = hp;
+        this.playerHpMax = hpMax;
+        this.playerMp = mp;
+        this.playerAtkMin = atkMin;
+        this.playerAtkMax = atkMax;
+        this.playerDef = def;
+
+    }
+
+    // enemyEnum = Type of enemy involved in combat.
+    public void start(HeroineEnum.EnemyEnum enemyEnum)
+    {
+
+        // The function starts a new combat against the passed enemy.
+
+        // Store enemy and starting hit points.
+        this.enemyEnum = enemyEnum;
+        this.enemyHp = enemyEnum.getValue_HP();
+
+        // Reset bone shield and run status.
+        boneshield_active = false;
+        boneshield_counter = 0;
+        runSuccessInd = false;
+
+    }
+
+    // Getters and setters below...
+
+    public boolean isBoneshieldActive() {
+        return boneshield_active;
+    }
+
+    public HeroineEnum.EnemyEnum getEnemyEnum() {
+        return enemyEnum;
+    }
+
+    public void setEnemyEnum(HeroineEnum.EnemyEnum enemyEnum) {
+        this.enemyEnum = enemyEnum;
+    }
+
+    public int getEnemyHp() {
+        return enemyHp;
+    }
+
+    public boolean isEnemyDead() {
+        return enemyHp <= 0;
+    }
+
+    public int getPlayerHp() {
+        return playerHp;
+    }
+
+    public int getPlayerHpMax() {
+        return playerHpMax;
+    }
+
+    public int getPlayerMp() {
+        return playerMp;
+    }
+
+    public boolean isPlayerDead() {
+        return playerHp <= 0;
+    }
+
+    public boolean isRunSuccessful() {
+        return runSuccessInd;
+    }
+
+}
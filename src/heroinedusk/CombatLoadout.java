@@ -0,0 +1,131 @@
+package heroinedusk;
+
+public class CombatLoadout
+{
+
+    /*
+    The class stores the player statistics used when simulating combat -- the starting hit and magic points,
+    damage range, defense, and highest spell known.
+
+    Notes:
+    1.  Each simulated combat starts with the player at the stored (maximum) hit and magic points.
+    2.  Spells follow the order of the spellbook, so knowing a spell implies knowing every earlier one.
+    3.  Instances never change after construction, so many threads can share one.
+
+    Methods include:
+
+    getSpellInd:  Returns whether the loadout includes the passed spell.
+    */
+
+    // Declare object variables.
+    private final HeroineEnum.ArmorEnum armor; // Armor worn by player.  Null when built from raw statistics.
+    private final String name; // Name of the loadout (used in reports).
+    private final HeroineEnum.SpellEnum spellbook; // Highest spell known by player.
+    private final HeroineEnum.WeaponEnum weapon; // Weapon used by player.  Null when built from raw statistics.
+
+    // Declare regular variables.
+    private final int atkMax; // Maximum damage caused by player -- weapon plus bonus.
+    private final int atkMin; // Minimum damage caused by player -- weapon plus bonus.
+    private final int def; // Damage absorbed from each enemy hit -- armor plus bonus.
+    private final int hpMax; // Maximum (and starting) number of hit points of player.
+    private final int mpMax; // Maximum (and starting) number of magic points of player.
+
+    // name = Name of the loadout (used in reports).
+    // hpMax = Maximum (and starting) number of hit points of player.
+    // mpMax = Maximum (and starting) number of magic points of player.
+    // atkMin = Minimum damage caused by player -- weapon plus bonus.
+    // atkMax = Maximum damage caused by player -- weapon plus bonus.
+    // def = Damage absorbed from each enemy hit -- armor plus bonus.
+    // spellbook = Highest spell known by player.
+    public CombatLoadout(String name, int hpMax, int mpMax, int atkMin, int atkMax, int def,
+      HeroineEnum.SpellEnum spellbook)
+    {
+
+        // The constructor stores the passed statistics.
+
+        // Store passed values.
+        this.name = name;
+        this.hpMax = hpMax;
+        this.mpMax = mpMax;
+        this.atkMin = atkMin;
+        this.atkMax = atkMax;
+        this.def = def;
+        this.spellbook = spellbook;
+        this.weapon = null;
+        this.armor = null;
+
+    }
+
+    // hpMax = Maximum (and starting) number of hit points of player.
+    // mpMax = Maximum (and starting) number of magic points of player.
+    // weapon = Weapon used by player.
+    // armor = Armor worn by player.
+    // spellbook = Highest spell known by player.
+    public CombatLoadout(int hpMax, int mpMax, HeroineEnum.WeaponEnum weapon, HeroineEnum.ArmorEnum armor,
+      HeroineEnum.SpellEnum spellbook)
+    {
+
+        // The constructor derives the statistics from the passed equipment (no bonuses).
+
+        // Store passed values.
+        this.name = weapon.getValue_CleanText() + " / " + armor.getValue_CleanText() + " / " + 
+          spellbook.getValue_CleanText();
+        this.hpMax = hpMax;
+        this.mpMax = mpMax;
+        this.weapon = weapon;
+        this.armor = armor;
+        this.spellbook = spellbook;
+
+        // Derive statistics from equipment.
+        this.atkMin = weapon.getValue_Atk_Min();
+        this.atkMax = weapon.getValue_Atk_Max();
+        this.def = armor.getValue_Def();
+
+    }
+
+    // spellEnum = Spell to check.
+    public boolean getSpellInd(HeroineEnum.SpellEnum spellEnum)
+    {
+        // The function returns whether the loadout includes the passed spell.
+        return spellEnum != HeroineEnum.SpellEnum.NO_SPELL && spellEnum.getValue() <= spellbook.getValue();
+    }
+
+    // Getters and setters below...
+
+    public HeroineEnum.ArmorEnum getArmor() {
+        return armor;
+    }
+
+    public int getAtkMax() {
+        return atkMax;
+    }
+
+    public int getAtkMin() {
+        return atkMin;
+    }
+
+    public int getDef() {
+        return def;
+    }
+
+    public int getHpMax() {
+        return hpMax;
+    }
+
+    public int getMpMax() {
+        return mpMax;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public HeroineEnum.SpellEnum getSpellbook() {
+        return spellbook;
+    }
+
+    public HeroineEnum.WeaponEnum getWeapon() {
+        return weapon;
+    }
+
+}
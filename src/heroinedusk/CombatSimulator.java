@@ -0,0 +1,294 @@
+package heroinedusk;
+
+// Local project imports.
+import routines.RandomSource;
+import routines.SplittableRandomSource;
+import routines.UtilityRoutines;
+
+// Java imports.
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class CombatSimulator
+{
+
+    /*
+    The class simulates batches of combats between a player loadout and an enemy, splitting the work across
+    a fork / join pool.
+
+    Notes:
+    1.  Each leaf task owns its own combat engine, random number streams, and action results, so simulated
+        combats allocate nothing and share no state.
+    2.  Leaf tasks seed their streams from the batch seed and the index of their first combat.  Leaf
+        boundaries depend only on the number of combats, so the same seed gives the same totals regardless
+        of the number of threads or scheduling order.
+    3.  The player follows a simple policy each round:  heal when at or below half of maximum hit points,
+        unlock against automatons, burn against undead, demons, or a raised bone shield, and otherwise
+        attack.  The player never runs.
+    4.  Combats stop after MAX_ROUNDS rounds and count as unresolved -- possible, for example, when the
+        death speaker raises its bone shield against a player without burn.
+
+    Inner classes include:
+
+    SimulationTask:  Simulates a range of combats, splitting large ranges into subtasks.
+
+    Methods include:
+
+    choose_action:  Returns the player action for the next round, based on the simulation policy.
+    simulate:  Simulates the passed number of combats between the passed loadout and enemy.
+    simulate_one:  Simulates a single combat, recording the outcome in the passed totals.
+    */
+
+    // Declare object variables.
+    private final ForkJoinPool pool; // Pool of threads used to run simulations.
+
+    // Declare constants.
+    private static final int LEAF_SIZE = 4096; // Maximum number of combats simulated by a single task.
+    private static final int MAX_ROUNDS = 500; // Maximum number of rounds before a combat counts as unresolved.
+
+    public CombatSimulator()
+    {
+
+        // The constructor uses the common fork / join pool to run simulations.
+        this(ForkJoinPool.commonPool());
+
+    }
+
+    // pool = Pool of threads used to run simulations.
+    public CombatSimulator(ForkJoinPool pool)
+    {
+
+        // The constructor stores the passed pool.
+        this.pool = pool;
+
+    }
+
+    // engine = Combat engine containing the current combat state.
+    // loadout = Player statistics and spells.
+    private static HeroineEnum.FightEnum choose_action(CombatEngine engine, CombatLoadout loadout)
+    {
+
+        // The function returns the player action for the next round, based on the simulation policy.
+
+        HeroineEnum.EnemyCategoryEnum category; // Category of enemy.
+
+        // If player lacks magic points, then...
+        if (engine.getPlayerMp() == 0)
+            // Player lacks magic points.  Attack.
+            return HeroineEnum.FightEnum.FIGHT_ATTACK;
+
+        // If player knows heal and at or below half of maximum hit points, then...
+        if (loadout.getSpellInd(HeroineEnum.SpellEnum.SPELL_HEAL) &&
+          engine.getPlayerHp() * 2 <= engine.getPlayerHpMax())
+            // Heal.
+            return HeroineEnum.FightEnum.FIGHT_HEAL;
+
+        // Store category of enemy.
+        category = engine.getEnemyEnum().getValue_Category();
+
+        // If player knows unlock and fighting an automaton, then...
+        if (loadout.getSpellInd(HeroineEnum.SpellEnum.SPELL_UNLOCK) &&
+          category == HeroineEnum.EnemyCategoryEnum.ENEMY_CATEGORY_AUTOMATON)
+            // Unlock.
+            return HeroineEnum.FightEnum.FIGHT_UNLOCK;
+
+        // If player knows burn and fighting undead, a demon, or a raised bone shield, then...
+        if (loadout.getSpellInd(HeroineEnum.SpellEnum.SPELL_BURN) &&
+          (category == HeroineEnum.EnemyCategoryEnum.ENEMY_CATEGORY_UNDEAD ||
+           category == HeroineEnum.EnemyCategoryEnum.ENEMY_CATEGORY_DEMON || engine.isBoneshieldActive()))
+            // Burn.
+            return HeroineEnum.FightEnum.FIGHT_BURN;
+
+        // Attack.
+        return HeroineEnum.FightEnum.FIGHT_ATTACK;
+
+    }
+
+    // loadout = Player statistics and spells.
+    // enemyEnum = Type of enemy to fight.
+    // fights = Number of combats to simulate.
+    // seed = Seed from which to derive the random number streams.
+    public CombatTotals simulate(CombatLoadout loadout, HeroineEnum.EnemyEnum enemyEnum, int fights, long seed)
+    {
+
+        // The function simulates the passed number of combats between the passed loadout and enemy.
+        // The function returns the totals from the combats.
+        return pool.invoke(new SimulationTask(loadout, enemyEnum, seed, 0, fights));
+
+    }
+
+    // engine = Combat engine to use.
+    // loadout = Player statistics and spells.
+    // enemyEnum = Type of enemy to fight.
+    // numberLoot = Used for generating random numbers (gold).
+    // actionResultPlayer = Object to populate with the outcome of each player action.
+    // actionResultEnemy = Object to populate with the outcome of each enemy action.
+    // totals = Totals in which to record the outcome.
+    private static void simulate_one(CombatEngine engine, CombatLoadout loadout, HeroineEnum.EnemyEnum enemyEnum,
+      RandomSource numberLoot, ActionResult actionResultPlayer, ActionResult actionResultEnemy,
+      CombatTotals totals)
+    {
+
+        // The function simulates a single combat, recording the outcome in the passed totals.
+        // Matches the game, which checks for victory and defeat only after the enemy acts.
+
+        int gold; // Gold gained by player.
+        int outcome; // Outcome of the combat -- 1 = victory, -1 = defeat, 0 = unresolved.
+        int roundCount; // Number of rounds fought.
+
+        // Start combat with player at maximum hit and magic points.
+        engine.start(enemyEnum);
+        engine.setPlayer(loadout.getHpMax(), loadout.getHpMax(), loadout.getMpMax(), loadout.getAtkMin(),
+          loadout.getAtkMax(), loadout.getDef());
+
+        // Set defaults.
+        roundCount = 0;
+        gold = 0;
+
+        // Loop until enemy or player dead or round limit reached.
+        while (!engine.isEnemyDead() && !engine.isPlayerDead() && roundCount < MAX_ROUNDS)
+        {
+
+            // If chosen action could not occur, then...
+            if (!engine.resolveRound(choose_action(engine, loadout), actionResultPlayer, actionResultEnemy))
+                // Chosen action could not occur.  Attack instead.
+                engine.resolveRound(HeroineEnum.FightEnum.FIGHT_ATTACK, actionResultPlayer, actionResultEnemy);
+
+            // Increment round counter.
+            roundCount++;
+
+        }
+
+        // If enemy dead and player alive, then...
+        if (engine.isEnemyDead() && !engine.isPlayerDead())
+        {
+
+            // Victory.
+            outcome = 1;
+
+            // Determine gold dropped by enemy.
+            gold = UtilityRoutines.generateStandardRnd(numberLoot, enemyEnum.getValue_GoldMin(),
+              enemyEnum.getValue_GoldMax());
+
+        }
+
+        // Otherwise, if player dead, then...
+        else if (engine.isPlayerDead())
+            // Defeat.
+            outcome = -1;
+
+        else
+            // Round limit reached.
+            outcome = 0;
+
+        // Record outcome.
+        totals.record(outcome, roundCount, loadout.getHpMax() - engine.getPlayerHp(),
+          loadout.getMpMax() - engine.getPlayerMp(), gold);
+
+    }
+
+    private static class SimulationTask extends RecursiveTask<CombatTotals>
+    {
+
+        // The class simulates a range of combats, splitting large ranges into subtasks.
+
+        // Declare constants.
+        private static final long serialVersionUID = 1L; // Serialization version, as RecursiveTask is serializable.
+
+        // Declare object variables.
+        private final HeroineEnum.EnemyEnum enemyEnum; // Type of enemy to fight.
+        private final CombatLoadout loadout; // Player statistics and spells.
+
+        // Declare regular variables.
+        private final int count; // Number of combats to simulate.
+        private final long seed; // Seed from which to derive the random number streams.
+        private final int start; // Index of the first combat in the range.
+
+        // loadout = Player statistics and spells.
+        // enemyEnum = Type of enemy to fight.
+        // seed = Seed from which to derive the random number streams.
+        // start = Index of the first combat in the range.
+        // count = Number of combats to simulate.
+        private SimulationTask(CombatLoadout loadout, HeroineEnum.EnemyEnum enemyEnum, long seed, int start,
+          int count)
+        {
+
+            // The constructor stores the passed values.
+
+            // Store passed values.
+            this.loadout = loadout;
+            this.enemyEnum = enemyEnum;
+            this.seed = seed;
+            this.start = start;
+            this.count = count;
+
+        }
+
+        @Override
+        protected CombatTotals compute()
+        {
+
+            // The function simulates the range of combats, splitting large ranges into two subtasks.
+            // The function returns the totals from the combats.
+
+            ActionResult actionResultEnemy; // Result from (last) enemy action.
+            ActionResult actionResultPlayer; // Result from (last) player action.
+            CombatEngine engine; // Resolves the rules of combat.
+            int half; // Number of combats in the first subtask.
+            SimulationTask left; // First subtask.
+            long leafSeed; // Seed for the leaf task.
+            RandomSource numberLoot; // Used for generating random numbers (gold).
+            CombatTotals totals; // Totals from the combats.
+
+            // If range too large for a single task, then...
+            if (count > LEAF_SIZE)
+            {
+
+                // Range too large for a single task.
+
+                // Split range on a multiple of the leaf size, keeping leaf boundaries independent of threads.
+                half = ((count / LEAF_SIZE + 1) / 2) * LEAF_SIZE;
+
+                // Run first half in another thread and second half in current one.
+                left = new SimulationTask(loadout, enemyEnum, seed, start, half);
+                left.fork();
+                totals = new SimulationTask(loadout, enemyEnum, seed, start + half, count - half).compute();
+
+                // Combine totals.
+                totals.add(left.join());
+
+                // Return combined totals.
+                return totals;
+
+            }
+
+            // Offset seed by index of first combat.
+            leafSeed = seed + start;
+
+            // Initialize engine, random number streams, and action results for the leaf.
+            engine = new CombatEngine(
+              new SplittableRandomSource(GameRandom.deriveSeed(leafSeed,
+                HeroineEnum.RandomStreamEnum.RND_STREAM_COMBAT)),
+              new SplittableRandomSource(GameRandom.deriveSeed(leafSeed,
+                HeroineEnum.RandomStreamEnum.RND_STREAM_SPELL)));
+            numberLoot = new SplittableRandomSource(GameRandom.deriveSeed(leafSeed,
+              HeroineEnum.RandomStreamEnum.RND_STREAM_LOOT));
+            actionResultPlayer = new ActionResult();
+            actionResultEnemy = new ActionResult();
+            totals = new CombatTotals();
+
+            // Loop through combats in range.
+            for (int counter = 0; counter < count; counter++)
+            {
+                // Simulate combat.
+                simulate_one(engine, loadout, enemyEnum, numberLoot, actionResultPlayer, actionResultEnemy, totals);
+            }
+
+            // Return totals.
+            return totals;
+
+        }
+
+    }
+
+}
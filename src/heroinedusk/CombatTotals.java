@@ -0,0 +1,140 @@
+package heroinedusk;
+
+public class CombatTotals
+{
+
+    /*
+    The class stores totals from a batch of simulated combats -- outcomes, rounds, and resources lost or
+    gained by the player.
+
+    Notes:
+    1.  Hit and magic point losses represent the net change from the start to the end of each combat, so
+        healing offsets damage and spells count towards magic points lost.
+    2.  Gold only accrues from victories.
+    3.  Instances serve a single thread.  Combine totals from separate threads with add.
+
+    Methods include:
+
+    add:  Adds the passed totals to the current ones.
+    record:  Records the outcome of a single combat.
+    */
+
+    // Declare regular variables.
+    private long defeats; // Number of combats ending with the player at or below zero hit points.
+    private long fights; // Number of combats simulated.
+    private long gold; // Total gold gained from victories.
+    private long hpLost; // Total (net) hit points lost by player.
+    private long mpLost; // Total (net) magic points lost by player.
+    private long rounds; // Total number of rounds fought.
+    private long unresolved; // Number of combats stopped after reaching the round limit.
+    private long victories; // Number of combats ending with the enemy dead and the player alive.
+
+    public CombatTotals()
+    {
+
+        // The constructor allows for creating totals with all values at zero.
+
+    }
+
+    // totals = Totals to add to the current ones.
+    public void add(CombatTotals totals)
+    {
+
+        // The function adds the passed totals to the current ones.
+
+        // Add passed totals.
+        defeats += totals.defeats;
+        fights += totals.fights;
+        gold += totals.gold;
+        hpLost += totals.hpLost;
+        mpLost += totals.mpLost;
+        rounds += totals.rounds;
+        unresolved += totals.unresolved;
+        victories += totals.victories;
+
+    }
+
+    // outcome = Outcome of the combat -- 1 = victory, -1 = defeat, 0 = unresolved.
+    // roundCount = Number of rounds fought.
+    // hpLoss = (Net) hit points lost by player.
+    // mpLoss = (Net) magic points lost by player.
+    // goldGain = Gold gained by player.
+    public void record(int outcome, int roundCount, int hpLoss, int mpLoss, int goldGain)
+    {
+
+        // The function records the outcome of a single combat.
+
+        // Increment number of combats.
+        fights++;
+
+        // Depending on outcome, increment related counter.
+        if (outcome > 0)
+            victories++;
+        else if (outcome < 0)
+            defeats++;
+        else
+            unresolved++;
+
+        // Add rounds and resource changes.
+        rounds += roundCount;
+        hpLost += hpLoss;
+        mpLost += mpLoss;
+        gold += goldGain;
+
+    }
+
+    // Getters and setters below...
+
+    public double getAvgGold() {
+        return fights == 0 ? 0 : (double)gold / fights;
+    }
+
+    public double getAvgHpLost() {
+        return fights == 0 ? 0 : (double)hpLost / fights;
+    }
+
+    public double getAvgMpLost() {
+        return fights == 0 ? 0 : (double)mpLost / fights;
+    }
+
+    public double getAvgRounds() {
+        return fights == 0 ? 0 : (double)rounds / fights;
+    }
+
+    public long getDefeats() {
+        return defeats;
+    }
+
+    public long getFights() {
+        return fights;
+    }
+
+    public long getGold() {
+        return gold;
+    }
+
+    public long getHpLost() {
+        return hpLost;
+    }
+
+    public long getMpLost() {
+        return mpLost;
+    }
+
+    public long getRounds() {
+        return rounds;
+    }
+
+    public long getUnresolved() {
+        return unresolved;
+    }
+
+    public long getVictories() {
+        return victories;
+    }
+
+    public double getWinRate() {
+        return fights == 0 ? 0 : (double)victories / fights;
+    }
+
+}
@@ -35,15 +35,29 @@ public class Config
     private String prescaleFolder_Interface; // Folder to use for interface, based on prescale factor.
     private String prescaleFolder_Other; // Folder to use for backgrounds, based on prescale factor.
     private String prescaleFolder_Tiles; // Folder to use for tiles, based on prescale factor.
+    private String prescaleName; // Name of folder associated with prescale factor.  Example:  _0960x720.
+    private long regionCacheBytes; // Memory budget for regions kept in memory when loading them on demand, 
+      // in bytes.
     private int scale; // Output scale factor -- multiple of 160 and 120.
       // If stretchToScreen = true, determines based on window size.
       // If stretchToScreen = false, uses value in prescale.
     private boolean stretchToScreen; // Whether to stretch images to view / window dimensions.
       // true = Manually scaled images, false = Prescaled images.
     private float textLineHeight; // Height of each line of text.
+    private int viewConeDepth; // Depth of view cone, in tiles, including row with player.  1 to 3.
+    private int viewConeWidth; // Width of view cone, in tiles, for rows ahead of player.  3 or 5.
+      // Row with player spans two fewer tiles.  The tile art covers a 5 x 3 view cone, and MazeMap maps each 
+      // tile of a smaller cone to the piece of art at the same place (see MazeMap.buildViewCone), so smaller 
+      // cones draw a subset of the art.  MazeMap rejects larger cones.
     private int viewHeight; // Window height.  Also maintained in BaseScreen.
     private int viewWidth; // Window width.  Also maintained in BaseScreen.
     
+    // Declare constants.
+    private static final long DEFAULT_REGION_CACHE_BYTES = 4L * 1024 * 1024; // Default memory budget for 
+      // regions kept in memory when loading them on demand, in bytes.
+    private static final int DEFAULT_VIEW_CONE_DEPTH = 3; // Default depth of view cone, in tiles.
+    private static final int DEFAULT_VIEW_CONE_WIDTH = 5; // Default width of view cone, in tiles.
+    
     // mapWidth = Total map width, in pixels.  View and map width remain equal in Heroine Dusk.
     // mapHeight = Total map height, in pixels.  View and map height remain equal in Heroine Dusk.
     public Config(int mapWidth, int mapHeight)
@@ -60,8 +74,8 @@ public class Config
         viewWidth = mapWidth;
         viewHeight = mapHeight;
         prescale = mapWidth / 160;
-        prescaleFolder = "assets/prescaled/_" + String.format ("%04d", (prescale * 160)) + "x" + 
-          String.valueOf(prescale * 120) + "/";
+        prescaleName = "_" + String.format ("%04d", (prescale * 160)) + "x" + String.valueOf(prescale * 120);
+        prescaleFolder = "assets/prescaled/" + prescaleName + "/";
         prescaleFolder_Backgrounds = prescaleFolder + "backgrounds/";
         prescaleFolder_Enemies = prescaleFolder + "enemies/";
         prescaleFolder_Interface = prescaleFolder + "interface/";
@@ -69,6 +83,9 @@ public class Config
         prescaleFolder_Other = prescaleFolder + "other/";
         stretchToScreen = false; // Using prescaled images.
         scale = prescale;
+        regionCacheBytes = DEFAULT_REGION_CACHE_BYTES;
+        viewConeDepth = DEFAULT_VIEW_CONE_DEPTH;
+        viewConeWidth = DEFAULT_VIEW_CONE_WIDTH;
         
         // Initialize arrays.
         menuTop = new int[8];
@@ -94,6 +111,10 @@ public class Config
         return options;
     }
     
+    public String getPrescaleFolder() {
+        return prescaleFolder;
+    }
+    
     public String getPrescaleFolder_Backgrounds() {
         return prescaleFolder_Backgrounds;
     }
@@ -114,6 +135,14 @@ public class Config
         return prescaleFolder_Tiles;
     }
     
+    public String getPrescaleName() {
+        return prescaleName;
+    }
+    
+    public long getRegionCacheBytes() {
+        return regionCacheBytes;
+    }
+    
     public int getScale() {
         return scale;
     }
@@ -126,6 +155,14 @@ public class Config
         return textLineHeight;
     }
     
+    public int getViewConeDepth() {
+        return viewConeDepth;
+    }
+    
+    public int getViewConeWidth() {
+        return viewConeWidth;
+    }
+    
     public int getViewHeight() {
         return viewHeight;
     }
@@ -134,6 +171,21 @@ public class Config
         return viewWidth;
     }
     
+    // regionCacheBytes = Memory budget for regions kept in memory when loading them on demand, in bytes.
+    public void setRegionCacheBytes(long regionCacheBytes) {
+        this.regionCacheBytes = regionCacheBytes;
+    }
+    
+    // viewConeDepth = Depth of view cone, in tiles, including row with player.  1 to 3.
+    public void setViewConeDepth(int viewConeDepth) {
+        this.viewConeDepth = viewConeDepth;
+    }
+    
+    // viewConeWidth = Width of view cone, in tiles, for rows ahead of player.  3 or 5.
+    public void setViewConeWidth(int viewConeWidth) {
+        this.viewConeWidth = viewConeWidth;
+    }
+    
     public void setTextLineHeight(float textLineHeight) {
         this.textLineHeight = textLineHeight;
     }
@@ -0,0 +1,124 @@
+package heroinedusk;
+
+// Local project imports.
+import routines.RandomSource;
+import routines.SplittableRandomSource;
+
+// Java imports.
+import java.util.EnumMap;
+
+public class GameRandom
+{
+
+    /*
+    The class stores the random number streams used by gameplay, one per subsystem (encounters, combat,
+    loot, spells).
+
+    Notes:
+    1.  A single master seed determines every stream, so applying the same seed reproduces a game (or
+        balance simulation) exactly.
+    2.  Each stream derives its own seed from the master seed and its enumeration value, so draws in one
+        subsystem never shift the numbers seen by another.
+    3.  Reseeding restarts the existing stream objects, so references held elsewhere stay valid.
+
+    Methods include:
+
+    deriveSeed:  Returns the seed for the passed stream, based on the passed master seed.
+    getStream:  Returns the random number stream for the passed subsystem.
+    setSeed:  Reseeds all streams from the passed master seed.
+    */
+
+    // Declare object variables.
+    private final EnumMap<HeroineEnum.RandomStreamEnum, RandomSource> streams; // Random number streams,
+      // by subsystem.
+
+    // Declare regular variables.
+    private long seed; // Master seed.
+
+    // Declare constants.
+    private static final long SEED_INCREMENT = 0x9E3779B97F4A7C15L; // Golden ratio increment used to space
+      // out stream seeds (as in SplitMix64).
+
+    public GameRandom()
+    {
+
+        // The constructor sets up the streams using a master seed based on the current time.
+        this(System.nanoTime() ^ System.currentTimeMillis());
+
+    }
+
+    // seed = Master seed.
+    public GameRandom(long seed)
+    {
+
+        // The constructor sets up the streams using the passed master seed.
+
+        // Initialize hash map.
+        streams = new EnumMap<>(HeroineEnum.RandomStreamEnum.class);
+
+        // Loop through streams.
+        for (HeroineEnum.RandomStreamEnum stream : HeroineEnum.RandomStreamEnum.values())
+        {
+            // Add stream (seeded below).
+            streams.put(stream, new SplittableRandomSource(0L));
+        }
+
+        // Seed streams.
+        setSeed(seed);
+
+    }
+
+    // seed = Master seed.
+    // stream = Stream for which to return the seed.
+    public static long deriveSeed(long seed, HeroineEnum.RandomStreamEnum stream)
+    {
+
+        // The function returns the seed for the passed stream, based on the passed master seed.
+        // Mixes the bits using the SplitMix64 finalizer, so nearby master seeds yield unrelated streams.
+
+        long mixed; // Seed being mixed.
+
+        // Offset master seed by stream.
+        mixed = seed + (SEED_INCREMENT * (stream.getValue() + 1));
+
+        // Mix bits.
+        mixed = (mixed ^ (mixed >>> 30)) * 0xBF58476D1CE4E5B9L;
+        mixed = (mixed ^ (mixed >>> 27)) * 0x94D049BB133111EBL;
+
+        // Return stream seed.
+        return mixed ^ (mixed >>> 31);
+
+    }
+
+    // stream = Subsystem for which to return the random number stream.
+    public RandomSource getStream(HeroineEnum.RandomStreamEnum stream)
+    {
+        // The function returns the random number stream for the passed subsystem.
+        return streams.get(stream);
+    }
+
+    // seed = Master seed.
+    public final void setSeed(long seed)
+    {
+
+        // The function reseeds all streams from the passed master seed.
+
+        // Store master seed.
+        this.seed = seed;
+
+        // Loop through streams.
+        for (HeroineEnum.RandomStreamEnum stream : HeroineEnum.RandomStreamEnum.values())
+        {
+            // Reseed stream.
+            streams.get(stream).setSeed(deriveSeed(seed, stream));
+        }
+
+    }
+
+    // Getters and setters below...
+
+    public long getSeed() {
+        return seed;
+    }
+
+}
@@ -49,6 +49,8 @@ public class HeroineDuskGame extends BaseGame // Extends the BaseGame class.
     private final Avatar avatar; // Player information.
     private final Config config; // Configuration information, including options.
     private final Dialog dialog; // Contains information related to current dialog window.
+    private final GameRandom random; // Random number streams used by gameplay (encounters, combat, ...).
+    private final SaveGame saveGame; // Saves and loads the progress of the player.
     private static DialogScreen dsMain; // Reference to dialog screen.
     private static ExploreScreen esMain; // Reference to explore screen.
     private static IntroScreen isMain; // Reference to introduction screen.
@@ -91,6 +93,12 @@ public class HeroineDuskGame extends BaseGame // Extends the BaseGame class.
         // Initialize sound and music information.
         sounds = new Sounds();
         
+        // Initialize random number streams, seeded from the current time.
+        random = new GameRandom();
+        
+        // Initialize saved game handling.
+        saveGame = new SaveGame(this, SaveGame.DEFAULT_FILENAME);
+        
     }
     
     @Override
@@ -270,6 +278,13 @@ public class HeroineDuskGame extends BaseGame // Extends the BaseGame class.
         // Dispose objects in screens from memory.
         disposeScreens();
         
+        // If atlas loaded, stop background thread of its region cache (if any).
+        if (atlas != null)
+            atlas.dispose();
+        
+        // Stop background thread used to write the saved game, letting queued writes finish.
+        saveGame.dispose();
+        
         // Clear objects from memory.
         super.dispose();
 
@@ -412,12 +427,16 @@ public class HeroineDuskGame extends BaseGame // Extends the BaseGame class.
         return atlasItems;
     }
     
+    // atlas = Atlas to use.  Tile changes in its regions get logged to the save game journal from here on.
     public void setAtlas(Atlas atlas) {
         this.atlas = atlas;
+        this.atlas.setJournal(saveGame.getJournal());
     }
     
+    // atlasItems = Atlas items to use.  Removed items get logged to the save game journal from here on.
     public void setAtlasItems(AtlasItems atlasItems) {
         this.atlasItems = atlasItems;
+        this.atlasItems.setJournal(saveGame.getJournal());
     }
     
     public Avatar getAvatar() {
@@ -448,6 +467,14 @@ public class HeroineDuskGame extends BaseGame // Extends the BaseGame class.
         this.jsonDir = jsonDir;
     }
     
+    public GameRandom getRandom() {
+        return random;
+    }
+    
+    public SaveGame getSaveGame() {
+        return saveGame;
+    }
+    
     public Shops getShopInfo() {
         return shopInfo;
     }
@@ -2,9 +2,11 @@ package heroinedusk;
 
 // Local project imports.
 import core.TextureRect;
-import java.security.SecureRandom;
+import routines.RandomSource;
 
 // Java imports.
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 import routines.UtilityRoutines;
@@ -51,17 +53,81 @@ public class HeroineEnum
     29.  MinimapCursorEnum:  Enumerations related to minimap cursor image blocks.  Helps with atlas keys.
     30.  PowerActionEnum:  Enumerations related to power actions.
     31.  PowerResultEnum:  Enumerations related to power results.
-    32.  SelectPosEnum:  Enumerations related to explore screen button selection.
-    33.  ShopEnum:  Enumerations related to shops / locations.
-    34.  ShopTypeEnum:  Enumerations related to shop / location types.
-    35.  SoundsEnum:  Enumerations related to sounds.
-    36.  SpellEnum:  Enumerations related to spells.  Also used for spellbook.
-    37.  TileRegionEnum:  Enumerations related to regions within unscaled tiles.
-    38:  WeaponEnum:  Enumerations related to weapons.
+    32.  RandomStreamEnum:  Enumerations related to random number streams.
+    33.  SelectPosEnum:  Enumerations related to explore screen button selection.
+    34.  ShopEnum:  Enumerations related to shops / locations.
+    35.  ShopTypeEnum:  Enumerations related to shop / location types.
+    36.  SoundsEnum:  Enumerations related to sounds.
+    37.  SpellEnum:  Enumerations related to spells.  Also used for spellbook.
+    38.  TileRegionEnum:  Enumerations related to regions within unscaled tiles.
+    39:  WeaponEnum:  Enumerations related to weapons.
+    
+    Notes:
+    1.  Each enumeration implements NumberedEnum and resolves valueOf(int) through an array indexed by numeric 
+        value (built once by buildLookup), so a lookup costs one array load rather than a boxed hash map 
+        lookup and a cast.  Numeric values run densely from zero.
+    2.  ImgTileEnum also keeps its walkable flags in an array indexed by tile number, for use when resolving 
+        many tiles (see isWalkable).
+    
+    Interfaces include:
+    
+    NumberedEnum:  Enumeration with a numeric value for each entry.
+    
+    Methods include:
+    
+    buildLookup:  Returns the passed enumerated values in an array indexed by numeric value.
+    lookup:  Returns the entry for the passed numeric value from the passed array, or null if none.
     */
     
+    // Enumeration with a numeric value for each entry.
+    public interface NumberedEnum
+    {
+        
+        // The function returns the numeric value for the enumeration.
+        int getValue();
+        
+    }
+    
+    // values = Enumerated values, each with a distinct, non-negative numeric value.
+    private static <E extends Enum<E> & NumberedEnum> E[] buildLookup(E[] values)
+    {
+        
+        // The function returns the passed enumerated values in an array indexed by numeric value (see 
+        // NumberedEnum.getValue).  Numbers without an entry hold null.
+        
+        E[] lookup; // Array to return.
+        int size; // Size of array -- one more than the highest numeric value.
+        
+        // Set defaults.
+        size = 0;
+        
+        // Determine size of array.
+        for (E value : values)
+            size = Math.max(size, value.getValue() + 1);
+        
+        // Create empty array of the enumeration type.
+        lookup = Arrays.copyOf(values, size);
+        Arrays.fill(lookup, null);
+        
+        // Place each enumerated value at its numeric value.
+        for (E value : values)
+            lookup[value.getValue()] = value;
+        
+        // Return array.
+        return lookup;
+        
+    }
+    
+    // lookup = Enumerated values indexed by numeric value (from buildLookup).
+    // value = Numeric value to convert.
+    private static <E> E lookup(E[] lookup, int value)
+    {
+        // The function returns the entry for the passed numeric value from the passed array, or null if none.
+        return value >= 0 && value < lookup.length ? lookup[value] : null;
+    }
+    
     // Enumerations related to action button navigation in combat mode.
-    public enum ActionButtonCombatEnum 
+    public enum ActionButtonCombatEnum implements NumberedEnum
     {
         
         ACTION_BUTTON_COMBAT_ATTACK (0, SelectPosEnum.BUTTON_POS_HEAL, null,
@@ -96,8 +162,8 @@ public class HeroineEnum
         private final SelectPosEnum moveRight; // Enumeration value for action button to the right.
         private final SelectPosEnum moveUp; // Enumeration value for action button above.
         private final SelectPosEnum selectPosEnum; // Enumeration value for selected button.
-        private static final Map actionButtonNavMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
-        private static final Map actionButtonSelMap = new HashMap<>(); // Hash map containing cross reference to selected button enumerations.
+        private static final ActionButtonCombatEnum[] actionButtonNavLookup = buildLookup(values()); // Enumerations indexed by numeric value.
+        private static final Map<SelectPosEnum, ActionButtonCombatEnum> actionButtonSelMap = new EnumMap<>(SelectPosEnum.class); // Map containing cross reference to selected button enumerations.
         
         // actionButtonNavEnum = Value to associate.
         // moveDown = Enumeration value for action button below.
@@ -120,20 +186,7 @@ public class HeroineEnum
             this.actionButtonEnum = actionButtonEnum;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (ActionButtonCombatEnum actionButtonNavigationEnum : ActionButtonCombatEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                actionButtonNavMap.put(actionButtonNavigationEnum.actionButtonNavEnum, actionButtonNavigationEnum);
-            }
-            
-        }
-        
-        // Populate the hash map containing the cross reference with the selected button enumerations.
+        // Populate the map containing the cross reference with the selected button enumerations.
         static 
         {
             
@@ -213,20 +266,20 @@ public class HeroineEnum
         public static ActionButtonCombatEnum valueOf(int actionButton) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (ActionButtonCombatEnum) actionButtonNavMap.get(actionButton);
+            return lookup(actionButtonNavLookup, actionButton);
         }
         
         // actionButton = Selected button to convert to action button navigation enumeration.
         public static ActionButtonCombatEnum valueOf_xRef(SelectPosEnum selectedButton) 
         {
             // The function converts the passed selected button to its equivalent action button navigation enumeration.
-            return (ActionButtonCombatEnum) actionButtonSelMap.get(selectedButton);
+            return actionButtonSelMap.get(selectedButton);
         }
         
     }
     
     // Enumerations related to action buttons.  Helps with atlas keys and button navigation.
-    public enum ActionButtonEnum 
+    public enum ActionButtonEnum implements NumberedEnum
     {
         
         ACTION_BUTTON_ATTACK (0, "action_buttons0", false), // Attack button.
@@ -241,7 +294,7 @@ public class HeroineEnum
 
         private final int actionButtonEnum; // Enumerations related to action buttons.
         private final String actionButtonKey; // Key associated with texture region -- used with asset manager and textureRegions hash map.
-        private static final Map actionButtonMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final ActionButtonEnum[] actionButtonLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         private final boolean spellInd; // Whether an action for a spell.
         
         // actionButtonEnum = Value to associate.
@@ -255,19 +308,6 @@ public class HeroineEnum
             this.spellInd = spellInd;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (ActionButtonEnum actionButtonEnum : ActionButtonEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                actionButtonMap.put(actionButtonEnum.actionButtonEnum, actionButtonEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -299,13 +339,13 @@ public class HeroineEnum
         public static ActionButtonEnum valueOf(int actionButton) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (ActionButtonEnum) actionButtonMap.get(actionButton);
+            return lookup(actionButtonLookup, actionButton);
         }
         
     }
     
     // Enumerations related to action button navigation in explore mode.
-    public enum ActionButtonExploreEnum 
+    public enum ActionButtonExploreEnum implements NumberedEnum
     {
         
         ACTION_BUTTON_NAV_INFO (0, SelectPosEnum.BUTTON_POS_HEAL, null,
@@ -337,8 +377,8 @@ public class HeroineEnum
         private final SelectPosEnum moveRight; // Enumeration value for action button to the right.
         private final SelectPosEnum moveUp; // Enumeration value for action button above.
         private final SelectPosEnum selectPosEnum; // Enumeration value for selected button.
-        private static final Map actionButtonNavMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
-        private static final Map actionButtonSelMap = new HashMap<>(); // Hash map containing cross reference to selected button enumerations.
+        private static final ActionButtonExploreEnum[] actionButtonNavLookup = buildLookup(values()); // Enumerations indexed by numeric value.
+        private static final Map<SelectPosEnum, ActionButtonExploreEnum> actionButtonSelMap = new EnumMap<>(SelectPosEnum.class); // Map containing cross reference to selected button enumerations.
         
         // actionButtonNavEnum = Value to associate.
         // moveDown = Enumeration value for action button below.
@@ -361,20 +401,7 @@ public class HeroineEnum
             this.actionButtonEnum = actionButtonEnum;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (ActionButtonExploreEnum actionButtonNavigationEnum : ActionButtonExploreEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                actionButtonNavMap.put(actionButtonNavigationEnum.actionButtonNavEnum, actionButtonNavigationEnum);
-            }
-            
-        }
-        
-        // Populate the hash map containing the cross reference with the selected button enumerations.
+        // Populate the map containing the cross reference with the selected button enumerations.
         static 
         {
             
@@ -454,20 +481,20 @@ public class HeroineEnum
         public static ActionButtonExploreEnum valueOf(int actionButton) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (ActionButtonExploreEnum) actionButtonNavMap.get(actionButton);
+            return lookup(actionButtonNavLookup, actionButton);
         }
         
         // actionButton = Selected button to convert to action button navigation enumeration.
         public static ActionButtonExploreEnum valueOf_xRef(SelectPosEnum selectedButton) 
         {
             // The function converts the passed selected button to its equivalent action button navigation enumeration.
-            return (ActionButtonExploreEnum) actionButtonSelMap.get(selectedButton);
+            return actionButtonSelMap.get(selectedButton);
         }
         
     }
     
     // Enumerations related to armors.
-    public enum ArmorEnum
+    public enum ArmorEnum implements NumberedEnum
     {
         
         NO_ARMOR (0, "No Armor", 0, 0, HeroinePlayerEnum.HEROINE_PLAYER_BASE), // No armor.
@@ -483,7 +510,7 @@ public class HeroineEnum
         private final int def; // Defense value for the armor.
         private final int gold; // Value of the weapon, in gold.
         private final int armorEnum; // Enumerations related to armors.
-        private static final Map armorMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final ArmorEnum[] armorLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         private final String armorText; // Clean text for the armor.
         private final HeroinePlayerEnum playerEnum; // Related enumerated value for atlas texture region key.
         
@@ -502,19 +529,6 @@ public class HeroineEnum
             this.playerEnum = playerEnum;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (ArmorEnum armorEnum : ArmorEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                armorMap.put(armorEnum.armorEnum, armorEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -565,13 +579,13 @@ public class HeroineEnum
         public static ArmorEnum valueOf(int armor) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (ArmorEnum) armorMap.get(armor);
+            return lookup(armorLookup, armor);
         }
         
     }
     
     // Enumerations related to combat phases.
-    public enum CombatPhaseEnum 
+    public enum CombatPhaseEnum implements NumberedEnum
     {
         
         COMBAT_PHASE_INTRO (0), // Introduction / setup.  Only occurs once each combat.
@@ -584,7 +598,7 @@ public class HeroineEnum
         ; // semicolon needed when fields / methods follow
 
         private final int combatPhaseEnum; // Enumerations related to combat phases.
-        private static final Map combatPhaseMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final CombatPhaseEnum[] combatPhaseLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         
         // combatPhaseEnum = Value to associate.
         private CombatPhaseEnum(int combatPhaseEnum) 
@@ -593,19 +607,6 @@ public class HeroineEnum
             this.combatPhaseEnum = combatPhaseEnum;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (CombatPhaseEnum combatPhaseEnum : CombatPhaseEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                combatPhaseMap.put(combatPhaseEnum.combatPhaseEnum, combatPhaseEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -619,13 +620,13 @@ public class HeroineEnum
         public static CombatPhaseEnum valueOf(int combatPhase) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (CombatPhaseEnum) combatPhaseMap.get(combatPhase);
+            return lookup(combatPhaseLookup, combatPhase);
         }
         
     }
     
     // Enumerations related to dialog buttons.  Helps with atlas keys.
-    public enum DialogButtonEnum 
+    public enum DialogButtonEnum implements NumberedEnum
     {
         
         DIALOG_BUTTON_NONE (0, ""), // No button.
@@ -635,7 +636,7 @@ public class HeroineEnum
 
         private final int dialogButtonEnum; // Enumerations related to dialog buttons.
         private final String dialogButtonKey; // Key associated with texture region -- used with asset manager and textureRegions hash map.
-        private static final Map dialogButtonMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final DialogButtonEnum[] dialogButtonLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         
         // dialogButtonEnum = Value to associate.
         // dialogButtonKey = Key associated with texture -- used with asset manager and textureRegions hash map.
@@ -646,19 +647,6 @@ public class HeroineEnum
             this.dialogButtonKey = dialogButtonKey;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (DialogButtonEnum dialogButtonEnum : DialogButtonEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                dialogButtonMap.put(dialogButtonEnum.dialogButtonEnum, dialogButtonEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -681,13 +669,13 @@ public class HeroineEnum
         public static DialogButtonEnum valueOf(int dialogButton) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (DialogButtonEnum) dialogButtonMap.get(dialogButton);
+            return lookup(dialogButtonLookup, dialogButton);
         }
         
     }
     
     // Enumerations related to enemy categories.
-    public enum EnemyCategoryEnum 
+    public enum EnemyCategoryEnum implements NumberedEnum
     {
         
         ENEMY_CATEGORY_SHADOW (0), // Shadow enemy types.
@@ -697,7 +685,7 @@ public class HeroineEnum
         ; // semicolon needed when fields / methods follow
 
         private final int enemyCategoryEnum; // Enumerations related to enemy categories.
-        private static final Map enemyCategoryMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final EnemyCategoryEnum[] enemyCategoryLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         
         // enemyCategoryEnum = Value to associate.
         private EnemyCategoryEnum(int enemyCategoryEnum) 
@@ -706,19 +694,6 @@ public class HeroineEnum
             this.enemyCategoryEnum = enemyCategoryEnum;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (EnemyCategoryEnum enemyCategoryEnum : EnemyCategoryEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                enemyCategoryMap.put(enemyCategoryEnum.enemyCategoryEnum, enemyCategoryEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -732,13 +707,13 @@ public class HeroineEnum
         public static EnemyCategoryEnum valueOf(int enemyCategory) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (EnemyCategoryEnum) enemyCategoryMap.get(enemyCategory);
+            return lookup(enemyCategoryLookup, enemyCategory);
         }
         
     }
     
     // Enumerations related to music.
-    public enum EnemyEnum
+    public enum EnemyEnum implements NumberedEnum
     {
         ENEMY_SHADOW_TENDRILS (0, 2, 5, EnemyCategoryEnum.ENEMY_CATEGORY_SHADOW, 6, "Shadow Tendrils", 1, 
           2, "shadow_tendrils.png", new EnemyPowerEnum[]{EnemyPowerEnum.ENEMY_POWER_ATTACK},
@@ -774,7 +749,7 @@ public class HeroineEnum
         private final EnemyCategoryEnum enemyCategory; // Enemy category.
         private final int enemyEnum; // Enumerations related to enemies.
         private final int enemyHP; // Enemy hit points.
-        private static final Map enemyMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final EnemyEnum[] enemyLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         private final String enemyName; // Enemy name.
         private final int enemyGoldMax; // Enemy maximum gold value.
         private final int enemyGoldMin; // Enemy minimum gold value.
@@ -815,19 +790,6 @@ public class HeroineEnum
             this.imgEnemyEnum = imgEnemyEnum;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (EnemyEnum enemyEnum : EnemyEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                enemyMap.put(enemyEnum.enemyEnum, enemyEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -919,7 +881,7 @@ public class HeroineEnum
         }
         
         // number = Used for generating random numbers.
-        public EnemyPowerEnum getValue_RandomPower(SecureRandom number)
+        public EnemyPowerEnum getValue_RandomPower(RandomSource number)
         {
             
             // The function returns a random enemy power.
@@ -934,13 +896,13 @@ public class HeroineEnum
         public static EnemyEnum valueOf(int enemy) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (EnemyEnum) enemyMap.get(enemy);
+            return lookup(enemyLookup, enemy);
         }
         
     }
     
     // Enumerations related to enemy powers.
-    public enum EnemyPowerEnum 
+    public enum EnemyPowerEnum implements NumberedEnum
     {
         
         ENEMY_POWER_ATTACK (0), // Power -- attack.
@@ -950,7 +912,7 @@ public class HeroineEnum
         ; // semicolon needed when fields / methods follow
 
         private final int enemyPowerEnum; // Enumerations related to enemy powers.
-        private static final Map enemyPowerMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final EnemyPowerEnum[] enemyPowerLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         
         // enemyPowerEnum = Value to associate.
         private EnemyPowerEnum(int enemyPowerEnum) 
@@ -959,19 +921,6 @@ public class HeroineEnum
             this.enemyPowerEnum = enemyPowerEnum;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (EnemyPowerEnum enemyPowerEnum : EnemyPowerEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                enemyPowerMap.put(enemyPowerEnum.enemyPowerEnum, enemyPowerEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -985,13 +934,13 @@ public class HeroineEnum
         public static EnemyPowerEnum valueOf(int enemyPower) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (EnemyPowerEnum) enemyPowerMap.get(enemyPower);
+            return lookup(enemyPowerLookup, enemyPower);
         }
         
     }
     
     // Enumerations related to direction player is facing.
-    public enum FacingEnum 
+    public enum FacingEnum implements NumberedEnum
     {
         
         NORTH (0,  0, -1,  0,  1, 3, 2, 1), // Player is facing north.
@@ -1002,7 +951,7 @@ public class HeroineEnum
         
         private final int facingEnum; // Enumerations related to direction player is facing.
         private final int facingOpposite; // Numeric value for opposite direction.
-        private static final Map facingMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final FacingEnum[] facingLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         private final int moveDownDx; // Change in x-position related to moving down / backward.
         private final int moveDownDy; // Change in y-position related to moving down / backward.
         private final int moveUpDx; // Change in x-position related to moving up / forward.
@@ -1032,19 +981,6 @@ public class HeroineEnum
             this.facingOpposite = facingOpposite;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (FacingEnum facingEnum : FacingEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                facingMap.put(facingEnum.facingEnum, facingEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -1121,13 +1057,13 @@ public class HeroineEnum
         public static FacingEnum valueOf(int facing) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (FacingEnum) facingMap.get(facing);
+            return lookup(facingLookup, facing);
         }
         
     }
     
     // Enumerations related to fighting actions.
-    public enum FightEnum 
+    public enum FightEnum implements NumberedEnum
     {
         
         FIGHT_ATTACK (0, "ATTACK!"), // Player hit attack button.
@@ -1141,7 +1077,7 @@ public class HeroineEnum
         ; // semicolon needed when fields / methods follow
 
         private final int fightEnum; // Enumerations related to fighting actions.
-        private static final Map fightMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final FightEnum[] fightLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         private final String offenseAction; // Description of fighting action.
         
         // fightEnum = Value to associate.
@@ -1153,19 +1089,6 @@ public class HeroineEnum
             this.offenseAction = offenseAction;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (FightEnum fightEnum : FightEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                fightMap.put(fightEnum.fightEnum, fightEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -1188,13 +1111,13 @@ public class HeroineEnum
         public static FightEnum valueOf(int fight) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (FightEnum) fightMap.get(fight);
+            return lookup(fightLookup, fight);
         }
         
     }
     
     // Enumerations related to fonts.
-    public enum FontEnum 
+    public enum FontEnum implements NumberedEnum
     {
         
         FONT_UI (0, "uiFont"), // Regular font.
@@ -1203,7 +1126,7 @@ public class HeroineEnum
 
         private final int fontEnum; // Enumerations related to fonts.
         private final String fontSkinKey; // Key associated with font -- used with Skin.
-        private static final Map fontMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final FontEnum[] fontLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         
         // fontEnum = Value to associate.
         // fontSkinKey = Key associated with font -- used with Skin.
@@ -1214,19 +1137,6 @@ public class HeroineEnum
             this.fontSkinKey = fontSkinKey;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (FontEnum fontEnum : FontEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                fontMap.put(fontEnum.fontEnum, fontEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -1249,13 +1159,13 @@ public class HeroineEnum
         public static FontEnum valueOf(int font) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (FontEnum) fontMap.get(font);
+            return lookup(fontLookup, font);
         }
         
     }
     
     // Enumerations related to state of the game (explore, combat, information, dialog, title).
-    public enum GameState 
+    public enum GameState implements NumberedEnum
     {
         
         STATE_EXPLORE (0), // State when moving around the map (NOT in a shop or combat or displaying player information, for example)
@@ -1266,7 +1176,7 @@ public class HeroineEnum
         ; // semicolon needed when fields / methods follow
         
         private final int gameState; // Game state -- one of the enumerated values.
-        private static final Map gameStateMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final GameState[] gameStateLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         
         // gameState = Value to associate.
         private GameState(int gameState)
@@ -1275,19 +1185,6 @@ public class HeroineEnum
             this.gameState = gameState;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (GameState gameStateEnum : GameState.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                gameStateMap.put(gameStateEnum.gameState, gameStateEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -1301,13 +1198,13 @@ public class HeroineEnum
         public static GameState valueOf(int gameState) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (GameState) gameStateMap.get(gameState);
+            return lookup(gameStateLookup, gameState);
         }
         
     }
     
     // Enumerations related to heroine (player / weapon / armor).  Helps with atlas keys.
-    public enum HeroinePlayerEnum 
+    public enum HeroinePlayerEnum implements NumberedEnum
     {
         
         HEROINE_PLAYER_BASE (0, "heroine_armor_base"), // Player base -- no armor or weapons.
@@ -1330,7 +1227,7 @@ public class HeroineEnum
         
         private final int heroinePlayerEnum; // Enumerations related to heroine (player / weapon / armor).
         private final String heroinePlayerKey; // Key associated with texture region -- used with asset manager and textureRegions hash map.
-        private static final Map heroinePlayerMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final HeroinePlayerEnum[] heroinePlayerLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         
         // heroinePlayerEnum = Value to associate.
         // heroinePlayerKey = Key associated with texture region -- used with asset manager and textureRegions hash map.
@@ -1341,19 +1238,6 @@ public class HeroineEnum
             this.heroinePlayerKey = heroinePlayerKey;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (HeroinePlayerEnum heroinePlayerEnum : HeroinePlayerEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                heroinePlayerMap.put(heroinePlayerEnum.heroinePlayerEnum, heroinePlayerEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -1376,13 +1260,13 @@ public class HeroineEnum
         public static HeroinePlayerEnum valueOf(int heroinePlayer) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (HeroinePlayerEnum) heroinePlayerMap.get(heroinePlayer);
+            return lookup(heroinePlayerLookup, heroinePlayer);
         }
         
     }
     
     // Enumerations related to background images.
-    public enum ImgBackgroundEnum 
+    public enum ImgBackgroundEnum implements NumberedEnum
     {
         
         IMG_BACK_BLACK (0, "black.png", "black", false), // Black background.
@@ -1396,7 +1280,7 @@ public class HeroineEnum
         private final int imgBackgroundEnum; // Enumerations related to background images.
         private final String imgFile; // Filename (just name and extension, no path).
         private final String imgKey; // Key associated with image -- used with asset manager hash map.
-        private static final Map imgBackgroundMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final ImgBackgroundEnum[] imgBackgroundLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         
         // imgBackgroundEnum = Value to associate.
         // imgFile = Filename (just name and extension, no path).
@@ -1411,19 +1295,6 @@ public class HeroineEnum
             this.loadFirst = loadFirst;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (ImgBackgroundEnum imgBackgroundEnum : ImgBackgroundEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                imgBackgroundMap.put(imgBackgroundEnum.imgBackgroundEnum, imgBackgroundEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -1464,13 +1335,13 @@ public class HeroineEnum
         public static ImgBackgroundEnum valueOf(int imgBackground) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (ImgBackgroundEnum) imgBackgroundMap.get(imgBackground);
+            return lookup(imgBackgroundLookup, imgBackground);
         }
         
     }
     
     // Enumerations related to images of enemies.
-    public enum ImgEnemyEnum
+    public enum ImgEnemyEnum implements NumberedEnum
     {
         
         IMG_ENEMY_BONE_SHIELD (0, "bone_shield.png", "bone_shield"), // Image for bone shield effect for enemy.
@@ -1487,7 +1358,7 @@ public class HeroineEnum
         private final int imgEnemyEnum; // Enumerations related to enemy images.
         private final String imgFile; // Filename (just name and extension, no path).
         private final String imgKey; // Key associated with image -- used with asset manager hash map.
-        private static final Map imgEnemyMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final ImgEnemyEnum[] imgEnemyLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         
         // imgEnemyEnum = Value to associate.
         // imgFile = Filename (just name and extension, no path).
@@ -1500,19 +1371,6 @@ public class HeroineEnum
             this.imgKey = imgKey;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (ImgEnemyEnum imgEnemyEnum : ImgEnemyEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                imgEnemyMap.put(imgEnemyEnum.imgEnemyEnum, imgEnemyEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -1544,13 +1402,13 @@ public class HeroineEnum
         public static ImgEnemyEnum valueOf(int imgEnemy) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (ImgEnemyEnum) imgEnemyMap.get(imgEnemy);
+            return lookup(imgEnemyLookup, imgEnemy);
         }
         
     }
     
     // Enumerations related to interface images -- except fonts.
-    public enum ImgInterfaceEnum 
+    public enum ImgInterfaceEnum implements NumberedEnum
     {
         
         IMG_INTERFACE_ACTION_BTN (0, "action_buttons.png", "action_buttons.pack", "action_btn", "action_btn_atlas"), // Action buttons.
@@ -1569,7 +1427,7 @@ public class HeroineEnum
         private final String imgAtlasKey; // Key associated with atlas -- used with asset manager hash map.
         private final String imgFile; // Filename (just name and extension, no path).
         private final String imgKey; // Key associated with image -- used with asset manager hash map.
-        private static final Map imgInterfaceMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final ImgInterfaceEnum[] imgInterfaceLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         
         // imgInterfaceEnum = Value to associate.
         // imgFile = Filename (just name and extension, no path).
@@ -1587,19 +1445,6 @@ public class HeroineEnum
             this.imgAtlasKey = imgAtlasKey;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (ImgInterfaceEnum imgInterfaceEnum : ImgInterfaceEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                imgInterfaceMap.put(imgInterfaceEnum.imgInterfaceEnum, imgInterfaceEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -1649,13 +1494,13 @@ public class HeroineEnum
         public static ImgInterfaceEnum valueOf(int imgInterface) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (ImgInterfaceEnum) imgInterfaceMap.get(imgInterface);
+            return lookup(imgInterfaceLookup, imgInterface);
         }
         
     }
     
     // Enumerations related to other images.
-    public enum ImgOtherEnum 
+    public enum ImgOtherEnum implements NumberedEnum
     {
         
         IMG_OTHER_CHEST (0, "chest.png", "other_chest"),
@@ -1666,7 +1511,7 @@ public class HeroineEnum
         private final int imgOtherEnum; // Enumerations related to other images.
         private final String imgFile; // Filename (just name and extension, no path).
         private final String imgKey; // Key associated with image -- used with asset manager hash map.
-        private static final Map imgOtherMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final ImgOtherEnum[] imgOtherLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         
         // imgOtherEnum = Value to associate.
         // imgFile = Filename (just name and extension, no path).
@@ -1679,19 +1524,6 @@ public class HeroineEnum
             this.imgKey = imgKey;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (ImgOtherEnum imgOtherEnum : ImgOtherEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                imgOtherMap.put(imgOtherEnum.imgOtherEnum, imgOtherEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -1723,13 +1555,13 @@ public class HeroineEnum
         public static ImgOtherEnum valueOf(int imgOther) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (ImgOtherEnum) imgOtherMap.get(imgOther);
+            return lookup(imgOtherLookup, imgOther);
         }
         
     }
     
     // Enumerations related to tile images.
-    public enum ImgTileEnum 
+    public enum ImgTileEnum implements NumberedEnum
     {
         
         IMG_TILE_IGNORE (0, "ignore1", "ignore2", false), // Placeholder for tile to ignore / not draw.
@@ -1758,8 +1590,9 @@ public class HeroineEnum
         private final int imgTileEnum; // Enumerations related to tile images.
         private final String imgFile; // Filename (just name and extension, no path).
         private final String imgKey; // Key associated with image -- used with asset manager hash map.
-        private static final Map imgTileMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final ImgTileEnum[] imgTileLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         private final boolean walkable; // Whether tile walkable.
+        private static final boolean[] walkableLookup = new boolean[imgTileLookup.length]; // Walkable flags indexed by tile number.
         
         // imgTileEnum = Value to associate.
         // imgFile = Filename (just name and extension, no path).
@@ -1774,19 +1607,29 @@ public class HeroineEnum
             this.walkable = walkable;
         }
         
-        // Populate the hash map containing the text and numbers.
+        // Populate the array containing the walkable flags by tile number.
         static 
         {
             
             // Loop through each of the enumerated values.
             for (ImgTileEnum imgTileEnum : ImgTileEnum.values()) 
             {
-                // Add the current enumeration to the hash map.
-                imgTileMap.put(imgTileEnum.imgTileEnum, imgTileEnum);
+                // Add the walkable flag of the current enumeration to the array.
+                walkableLookup[imgTileEnum.imgTileEnum] = imgTileEnum.walkable;
             }
             
         }
         
+        // imgTile = Tile number.
+        public static boolean isWalkable(int imgTile) 
+        {
+            // The function returns whether the tile with the passed number is walkable.
+            // Example for use:  boolean x = HeroineEnum.ImgTileEnum.isWalkable(tileNbr);
+            
+            // Return the flag.
+            return walkableLookup[imgTile];
+        }
+        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -1827,13 +1670,13 @@ public class HeroineEnum
         public static ImgTileEnum valueOf(int imgTile) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (ImgTileEnum) imgTileMap.get(imgTile);
+            return lookup(imgTileLookup, imgTile);
         }
         
     }
     
     // Enumerations related to treasure images.
-    public enum ImgTreasureEnum 
+    public enum ImgTreasureEnum implements NumberedEnum
     {
         
         IMG_TREASURE_GOLD_1 (0, "treasure.pack", "gold1", 1), // Treasure:  one gold.
@@ -1860,7 +1703,7 @@ public class HeroineEnum
         private final int imgTreasureEnum; // Enumerations related to treasure images.
         private final String imgAtlasFile; // Filename (just name and extension, no path) for atlas.
         private final String imgAtlasKey; // Key associated with atlas -- used with asset manager hash map.
-        private static final Map imgTreasureMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final ImgTreasureEnum[] imgTreasureLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         
         // imgTreasureEnum = Value to associate.
         // imgAtlasFile = Filename (just name and extension, no path) for atlas.
@@ -1875,15 +1718,14 @@ public class HeroineEnum
             this.gold = goldKey;
         }
         
-        // Populate the hash maps.
+        // Populate the hash map containing the cross reference between gold amounts and atlas keys.
         static 
         {
             
             // Loop through each of the enumerated values.
             for (ImgTreasureEnum imgTreasureEnum : ImgTreasureEnum.values()) 
             {
-                // Add the current enumeration to the hash maps.
-                imgTreasureMap.put(imgTreasureEnum.imgTreasureEnum, imgTreasureEnum);
+                // Add the current enumeration to the hash map.
                 goldMap.put(imgTreasureEnum.gold, imgTreasureEnum.imgAtlasKey);
             }
             
@@ -1930,13 +1772,13 @@ public class HeroineEnum
         public static ImgTreasureEnum valueOf(int imgTreasure) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (ImgTreasureEnum) imgTreasureMap.get(imgTreasure);
+            return lookup(imgTreasureLookup, imgTreasure);
         }
         
     }
     
     // Enumerations related to information buttons.  Helps with atlas keys.
-    public enum InfoButtonEnum 
+    public enum InfoButtonEnum implements NumberedEnum
     {
         
         INFO_BUTTON (0, "info_button"), // Regular information button -- deselected.
@@ -1945,7 +1787,7 @@ public class HeroineEnum
 
         private final int infoButtonEnum; // Enumerations related to information buttons.
         private final String infoButtonKey; // Key associated with texture region -- used with asset manager and textureRegions hash map.
-        private static final Map infoButtonMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final InfoButtonEnum[] infoButtonLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         
         // infoButtonEnum = Value to associate.
         // infoButtonKey = Key associated with texture -- used with asset manager and textureRegions hash map.
@@ -1956,19 +1798,6 @@ public class HeroineEnum
             this.infoButtonKey = infoButtonKey;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (InfoButtonEnum infoButtonEnum : InfoButtonEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                infoButtonMap.put(infoButtonEnum.infoButtonEnum, infoButtonEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -1991,13 +1820,13 @@ public class HeroineEnum
         public static InfoButtonEnum valueOf(int infoButton) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (InfoButtonEnum) infoButtonMap.get(infoButton);
+            return lookup(infoButtonLookup, infoButton);
         }
         
     }
     
     // Enumerations related to item categories.
-    public enum ItemCategoryEnum 
+    public enum ItemCategoryEnum implements NumberedEnum
     {
         
         ITEM_CTGY_ALTER_MAP (0), // Map alteration event.
@@ -2009,7 +1838,7 @@ public class HeroineEnum
         ; // semicolon needed when fields / methods follow
 
         private final int itemCategoryEnum; // Enumerations related to item categories.
-        private static final Map itemCategoryMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final ItemCategoryEnum[] itemCategoryLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         
         // itemCategoryEnum = Value to associate.
         private ItemCategoryEnum(int itemCategoryEnum) 
@@ -2018,19 +1847,6 @@ public class HeroineEnum
             this.itemCategoryEnum = itemCategoryEnum;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (ItemCategoryEnum itemCategoryEnum : ItemCategoryEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                itemCategoryMap.put(itemCategoryEnum.itemCategoryEnum, itemCategoryEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -2044,13 +1860,13 @@ public class HeroineEnum
         public static ItemCategoryEnum valueOf(int itemCategory) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (ItemCategoryEnum) itemCategoryMap.get(itemCategory);
+            return lookup(itemCategoryLookup, itemCategory);
         }
         
     }
     
     // Enumerations related to items (often found in chests) -- gold, weapons, armors, spells, and magic items.
-    public enum ItemEnum 
+    public enum ItemEnum implements NumberedEnum
     {
         
         ITEM_GOLD (0, "GOLD", ItemTypeEnum.ITEM_TYPE_GOLD, null, null, "GOLD"), // Gold.  * Multiple treasure images.
@@ -2084,7 +1900,7 @@ public class HeroineEnum
         private final int itemEnum; // Enumerations related to items.
         private final String itemName; // Item name -- equivalent to enumerated value.  Examples:  ARMOR_TRAVEL_CLOAK, ARMOR_HIDE_CUIRASS, ...
         private final ItemTypeEnum itemType; // Item type -- gold, armor, magic, spell, or weapon.  Examples:  ITEM_TYPE_GOLD, ITEM_TYPE_WEAPON, ITEM_TYPE_ARMOR, ITEM_TYPE_SPELL, ITEM_TYPE_MAGIC.
-        private static final Map itemMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final ItemEnum[] itemLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         private final Integer treasure_id; // Treasure identifier.
         private final String treasureText; // Text to display when finding as treasure.
         
@@ -2106,19 +1922,6 @@ public class HeroineEnum
             this.treasureText = treasureText;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (ItemEnum itemEnum : ItemEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                itemMap.put(itemEnum.itemEnum, itemEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -2178,13 +1981,13 @@ public class HeroineEnum
         public static ItemEnum valueOf(int item) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (ItemEnum) itemMap.get(item);
+            return lookup(itemLookup, item);
         }
         
     }
     
     // Enumerations related to item types.
-    public enum ItemTypeEnum 
+    public enum ItemTypeEnum implements NumberedEnum
     {
         
         ITEM_TYPE_GOLD (0), // Gold.
@@ -2195,7 +1998,7 @@ public class HeroineEnum
         ; // semicolon needed when fields / methods follow
 
         private final int itemTypeEnum; // Enumerations related to item types.
-        private static final Map itemTypeMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final ItemTypeEnum[] itemTypeLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         
         // itemTypeEnum = Value to associate.
         private ItemTypeEnum(int itemTypeEnum) 
@@ -2204,19 +2007,6 @@ public class HeroineEnum
             this.itemTypeEnum = itemTypeEnum;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (ItemTypeEnum itemTypeEnum : ItemTypeEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                itemTypeMap.put(itemTypeEnum.itemTypeEnum, itemTypeEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -2230,13 +2020,13 @@ public class HeroineEnum
         public static ItemTypeEnum valueOf(int itemType) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (ItemTypeEnum) itemTypeMap.get(itemType);
+            return lookup(itemTypeLookup, itemType);
         }
         
     }
     
     // Enumerations related to list types.
-    public enum ListEnum 
+    public enum ListEnum implements NumberedEnum
     {
         
         STD_ARRAY (0), // Type for standard arrays.
@@ -2245,7 +2035,7 @@ public class HeroineEnum
         ; // semicolon needed when fields / methods follow
 
         private final int listEnum; // Enumerations related to list types.
-        private static final Map listMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final ListEnum[] listLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         
         // listEnum = Value to associate.
         private ListEnum(int listEnum) 
@@ -2254,19 +2044,6 @@ public class HeroineEnum
             this.listEnum = listEnum;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (ListEnum listEnum : ListEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                listMap.put(listEnum.listEnum, listEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -2280,13 +2057,13 @@ public class HeroineEnum
         public static ListEnum valueOf(int listType) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (ListEnum) listMap.get(listType);
+            return lookup(listLookup, listType);
         }
         
     }
     
     // Enumerations related to magic items.
-    public enum MagicItemEnum
+    public enum MagicItemEnum implements NumberedEnum
     {
         
         MAGIC_ITEM_SAPPHIRE (0, 0, 0, 0, 0, 2, 2, "Magic Sapphire (MP Up)"), // Magic sapphire (MP+).
@@ -2303,7 +2080,7 @@ public class HeroineEnum
         private final int attrAdj_MP; // Amount by which to adjust player magic points.
         private final int magicItemEnum; // Enumerations related to magic items.
         private final String magicItemText; // Clean text for the magic item (name).
-        private static final Map magicItemMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final MagicItemEnum[] magicItemLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         
         // magicItemEnum = Value to associate.
         // attrAdj_BonusAtk = Amount by which to adjust player attack bonus.
@@ -2327,19 +2104,6 @@ public class HeroineEnum
             this.magicItemText = magicItemText;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (MagicItemEnum magicItemEnum : MagicItemEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                magicItemMap.put(magicItemEnum.magicItemEnum, magicItemEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -2416,13 +2180,13 @@ public class HeroineEnum
         public static MagicItemEnum valueOf(int magicItem) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (MagicItemEnum) magicItemMap.get(magicItem);
+            return lookup(magicItemLookup, magicItem);
         }
         
     }
     
     // Enumerations related to music.
-    public enum MusicEnum 
+    public enum MusicEnum implements NumberedEnum
     {
         
         MUSIC_ELEGY_DM (0, "music/elegy_dm.mp3", "music/elegy_dm.ogg"), // Elegy DM music.
@@ -2434,7 +2198,7 @@ public class HeroineEnum
         private final int musicEnum; // Enumerations related to music.
         private final String mp3File; // Filename for music -- in mp3 format.
         private final String oggFile; // Filename for music -- in ogg format.
-        private static final Map musicMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final MusicEnum[] musicLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         
         // musicEnum = Value to associate.
         // mp3File = Filename for music -- in mp3 format.
@@ -2447,19 +2211,6 @@ public class HeroineEnum
             this.oggFile = oggFile;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (MusicEnum musicEnum : MusicEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                musicMap.put(musicEnum.musicEnum, musicEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -2491,13 +2242,13 @@ public class HeroineEnum
         public static MusicEnum valueOf(int music) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (MusicEnum) musicMap.get(music);
+            return lookup(musicLookup, music);
         }
         
     }
     
     // Enumerations related to minimap image blocks.  Helps with atlas keys.
-    public enum MinimapEnum 
+    public enum MinimapEnum implements NumberedEnum
     {
         
         MINIMAP_BLOCK_BLACK (0, "minimap_black"), // Black minimap block.
@@ -2509,7 +2260,7 @@ public class HeroineEnum
         
         private final int minimapEnum; // Enumerations related to minimap image blocks.
         private final String minimapKey; // Key associated with texture region -- used with asset manager and textureRegions hash map.
-        private static final Map minimapMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final MinimapEnum[] minimapLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         
         // minimapEnum = Value to associate.
         // minimapKey = Key associated with texture -- used with asset manager and textureRegions hash map.
@@ -2520,19 +2271,6 @@ public class HeroineEnum
             this.minimapKey = minimapKey;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (MinimapEnum minimapEnum : MinimapEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                minimapMap.put(minimapEnum.minimapEnum, minimapEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -2555,13 +2293,13 @@ public class HeroineEnum
         public static MinimapEnum valueOf(int minimap) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (MinimapEnum) minimapMap.get(minimap);
+            return lookup(minimapLookup, minimap);
         }
         
     }
     
     // Enumerations related to minimap cursor image blocks.  Helps with atlas keys.
-    public enum MinimapCursorEnum 
+    public enum MinimapCursorEnum implements NumberedEnum
     {
         
         MINIMAP_CURSOR_BLOCK_DOWN (0, "minimap_cursor_down"), // Down arrow minimap block.
@@ -2572,7 +2310,7 @@ public class HeroineEnum
 
         private final int minimapCursorEnum; // Enumerations related to minimap cursor image blocks.
         private final String minimapCursorKey; // Key associated with texture region -- used with asset manager and textureRegions hash map.
-        private static final Map minimapCursorMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final MinimapCursorEnum[] minimapCursorLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         
         // minimapCursorEnum = Value to associate.
         // minimapCursorKey = Key associated with texture -- used with asset manager and textureRegions hash map.
@@ -2583,19 +2321,6 @@ public class HeroineEnum
             this.minimapCursorKey = minimapCursorKey;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (MinimapCursorEnum minimapCursorEnum : MinimapCursorEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                minimapCursorMap.put(minimapCursorEnum.minimapCursorEnum, minimapCursorEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -2618,13 +2343,13 @@ public class HeroineEnum
         public static MinimapCursorEnum valueOf(int minimapCursor) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (MinimapCursorEnum) minimapCursorMap.get(minimapCursor);
+            return lookup(minimapCursorLookup, minimapCursor);
         }
         
     }
     
     // Enumerations related to power actions.
-    public enum PowerActionEnum 
+    public enum PowerActionEnum implements NumberedEnum
     {
         
         POWER_ACTION_NO_TARGET (0, "(NO TARGET)"), // Power action text -- no target.
@@ -2642,7 +2367,7 @@ public class HeroineEnum
 
         private final int powerActionEnum; // Enumerations related to power / action text.
         private final String text; // Text associated with power / action.
-        private static final Map powerActionMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final PowerActionEnum[] powerActionLookup = buildLookup(values()); // Enumerations indexed by numeric value.
 
         // powerActionEnum = Value to associate.
         // text = Text associated with power / action.
@@ -2653,19 +2378,6 @@ public class HeroineEnum
             this.text = text;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (PowerActionEnum powerActionEnum : PowerActionEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                powerActionMap.put(powerActionEnum.powerActionEnum, powerActionEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -2688,13 +2400,13 @@ public class HeroineEnum
         public static PowerActionEnum valueOf(int powerAction) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (PowerActionEnum) powerActionMap.get(powerAction);
+            return lookup(powerActionLookup, powerAction);
         }
         
     }
     
     // Enumerations related to power results.
-    public enum PowerResultEnum 
+    public enum PowerResultEnum implements NumberedEnum
     {
         
         POWER_RESULT_DEF_UP (0, "+DEF UP!"), // Power result -- defense up (enemy response for bone shield).
@@ -2710,7 +2422,7 @@ public class HeroineEnum
 
         private final int powerResultEnum; // Enumerations related to power / action result text.
         private final String text; // Text associated with power / action result.
-        private static final Map powerResultMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final PowerResultEnum[] powerResultLookup = buildLookup(values()); // Enumerations indexed by numeric value.
 
         // powerResultEnum = Value to associate.
         // text = Text associated with power / action result.
@@ -2721,19 +2433,6 @@ public class HeroineEnum
             this.text = text;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (PowerResultEnum powerResultEnum : PowerResultEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                powerResultMap.put(powerResultEnum.powerResultEnum, powerResultEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -2756,13 +2455,63 @@ public class HeroineEnum
         public static PowerResultEnum valueOf(int powerResult) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (PowerResultEnum) powerResultMap.get(powerResult);
+            return lookup(powerResultLookup, powerResult);
+        }
+        
+    }
+    
+    // Enumerations related to random number streams.
+    public enum RandomStreamEnum implements NumberedEnum
+    {
+        
+        RND_STREAM_COMBAT (0, "combat"), // Combat rolls -- hit, damage, critical, run, enemy powers.
+        RND_STREAM_ENCOUNTER (1, "encounter"), // Random encounters -- chance and enemy selection.
+        RND_STREAM_LOOT (2, "loot"), // Loot -- gold rewarded after combat.
+        RND_STREAM_SPELL (3, "spell") // Spells -- burn, heal, and unlock amounts.
+        ; // semicolon needed when fields / methods follow
+
+        private final int randomStreamEnum; // Enumerations related to random number streams.
+        private final String streamName; // Stream name.  Used in messages.
+        private static final RandomStreamEnum[] randomStreamLookup = buildLookup(values()); // Enumerations indexed by numeric value.
+        
+        // randomStreamEnum = Value to associate.
+        // streamName = Stream name.  Used in messages.
+        private RandomStreamEnum(int randomStreamEnum, String streamName) 
+        {
+            // The constructor sets the values for each enumeration.
+            this.randomStreamEnum = randomStreamEnum;
+            this.streamName = streamName;
+        }
+        
+        public int getValue() 
+        {
+            // The function returns the numeric value for the enumeration.
+            // Example for use:  int x = HeroineEnum.RandomStreamEnum.RND_STREAM_COMBAT.getValue();
+            
+            // Return the numeric value for the enumeration.
+            return randomStreamEnum;
+        }
+        
+        public String getValue_Name() 
+        {
+            // The function returns the stream name.
+            // Example for use:  String x = HeroineEnum.RandomStreamEnum.RND_STREAM_COMBAT.getValue_Name();
+            
+            // Return the stream name.
+            return streamName;
+        }
+        
+        // randomStream = Numeric value to convert to text.
+        public static RandomStreamEnum valueOf(int randomStream) 
+        {
+            // The function converts the passed numeric value to its corresponding text.
+            return lookup(randomStreamLookup, randomStream);
         }
         
     }
     
     // Enumerations related to explore screen button selection.
-    public enum SelectPosEnum 
+    public enum SelectPosEnum implements NumberedEnum
     {
         
         BUTTON_POS_INFO (0), // Position for information button.
@@ -2777,7 +2526,7 @@ public class HeroineEnum
         ; // semicolon needed when fields / methods follow
 
         private final int selectPosEnum; // Enumerations related to explore screen button selection.
-        private static final Map selectPosMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final SelectPosEnum[] selectPosLookup = buildLookup(values()); // Enumerations indexed by numeric value.
 
         // selectPosEnum = Value to associate.
         private SelectPosEnum(int selectPosEnum) 
@@ -2786,19 +2535,6 @@ public class HeroineEnum
             this.selectPosEnum = selectPosEnum;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (SelectPosEnum selectPosEnum : SelectPosEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                selectPosMap.put(selectPosEnum.selectPosEnum, selectPosEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -2812,13 +2548,13 @@ public class HeroineEnum
         public static SelectPosEnum valueOf(int selectPos) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (SelectPosEnum) selectPosMap.get(selectPos);
+            return lookup(selectPosLookup, selectPos);
         }
         
     }
     
     // Enumerations related to shops / locations.
-    public enum ShopEnum 
+    public enum ShopEnum implements NumberedEnum
     {
         
         SHOP_CEDAR_ARMS (0), // Cedar Arms
@@ -2833,7 +2569,7 @@ public class HeroineEnum
         ; // semicolon needed when fields / methods follow
 
         private final int shopEnum; // Enumerations related to shops / locations.
-        private static final Map shopMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final ShopEnum[] shopLookup = buildLookup(values()); // Enumerations indexed by numeric value.
 
         // shopEnum = Value to associate.
         private ShopEnum(int shopEnum) 
@@ -2842,19 +2578,6 @@ public class HeroineEnum
             this.shopEnum = shopEnum;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (ShopEnum shop : ShopEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                shopMap.put(shop.shopEnum, shop);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -2868,13 +2591,13 @@ public class HeroineEnum
         public static ShopEnum valueOf(int shop) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (ShopEnum) shopMap.get(shop);
+            return lookup(shopLookup, shop);
         }
         
     }
     
     // Enumerations related to shops, locations, and dialogues.
-    public enum ShopTypeEnum 
+    public enum ShopTypeEnum implements NumberedEnum
     {
         
         SHOP_WEAPON (0), // Type for weapon shops.
@@ -2885,7 +2608,7 @@ public class HeroineEnum
         ; // semicolon needed when fields / methods follow
 
         private final int shopTypeEnum; // Enumerations related to shops, locations, and dialogues.
-        private static final Map shopTypeMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final ShopTypeEnum[] shopTypeLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         
         // shopTypeEnum = Value to associate.
         private ShopTypeEnum(int shopTypeEnum) 
@@ -2894,19 +2617,6 @@ public class HeroineEnum
             this.shopTypeEnum = shopTypeEnum;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (ShopTypeEnum shopType : ShopTypeEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                shopTypeMap.put(shopType.shopTypeEnum, shopType);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -2920,13 +2630,13 @@ public class HeroineEnum
         public static ShopTypeEnum valueOf(int shopType) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (ShopTypeEnum) shopTypeMap.get(shopType);
+            return lookup(shopTypeLookup, shopType);
         }
         
     }
     
     // Enumerations related to sounds.
-    public enum SoundEnum 
+    public enum SoundEnum implements NumberedEnum
     {
         
         SOUND_ATTACK (0, "sounds/attack.wav"), // Attack-related sound.
@@ -2951,7 +2661,7 @@ public class HeroineEnum
         
         private final int soundEnum; // Enumerations related to sounds.
         private final String soundFilePath; // Relative path to the sound file.
-        private static final Map soundMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final SoundEnum[] soundLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         
         // soundEnum = Value to associate.
         // soundFilePath = Relative path to the sound file.
@@ -2962,19 +2672,6 @@ public class HeroineEnum
             this.soundFilePath = soundFilePath;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (SoundEnum soundEnum : SoundEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                soundMap.put(soundEnum.soundEnum, soundEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -2997,13 +2694,13 @@ public class HeroineEnum
         public static SoundEnum valueOf(int sound) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (SoundEnum) soundMap.get(sound);
+            return lookup(soundLookup, sound);
         }
         
     }
     
     // Enumerations related to spells.
-    public enum SpellEnum 
+    public enum SpellEnum implements NumberedEnum
     {
         
         NO_SPELL (0, "No Spell", 0, "", null), // No spell.
@@ -3015,11 +2712,11 @@ public class HeroineEnum
         SPELL_REFLECT (6, "Reflect", 50000, "Spellbook: Reflect", ActionButtonEnum.ACTION_BUTTON_REFLECT) // Reflect spell.
         ; // semicolon needed when fields / methods follow
 
-        private static final Map actionMap = new HashMap<>(); // Hash map related spell and action button.
+        private static final Map<ActionButtonEnum, SpellEnum> actionMap = new EnumMap<>(ActionButtonEnum.class); // Map relating action button and spell.
         private final ActionButtonEnum actionButtonEnum; // Associated action button enumeration value.
         private final int gold; // Value of the spell, in gold.
         private final int spellEnum; // Enumerations related to spells.
-        private static final Map spellMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final SpellEnum[] spellLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         private final String spellText; // Clean text for the spell.
         private final String treasureDesc; // Treasure description for the spell.
         
@@ -3039,17 +2736,13 @@ public class HeroineEnum
             this.actionButtonEnum = actionButtonEnum;
         }
         
-        // Populate the hash maps containing (1) the text and numbers and (2) the cross reference between
-        // the action buttons and spells.
+        // Populate the map containing the cross reference between the action buttons and spells.
         static 
         {
             
             // Loop through each of the enumerated values.
             for (SpellEnum spellEnum : SpellEnum.values()) 
             {
-                // Add the current enumeration to the hash maps.
-                spellMap.put(spellEnum.spellEnum, spellEnum);
-                
                 // If related action button exists, then...
                 if (spellEnum.actionButtonEnum != null)
                     actionMap.put(spellEnum.actionButtonEnum, spellEnum);
@@ -3106,20 +2799,20 @@ public class HeroineEnum
         public static SpellEnum valueOf(ActionButtonEnum actionButtonEnum) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (SpellEnum) actionMap.get(actionButtonEnum);
+            return actionMap.get(actionButtonEnum);
         }
         
         // spell = Numeric value to convert to text.
         public static SpellEnum valueOf(int spell) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (SpellEnum) spellMap.get(spell);
+            return lookup(spellLookup, spell);
         }
         
     }
     
     // Enumerations related to (special) tile map keys.  Associated with tileMap hash map in MazeMap class.
-    public enum TileMapKeyEnum 
+    public enum TileMapKeyEnum implements NumberedEnum
     {
         
         TILE_MAP_KEY_CHEST (0), // Key related to chest "tile".
@@ -3130,7 +2823,7 @@ public class HeroineEnum
         ; // semicolon needed when fields / methods follow
         
         private final Integer tileMapKeyEnum; // Enumerations related to (special) tile map keys (associated with tileMap hash map in MazeMap class).
-        private static final Map tileMapKeyMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final TileMapKeyEnum[] tileMapKeyLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         
         // tileMapKeyEnum = Value to associate.
         private TileMapKeyEnum(int tileMapKeyEnum) 
@@ -3139,19 +2832,6 @@ public class HeroineEnum
             this.tileMapKeyEnum = tileMapKeyEnum;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static
-        {
-            
-            // Loop through each of the enumerated values.
-            for (TileMapKeyEnum tileMapKeyEnum : TileMapKeyEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                tileMapKeyMap.put(tileMapKeyEnum.tileMapKeyEnum, tileMapKeyEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -3165,13 +2845,13 @@ public class HeroineEnum
         public static TileMapKeyEnum valueOf(int tileMapKey) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (TileMapKeyEnum) tileMapKeyMap.get(tileMapKey);
+            return lookup(tileMapKeyLookup, tileMapKey);
         }
         
     }
     
     // Enumerations related to regions within unscaled tiles.
-    public enum TileRegionEnum
+    public enum TileRegionEnum implements NumberedEnum
     {
         
         TILE_REGION_000 (  0,   0,   0,  80, 120,  0, 0 ), // Tile region 000.
@@ -3195,7 +2875,7 @@ public class HeroineEnum
           // region in stage.  Excludes render offset.
         private final TextureRect rect; // Tile region information -- source x and y, width, and height.
         private final int tileRegionEnum; // Enumerations related to spells.
-        private static final Map tileRegionMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final TileRegionEnum[] tileRegionLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         
         // tileRegionEnum = Value to associate.
         // src_x = X-coordinate of the bottom left position of the image to extract.
@@ -3216,19 +2896,6 @@ public class HeroineEnum
             this.dest_y = dest_y;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (TileRegionEnum tileRegionEnum : TileRegionEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                tileRegionMap.put(tileRegionEnum.tileRegionEnum, tileRegionEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -3275,13 +2942,13 @@ public class HeroineEnum
         public static TileRegionEnum valueOf(int tileRegion) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (TileRegionEnum) tileRegionMap.get(tileRegion);
+            return lookup(tileRegionLookup, tileRegion);
         }
         
     }
     
     // Enumerations related to weapons.
-    public enum WeaponEnum 
+    public enum WeaponEnum implements NumberedEnum
     {
         
         WEAPON_BARE_FISTS (0, "Bare Fists", 1, 4, 0, HeroinePlayerEnum.HEROINE_WEAPON_NONE), // Bare fists.
@@ -3299,7 +2966,7 @@ public class HeroineEnum
         private final int gold; // Value of the weapon, in gold.
         private final HeroinePlayerEnum playerEnum; // Related enumerated value for atlas texture region key.
         private final int weaponEnum; // Enumerations related to weapons.
-        private static final Map weaponMap = new HashMap<>(); // Hash map containing text and numbers in enumeration.
+        private static final WeaponEnum[] weaponLookup = buildLookup(values()); // Enumerations indexed by numeric value.
         private final String weaponText; // Clean text for the weapon.
         
         // weaponEnum = Value to associate.
@@ -3320,19 +2987,6 @@ public class HeroineEnum
             this.playerEnum = playerEnum;
         }
         
-        // Populate the hash map containing the text and numbers.
-        static 
-        {
-            
-            // Loop through each of the enumerated values.
-            for (WeaponEnum weaponEnum : WeaponEnum.values()) 
-            {
-                // Add the current enumeration to the hash map.
-                weaponMap.put(weaponEnum.weaponEnum, weaponEnum);
-            }
-            
-        }
-        
         public int getValue() 
         {
             // The function returns the numeric value for the enumeration.
@@ -3392,7 +3046,7 @@ public class HeroineEnum
         public static WeaponEnum valueOf(int weapon) 
         {
             // The function converts the passed numeric value to its corresponding text.
-            return (WeaponEnum) weaponMap.get(weapon);
+            return lookup(weaponLookup, weapon);
         }
         
     }
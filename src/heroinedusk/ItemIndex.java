@@ -0,0 +1,378 @@
+package heroinedusk;
+
+// Java imports.
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class ItemIndex<T>
+{
+
+    /*
+    The class stores item lists by location -- region, x, y -- for one item category of the atlas items.
+    Replaces the earlier hash map keyed by text such as "4,1,14,ITEM_CTGY_BONE_PILE".
+
+    Notes:
+    1.  Each key packs the region, x, y, and item category into a single long (16 bits each).
+    2.  Keys live in an open-addressed table (linear probing), so lookups neither allocate nor box.
+    3.  The value for each key contains an array list of items of type T.
+    4.  Removals shift later entries back, so no tombstones build up.
+    5.  AtlasItems keeps one index per item category, so lists come back typed (no casts).
+
+    Methods include:
+
+    allocateValues:  Returns a list of item lists with the passed number of slots, all unused.
+    clear:  Removes all entries.
+    contains:  Returns whether items exist at the passed location.
+    findSlot:  Returns the slot containing the passed key (or -1).
+    forEachInRegion:  Passes each entry within the passed region to the passed visitor.
+    get:  Returns the item list for the passed location (or null).
+    getOrCreate:  Returns the item list for the passed location, adding an empty one if needed.
+    hashSlot:  Returns the home slot for the passed key.
+    packKey:  Returns the packed key for the passed location and category.
+    remove:  Removes the entry for the passed location.
+    resize:  Doubles the table capacity and reinserts all entries.
+    */
+
+    public interface ItemVisitor<T>
+    {
+        // x = X-coordinate of the entry.
+        // y = Y-coordinate of the entry.
+        // category = Item category of the entry.
+        // items = List of items at the location.
+        void visit(int x, int y, HeroineEnum.ItemCategoryEnum category, ArrayList<T> items);
+    }
+
+    // Declare object variables.
+    private final HeroineEnum.ItemCategoryEnum category; // Item category of the items in the index.
+    private long[] keys; // Packed keys, by slot.  KEY_EMPTY for unused slots.
+    private ArrayList<ArrayList<T>> values; // Item lists, by slot.  Null for unused slots.
+
+    // Declare regular variables.
+    private int mask; // Bit mask used to wrap slot numbers -- capacity - 1.
+    private int size; // Number of entries.
+
+    // Declare constants.
+    private static final int INITIAL_CAPACITY = 64; // Starting number of slots.  Must be a power of two.
+    private static final long KEY_EMPTY = -1L; // Key stored in unused slots.  Never produced by packKey.
+
+    // category = Item category of the items in the index.
+    public ItemIndex(HeroineEnum.ItemCategoryEnum category)
+    {
+
+        // The constructor allocates an empty table for items of the passed category.
+
+        // Store passed values.
+        this.category = category;
+
+        // Allocate table.
+        keys = new long[INITIAL_CAPACITY];
+        values = allocateValues(INITIAL_CAPACITY);
+        mask = INITIAL_CAPACITY - 1;
+
+        // Flag all slots as unused.
+        Arrays.fill(keys, KEY_EMPTY);
+
+        // Set defaults.
+        size = 0;
+
+    }
+
+    // capacity = Number of slots.
+    private static <T> ArrayList<ArrayList<T>> allocateValues(int capacity)
+    {
+
+        // The function returns a list of item lists with the passed number of slots, all unused (null).
+
+        ArrayList<ArrayList<T>> slots; // List of item lists to return.
+
+        // Allocate list and fill slots with null.
+        slots = new ArrayList<>(capacity);
+        for (int counter = 0; counter < capacity; counter++)
+            slots.add(null);
+
+        // Return list of item lists.
+        return slots;
+
+    }
+
+    public void clear()
+    {
+
+        // The function removes all entries.
+
+        // Flag all slots as unused.
+        Arrays.fill(keys, KEY_EMPTY);
+        for (int slot = 0; slot < keys.length; slot++)
+            values.set(slot, null);
+
+        // Reset entry count.
+        size = 0;
+
+    }
+
+    // regionNbr = Map / region number.
+    // x = X-coordinate.
+    // y = Y-coordinate.
+    public boolean contains(int regionNbr, int x, int y)
+    {
+        // The function returns whether items exist at the passed location.
+        return findSlot(packKey(regionNbr, x, y, category)) >= 0;
+    }
+
+    // key = Packed key to find.
+    private int findSlot(long key)
+    {
+
+        // The function returns the slot containing the passed key (or -1).
+
+        int slot; // Slot being examined.
+
+        // Start at home slot.
+        slot = hashSlot(key);
+
+        // Loop until reaching an unused slot.
+        while (keys[slot] != KEY_EMPTY)
+        {
+
+            // If slot contains passed key, then...
+            if (keys[slot] == key)
+                // Found key.
+                return slot;
+
+            // Move to next slot.
+            slot = (slot + 1) & mask;
+
+        }
+
+        // Key not found.
+        return -1;
+
+    }
+
+    // regionNbr = Map / region number for which to visit entries.
+    // visitor = Function to call for each entry.
+    public void forEachInRegion(int regionNbr, ItemVisitor<T> visitor)
+    {
+
+        // The function passes each entry within the passed region to the passed visitor.
+
+        long key; // Key in current slot.
+
+        // Loop through slots.
+        for (int slot = 0; slot < keys.length; slot++)
+        {
+
+            // Store key in current slot.
+            key = keys[slot];
+
+            // If slot in use and in passed region, then...
+            if (key != KEY_EMPTY && (int)(key >>> 48) == regionNbr)
+            {
+
+                // Slot in use and in passed region.
+
+                // Pass entry to visitor.
+                visitor.visit((short)(key >>> 32), (short)(key >>> 16), category, values.get(slot));
+
+            }
+
+        }
+
+    }
+
+    // regionNbr = Map / region number.
+    // x = X-coordinate.
+    // y = Y-coordinate.
+    public ArrayList<T> get(int regionNbr, int x, int y)
+    {
+
+        // The function returns the item list for the passed location (or null).
+
+        int slot; // Slot containing the entry.
+
+        // Find slot containing the entry.
+        slot = findSlot(packKey(regionNbr, x, y, category));
+
+        // Return item list (or null).
+        return slot >= 0 ? values.get(slot) : null;
+
+    }
+
+    // regionNbr = Map / region number.
+    // x = X-coordinate.
+    // y = Y-coordinate.
+    public ArrayList<T> getOrCreate(int regionNbr, int x, int y)
+    {
+
+        // The function returns the item list for the passed location, adding an empty one if none exists.
+
+        ArrayList<T> items; // Item list to return.
+        long key; // Packed key for the passed location.
+        int slot; // Slot being examined.
+
+        // Determine key.
+        key = packKey(regionNbr, x, y, category);
+
+        // Start at home slot.
+        slot = hashSlot(key);
+
+        // Loop until reaching an unused slot.
+        while (keys[slot] != KEY_EMPTY)
+        {
+
+            // If slot contains passed key, then...
+            if (keys[slot] == key)
+                // Found key.  Return existing list.
+                return values.get(slot);
+
+            // Move to next slot.
+            slot = (slot + 1) & mask;
+
+        }
+
+        // Add new entry in unused slot.
+        items = new ArrayList<>();
+        keys[slot] = key;
+        values.set(slot, items);
+        size++;
+
+        // If table more than half full, then grow table.
+        if (size * 2 > keys.length)
+            resize();
+
+        // Return new list.
+        return items;
+
+    }
+
+    // key = Packed key for which to get home slot.
+    private int hashSlot(long key)
+    {
+        // The function returns the home slot for the passed key.
+        return (int)((key * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+    }
+
+    // regionNbr = Map / region number.
+    // x = X-coordinate.
+    // y = Y-coordinate.
+    // category = Item category.
+    public static long packKey(int regionNbr, int x, int y, HeroineEnum.ItemCategoryEnum category)
+    {
+
+        // The function returns the packed key for the passed location and category.
+        // Layout (16 bits each, high to low):  region, x, y, category.
+
+        // Return packed key.
+        return ((long)(regionNbr & 0xFFFF) << 48) | ((long)(x & 0xFFFF) << 32) |
+          ((long)(y & 0xFFFF) << 16) | category.getValue();
+
+    }
+
+    // regionNbr = Map / region number.
+    // x = X-coordinate.
+    // y = Y-coordinate.
+    public void remove(int regionNbr, int x, int y)
+    {
+
+        // The function removes the entry for the passed location.
+        // Later entries in the same probe run shift back to fill the gap.
+
+        int gap; // Slot left empty by the removal.
+        int home; // Home slot of the entry being examined.
+        int slot; // Slot being examined.
+
+        // Find slot containing the entry.
+        gap = findSlot(packKey(regionNbr, x, y, category));
+
+        // If entry not found, then exit function.
+        if (gap < 0)
+            return;
+
+        // Clear slot.
+        keys[gap] = KEY_EMPTY;
+        values.set(gap, null);
+        size--;
+
+        // Start with slot after the gap.
+        slot = (gap + 1) & mask;
+
+        // Loop until reaching an unused slot.
+        while (keys[slot] != KEY_EMPTY)
+        {
+
+            // Store home slot of current entry.
+            home = hashSlot(keys[slot]);
+
+            // If the gap lies cyclically between the home slot and the current slot, then...
+            if (((slot - home) & mask) >= ((slot - gap) & mask))
+            {
+
+                // Move entry back into the gap.
+                keys[gap] = keys[slot];
+                values.set(gap, values.get(slot));
+                keys[slot] = KEY_EMPTY;
+                values.set(slot, null);
+
+                // Current slot becomes the new gap.
+                gap = slot;
+
+            }
+
+            // Move to next slot.
+            slot = (slot + 1) & mask;
+
+        }
+
+    }
+
+    private void resize()
+    {
+
+        // The function doubles the table capacity and reinserts all entries.
+
+        long[] oldKeys; // Keys from the previous table.
+        ArrayList<ArrayList<T>> oldValues; // Values from the previous table.
+        int slot; // Slot being examined in the new table.
+
+        // Store previous table.
+        oldKeys = keys;
+        oldValues = values;
+
+        // Allocate new table.
+        keys = new long[oldKeys.length * 2];
+        values = allocateValues(oldKeys.length * 2);
+        mask = keys.length - 1;
+        Arrays.fill(keys, KEY_EMPTY);
+
+        // Loop through slots in previous table.
+        for (int counter = 0; counter < oldKeys.length; counter++)
+        {
+
+            // If slot unused, then skip to next slot.
+            if (oldKeys[counter] == KEY_EMPTY)
+                continue;
+
+            // Find unused slot in new table.
+            slot = hashSlot(oldKeys[counter]);
+            while (keys[slot] != KEY_EMPTY)
+                slot = (slot + 1) & mask;
+
+            // Copy entry.
+            keys[slot] = oldKeys[counter];
+            values.set(slot, oldValues.get(counter));
+
+        }
+
+    }
+
+    // Getters and setters below...
+
+    public HeroineEnum.ItemCategoryEnum getCategory() {
+        return category;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+}
@@ -1,17 +1,23 @@
 package heroinedusk;
 
-// Local project imports.
-import routines.FileRoutines;
-
 // Jackson imports.
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 // Java imports.
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
 
 /*
 Interface (implements) vs Sub-Class (extends)...
@@ -39,14 +45,29 @@ public class JSON_Processor
     /* 
     The class encapsulates JSON-related functionality, in particular for loading and saving atlases.
     
+    Notes:
+    1.  Loading streams through the files with a Jackson parser, adding regions and items straight to the 
+        atlas classes, rather than first reading each file into a tree of hash maps.
+    2.  Saving streams the atlas and items to the file through a Jackson generator (see Atlas.writeJSON, 
+        RegionMap.writeJSON, and AtlasItems.writeJSON), rather than first building a tree of hash maps and 
+        the full JSON text.  Keys get written in a fixed, sorted order.
+    3.  Keys for regions, exits, and items (MAP_01, EXIT_01, ...) only matter for ordering.  Region numbers 
+        come from regionNbr and row numbers from the row keys (ROW_01, ...).  Everything else gets numbered
+        in file order.
+    
     Methods include:
     
+    addRegion:  Adds a region to the atlas, based on the passed header values.
     loadAtlas:  Encapsulates the reading of the atlas JSON file from the specified location.
     loadAtlasItems:  Encapsulates the reading of the atlas items JSON file from the specified location.
+    openGenerator:  Opens the passed file for writing and returns a JSON generator streaming to it.
     readAtlas:  Encapsulates the reading of the atlas JSON file from the specified location, adding 
       exception handling.
     readAtlasItems:  Encapsulates the reading of the atlas items JSON file from the specified location, adding 
       exception handling.
+    readFields:  Reads the fields of the current object into the passed holders.
+    readRegion:  Reads a region and adds it to the atlas.
+    requireObject:  Confirms that the parser sits at the start of an object.
     saveAtlas:  Encapsulates the saving of the atlas as a JSON file to the specified location, 
       adding exception handling.
     saveAtlasItems:  Encapsulates the saving of the atlas items as a JSON file to the specified location, 
@@ -55,32 +76,112 @@ public class JSON_Processor
     writeAtlasItems:  Saves the atlas items as a JSON file to the specified location.
     */
     
+    // Declare constants.
+    private static final String[] FIELDS_ALTER_MAP = {"POS_X", "POS_Y", "REGION_NBR", "TILE_NBR", 
+      "CAMPAIGN_EVENT_IND", "CAMPAIGN_EVENT", "CAMPAIGN_EVENT_TYPE"}; // Fields for a map alteration event.
+    private static final String[] FIELDS_CHEST = {"POS_X", "POS_Y", "REGION_NBR", "PRIMARY_ITEM", 
+      "PRIMARY_ITEM_CNT", "ADDL_ITEMS"}; // Fields for a chest.
+    private static final String[] FIELDS_EXIT = {"EXIT_X", "EXIT_Y", "DEST_MAP", "DEST_X", 
+      "DEST_Y"}; // Fields for a region exit.
+    private static final String[] FIELDS_LOCATION = {"POS_X", "POS_Y", 
+      "REGION_NBR"}; // Fields for a bone pile, hay bale, or locked door.
+    private static final int FIELDS_MAX = 7; // Maximum number of fields read from a single object.
+    private static final String[] FIELDS_SHOP = {"EXIT_X", "EXIT_Y", "DEST_X", "DEST_Y", 
+      "SHOP_ID"}; // Fields for a shop.
+    private static final String[] FIELDS_SIDE_TILE = {"X", "Y", "TILE"}; // Fields for a side tile.
+    private static final String[] FIELDS_SIDES = {"north_side_tiles", "south_side_tiles", "east_side_tiles", 
+      "west_side_tiles"}; // Side tile groups in a region, in the order used for the direction.
+    private static final String[] FIELDS_SPECIFIC_ENEMY = {"POS_X", "POS_Y", "REGION_NBR", 
+      "ENEMY_TYPE"}; // Fields for a specific enemy.
+    private static final int ROW_BUFFER_INITIAL = 32; // Initial size of buffer for a row of tiles.
+    private static final int WRITE_BUFFER_SIZE = 65536; // Size of buffer used when writing files, in bytes.
+    
     // atlas = Contains atlas information.
     // classPath = Path to json file within class structure / package.  Example:  /json/Atlas.json.
     private void loadAtlas(Atlas atlas, String classPath) throws IOException
     {
         
         // The function encapsulates the reading of the atlas JSON file from the specified location.
+        // Streams through the file, adding regions straight to the atlas -- no intermediate hash map tree.
         
+        String fieldName; // Name of current top-level field.
         InputStream in; // Input stream of bytes related to passed path.
-        Map<String, Object> mapJSON; // Hash map containing key / value pairs covering all atlas data -- 
-        // used with JSON.
-        ObjectMapper mapper; // ObjectMapper provides functionality for reading and writing the JSON.
+        int mapCountFile; // Map count read from file.  Used for validation.
+        JsonParser parser; // Streams through the JSON tokens.
+        
+        // Set defaults.
+        mapCountFile = 0;
         
         // Find resource with passed name / path.
         in = getClass().getResourceAsStream(classPath);
         
-        // Initialize Jackson's serialization mapper.
-        mapper = new ObjectMapper();
+        // If resource not found, then...
+        if (in == null)
+            throw new IOException("Resource " + classPath + " not found.");
         
-        // Convert JSON file data (loaded into byte array) to hash map.
-        mapJSON = mapper.readValue(in, HashMap.class);
+        // Initialize parser.
+        parser = new JsonFactory().createParser(in);
         
-        // Load hash map using atlas functionality.
-        atlas.readHashMap(mapJSON);
+        // Try streaming through the file.
+        try {
+            
+            // Move to the top-level object.
+            parser.nextToken();
+            requireObject(parser);
+            
+            // Loop through top-level fields.
+            while (parser.nextToken() == JsonToken.FIELD_NAME)
+            {
+                
+                // Store field name and move to value.
+                fieldName = parser.getCurrentName();
+                parser.nextToken();
+                
+                // Depending on field...
+                switch (fieldName)
+                {
+                    
+                    case "mapCount":
+                        // Store region count.
+                        mapCountFile = parser.getIntValue();
+                        break;
+                        
+                    case "maps":
+                        
+                        // Regions.
+                        requireObject(parser);
+                        
+                        // Loop through regions.
+                        while (parser.nextToken() == JsonToken.FIELD_NAME)
+                        {
+                            // Move to region object and add region to atlas.
+                            parser.nextToken();
+                            readRegion(atlas, parser);
+                        }
+                        
+                        break;
+                        
+                    default:
+                        // Skip field.  Region identifiers get rebuilt from the order of the regions.
+                        parser.skipChildren();
+                        break;
+                        
+                }
+                
+            } // End ... Loop through top-level fields.
+            
+        }
+        
+        // Close parser and input stream, regardless of outcome.
+        finally {
+            parser.close();
+            in.close();
+        }
         
-        // Close input stream.
-        in.close();
+        // If region count differs from file, then...
+        if (mapCountFile != atlas.mapCount)
+            // Region count differs.
+            System.out.println("Warning:  Region counts between file and class differ!");
         
     }
 
@@ -91,26 +192,608 @@ public class JSON_Processor
     {
         
         // The function encapsulates the reading of the atlas items JSON file from the specified location.
-        
+        // Streams through the file, adding items straight to the lists -- no intermediate hash map tree.
+        
+        ArrayList<String> addlItems; // Names of additional items in current chest.
+        HeroineEnum.ItemEnum[] addlItemEnums; // Additional items in current chest.
+        String fieldName; // Name of current field.
+        int fileAlterMapCount; // Number of map alteration events in the file.  Used for validation.
+        int fileBonePileCount; // Number of bone piles in the file.  Used for validation.
+        int fileChestCount; // Number of chests in the file.  Used for validation.
+        int fileHayBaleCount; // Number of hay bales in the file.  Used for validation.
+        int fileLockedDoorCount; // Number of locked doors in the file.  Used for validation.
+        int fileSpecificEnemyCount; // Number of specific enemies in the file.  Used for validation.
         InputStream in; // Input stream of bytes related to passed path.
-        Map<String, Object> mapJSON; // Hash map containing key / value pairs covering atlas items data -- 
-        // used with JSON.
-        ObjectMapper mapper; // ObjectMapper provides functionality for reading and writing the JSON.
+        JsonParser parser; // Streams through the JSON tokens.
+        String[] texts; // Text values of fields in current item.
+        int[] values; // Integer (and boolean) values of fields in current item.
+        
+        // Set defaults.
+        fileAlterMapCount = 0;
+        fileBonePileCount = 0;
+        fileChestCount = 0;
+        fileHayBaleCount = 0;
+        fileLockedDoorCount = 0;
+        fileSpecificEnemyCount = 0;
+        
+        // Initialize holders for item fields, reused across items.
+        values = new int[FIELDS_MAX];
+        texts = new String[FIELDS_MAX];
+        addlItems = new ArrayList<>();
         
         // Find resource with passed name / path.
         in = getClass().getResourceAsStream(classPath);
         
-        // Initialize Jackson's serialization mapper.
-        mapper = new ObjectMapper();
+        // If resource not found, then...
+        if (in == null)
+            throw new IOException("Resource " + classPath + " not found.");
         
-        // Convert JSON file data (loaded into byte array) to hash map.
-        mapJSON = mapper.readValue(in, HashMap.class);
+        // Initialize parser.
+        parser = new JsonFactory().createParser(in);
         
-        // Load hash map using atlas items functionality.
-        atlasItems.readHashMap(mapJSON, regionCount);
+        // Try streaming through the file.
+        try {
+            
+            // Move to the top-level object.
+            parser.nextToken();
+            requireObject(parser);
+            
+            // Loop through top-level fields.
+            while (parser.nextToken() == JsonToken.FIELD_NAME)
+            {
+                
+                // Move to value.
+                parser.nextToken();
+                
+                // If field does not contain the items, then...
+                if (!parser.getCurrentName().equals("items"))
+                {
+                    // Skip field.
+                    parser.skipChildren();
+                    continue;
+                }
+                
+                // Items.
+                requireObject(parser);
+                
+                // Loop through item fields -- counts and item groups.
+                while (parser.nextToken() == JsonToken.FIELD_NAME)
+                {
+                    
+                    // Store field name and move to value.
+                    fieldName = parser.getCurrentName();
+                    parser.nextToken();
+                    
+                    // Depending on field...
+                    switch (fieldName)
+                    {
+                        
+                        case "ALTER_MAP_CNT":
+                            fileAlterMapCount = parser.getIntValue();
+                            break;
+                            
+                        case "BONE_PILE_CNT":
+                            fileBonePileCount = parser.getIntValue();
+                            break;
+                            
+                        case "CHEST_CNT":
+                            fileChestCount = parser.getIntValue();
+                            break;
+                            
+                        case "HAY_BALE_CNT":
+                            fileHayBaleCount = parser.getIntValue();
+                            break;
+                            
+                        case "LOCKED_DOOR_CNT":
+                            fileLockedDoorCount = parser.getIntValue();
+                            break;
+                            
+                        case "SPECIFIC_ENEMY_CNT":
+                            fileSpecificEnemyCount = parser.getIntValue();
+                            break;
+                            
+                        case "ALTER_MAP_EVENTS":
+                            
+                            // Map alteration events.
+                            requireObject(parser);
+                            
+                            // Loop through map alteration events.
+                            while (parser.nextToken() == JsonToken.FIELD_NAME)
+                            {
+                                
+                                // Move to and read map alteration event.
+                                parser.nextToken();
+                                readFields(parser, FIELDS_ALTER_MAP, values, texts, null);
+                                
+                                // If a campaign event, then...
+                                if (values[4] != 0)
+                                    // Campaign event.  Add map alteration event with condition.
+                                    atlasItems.addAlterMap(values[0], values[1], values[2], values[3], texts[5], 
+                                      values[6] != 0);
+                                
+                                else
+                                    // NOT a campaign event.  Add map alteration event.
+                                    atlasItems.addAlterMap(values[0], values[1], values[2], values[3]);
+                                
+                            }
+                            
+                            break;
+                            
+                        case "BONE_PILES":
+                            
+                            // Bone piles.
+                            requireObject(parser);
+                            
+                            // Loop through bone piles.
+                            while (parser.nextToken() == JsonToken.FIELD_NAME)
+                            {
+                                // Move to, read, and add bone pile.
+                                parser.nextToken();
+                                readFields(parser, FIELDS_LOCATION, values, texts, null);
+                                atlasItems.addBonePile(values[0], values[1], values[2]);
+                            }
+                            
+                            break;
+                            
+                        case "CHESTS":
+                            
+                            // Chests.
+                            requireObject(parser);
+                            
+                            // Loop through chests.
+                            while (parser.nextToken() == JsonToken.FIELD_NAME)
+                            {
+                                
+                                // Move to and read chest.
+                                parser.nextToken();
+                                addlItems.clear();
+                                readFields(parser, FIELDS_CHEST, values, texts, addlItems);
+                                
+                                // Convert names of additional items.
+                                addlItemEnums = new HeroineEnum.ItemEnum[addlItems.size()];
+                                
+                                for (int counter = 0; counter < addlItems.size(); counter++)
+                                    addlItemEnums[counter] = HeroineEnum.ItemEnum.valueOf(addlItems.get(counter));
+                                
+                                // Add the chest.
+                                atlasItems.addChest(values[0], values[1], values[2], 
+                                  HeroineEnum.ItemEnum.valueOf(texts[3]), values[4], addlItemEnums);
+                                
+                            }
+                            
+                            break;
+                            
+                        case "HAY_BALES":
+                            
+                            // Hay bales.
+                            requireObject(parser);
+                            
+                            // Loop through hay bales.
+                            while (parser.nextToken() == JsonToken.FIELD_NAME)
+                            {
+                                // Move to, read, and add hay bale.
+                                parser.nextToken();
+                                readFields(parser, FIELDS_LOCATION, values, texts, null);
+                                atlasItems.addHayBale(values[0], values[1], values[2]);
+                            }
+                            
+                            break;
+                            
+                        case "LOCKED_DOORS":
+                            
+                            // Locked doors.
+                            requireObject(parser);
+                            
+                            // Loop through locked doors.
+                            while (parser.nextToken() == JsonToken.FIELD_NAME)
+                            {
+                                // Move to, read, and add locked door.
+                                parser.nextToken();
+                                readFields(parser, FIELDS_LOCATION, values, texts, null);
+                                atlasItems.addLockedDoor(values[0], values[1], values[2]);
+                            }
+                            
+                            break;
+                            
+                        case "SPECIFIC_ENEMIES":
+                            
+                            // Specific enemies.
+                            requireObject(parser);
+                            
+                            // Loop through specific enemies.
+                            while (parser.nextToken() == JsonToken.FIELD_NAME)
+                            {
+                                // Move to, read, and add specific enemy.
+                                parser.nextToken();
+                                readFields(parser, FIELDS_SPECIFIC_ENEMY, values, texts, null);
+                                atlasItems.addSpecificEnemy(values[0], values[1], values[2], 
+                                  HeroineEnum.EnemyEnum.valueOf(texts[3]));
+                            }
+                            
+                            break;
+                            
+                        default:
+                            // Skip unknown field.
+                            parser.skipChildren();
+                            break;
+                            
+                    }
+                    
+                } // End ... Loop through item fields.
+                
+            } // End ... Loop through top-level fields.
+            
+        }
+        
+        // Close parser and input stream, regardless of outcome.
+        finally {
+            parser.close();
+            in.close();
+        }
         
-        // Close input stream.
-        in.close();
+        // Store item information by region and validate counts.
+        atlasItems.finishRead(regionCount, fileAlterMapCount, fileBonePileCount, fileChestCount, 
+          fileHayBaleCount, fileLockedDoorCount, fileSpecificEnemyCount);
+        
+    }
+    
+    // parser = Streaming JSON parser, positioned at the start of an object.
+    // fieldNames = Names of fields to read.
+    // values = Receives integer values (booleans as 1 / 0), at the position of the field in fieldNames.
+    // texts = Receives text values, at the position of the field in fieldNames.
+    // list = Receives the text values from any array field.  Null when no array fields expected.
+    private static void readFields(JsonParser parser, String[] fieldNames, int[] values, String[] texts, 
+      ArrayList<String> list) throws IOException
+    {
+        
+        // The function reads the fields of the current object into the passed holders.
+        // Fields missing from the object read as 0 / null.  Fields not in fieldNames get skipped.
+        
+        int index; // Position of current field in fieldNames.
+        JsonToken token; // Token for value of current field.
+        
+        // Confirm object.
+        requireObject(parser);
+        
+        // Reset holders.
+        Arrays.fill(values, 0);
+        Arrays.fill(texts, null);
+        
+        // Loop through fields in object.
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            
+            // Find position of field in list.
+            index = Arrays.asList(fieldNames).indexOf(parser.getCurrentName());
+            
+            // Move to value.
+            token = parser.nextToken();
+            
+            // Depending on type of value, store value.
+            if (token == JsonToken.START_ARRAY && list != null)
+            {
+                
+                // Array of text values.
+                
+                // Loop through array elements.
+                while (parser.nextToken() != JsonToken.END_ARRAY)
+                    list.add(parser.getText());
+                
+            }
+            
+            else if (index < 0 || token.isStructStart())
+                // Unknown field or unexpected structure.  Skip.
+                parser.skipChildren();
+            
+            else if (token == JsonToken.VALUE_NUMBER_INT)
+                values[index] = parser.getIntValue();
+            
+            else if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE)
+                values[index] = token == JsonToken.VALUE_TRUE ? 1 : 0;
+            
+            else if (token == JsonToken.VALUE_STRING)
+                texts[index] = parser.getText();
+            
+        }
+        
+    }
+    
+    // atlas = Contains atlas information.
+    // parser = Streaming JSON parser, positioned at the start of a region object.
+    private static void readRegion(Atlas atlas, JsonParser parser) throws IOException
+    {
+        
+        // The function reads a region and adds it to the atlas.
+        // Tile rows go straight into the packed tile grid of the region when the name, size, music, 
+        // background, and enemies precede the tiles in the file (always the case for files written by 
+        // saveAtlas, which orders keys).  Otherwise, the rows wait in a buffer until the region exists.
+        // Exits, shops, and side tiles wait in small buffers, since the region must exist to add them.
+        
+        ArrayList<HeroineEnum.EnemyEnum> enemies; // Enemies in region.
+        ArrayList<int[]> exits; // Exits in region -- EXIT_X, EXIT_Y, DEST_MAP, DEST_X, DEST_Y.
+        String fieldName; // Name of current field.
+        int[] header; // Integer values of the region header -- regionWidth, regionHeight, and regionNbr.
+        String[] headerTexts; // Text values of the region header -- regionName, regionMusic, regionBackground.
+        RegionMap region; // Region added to the atlas.  Null until the header has been read.
+        int[] rowBuffer; // Tiles in current row.  Reused across rows.
+        int rowNbr; // Number of current row.  Base 1.
+        ArrayList<int[]> rows; // Rows read before the region existed -- row number (base 1), then tiles.
+        ArrayList<HeroineEnum.ShopEnum> shopIds; // Identifiers of shops in region (matching list, shops).
+        ArrayList<int[]> shops; // Shops in region -- EXIT_X, EXIT_Y, DEST_X, DEST_Y.
+        ArrayList<int[]> sideTiles; // Side tiles in region -- direction (position in FIELDS_SIDES), X, Y, TILE.
+        int tileCount; // Number of tiles in current row.
+        String[] texts; // Text values of fields in current exit, shop, or side tile.
+        int[] values; // Integer values of fields in current exit, shop, or side tile.
+        
+        // Initialize holders.
+        enemies = new ArrayList<>();
+        exits = new ArrayList<>();
+        header = new int[] {0, 0, -1};
+        headerTexts = new String[3];
+        region = null;
+        rowBuffer = new int[ROW_BUFFER_INITIAL];
+        rows = new ArrayList<>();
+        shopIds = new ArrayList<>();
+        shops = new ArrayList<>();
+        sideTiles = new ArrayList<>();
+        texts = new String[FIELDS_MAX];
+        values = new int[FIELDS_MAX];
+        
+        // Confirm object.
+        requireObject(parser);
+        
+        // Loop through fields in region.
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            
+            // Store field name and move to value.
+            fieldName = parser.getCurrentName();
+            parser.nextToken();
+            
+            // Depending on field...
+            switch (fieldName)
+            {
+                
+                case "regionName":
+                    headerTexts[0] = parser.getText();
+                    break;
+                    
+                case "regionMusic":
+                    headerTexts[1] = parser.getText();
+                    break;
+                    
+                case "regionBackground":
+                    headerTexts[2] = parser.getText();
+                    break;
+                    
+                case "regionWidth":
+                    header[0] = parser.getIntValue();
+                    break;
+                    
+                case "regionHeight":
+                    header[1] = parser.getIntValue();
+                    break;
+                    
+                case "regionNbr":
+                    header[2] = parser.getIntValue();
+                    break;
+                    
+                case "enemies":
+                    
+                    // Enemies.
+                    requireObject(parser);
+                    
+                    // Loop through enemies, adding each to list.
+                    while (parser.nextToken() == JsonToken.FIELD_NAME)
+                    {
+                        parser.nextToken();
+                        enemies.add(HeroineEnum.EnemyEnum.valueOf(parser.getText()));
+                    }
+                    
+                    break;
+                    
+                case "exits":
+                    
+                    // Exits.
+                    requireObject(parser);
+                    
+                    // Loop through exits, adding each to buffer.
+                    while (parser.nextToken() == JsonToken.FIELD_NAME)
+                    {
+                        parser.nextToken();
+                        readFields(parser, FIELDS_EXIT, values, texts, null);
+                        exits.add(Arrays.copyOf(values, FIELDS_EXIT.length));
+                    }
+                    
+                    break;
+                    
+                case "shops":
+                    
+                    // Shops.
+                    requireObject(parser);
+                    
+                    // Loop through shops, adding each to buffer.
+                    while (parser.nextToken() == JsonToken.FIELD_NAME)
+                    {
+                        parser.nextToken();
+                        readFields(parser, FIELDS_SHOP, values, texts, null);
+                        shops.add(Arrays.copyOf(values, FIELDS_SHOP.length));
+                        shopIds.add(HeroineEnum.ShopEnum.valueOf(texts[4]));
+                    }
+                    
+                    break;
+                    
+                case "north_side_tiles":
+                case "south_side_tiles":
+                case "east_side_tiles":
+                case "west_side_tiles":
+                    
+                    // Side tiles.
+                    requireObject(parser);
+                    
+                    // Loop through side tiles, adding each to buffer (direction first).
+                    while (parser.nextToken() == JsonToken.FIELD_NAME)
+                    {
+                        parser.nextToken();
+                        readFields(parser, FIELDS_SIDE_TILE, values, texts, null);
+                        sideTiles.add(new int[] {Arrays.asList(FIELDS_SIDES).indexOf(fieldName), values[0], 
+                          values[1], values[2]});
+                    }
+                    
+                    break;
+                    
+                case "tiles":
+                    
+                    // Tiles.
+                    requireObject(parser);
+                    
+                    // If header complete and region not yet added, then...
+                    if (region == null && headerTexts[0] != null && headerTexts[1] != null && 
+                      headerTexts[2] != null && header[0] > 0 && header[1] > 0)
+                        // Add region, so that rows can go straight into its tile grid.
+                        region = addRegion(atlas, header, headerTexts, enemies);
+                    
+                    // Loop through rows.
+                    while (parser.nextToken() == JsonToken.FIELD_NAME)
+                    {
+                        
+                        // Store row number from key (ROW_01 = 1, ...).
+                        rowNbr = Integer.parseInt(parser.getCurrentName().substring(
+                          parser.getCurrentName().indexOf('_') + 1));
+                        
+                        // Move to start of row.
+                        parser.nextToken();
+                        
+                        // Reset tile count.
+                        tileCount = 0;
+                        
+                        // Loop through tiles in row.
+                        while (parser.nextToken() != JsonToken.END_ARRAY)
+                        {
+                            
+                            // If buffer full, then...
+                            if (tileCount == rowBuffer.length)
+                                // Buffer full.  Double size.
+                                rowBuffer = Arrays.copyOf(rowBuffer, rowBuffer.length * 2);
+                            
+                            // Store tile.
+                            rowBuffer[tileCount] = parser.getIntValue();
+                            tileCount++;
+                            
+                        }
+                        
+                        // If region exists, then...
+                        if (region != null)
+                            // Region exists.  Copy row straight to tile grid.
+                            region.getRegionTiles().setRow(rowNbr - 1, rowBuffer, tileCount);
+                        
+                        else
+                        {
+                            
+                            // Region does not exist yet.  Store row, preceded by row number.
+                            rows.add(new int[tileCount + 1]);
+                            rows.get(rows.size() - 1)[0] = rowNbr;
+                            System.arraycopy(rowBuffer, 0, rows.get(rows.size() - 1), 1, tileCount);
+                            
+                        }
+                        
+                    } // End ... Loop through rows.
+                    
+                    break;
+                    
+                default:
+                    // Skip field.  Counts get rebuilt as exits, shops, and side tiles get added.
+                    parser.skipChildren();
+                    break;
+                    
+            }
+            
+        } // End ... Loop through fields in region.
+        
+        // If region not yet added, then...
+        if (region == null)
+        {
+            
+            // Region not yet added.
+            
+            // Add region.
+            region = addRegion(atlas, header, headerTexts, enemies);
+            
+            // Loop through buffered rows, copying each to tile grid.
+            for (int[] row : rows)
+                region.getRegionTiles().setRow(row[0] - 1, Arrays.copyOfRange(row, 1, row.length), 
+                  row.length - 1);
+            
+        }
+        
+        // Loop through exits, adding each to region.
+        for (int[] exit : exits)
+            region.addRegionExit(exit[0], exit[1], exit[2], exit[3], exit[4]);
+        
+        // Loop through shops, adding each to region.
+        for (int counter = 0; counter < shops.size(); counter++)
+            region.addRegionShop(shops.get(counter)[0], shops.get(counter)[1], shopIds.get(counter), 
+              shops.get(counter)[2], shops.get(counter)[3]);
+        
+        // Loop through side tiles, adding each to region.
+        for (int[] sideTile : sideTiles)
+        {
+            
+            // Depending on direction, add side tile.
+            switch (sideTile[0])
+            {
+                case 0:
+                    region.addTile_North(sideTile[1], sideTile[2], sideTile[3]);
+                    break;
+                case 1:
+                    region.addTile_South(sideTile[1], sideTile[2], sideTile[3]);
+                    break;
+                case 2:
+                    region.addTile_East(sideTile[1], sideTile[2], sideTile[3]);
+                    break;
+                default:
+                    region.addTile_West(sideTile[1], sideTile[2], sideTile[3]);
+                    break;
+            }
+            
+        }
+        
+    }
+    
+    // atlas = Contains atlas information.
+    // header = Integer values of the region header -- regionWidth, regionHeight, and regionNbr (-1 if none).
+    // headerTexts = Text values of the region header -- regionName, regionMusic, regionBackground.
+    // enemies = Enemies in region.
+    private static RegionMap addRegion(Atlas atlas, int[] header, String[] headerTexts, 
+      ArrayList<HeroineEnum.EnemyEnum> enemies) throws IOException
+    {
+        
+        // The function adds a region to the atlas, based on the passed header values.
+        // The function returns the region.
+        
+        // If any part of header missing, then...
+        if (headerTexts[0] == null || headerTexts[1] == null || headerTexts[2] == null)
+            throw new IOException("Region missing name, music, or background.");
+        
+        System.out.println("\nLoading information for region, " + headerTexts[0]);
+        
+        // Add region -- numbered as in the file or, when missing, after the existing regions -- and return it.
+        return atlas.addMap(header[2] >= 0 ? header[2] : atlas.mapCount, headerTexts[0], 
+          HeroineEnum.MusicEnum.valueOf(headerTexts[1]), header[0], header[1], 
+          HeroineEnum.ImgBackgroundEnum.valueOf(headerTexts[2]), 
+          enemies.toArray(new HeroineEnum.EnemyEnum[enemies.size()]));
+        
+    }
+    
+    // parser = Streaming JSON parser.
+    private static void requireObject(JsonParser parser) throws IOException
+    {
+        
+        // The function confirms that the parser sits at the start of an object.
+        
+        // If parser not at start of object, then...
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT)
+            throw new JsonParseException(parser, "Expected object, found " + parser.getCurrentToken() + ".");
         
     }
 
@@ -232,43 +915,45 @@ public class JSON_Processor
         
     }
     
-    // atlas = Contains atlas information.
-    // filename = Filename to use when saving atlas, including full path.
-    private void writeAtlas(Atlas atlas, String filename) throws IOException
+    // filename = Filename to use when saving, including full path.
+    private static JsonGenerator openGenerator(String filename) throws IOException
     {
         
-        // The function saves the atlas as a JSON file to the specified location.
-        
-        ObjectMapper mapper; // ObjectMapper provides functionality for reading and writing the JSON.
-        Map<String, Object> map; // Hash map containing all data to write to file.
-        String mapJSON; // JSON text containing all information from hash map.
-        
-        // Initialize hash map.
-        map = new HashMap<>();
+        // The function opens the passed file for writing and returns a pretty-printing JSON generator that 
+        // streams to it through a buffer.  Closing the generator closes the file.
         
-        // Populate atlas hash map.
-        atlas.populateHashMap();
+        FileChannel channel; // Channel used to write the file.
+        JsonGenerator generator; // Generator to return.
         
-        // Add region count to hash map.
-        map.put("mapCount", atlas.mapCount);
+        // Open file, replacing any existing contents.
+        channel = FileChannel.open(Paths.get(filename), StandardOpenOption.CREATE, 
+          StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
         
-        // Add region identifier list.
-        map.put("mapIdentifiers", atlas.mapIdentifiers);
+        // Create generator, writing UTF-8 through a buffer to the file.
+        generator = new JsonFactory().createGenerator(new BufferedOutputStream(Channels.newOutputStream(channel), 
+          WRITE_BUFFER_SIZE), JsonEncoding.UTF8);
         
-        // Add other atlas details.
-        map.put("maps", atlas.mapJSON);
+        // Indent output, matching the layout of the files shipped with the game.
+        generator.useDefaultPrettyPrinter();
         
-        // Initialize Jackson's serialization mapper.
-        mapper = new ObjectMapper();
+        // Return generator.
+        return generator;
         
-        // Order by keys.
-        mapper.configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+    }
+    
+    // atlas = Contains atlas information.
+    // filename = Filename to use when saving atlas, including full path.
+    private void writeAtlas(Atlas atlas, String filename) throws IOException
+    {
         
-        // Convert from hash map to JSON text.
-        mapJSON = mapper.writerWithDefaultPrettyPrinter().writeValueAsString(map);
+        // The function saves the atlas as a JSON file to the specified location.
+        // Regions stream straight to the file one at a time (see Atlas.writeJSON), so the extra memory used 
+        // stays constant regardless of the size of the atlas.
         
-        // Write the JSON text to the file.
-        FileRoutines.writeUsingBufferedWriter(mapJSON, filename);
+        // Write file.
+        try (JsonGenerator generator = openGenerator(filename)) {
+            atlas.writeJSON(generator);
+        }
         
     }
     
@@ -278,32 +963,19 @@ public class JSON_Processor
     {
         
         // The function saves the atlas item information as a JSON file to the specified location.
+        // Items stream straight to the file (see AtlasItems.writeJSON).
         
-        ObjectMapper mapper; // ObjectMapper provides functionality for reading and writing the JSON.
-        Map<String, Object> map; // Hash map containing all data to write to file.
-        String mapJSON; // JSON text containing all information from hash map.
-        
-        // Initialize hash map.
-        map = new HashMap<>();
-        
-        // Populate atlas items hash map.
-        atlasItems.populateHashMap();
-        
-        // Add atlas item details.
-        map.put("items", atlasItems.getMapJSON());
-        
-        // Initialize Jackson's serialization mapper.
-        mapper = new ObjectMapper();
-        
-        // Order by keys.
-        mapper.configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
-        
-        // Convert from hash map to JSON text.
-        mapJSON = mapper.writerWithDefaultPrettyPrinter().writeValueAsString(map);
-        
-        // Write the JSON text to the file.
-        FileRoutines.writeUsingBufferedWriter(mapJSON, filename);
+        // Write file.
+        try (JsonGenerator generator = openGenerator(filename)) {
+            
+            // Write atlas items, within the items object.
+            generator.writeStartObject();
+            generator.writeFieldName("items");
+            atlasItems.writeJSON(generator);
+            generator.writeEndObject();
+            
+        }
         
     }
     
-}
\ No newline at end of file
+}
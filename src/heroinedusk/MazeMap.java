@@ -1,8 +1,14 @@
 package heroinedusk;
 
 // LibGDX imports.
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.scenes.scene2d.Action;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.EventListener;
@@ -16,15 +22,20 @@ import core.BaseActor;
 import core.CoreEnum;
 import core.ShakyActor;
 import gui.CustomLabel;
+import routines.RandomSource;
 import routines.UtilityRoutines;
 
 // Java imports.
-import java.security.SecureRandom;
-import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 /*
 Interface (implements) vs Sub-Class (extends)...
@@ -70,6 +81,19 @@ public class MazeMap
     8.  In function, mazemap_render, when tile in front of player is NOT a locked door, sets color to 
         Color.DARK_GRAY.
     
+    Region transitions:
+    1.  After each move, ExploreScreen calls prepareNearbyExits.  For each exit within EXIT_PREPARE_STEPS 
+        steps, the destination region (loaded through the atlas) and its minimap layout get built on a 
+        background thread.
+    2.  Walking through the exit then swaps in the prepared state (reset).  Without a finished, current 
+        state, reset builds it on the spot, as before.
+    3.  The baked minimap needs the OpenGL context, so it still gets built on the render thread (on the first 
+        minimap render in the new region).
+    
+    Inner classes include:
+    
+    RegionState:  Stores the state needed to show a region, built ahead of entering it.
+    
     Methods include:
     
     acquireChestContents:  Gives the contents of the chest(s) at the passed location to the player.
@@ -77,6 +101,10 @@ public class MazeMap
     addEvent_ChestActor:  Adds events to the passed chest-related tile (BaseActor).
     addEvent_LockActor:  Adds events to the passed lock related tile (BaseActor).
     addEvent_TreasureActor:  Adds events to the passed treasure actor and label.
+    artPosition:  Returns the tile position (in the tile art) for the passed place in the view cone.
+    buildRegionState:  Builds the state needed to show the passed region.
+    buildViewCone:  Builds the lookup tables with the change in position for each view cone slot.
+    canEnter:  Returns whether the player can enter the passed location through the passed side.
     check_random_encounter:  Checks and returns whether a random encounter occurs.  Performs
 	  initialization related to any random encounter that occurs.
     determine_treasure_label_pos_y:  Places the treasure label.
@@ -97,13 +125,18 @@ public class MazeMap
     mazemap_render_tile:  Returns a base actor representing the passed tile in the passed location.
     mazemap_render_tile_side:  Returns an enumerated value (integer) representing the (side) tile 
       in the passed location.  Actually shows the side of the adjacent tile facing the player.
+    minimap_bake:  Renders the static portion of the minimap for the current map / region into a 
+      frame buffer (cached by map_id).
+    minimap_dispose:  Disposes of the baked minimaps and the batch used to draw them.
     minimap_render:  Returns the icons used to render the minimap for the current map / region.
+    prepareNearbyExits:  Starts building the state for the destinations of nearby exits in the background.
     prepareSpecialTiles:  Configures properties for the special tile actors, such as the chest, 
 	  bone pile, and lock.
     render_gold:  Displays the current gold pile (only the actors necessary to add up to the 
 	  desired quantity).
     render_treasure_first:  Updates the image and placement for the treasure actor and label.
     render_treasure_label:  Updates the treasure description and position in the associated label.
+    takeRegionState:  Returns the prepared state for the passed region or builds it now.
     transformChestTile:  Transforms the tile associated with the chest at the passed location.
       Effectively replaces the tile with its equivalent in the background -- removing the chest.
     */
@@ -120,13 +153,20 @@ public class MazeMap
       // index in array list (value).  Array list = goldPile.
     private final HashMap<HeroineEnum.MinimapCursorEnum, TextureRegion> minimapCursorRegions; // Unique set of
       // texture regions used with minimap cursors.
-    private final HashMap<HeroineEnum.MinimapEnum, TextureRegion> minimapRegions; // Unique set of texture
-      // regions used with minimap.
+    private SpriteBatch minimapBatch; // Batch used to bake minimaps into frame buffers.  Created on first use.
+    private final MinimapCache minimapCache; // Baked (static) minimaps for recently visited regions.
     private final ArrayList<ArrayList<Float>> minimapDestX; // X-coordinates for destination of icons in stage.
     private final ArrayList<ArrayList<Float>> minimapDestY; // Y-coordinates for destination of icons in stage.
-    private final ArrayList<ArrayList<Integer>> regionTiles; // List of tiles composing the current region.
-      // Example for use -- get(x).get(y):  Integer x = regionTiles.get(0).get(0);
+    private final HashMap<Integer, Future<RegionState>> preparedStates; // Region states being built or built 
+      // for the destinations of nearby exits.  Key = map_id.
+    private final ExecutorService regionPreparer; // Single background thread used to build region states.
+    private TileGrid regionTiles; // Packed grid of tiles composing the current region.
+      // Example for use -- getTile(x, y):  int tileNbr = regionTiles.getTile(0, 0);
     private final ArrayList<Boolean> tileActiveInd; // Whether each tile is active.
+    private final String[] tileActorNames; // Names of actors for tiles, by position.  Built once, so that
+      // rendering avoids building strings.
+    private final String[] viewVirtualString; // Virtual text last applied to each view tile actor, by tile 
+      // position.
     
     // Declare regular variables.
     private boolean bonePileActiveInd; // Whehter bone pile in square in front of player enabled.
@@ -139,6 +179,8 @@ public class MazeMap
     private final float dest_y[]; // Array holding Y-coordinate (relative to the bottom left corner) to display
       // tile texture region in stage -- adjusted by scale factor.  Excludes render offset.
     private int encounter_chance; // Current encounter chance -- increases (to a point) until combat occurs.
+    private boolean incrementalRenderInd; // Whether to render view tiles incrementally -- only touching actors
+      // whose tile number or metadata changed since the previous render.
     private boolean goldPileActiveInd; // Whether gold pile active.
     private final boolean[] goldVisibleList; // Whether each gold actor visible.
     private boolean lockedDoorActiveInd; // Whether locked door in square in front of (NOT UNDER) player enabled.
@@ -148,22 +190,36 @@ public class MazeMap
     private float minimapOffsetY; // Y-coordinate of lower left corner of minimap.
     private float minimapHeight; // Height of the minimap, including the background.
     private float minimapWidth; // Width of the minimap, including the background.
-    private final SecureRandom number; // Used for generating random numbers.
+    private final RandomSource number; // Used for generating random numbers (encounter stream).
     private String regionName; // Name of current region / map location.
       // Maps to one of the integers in the mapIdentifiers object in the atlas.
     private HeroineEnum.MusicEnum current_song; // Song associated with the current region / map location.
     private int regionHeight; // Region height, in tiles.
     private int regionWidth; // Region width, in tiles.
+    private boolean viewCacheValidInd; // Whether viewTileNbr and viewVirtualString match the view tile actors.
+    private int[][] viewConeDx; // Change in x-coordinate from player for each slot in view cone.
+      // Indices = [direction facing (FacingEnum value)][slot].  Slot doubles as draw order and tile position.
+    private int[][] viewConeDy; // Change in y-coordinate from player for each slot in view cone.
+      // Indices = [direction facing (FacingEnum value)][slot].  Slot doubles as draw order and tile position.
+    private int[] viewConePosition; // Tile position (TileRegionEnum value) for each slot in view cone.
+      // Index = slot.  Matches the slot in the view cone covered by the tile art (ART_CONE_WIDTH x 
+      // ART_CONE_DEPTH).
+    private int viewConeSlotCount; // Number of slots (tiles) in view cone.  Derived from the view cone size in 
+      // the configuration.
+    private final int[] viewTileNbr; // Tile number last applied to each view tile actor, by tile position.
+      // VIEW_TILE_HIDDEN when actor hidden.
     
     // Declare constants.
+    private static final int ART_CONE_DEPTH = 3; // Depth of view cone covered by the tile art, in tiles.
+    private static final int ART_CONE_WIDTH = 5; // Width of view cone covered by the tile art, in tiles.
     private final boolean ALLOW_ENCOUNTERS = true; // Whether to allow encounters / combat.
     private final Color COLOR_MED_GRAY = new Color(0.50f, 0.50f, 0.50f, 1);
     private final int ENCOUNTER_INCREMENT = 5; // Amount by which encounter chance increases.
     private final int ENCOUNTER_MAX = 30; // Maximum encounter chance.
-    private final String decFormatText000 = "000"; // Text used for decimal style used to format numbers as 000.
-      // Examples:  1 > 001, 2 > 002, ...
-    private final DecimalFormat decimalFormat000 = new DecimalFormat(decFormatText000); // Decimal style used to
-      // format numbers as 000.  Examples:  1 > 001, 2 > 002, ...
+    private final int EXIT_PREPARE_STEPS = 3; // Distance (in steps) from an exit at which to start preparing 
+      // the destination region.
+    private final float MINIMAP_BORDER = 3f; // Width of minimap background visible around icons.
+    private final int MINIMAP_CACHE_SIZE = 4; // Number of baked minimaps (regions) to keep.
     private final int TILE_COUNT = 25; // Number of tile actors.
     private final int TILE_COUNT_BASE_0 = 24; // Number of tile actors, base 0.
     private final int TILE_POS_SPECIAL_START = 13; // Starting index of special (constant) tiles.
@@ -176,6 +232,7 @@ public class MazeMap
       // treasure.
     private final int TREASURE_POS_SAME_SQ_Y = 1; // Y-coordinate at which to place treasure when in same square 
       // as player.  Adjusted by scale factor.
+    private final int VIEW_TILE_HIDDEN = -1; // Value in viewTileNbr for view tile actors not shown.
     
     // hdg = Reference to Heroine Dusk (main) game.
     // map_id = Current map section in which player resides.
@@ -217,8 +274,8 @@ public class MazeMap
         goldPileActiveInd = false;
         goldVisibleList =  new boolean[]{false, false, false, false, false, false, false, false, false, false};
         
-        // Start random number generator.
-        number = new SecureRandom();
+        // Store reference to random number stream for encounters.
+        number = hdg.getRandom().getStream(HeroineEnum.RandomStreamEnum.RND_STREAM_ENCOUNTER);
         
         // Disable events for objects in square in front of player (position 9).
         bonePileActiveInd = false;
@@ -227,21 +284,49 @@ public class MazeMap
         
         // Initialize array lists.
         goldActions = new ArrayList<>();
-        regionTiles = new ArrayList<>();
         minimapDestX = new ArrayList<>();
         minimapDestY = new ArrayList<>();
+        preparedStates = new HashMap<>();
+        
+        // Start background thread used to prepare regions, allowing the game to exit without stopping it.
+        regionPreparer = Executors.newSingleThreadExecutor(new ThreadFactory()
+            {
+                
+                @Override
+                public Thread newThread(Runnable runnable)
+                {
+                    
+                    Thread thread; // Background thread.
+                    
+                    // Create background thread.
+                    thread = new Thread(runnable, "region-prepare");
+                    thread.setDaemon(true);
+                    
+                    // Return background thread.
+                    return thread;
+                    
+                }
+                
+            });
         chestOtherItems = new ArrayList<>();
         chestOtherItemsQty = new ArrayList<>();
         tileActiveInd = new ArrayList<>();
         
         // Initialize hash maps.
         goldXRef = new HashMap<>();
-        minimapRegions = new HashMap<>();
         minimapCursorRegions = new HashMap<>();
         
+        // Initialize cache of baked minimaps.
+        minimapCache = new MinimapCache(MINIMAP_CACHE_SIZE);
+        
         // Allocate space for arrays and array lists.
         dest_x = new float[HeroineEnum.TileRegionEnum.values().length];
         dest_y = new float[HeroineEnum.TileRegionEnum.values().length];
+        tileActorNames = new String[HeroineEnum.TileRegionEnum.values().length];
+        
+        // Enable incremental rendering of view tiles, starting with a full render.
+        incrementalRenderInd = true;
+        viewCacheValidInd = false;
         
         // 2.  Store reference to main game class.
         gameHD = hdg;
@@ -273,12 +358,12 @@ public class MazeMap
         regionName = atlas.mapIdentifiersRev.get(this.map_id);
         
         // 7.  Store reference to current region / map.
-        this.currentRegion = atlas.maps.get(regionName);
+        this.currentRegion = atlas.getRegionMap(this.map_id);
         
         System.out.println("Current region: " + regionName);
         
-        // 8.  Copy tiles for current region. -- Actually, stores references.
-        regionTiles.addAll(currentRegion.getRegionTiles());
+        // 8.  Store reference to packed tile grid for current region.
+        regionTiles = currentRegion.getRegionTiles();
         
         // 9.  Copy current region width and height -- in tiles.
         regionWidth = currentRegion.getRegionWidth();
@@ -299,21 +384,23 @@ public class MazeMap
             dest_x[counter] = tileRegionEnum.getValue_Dest_X() * gameHD.getConfig().getScale();
             dest_y[counter] = tileRegionEnum.getValue_Dest_Y() * gameHD.getConfig().getScale();
             
+            // Store name for actor at position.
+            tileActorNames[counter] = "TilePos_" + Integer.toString(counter);
+            
             // Increment counter.
             counter++;
             
         }
         
-        // 11.  Populate hash maps with unique texture regions used with minimap.
+        // Build view cone lookup tables, using view cone size from configuration.
+        buildViewCone(gameHD.getConfig().getViewConeWidth(), gameHD.getConfig().getViewConeDepth());
         
-        // Loop through minimap enumerated values.
-        for (HeroineEnum.MinimapEnum minimapEnum : HeroineEnum.MinimapEnum.values())
-        {
-            
-            // Add texture region to hash map.
-            minimapRegions.put(minimapEnum, gameHD.getAssetMgr().getTextureRegion(minimapEnum.getValue_Key()));
-            
-        }
+        // Allocate space for cached view tile information, one entry per tile position in the tile art.
+        viewTileNbr = new int[TILE_POS_SPECIAL_START];
+        viewVirtualString = new String[TILE_POS_SPECIAL_START];
+        
+        // 11.  Populate hash map with unique texture regions used with minimap cursors.
+        // Note:  Minimap icons come from the asset manager by handle (see AssetMgr.getMinimapRegionHandle).
         
         // Loop through minimap cursor enumerated values.
         for (HeroineEnum.MinimapCursorEnum minimapCursorEnum : HeroineEnum.MinimapCursorEnum.values())
@@ -326,7 +413,8 @@ public class MazeMap
         }
         
         // 12.  Store minimap icon size.
-        minimapIconSize = minimapRegions.get(HeroineEnum.MinimapEnum.MINIMAP_BLOCK_BLACK).getRegionWidth();
+        minimapIconSize = gameHD.getAssetMgr().getTextureRegion(
+          AssetMgr.getMinimapRegionHandle(HeroineEnum.MinimapEnum.MINIMAP_BLOCK_BLACK)).getRegionWidth();
         
         // 13.  Calculate minimap offset (lower left corner) based on scale.
         minimapOffsetX = 2f * gameHD.getConfig().getScale();
@@ -744,9 +832,9 @@ public class MazeMap
                                 draw_treasure_first(treasureImageInd, tiles, goldPile, treasureLabel, viewWidth, 1.00f, 
                                   regionLabel );
 
-                                // 7.  Remove chests from array list and hash map in atlas items.
+                                // 7.  Remove chests from array list and index in atlas items.
 
-                                // Set chests in array list inactive and remove entry hash map associated with
+                                // Set chests in array list inactive and remove entry from index associated with
                                 // current location.
                                 gameHD.getAtlasItems().removeChests(chestList, map_id, posX, posY);
 
@@ -1254,6 +1342,141 @@ public class MazeMap
         
     }
     
+    // fwd = Number of rows ahead of player.  0 = Row with player.
+    // lateral = Number of tiles to the side of center.
+    // rightInd = Whether to the right of center (rather than left or center).
+    private static int artPosition(int fwd, int lateral, boolean rightInd)
+    {
+        
+        // The function returns the tile position (TileRegionEnum value) for the passed place in the view 
+        // cone covered by the tile art -- its slot, counting in the order described in buildViewCone.
+        
+        int position; // Tile position.
+        
+        // Set defaults.
+        position = 0;
+        
+        // Count tiles in rows farther from player -- full width for rows ahead, two fewer for row with player.
+        for (int row = ART_CONE_DEPTH - 1; row > fwd; row--)
+            position += (row > 0) ? ART_CONE_WIDTH : ART_CONE_WIDTH - 2;
+        
+        // Count tiles farther out in the same row -- two (left and right) for each step from center.
+        position += 2 * (((fwd > 0) ? ART_CONE_WIDTH / 2 : (ART_CONE_WIDTH / 2) - 1) - lateral);
+        
+        // Return tile position, with the right tile following the left one.
+        return rightInd ? position + 1 : position;
+        
+    }
+    
+    // coneWidth = Width of view cone, in tiles, for rows ahead of player.  Must be odd.
+    // coneDepth = Depth of view cone, in tiles, including row with player.
+    private void buildViewCone(int coneWidth, int coneDepth)
+    {
+        
+        // The function builds the view cone lookup tables -- the change in position from the player for 
+        // each slot, by direction facing, and the tile position for each slot.
+        // Slots run from the back (farthest) row to the row with the player.  Within each row, slots run 
+        // from the outer edges inward, alternating left and right and ending with the center.  The order 
+        // matches the draw order (far to near, outside to inside).
+        // Each slot maps to the tile position in the tile art with the same place relative to the player, so 
+        // narrower or shallower cones draw a subset of the tile art.  Wider or deeper cones need additional 
+        // tile positions (texture regions and actors), so the function throws an IllegalArgumentException 
+        // for them.
+        
+        int fwdX; // Change in x-coordinate when moving forward.
+        int fwdY; // Change in y-coordinate when moving forward.
+        int halfWidth; // Number of tiles to either side of center in current row.
+        int rightX; // Change in x-coordinate when moving to the right.
+        int rightY; // Change in y-coordinate when moving to the right.
+        int slot; // Slot being populated.
+        int slotCount; // Number of slots in requested view cone.
+        
+        // Count slots in requested view cone -- full width for rows ahead, two fewer for row with player.
+        slotCount = (coneWidth * (coneDepth - 1)) + (coneWidth - 2);
+        
+        // If requested view cone invalid or not covered by the tile art, then...
+        if (coneWidth < 3 || coneWidth % 2 == 0 || coneWidth > ART_CONE_WIDTH || coneDepth < 1 || 
+          coneDepth > ART_CONE_DEPTH)
+            // Requested view cone invalid or not covered by the tile art.
+            throw new IllegalArgumentException("View cone " + coneWidth + " x " + coneDepth + " not covered " + 
+              "by the tile art (odd width from 3 to " + ART_CONE_WIDTH + ", depth from 1 to " + ART_CONE_DEPTH + 
+              ").");
+        
+        // Store slot count.
+        viewConeSlotCount = slotCount;
+        
+        // Initialize lookup tables.
+        viewConeDx = new int[HeroineEnum.FacingEnum.values().length][slotCount];
+        viewConeDy = new int[HeroineEnum.FacingEnum.values().length][slotCount];
+        viewConePosition = new int[slotCount];
+        
+        // Loop through directions.
+        for (HeroineEnum.FacingEnum facing : HeroineEnum.FacingEnum.values())
+        {
+            
+            // Store forward and right vectors for current direction.
+            fwdX = facing.getValue_MoveUpDx();
+            fwdY = facing.getValue_MoveUpDy();
+            rightX = -fwdY;
+            rightY = fwdX;
+            
+            // Start with first slot.
+            slot = 0;
+            
+            // Loop through rows, from farthest to row with player.
+            for (int fwd = coneDepth - 1; fwd >= 0; fwd--)
+            {
+                
+                // Determine number of tiles to either side of center in current row.
+                halfWidth = (fwd > 0) ? coneWidth / 2 : (coneWidth / 2) - 1;
+                
+                // Loop through tiles in current row, from outer edges inward.
+                for (int lateral = halfWidth; lateral >= 0; lateral--)
+                {
+                    
+                    // Store left tile (or center).
+                    viewConeDx[facing.getValue()][slot] = (fwdX * fwd) - (rightX * lateral);
+                    viewConeDy[facing.getValue()][slot] = (fwdY * fwd) - (rightY * lateral);
+                    viewConePosition[slot] = artPosition(fwd, lateral, false);
+                    slot++;
+                    
+                    // If not center tile, then...
+                    if (lateral > 0)
+                    {
+                        
+                        // Not center tile.
+                        
+                        // Store right tile.
+                        viewConeDx[facing.getValue()][slot] = (fwdX * fwd) + (rightX * lateral);
+                        viewConeDy[facing.getValue()][slot] = (fwdY * fwd) + (rightY * lateral);
+                        viewConePosition[slot] = artPosition(fwd, lateral, true);
+                        slot++;
+                        
+                    }
+                    
+                }
+                
+            }
+            
+        }
+        
+    }
+    
+    // posX = X-coordinate of location to enter.
+    // posY = Y-coordinate of location to enter.
+    // entrySide = Side of the location crossed when entering -- the side facing the location left.
+    public boolean canEnter(int posX, int posY, HeroineEnum.FacingEnum entrySide)
+    {
+        
+        // The function returns whether the player can enter the passed location, in the current region,
+        // through the passed side.
+        // A side tile on the crossed side decides when present.  Otherwise, the tile at the location decides.
+        // Reads the packed collision grid for the region, so the check takes one or two bit tests.
+        // The location must lie within the region.
+        return currentRegion.getCollisionGrid().canEnter(posX, posY, entrySide);
+        
+    }
+    
     // combat = Reference to combat engine.
     // enemyLabel = Reference to label showing enemy type.
     // infoButtonSelector = BaseActor object that acts as the selector for the current action button.
@@ -2140,6 +2363,10 @@ public class MazeMap
         4.  Handling chest in same square as player.
         5.  Handling hay bale in same square as player.
         
+        When rendering incrementally, the view tile actors (0 to 12) keep their state between calls and 
+        only those whose tile number or metadata changed get touched.  Redrawing the screen, changing 
+        regions, or disabling incremental rendering forces a full render.
+        
         The visibility cone is shaped like this:
 
         .........
@@ -2157,20 +2384,20 @@ public class MazeMap
         .........
         */
         
-        boolean adjInd; // Whether position adjustment occurred.
         boolean bonePileInd; // Whether bone pile exists immediately in front of player.
         boolean chestInd; // Whether chest exists immediately in front of player.
         ArrayList<AtlasItems.Chest> chestList; // List of chests at the passed position.
         boolean chestNearbyInd; // Whether chest exists either in current location or immediately in front 
           // of player.
         boolean lockedDoorInd; // Whether locked door exists immediately in front of player.
+        int resetStart; // Index of first tile actor to reset.
+        BaseActor tileActor; // Current tile actor in loop.
         int tileNbr; // Tile number at current (exact) location.
         boolean treasureImageInd; // Whether treasure image exists for primary item in first chest.
         String virtualString; // Virtual field (string) for the actor with the chest(s), bone pile(s), ...
         String virtualStringObjType; // Object type parsed from virtual field (string).
         
         // 1.  Set defaults.
-        adjInd = false;
         chestInd = false;
         bonePileInd = false;
         lockedDoorInd = false;
@@ -2178,10 +2405,19 @@ public class MazeMap
         chestActiveInd = false;
         bonePileActiveInd = false;
         
+        // If redrawing screen or incremental rendering disabled, then force a full render of view tiles.
+        if (redrawInd || !incrementalRenderInd)
+            viewCacheValidInd = false;
+        
         // 2.  Reset properties of actors in array list.
+        //     When rendering incrementally, view tiles (0 to 12) keep their properties -- 
+        //     mazemap_render_tile updates only those that change.
+        
+        // Determine first tile actor to reset.
+        resetStart = viewCacheValidInd ? TILE_POS_SPECIAL_START : 0;
         
         // Loop through regular tiles and reset general properties.
-        for (int counter = 0; counter <= TILE_POS_SPECIAL_START; counter++)
+        for (int counter = resetStart; counter <= TILE_POS_SPECIAL_START; counter++)
         {
             
             // Set general actor properties.
@@ -2192,26 +2428,29 @@ public class MazeMap
         }
         
         // Loop through and set to not visible, reset shading, and remove actions and events from all
-        // tile actors.
-        for (BaseActor actor : tiles)
+        // tile actors (beyond view tiles when rendering incrementally).
+        for (int counter = resetStart; counter < tiles.size(); counter++)
         {
             
+            // Get reference to current tile actor.
+            tileActor = tiles.get(counter);
+            
             // Set actor to not visible.
-            actor.setVisible(false);
+            tileActor.setVisible(false);
             
             // Return actor to normal color.
-            actor.setColor(Color.WHITE);
+            tileActor.setColor(Color.WHITE);
             
             // Remove transparency (results from actions).
-            actor.getColor().a = 1.0f;
+            tileActor.getColor().a = 1.0f;
             
             // Remove actor actions.
-            actor.removeActions();
+            tileActor.removeActions();
             
             // Remove events.
-            for (EventListener temp : actor.getListeners())
+            for (EventListener temp : tileActor.getListeners())
             {
-                actor.removeListener(temp);
+                tileActor.removeListener(temp);
             }
             
         }
@@ -2227,175 +2466,19 @@ public class MazeMap
         
         System.out.println("\nX: " + x + ", Y: " + y + ", Facing: " + facing);
         
-        // Depending on direction facing, ...
-        switch (facing) {
+        // Loop through slots in view cone for direction facing (in draw order).
+        for (int slot = 0; slot < viewConeSlotCount; slot++)
+        {
             
-            case NORTH:
-                
-                // Render back row.
-                mazemap_render_tile( x - 2, y - 2, 0, -2, -2, tiles, x, y, facing );
-                mazemap_render_tile( x + 2, y - 2, 1, +2, -2, tiles, x, y, facing );
-                mazemap_render_tile( x - 1, y - 2, 2, -1, -2, tiles, x, y, facing );
-                mazemap_render_tile( x + 1, y - 2, 3, +1, -2, tiles, x, y, facing );
-                mazemap_render_tile( x    , y - 2, 4,  0, -2, tiles, x, y, facing );
-                
-                // Render middle row.
-                mazemap_render_tile( x - 2, y - 1, 5, -2, -1, tiles, x, y, facing );
-                mazemap_render_tile( x + 2, y - 1, 6, +2, -1, tiles, x, y, facing );
-                mazemap_render_tile( x - 1, y - 1, 7, -1, -1, tiles, x, y, facing );
-                mazemap_render_tile( x + 1, y - 1, 8, +1, -1, tiles, x, y, facing );
-                mazemap_render_tile( x    , y - 1, 9,  0, -1, tiles, x, y, facing );
-                
-                // Render front row.
-                mazemap_render_tile( x - 1, y, 10, -1, 0, tiles, x, y, facing );
-                mazemap_render_tile( x + 1, y, 11, +1, 0, tiles, x, y, facing );
-                mazemap_render_tile( x    , y, 12,  0, 0, tiles, x, y, facing );
-                
-                // Exit selector.
-                break;
-                
-            case SOUTH: // Starting direction.
-                
-                // Render back row.
-                mazemap_render_tile( x + 2, y + 2, 0, +2, +2, tiles, x, y, facing );
-                mazemap_render_tile( x - 2, y + 2, 1, -2, +2, tiles, x, y, facing );
-                mazemap_render_tile( x + 1, y + 2, 2, +1, +2, tiles, x, y, facing );
-                mazemap_render_tile( x - 1, y + 2, 3, -1, +2, tiles, x, y, facing );
-                mazemap_render_tile( x    , y + 2, 4,  0, +2, tiles, x, y, facing );
-                
-                // Render middle row.
-                mazemap_render_tile( x + 2, y + 1, 5, +2, +1, tiles, x, y, facing );
-                mazemap_render_tile( x - 2, y + 1, 6, -2, +1, tiles, x, y, facing );
-                mazemap_render_tile( x + 1, y + 1, 7, +1, +1, tiles, x, y, facing );
-                mazemap_render_tile( x - 1, y + 1, 8, -1, +1, tiles, x, y, facing );
-                mazemap_render_tile( x    , y + 1, 9,  0, +1, tiles, x, y, facing );
-                
-                // Render front row.
-                mazemap_render_tile( x + 1, y, 10, +1, 0, tiles, x, y, facing );
-                mazemap_render_tile( x - 1, y, 11, -1, 0, tiles, x, y, facing );
-                mazemap_render_tile( x    , y, 12,  0, 0, tiles, x, y, facing );
-                
-                /*
-                
-                // Check for rendering portal in position 12, then...
-                
-                // If tile (in position 12) exists in current region, then...
-                if (mazemap_bounds_check(x, y))
-                {
-
-                    // Tile exists in current region.
-                    
-                    // If current location contains portal, then...
-                    if ( HeroineEnum.ImgTileEnum.valueOf(regionTiles.get(y).get(x)) == 
-                      HeroineEnum.ImgTileEnum.IMG_TILE_DUNGEON_DOOR )
-                    {
-                        
-                        // Current location contains portal.
-                        
-                        // Switch positions 9 and 12.
-                        mazemap_render_tile( x, y    ,  9, 0,  0, tiles ); // Middle row.
-                        mazemap_render_tile( x, y + 1, 12, 0, +1, tiles ); // Front row.
-                        
-                        // Flag adjustment as occurring.
-                        adjInd = true;
-                        
-                    }
-                    
-                } // End ... If tile (in position 12) exists in current region.
-                
-                // If no adjustments yet and tiles (in positions 9, 10, and 11) exist in current region, then...
-                if (!adjInd && mazemap_bounds_check(x, y + 1) && mazemap_bounds_check(x - 1, y) && 
-                    mazemap_bounds_check(x + 1, y))
-                {
-                    
-                    // No adjustments yet and tiles (in positions 9, 10, and 11) exist in current region.
-                    
-                    // If position one square ahead is a door and those to left and right are walls, then...
-                    if (HeroineEnum.ImgTileEnum.valueOf(regionTiles.get(y + 1).get(x)) == 
-                      HeroineEnum.ImgTileEnum.IMG_TILE_DUNGEON_DOOR && 
-                      HeroineEnum.ImgTileEnum.valueOf(regionTiles.get(y).get(x - 1)) == 
-                      HeroineEnum.ImgTileEnum.IMG_TILE_DUNGEON_WALL &&
-                      HeroineEnum.ImgTileEnum.valueOf(regionTiles.get(y).get(x + 1)) == 
-                      HeroineEnum.ImgTileEnum.IMG_TILE_DUNGEON_WALL) 
-                    {
-                        
-                        // Position one square ahead of current location contains portal and those to left and
-                        // right are walls.
-                        
-                        // Adjust positions 4 and 9.
-                        mazemap_render_tile( x, y + 1, 4, 0, +1, tiles ); // Switch to show position 9.
-                        mazemap_render_tile( x, y    , 9, 0, +0, tiles ); // Switch to show position 12.
-                        
-                        // Flag adjustment as occurring.
-                        adjInd = true;
-                        
-                    } // End ... If position one square ahead of current location contains portal and those to 
-                    // left and right are walls.
-                    
-                } // End ... No adjustments yet and tiles (in positions 9, 10, and 11) exist in current region.
-                
-                */
-                
-                // Exit selector.
-                break;
-                
-            case EAST:
-                
-                // Render back row.
-                mazemap_render_tile( x + 2, y - 2, 0, +2, -2, tiles, x, y, facing );
-                mazemap_render_tile( x + 2, y + 2, 1, +2, +2, tiles, x, y, facing );
-                mazemap_render_tile( x + 2, y - 1, 2, +2, -1, tiles, x, y, facing );
-                mazemap_render_tile( x + 2, y + 1, 3, +2, +1, tiles, x, y, facing );
-                mazemap_render_tile( x + 2, y    , 4, +2,  0, tiles, x, y, facing );
-                
-                // Render middle row.
-                mazemap_render_tile( x + 1, y - 2, 5, +1, -2, tiles, x, y, facing );
-                mazemap_render_tile( x + 1, y + 2, 6, +1, +2, tiles, x, y, facing );
-                mazemap_render_tile( x + 1, y - 1, 7, +1, -1, tiles, x, y, facing );
-                mazemap_render_tile( x + 1, y + 1, 8, +1, +1, tiles, x, y, facing );
-                mazemap_render_tile( x + 1, y    , 9, +1,  0, tiles, x, y, facing );
-                
-                // Render front row.
-                mazemap_render_tile( x, y - 1, 10, 0, -1, tiles, x, y, facing );
-                mazemap_render_tile( x, y + 1, 11, 0, +1, tiles, x, y, facing );
-                mazemap_render_tile( x,     y, 12, 0,  0, tiles, x, y, facing );
-                
-                // Exit selector.
-                break;
-                
-            case WEST:
-                
-                // Render back row.
-                mazemap_render_tile( x - 2, y + 2, 0, -2, +2, tiles, x, y, facing );
-                mazemap_render_tile( x - 2, y - 2, 1, -2, -2, tiles, x, y, facing );
-                mazemap_render_tile( x - 2, y + 1, 2, -2, +1, tiles, x, y, facing );
-                mazemap_render_tile( x - 2, y - 1, 3, -2, -1, tiles, x, y, facing );
-                mazemap_render_tile( x - 2, y    , 4, -2,  0, tiles, x, y, facing );
-                
-                // Render middle row.
-                mazemap_render_tile( x - 1, y + 2, 5, -1, +2, tiles, x, y, facing );
-                mazemap_render_tile( x - 1, y - 2, 6, -1, -2, tiles, x, y, facing );
-                mazemap_render_tile( x - 1, y + 1, 7, -1, +1, tiles, x, y, facing );
-                mazemap_render_tile( x - 1, y - 1, 8, -1, -1, tiles, x, y, facing );
-                mazemap_render_tile( x - 1, y    , 9, -1,  0, tiles, x, y, facing );
-                
-                // Render front row.
-                mazemap_render_tile( x, y + 1, 10, 0, +1, tiles, x, y, facing );
-                mazemap_render_tile( x, y - 1, 11, 0, -1, tiles, x, y, facing );
-                mazemap_render_tile( x, y    , 12, 0,  0, tiles, x, y, facing );  
-                
-                // Exit selector.
-                break;
-                
-            default:
-                
-                // Display warning message.
-                System.out.println("Warning:  Player facing in invalid direction!");
-                
-                // Exit selector.
-                break;
-                
-            } // Depending on direction facing...
+            // Render tile in current slot, at its tile position.
+            mazemap_render_tile( x + viewConeDx[facing.getValue()][slot], y + viewConeDy[facing.getValue()][slot], 
+              viewConePosition[slot], viewConeDx[facing.getValue()][slot], viewConeDy[facing.getValue()][slot], 
+              tiles, x, y, facing );
+            
+        }
+        
+        // View tile actors now match the cached tile numbers and metadata.
+        viewCacheValidInd = true;
         
         // 5.  Check whether objects exist immediately in front of player.
         
@@ -2496,7 +2579,7 @@ public class MazeMap
         // 6.  If necessary, add actors for chest and treasure.
         
         // Get tile number at current location.
-        tileNbr = regionTiles.get(y).get(x);
+        tileNbr = regionTiles.getTile(x, y);
         
         // If chest exists in current location or immediately in front of player, then flag chest as nearby.
         if (tileNbr == HeroineEnum.ImgTileEnum.IMG_TILE_CHEST_EXTERIOR.getValue() ||
@@ -2742,7 +2825,7 @@ public class MazeMap
                         draw_treasure_first( treasureImageInd, tiles, goldPile, treasureLabel, viewWidth, 
                           0.00f, regionLabel );
 
-                        // Set chests in array list inactive and remove entry from hash map associated with 
+                        // Set chests in array list inactive and remove entry from index associated with 
                         // current location.
                         gameHD.getAtlasItems().removeChests( chestList, map_id, x, y );
 
@@ -2777,6 +2860,9 @@ public class MazeMap
                     // Cause the player to sleep -- restore hp and mp and set new respawn point.
                     gameHD.getAvatar().avatar_sleep( hpLabel, mpLabel );
                     
+                    // Save the game.
+                    gameHD.getSaveGame().save();
+                    
                     // Exit selector.
                     break;
 
@@ -2812,15 +2898,18 @@ public class MazeMap
       ArrayList<BaseActor> tiles, int x, int y, HeroineEnum.FacingEnum facing)
     {
         // The function returns a base actor representing the tile in the passed location.
+        // When rendering incrementally, the function only touches the actor if its tile number or 
+        // metadata changed since the previous render.
         // Note: x, y flipped to ease map making.
         
+        int renderTileNbr; // Tile number to display -- VIEW_TILE_HIDDEN when tile not shown.
         BaseActor temp; // Holder for the BaseActor to return.
         int tileNbr; // Tile number to render.
         Integer tileNbr_Side; // Tile number coming from side-related override.
-        String key; // Key for the tile to display -- in the asset manager.
         String virtualString; // Virtual text to associate with BaseActor.
         
         // Set defaults.
+        renderTileNbr = VIEW_TILE_HIDDEN;
         temp = tiles.get(position);
         virtualString = "";
         
@@ -2850,7 +2939,7 @@ public class MazeMap
                 // No override.
                 
                 // Determine tile number to render.
-                tileNbr = regionTiles.get(pos_y).get(pos_x);
+                tileNbr = regionTiles.getTile(pos_x, pos_y);
                 
             }
             
@@ -2971,43 +3060,8 @@ public class MazeMap
                     
                 } // End ... If looking at position immediately in front of player.
                 
-                // Store asset manager key for the tile to display.
-                key = HeroineEnum.ImgTileEnum.valueOf(tileNbr).getValue_Key() + "_" + 
-                  decimalFormat000.format(position);
-                
-                //System.out.println("Rendering tile (tile, pos): " + tileNbr + ", " + position);
-
-                //System.out.println("Tile_" + Integer.toString(tileNbr));
-                //System.out.println("key = " + key);
-                //System.out.println("tile nbr = " + tileNbr);
-                //System.out.println("dest_x = " + dest_x[position]);
-                
-                // Configure the base actor for the tile (possibly null if out of bounds).
-                //temp = new BaseActor("TilePos_" + Integer.toString(position), 
-                //  gameHD.getAssetMgr().getTextureRegion(key), dest_x[position], dest_y[position] );
-                
-                // Configure the actor representing the tile.
-                
-                // Store name for the actor.
-                temp.setActorName("TilePos_" + Integer.toString(position));
-                
-                // Set the texture region for the actor.
-                temp.setTextureRegion(gameHD.getAssetMgr().getTextureRegion(key));
-                
-                // Position the lower left corner of the actor.
-                temp.setPosition( dest_x[position], dest_y[position] );
-                
-                // Store tile type in actor.
-                temp.setVirtualInt(tileNbr);
-                
-                // Store virtual text in actor.
-                temp.setVirtualString(virtualString);
-                
-                // Set actor as visible.
-                temp.setVisible(true);
-                
-                // Update the current tile.
-                tiles.set(position, temp);
+                // Flag tile for display.
+                renderTileNbr = tileNbr;
                 
             } // End ... If tile exists in current region and NOT a placeholder (empty location).
             
@@ -3024,6 +3078,80 @@ public class MazeMap
             
         }
         
+        // If rendering incrementally and nothing changed for the tile since the previous render, then...
+        if (viewCacheValidInd && viewTileNbr[position] == renderTileNbr && 
+          virtualString.equals(viewVirtualString[position]))
+        {
+            
+            // Nothing changed for the tile.  Leave the actor as is.
+            
+            // Return the base actor for the tile.
+            return temp;
+            
+        }
+        
+        // If tile shown, then...
+        if (renderTileNbr != VIEW_TILE_HIDDEN)
+        {
+            
+            // Tile shown.
+            
+            // Copy tile number to render.
+            tileNbr = renderTileNbr;
+            
+            //System.out.println("Rendering tile (tile, pos): " + tileNbr + ", " + position);
+
+            //System.out.println("Tile_" + Integer.toString(tileNbr));
+            //System.out.println("tile nbr = " + tileNbr);
+            //System.out.println("dest_x = " + dest_x[position]);
+            
+            // Configure the base actor for the tile (possibly null if out of bounds).
+            //temp = new BaseActor("TilePos_" + Integer.toString(position), 
+            //  gameHD.getAssetMgr().getTextureRegion(key), dest_x[position], dest_y[position] );
+            
+            // Configure the actor representing the tile.
+            
+            // Store name for the actor.
+            temp.setActorName(tileActorNames[position]);
+            
+            // Set the texture region for the actor.
+            temp.setTextureRegion(gameHD.getAssetMgr().getTextureRegion(
+              AssetMgr.getTileRegionHandle(tileNbr, position)));
+            
+            // Position the lower left corner of the actor.
+            temp.setPosition( dest_x[position], dest_y[position] );
+            
+            // Store tile type in actor.
+            temp.setVirtualInt(tileNbr);
+            
+            // Store virtual text in actor.
+            temp.setVirtualString(virtualString);
+            
+            // Set actor as visible.
+            temp.setVisible(true);
+            
+            // Update the current tile.
+            tiles.set(position, temp);
+            
+        } // End ... If tile shown.
+        
+        else
+        {
+            
+            // Tile NOT shown.
+            
+            // Hide the actor and clear its general properties.
+            temp.setVisible(false);
+            temp.setActorName(null);
+            temp.setVirtualInt(null);
+            temp.setVirtualString(null);
+            
+        }
+        
+        // Store what the actor now displays, for comparison on the next render.
+        viewTileNbr[position] = renderTileNbr;
+        viewVirtualString[position] = virtualString;
+        
         // Return the base actor for the tile.
         return temp;
         
@@ -3044,14 +3172,10 @@ public class MazeMap
         // Note: x, y flipped to ease map making.
         
         Integer tileSide; // Tile number to render for side adjustment.
-        String key; // Key for the tile to display -- in the asset manager.
         
         // Set defaults.
         tileSide = null;
         
-        // Specify key to use when checking hash maps.
-        key = Integer.toString(pos_x) + ", " + Integer.toString(pos_y);
-        
         // Depending on direction player is facing, ...
         switch (facing) {
             
@@ -3064,7 +3188,7 @@ public class MazeMap
                 {
                     
                     // Tile north of player.  Store south side.
-                    tileSide = currentRegion.getSideTilesSouth(key);
+                    tileSide = currentRegion.getSideTilesSouth(pos_x, pos_y);
                     
                 }
                 
@@ -3079,7 +3203,7 @@ public class MazeMap
                     {
                         
                         // Tile east of player.  Store west side.
-                        tileSide = currentRegion.getSideTilesWest(key);
+                        tileSide = currentRegion.getSideTilesWest(pos_x, pos_y);
 
                     }
 
@@ -3088,7 +3212,7 @@ public class MazeMap
                     {
                         
                         // Tile west of player.  Store east side.
-                        tileSide = currentRegion.getSideTilesEast(key);
+                        tileSide = currentRegion.getSideTilesEast(pos_x, pos_y);
 
                     }
                     
@@ -3106,7 +3230,7 @@ public class MazeMap
                 {
                     
                     // Tile south of player.  Store north side.
-                    tileSide = currentRegion.getSideTilesNorth(key);
+                    tileSide = currentRegion.getSideTilesNorth(pos_x, pos_y);
                     
                 }
                 
@@ -3121,7 +3245,7 @@ public class MazeMap
                     {
                         
                         // Tile east of player.  Store west side.
-                        tileSide = currentRegion.getSideTilesWest(key);
+                        tileSide = currentRegion.getSideTilesWest(pos_x, pos_y);
 
                     }
 
@@ -3130,7 +3254,7 @@ public class MazeMap
                     {
                         
                         // Tile west of player.  Store east side.
-                        tileSide = currentRegion.getSideTilesEast(key);
+                        tileSide = currentRegion.getSideTilesEast(pos_x, pos_y);
 
                     }
                     
@@ -3148,7 +3272,7 @@ public class MazeMap
                 {
                     
                     // Tile east of player.  Store west side.
-                    tileSide = currentRegion.getSideTilesWest(key);
+                    tileSide = currentRegion.getSideTilesWest(pos_x, pos_y);
                     
                 }
                 
@@ -3163,7 +3287,7 @@ public class MazeMap
                     {
                         
                         // Tile north of player.  Store south side.
-                        tileSide = currentRegion.getSideTilesSouth(key);
+                        tileSide = currentRegion.getSideTilesSouth(pos_x, pos_y);
 
                     }
 
@@ -3172,7 +3296,7 @@ public class MazeMap
                     {
                         
                         // Tile south of player.  Store north side.
-                        tileSide = currentRegion.getSideTilesNorth(key);
+                        tileSide = currentRegion.getSideTilesNorth(pos_x, pos_y);
 
                     }
                     
@@ -3190,7 +3314,7 @@ public class MazeMap
                 {
                     
                     // Tile west of player.  Store east side.
-                    tileSide = currentRegion.getSideTilesEast(key);
+                    tileSide = currentRegion.getSideTilesEast(pos_x, pos_y);
                     
                 }
                 
@@ -3205,7 +3329,7 @@ public class MazeMap
                     {
                         
                         // Tile north of player.  Store south side.
-                        tileSide = currentRegion.getSideTilesSouth(key);
+                        tileSide = currentRegion.getSideTilesSouth(pos_x, pos_y);
 
                     }
 
@@ -3214,7 +3338,7 @@ public class MazeMap
                     {
                         
                         // Tile south of player.  Store north side.
-                        tileSide = currentRegion.getSideTilesNorth(key);
+                        tileSide = currentRegion.getSideTilesNorth(pos_x, pos_y);
 
                     }
                     
@@ -3240,26 +3364,31 @@ public class MazeMap
         
     }
     
-    public ArrayList<BaseActor> minimap_render()
+    private TextureRegion minimap_bake()
     {
         
         /*
-        The function returns the icons used to render the minimap for the current map / region.
+        The function renders the static portion of the minimap for the current map / region (everything 
+        except the cursor) into a frame buffer, stores the frame buffer in the minimap cache, and returns 
+        a texture region covering the result.
         
-        The setting up the minimap for rendering (populating the array list) involves the following:
+        Baking the minimap involves the following:
         
         1.  Set defaults.
         2.  Initialize array lists.
         3.  Store color to use for transparency effect.
-        4.  Store icon width and height for use when placing side tiles.
-        5. Add minimap background (included in icon list for simplicity).
-        6.  Render (base) map.
-        7.  Render exits.
-        8.  Render shops.
-        9.  Render side tiles.
-        10.  Render minimap cursor.
-        11.  Add base actor for player icon.
-        12.  Return the array list with the base actors for the icons.
+        4.  Create minimap background.
+        5.  Add icons for (base) map.
+        6.  Add icons for exits.
+        7.  Add icons for shops.
+        8.  Add icons for side tiles.
+        9.  Draw the background and icons into a new frame buffer.
+        10.  Store the frame buffer in the minimap cache and return the related texture region.
+        
+        Notes:
+        
+        1.  The background draws without blending, so the frame buffer keeps its partial transparency.
+        2.  The side tile icons draw without updating alpha, so the (opaque) map icons below stay opaque.
         */
         
         int counter; // Used to increment through exits and shops.
@@ -3269,12 +3398,13 @@ public class MazeMap
         int doorNorthCount; // Number of doors on north side.
         int doorSouthCount; // Number of doors on south side.
         int doorWestCount; // Number of doors on west side.
+        FrameBuffer frameBuffer; // Frame buffer into which to draw the minimap.
         float iconHeight; // Height of each icon in minimap.
-        ArrayList<BaseActor> icons; // BaseActor objects associated with icons.
+        ArrayList<BaseActor> icons; // BaseActor objects associated with (opaque) map, exit, and shop icons.
         float iconWidth; // Width of each icon in minimap.
-        HeroineEnum.MinimapEnum key; // Key to texture region in hash map for icon to display.
-        HeroineEnum.MinimapCursorEnum keyCursor; // Key to texture region in hash map for cursor icon to display.
+        int key; // Handle of texture region in asset manager for icon to display.
         BaseActor minimapBackground; // BaseActor serving as the minimap background.
+        ArrayList<BaseActor> sideIcons; // BaseActor objects associated with (partially transparent) side tiles.
         Color tempColor; // Color used to apply partial transparency.
         int tileNbr; // Tile number for which to render icon  in minimap.
         boolean walkable; // Whether tile walkable.
@@ -3287,34 +3417,30 @@ public class MazeMap
         
         // 2.  Initialize array lists.
         icons = new ArrayList<>();
+        sideIcons = new ArrayList<>();
         
         // 3.  Store color to use for transparency effect.
         tempColor = new Color(Color.LIGHT_GRAY.r, Color.LIGHT_GRAY.g, Color.LIGHT_GRAY.b, 0.50f);
         
-        // 4.  Store icon width and height for use when placing side tiles.
-        iconWidth = minimapRegions.get(HeroineEnum.MinimapEnum.MINIMAP_BLOCK_BLACK).getRegionWidth();
-        iconHeight = minimapRegions.get(HeroineEnum.MinimapEnum.MINIMAP_BLOCK_BLACK).getRegionHeight();
+        // Store icon width and height for use when placing side tiles.
+        key = AssetMgr.getMinimapRegionHandle(HeroineEnum.MinimapEnum.MINIMAP_BLOCK_BLACK);
+        iconWidth = gameHD.getAssetMgr().getTextureRegion(key).getRegionWidth();
+        iconHeight = gameHD.getAssetMgr().getTextureRegion(key).getRegionHeight();
         
-        // 5. Add minimap background (included in icon list for simplicity).
+        // 4.  Create minimap background.
         
         // Create and configure base actor for minimap background.
         minimapBackground = new BaseActor("Minimap_Background", 
-          minimapRegions.get(HeroineEnum.MinimapEnum.MINIMAP_BLOCK_BLACK), 
-          -3f, -3f );
+          gameHD.getAssetMgr().getTextureRegion(key), -MINIMAP_BORDER, -MINIMAP_BORDER );
         
         // Set width and height of minimap background.
-        minimapWidth = (regionWidth * minimapIconSize) + 6f;
-        minimapHeight = (regionHeight * minimapIconSize) + 6f;
         minimapBackground.setWidth( minimapWidth );
         minimapBackground.setHeight( minimapHeight );
         
         // Apply a partially transparent light gray shade to the background.
         minimapBackground.setColor(tempColor);
         
-        // Add the base actor for the background to the array list.
-        icons.add( minimapBackground );
-        
-        // 6.  Render (base) map.
+        // 5.  Add icons for (base) map.
         
         // Loop through vertical tiles.
         for (int counterY = 0; counterY < regionHeight; counterY++)
@@ -3325,7 +3451,7 @@ public class MazeMap
             {
                 
                 // Determine tile number for which to render icon.
-                tileNbr = regionTiles.get(counterY).get(counterX);
+                tileNbr = regionTiles.getTile(counterX, counterY);
                 
                 // If NOT a placeholder tile, then...
                 if (tileNbr != HeroineEnum.ImgTileEnum.IMG_TILE_IGNORE.getValue())
@@ -3334,7 +3460,7 @@ public class MazeMap
                     // NOT a placeholder tile.
                     
                     // Determine while tile walkable.
-                    walkable = HeroineEnum.ImgTileEnum.valueOf(tileNbr).getValue_Walkable();
+                    walkable = HeroineEnum.ImgTileEnum.isWalkable(tileNbr);
 
                     /*
                     Walkable (key) = minimap_white
@@ -3346,14 +3472,14 @@ public class MazeMap
                     // If walkable tile, then...
                     if (walkable)
                         // Walkable tile.
-                        key = HeroineEnum.MinimapEnum.MINIMAP_BLOCK_WHITE;
+                        key = AssetMgr.getMinimapRegionHandle(HeroineEnum.MinimapEnum.MINIMAP_BLOCK_WHITE);
                     else
                         // Non-walkable tile.
-                        key = HeroineEnum.MinimapEnum.MINIMAP_BLOCK_BLACK;
+                        key = AssetMgr.getMinimapRegionHandle(HeroineEnum.MinimapEnum.MINIMAP_BLOCK_BLACK);
 
                     // Add base actor for current icon in loop.
                     icons.add( new BaseActor("Minimap_(" + Integer.toString(counterX) + "," + 
-                      Integer.toString(counterY) + ")", minimapRegions.get(key), 
+                      Integer.toString(counterY) + ")", gameHD.getAssetMgr().getTextureRegion(key), 
                       minimapDestX.get(counterY).get(counterX), minimapDestY.get(counterY).get(counterX) ) );
                         
                 } // End ... If NOT a placeholder tile.
@@ -3362,13 +3488,13 @@ public class MazeMap
                 
         } // End ... Loop through vertical tiles.
         
-        // 7.  Render exits.
+        // 6.  Add icons for exits.
         
         // Set starting value for counter.
         counter = 0;
         
         // Determine key containing texture region for icon.      
-        key = HeroineEnum.MinimapEnum.MINIMAP_BLOCK_BLUE;
+        key = AssetMgr.getMinimapRegionHandle(HeroineEnum.MinimapEnum.MINIMAP_BLOCK_BLUE);
         
         // Loop through exits in current region.
         for (RegionMap.RegionExit exit : currentRegion.getRegionExits())
@@ -3376,18 +3502,18 @@ public class MazeMap
             
             // Add base actor for current exit icon in loop.
             icons.add( new BaseActor("Minimap_Exit_" + Integer.toString(counter), 
-              minimapRegions.get(key), minimapDestX.get(exit.exit_y).get(exit.exit_x), 
+              gameHD.getAssetMgr().getTextureRegion(key), minimapDestX.get(exit.exit_y).get(exit.exit_x), 
               minimapDestY.get(exit.exit_y).get(exit.exit_x) ) );
             
         }
         
-        // 8.  Render shops.
+        // 7.  Add icons for shops.
         
         // Set starting value for counter.
         counter = 0;
         
         // Determine key containing texture region for icon.      
-        key = HeroineEnum.MinimapEnum.MINIMAP_BLOCK_DARK_BLUE;
+        key = AssetMgr.getMinimapRegionHandle(HeroineEnum.MinimapEnum.MINIMAP_BLOCK_DARK_BLUE);
         
         // Loop through shops in current region.
         for (RegionMap.RegionShop shop : currentRegion.getRegionShops())
@@ -3395,12 +3521,12 @@ public class MazeMap
             
             // Add base actor for current shop icon in loop.
             icons.add( new BaseActor("Minimap_Shop_" + Integer.toString(counter), 
-              minimapRegions.get(key), minimapDestX.get(shop.exit_y).get(shop.exit_x), 
+              gameHD.getAssetMgr().getTextureRegion(key), minimapDestX.get(shop.exit_y).get(shop.exit_x), 
               minimapDestY.get(shop.exit_y).get(shop.exit_x) ) );
             
         }
         
-        // 9.  Render side tiles.
+        // 8.  Add icons for side tiles.
         
         // Loop through vertical tiles.
         for (int counterY = 0; counterY < regionHeight; counterY++)
@@ -3435,7 +3561,7 @@ public class MazeMap
                     */
                     
                     // Add base actor for current side tile.
-                    icons.add( new BaseActor("Minimap_North_Side(" + Integer.toString(doorNorthCount) + ")", 
+                    sideIcons.add( new BaseActor("Minimap_North_Side(" + Integer.toString(doorNorthCount) + ")", 
                       HeroineEnum.ImgInterfaceEnum.IMG_INTERFACE_MINIMAP_DOOR_HORZ.getValue_Key(), 
                       gameHD.getAssetMgr(), dest_pos_x, dest_pos_y, CoreEnum.AssetKeyTypeEnum.KEY_TEXTURE, 
                       tempColor) );
@@ -3467,7 +3593,7 @@ public class MazeMap
                     */
                     
                     // Add base actor for current side tile.
-                    icons.add( new BaseActor("Minimap_South_Side(" + Integer.toString(doorSouthCount) + ")", 
+                    sideIcons.add( new BaseActor("Minimap_South_Side(" + Integer.toString(doorSouthCount) + ")", 
                       HeroineEnum.ImgInterfaceEnum.IMG_INTERFACE_MINIMAP_DOOR_HORZ.getValue_Key(), 
                       gameHD.getAssetMgr(), dest_pos_x, dest_pos_y, CoreEnum.AssetKeyTypeEnum.KEY_TEXTURE, 
                       tempColor) );
@@ -3499,7 +3625,7 @@ public class MazeMap
                     */
                     
                     // Add base actor for current side tile.
-                    icons.add( new BaseActor("Minimap_East_Side(" + Integer.toString(doorEastCount) + ")", 
+                    sideIcons.add( new BaseActor("Minimap_East_Side(" + Integer.toString(doorEastCount) + ")", 
                       HeroineEnum.ImgInterfaceEnum.IMG_INTERFACE_MINIMAP_DOOR_VERT.getValue_Key(), 
                       gameHD.getAssetMgr(), dest_pos_x, dest_pos_y, CoreEnum.AssetKeyTypeEnum.KEY_TEXTURE, 
                       tempColor) );
@@ -3531,7 +3657,7 @@ public class MazeMap
                     */
                     
                     // Add base actor for current side tile.
-                    icons.add( new BaseActor("Minimap_West_Side(" + Integer.toString(doorWestCount) + ")", 
+                    sideIcons.add( new BaseActor("Minimap_West_Side(" + Integer.toString(doorWestCount) + ")", 
                       HeroineEnum.ImgInterfaceEnum.IMG_INTERFACE_MINIMAP_DOOR_VERT.getValue_Key(), 
                       gameHD.getAssetMgr(), dest_pos_x, dest_pos_y, CoreEnum.AssetKeyTypeEnum.KEY_TEXTURE, 
                       tempColor) );
@@ -3542,7 +3668,123 @@ public class MazeMap
         
         } // End ... Loop through vertical tiles.
         
-        // 10.  Render minimap cursor.
+        // 9.  Draw the background and icons into a new frame buffer.
+        
+        // If batch used for baking not initialized yet, then...
+        if (minimapBatch == null)
+            // Batch used for baking not initialized yet.
+            minimapBatch = new SpriteBatch();
+        
+        // Initialize frame buffer, large enough to hold the background.
+        frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, MathUtils.ceil(minimapWidth), 
+          MathUtils.ceil(minimapHeight), false);
+        
+        // Start drawing into the frame buffer, clearing it to fully transparent.
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(0f, 0f, 0f, 0f);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        
+        // Align lower left corner of frame buffer with lower left corner of background.
+        minimapBatch.getProjectionMatrix().setToOrtho2D(-MINIMAP_BORDER, -MINIMAP_BORDER, 
+          frameBuffer.getWidth(), frameBuffer.getHeight());
+        
+        // Start batch.
+        minimapBatch.begin();
+        
+        // Draw background, copying its color (and partial transparency) directly.
+        minimapBatch.disableBlending();
+        minimapBackground.draw(minimapBatch, 1f);
+        minimapBatch.enableBlending();
+        
+        // Draw map, exit, and shop icons.
+        icons.forEach((actor) -> {
+            actor.draw(minimapBatch, 1f);
+        });
+        
+        // Draw side tile icons, leaving the alpha already in the frame buffer untouched.
+        minimapBatch.flush();
+        Gdx.gl.glColorMask(true, true, true, false);
+        sideIcons.forEach((actor) -> {
+            actor.draw(minimapBatch, 1f);
+        });
+        minimapBatch.flush();
+        Gdx.gl.glColorMask(true, true, true, true);
+        
+        // Stop batch and drawing into the frame buffer.
+        minimapBatch.end();
+        frameBuffer.end();
+        
+        // 10.  Store the frame buffer in the minimap cache and return the related texture region.
+        return minimapCache.put(currentRegion, frameBuffer);
+        
+    }
+    
+    public void minimap_dispose()
+    {
+        
+        // The function disposes of the baked minimaps and the batch used to draw them.
+        
+        // Dispose of baked minimaps.
+        minimapCache.dispose();
+        
+        // If batch used for baking initialized, then...
+        if (minimapBatch != null)
+        {
+            
+            // Batch used for baking initialized.
+            
+            // Dispose of batch.
+            minimapBatch.dispose();
+            minimapBatch = null;
+            
+        }
+        
+    }
+    
+    public ArrayList<BaseActor> minimap_render()
+    {
+        
+        /*
+        The function returns the icons used to render the minimap for the current map / region.
+        The static portion of the minimap (background, map, exits, shops, and side tiles) comes from the 
+        minimap cache, baking it first when necessary, so only two actors result -- one for the baked 
+        minimap and one for the cursor.
+        
+        The setting up the minimap for rendering (populating the array list) involves the following:
+        
+        1.  Initialize array list.
+        2.  Calculate width and height of minimap, including the background.
+        3.  Add base actor for baked minimap, baking first if necessary.
+        4.  Render minimap cursor.
+        5.  Add base actor for player icon.
+        6.  Return the array list with the base actors for the icons.
+        */
+        
+        TextureRegion bakedRegion; // Texture region covering the baked minimap.
+        ArrayList<BaseActor> icons; // BaseActor objects associated with icons.
+        HeroineEnum.MinimapCursorEnum keyCursor; // Key to texture region in hash map for cursor icon to display.
+        
+        // 1.  Initialize array list.
+        icons = new ArrayList<>();
+        
+        // 2.  Calculate width and height of minimap, including the background.
+        minimapWidth = (regionWidth * minimapIconSize) + (2f * MINIMAP_BORDER);
+        minimapHeight = (regionHeight * minimapIconSize) + (2f * MINIMAP_BORDER);
+        
+        // 3.  Add base actor for baked minimap, baking first if necessary.
+        
+        // Get baked minimap for current region from cache.
+        bakedRegion = minimapCache.get(currentRegion);
+        
+        // If no current bake exists, then...
+        if (bakedRegion == null)
+            // No current bake exists.  Bake minimap.
+            bakedRegion = minimap_bake();
+        
+        // Add base actor for baked minimap.
+        icons.add( new BaseActor("Minimap_Baked", bakedRegion, -MINIMAP_BORDER, -MINIMAP_BORDER) );
+        
+        // 4.  Render minimap cursor.
         
         // Determine key containing texture region for icon.      
         
@@ -3603,13 +3845,13 @@ public class MazeMap
                 
         }
         
-        // 11.  Add base actor for player icon.
+        // 5.  Add base actor for player icon.
         icons.add( new BaseActor("Minimap_Avatar", 
           minimapCursorRegions.get(keyCursor), 
           minimapDestX.get(gameHD.getAvatar().getY()).get(gameHD.getAvatar().getX()), 
           minimapDestY.get(gameHD.getAvatar().getY()).get(gameHD.getAvatar().getX()) ) );
         
-        // 12.  Return the array list with the base actors for the icons.
+        // 6.  Return the array list with the base actors for the icons.
         return icons;
 
     }
@@ -4154,20 +4396,14 @@ public class MazeMap
         
         1.  Initializes array lists and hash maps and allocate space for arrays.
         2.  Sets starting region / map location.
-        3.  Stores region name.
-        4.  Stores reference to current region / map.
-        5.  Copies tiles for current region to class-level variable.
-        6.  Stores region width and height -- in tiles.
-        7.  Calculates minimap offset (lower left corner) based on scale.
-        8.  Calculates destination coordinates for minimap icons.
-        9.  Adds elements to tile active array list.
+        3.  Takes the region state prepared in the background (see prepareNearbyExits) or builds it now --
+            region name, reference to region / map and its tiles, region width and height, minimap offset, 
+            and destination coordinates for minimap icons.
+        4.  Applies the region state.
+        5.  Adds elements to tile active array list.
         */
         
-        ArrayList<Float> tempMinimapDestX; // Holder for x-coordinate values for current row (for placing minimap icons).
-        ArrayList<Float> tempMinimapDestY; // Holder for y-coordinate values for current row (for placing minimap icons).
-        float minimapDestPosX; // X-coordinate at which to place minimap icon.
-        float minimapDestPosY; // Y-coordinate at which to place minimap icon.
-        //int counter; // Used to increment through tile region enumerations.
+        RegionState regionState; // Region state for new region.
         
         // 1.  Set defaults and initialize array lists and hash maps.
         
@@ -4186,11 +4422,11 @@ public class MazeMap
         chestActiveInd = false;
         lockedDoorActiveInd = false;
         
+        // Force a full render of view tiles for the new region.
+        viewCacheValidInd = false;
+        
         // Clear array lists.
         goldActions.clear();
-        regionTiles.clear();
-        minimapDestX.clear();
-        minimapDestY.clear();
         chestOtherItems.clear();
         chestOtherItemsQty.clear();
         tileActiveInd.clear();
@@ -4198,45 +4434,126 @@ public class MazeMap
         // 2.  Set current region / map location.
         this.map_id = map_id;
         
-        // 3.  Get region name.
-        regionName = atlas.mapIdentifiersRev.get(this.map_id);
+        // 3.  Take prepared region state or build it now.
+        regionState = takeRegionState(map_id, viewHeight);
         
-        // 4.  Store reference to current region / map.
-        this.currentRegion = atlas.maps.get(regionName);
+        // 4.  Apply region state.
+        regionName = regionState.regionName;
+        this.currentRegion = regionState.region;
         
         System.out.println("Current region: " + regionName);
         
-        // 5.  Copy tiles for current region. -- Actually, stores references.
-        regionTiles.addAll(currentRegion.getRegionTiles());
-        
-        // 6.  Copy current region width and height -- in tiles.
-        regionWidth = currentRegion.getRegionWidth();
-        regionHeight = currentRegion.getRegionHeight();
+        regionTiles = currentRegion.getRegionTiles();
+        regionWidth = regionState.regionWidth;
+        regionHeight = regionState.regionHeight;
         
         System.out.println("Region size: " + regionWidth + " by " + regionHeight);
         
-        // 7.  Calculate minimap offset (lower left corner) based on scale.
         minimapOffsetX = 2f * gameHD.getConfig().getScale();
-        minimapOffsetY = viewHeight - (regionHeight * minimapIconSize) - (2f * gameHD.getConfig().getScale()); // 106f * gameHD.getConfig().getScale();
+        minimapOffsetY = regionState.minimapOffsetY;
+        
+        minimapDestX.clear();
+        minimapDestY.clear();
+        minimapDestX.addAll(regionState.minimapDestX);
+        minimapDestY.addAll(regionState.minimapDestY);
+        
+        // 5.  Add elements to active tile list.
+        
+        // Loop through and add elements to active tile list, defaulting to false.
+        for (int tileCounter = 0; tileCounter <= TILE_COUNT_BASE_0; tileCounter++)
+        {
+            // Add tile active indicator -- default to false.
+            tileActiveInd.add(false);
+        }
+        
+    }
+    
+    // Inner classes below...
+    
+    private static class RegionState
+    {
+        
+        // The inner class stores the state needed to show a region, built ahead of entering it.
+        // Instances get built on one thread and then handed over (through a future) without further change.
+        
+        // Declare object variables.
+        private final ArrayList<ArrayList<Float>> minimapDestX; // X-coordinates for destination of minimap 
+          // icons in stage.
+        private final ArrayList<ArrayList<Float>> minimapDestY; // Y-coordinates for destination of minimap 
+          // icons in stage.
+        private RegionMap region; // Reference to region / map.
+        private String regionName; // Name of region / map.
+        
+        // Declare regular variables.
+        private float minimapOffsetY; // Y-coordinate of lower left corner of minimap.
+        private int regionHeight; // Region height, in tiles.
+        private int regionWidth; // Region width, in tiles.
+        
+        private RegionState()
+        {
+            
+            // The constructor initializes the array lists.
+            
+            // Initialize array lists.
+            minimapDestX = new ArrayList<>();
+            minimapDestY = new ArrayList<>();
+            
+        }
+        
+    }
+    
+    // map_id = Region / map for which to build state.
+    // viewHeight = Height of the stage.
+    // pinInd = Whether to pin the region as the current one in the region cache.  False when preparing a 
+    //   region ahead of entering it.
+    private RegionState buildRegionState(int map_id, int viewHeight, boolean pinInd)
+    {
+        
+        // The function builds the state needed to show the passed region -- region, dimensions, minimap 
+        // offset, and destination coordinates for minimap icons.
+        // The function touches no other state in the class, so it may run on the background thread.
+        
+        float minimapDestPosX; // X-coordinate at which to place minimap icon.
+        float minimapDestPosY; // Y-coordinate at which to place minimap icon.
+        RegionState regionState; // Region state to return.
+        ArrayList<Float> tempMinimapDestX; // Holder for x-coordinate values for current row (for placing minimap icons).
+        ArrayList<Float> tempMinimapDestY; // Holder for y-coordinate values for current row (for placing minimap icons).
+        
+        // Initialize region state.
+        regionState = new RegionState();
         
-        // 8.  Calculate destination coordinates for minimap icons.
+        // Get region name.
+        regionState.regionName = atlas.mapIdentifiersRev.get(map_id);
+        
+        // Store reference to region / map -- loading it, if necessary.
+        regionState.region = pinInd ? atlas.getRegionMap(map_id) : atlas.prepareRegionMap(map_id);
+        
+        // Copy region width and height -- in tiles.
+        regionState.regionWidth = regionState.region.getRegionWidth();
+        regionState.regionHeight = regionState.region.getRegionHeight();
+        
+        // Calculate minimap offset (lower left corner) based on scale.
+        regionState.minimapOffsetY = viewHeight - (regionState.regionHeight * minimapIconSize) - 
+          (2f * gameHD.getConfig().getScale());
+        
+        // Calculate destination coordinates for minimap icons.
         
         // Set starting y-coordinate at which to place minimap icon (bottom of lowest icon).
-        minimapDestPosY = 0f; // minimapOffsetY;
+        minimapDestPosY = 0f;
         
         // Loop through vertical tiles.
-        for (int counterY = regionHeight - 1; counterY >= 0; counterY--)
+        for (int counterY = regionState.regionHeight - 1; counterY >= 0; counterY--)
         {
             
             // Reset x-coordinate at which to place minimap icon (left edge).
-            minimapDestPosX = 0f; // minimapOffsetX;
+            minimapDestPosX = 0f;
             
             // Reinitialize array lists.
             tempMinimapDestX = new ArrayList<>();
             tempMinimapDestY = new ArrayList<>();
             
             // Loop through horizontal tiles.
-            for (int counterX = 0; counterX < regionWidth; counterX++)
+            for (int counterX = 0; counterX < regionState.regionWidth; counterX++)
             {
                 
                 // Add location to array lists for current row.
@@ -4249,8 +4566,8 @@ public class MazeMap
             } // End ... Loop through horizontal tiles.
             
             // Add array lists for current row to sets for all rows.
-            minimapDestX.add(tempMinimapDestX);
-            minimapDestY.add(tempMinimapDestY);
+            regionState.minimapDestX.add(tempMinimapDestX);
+            regionState.minimapDestY.add(tempMinimapDestY);
             
             // Move up one icon.
             minimapDestPosY += minimapIconSize;
@@ -4258,20 +4575,110 @@ public class MazeMap
         } // End ... Loop through vertical tiles.
         
         // Reverse rows in top-level array lists.
-        Collections.reverse(minimapDestX);
-        Collections.reverse(minimapDestY);
+        Collections.reverse(regionState.minimapDestX);
+        Collections.reverse(regionState.minimapDestY);
         
-        // 9.  Add elements to active tile list.
+        // Return region state.
+        return regionState;
         
-        // Loop through and add elements to active tile list, defaulting to false.
-        for (int tileCounter = 0; tileCounter <= TILE_COUNT_BASE_0; tileCounter++)
+    }
+    
+    // posX = X-coordinate of player.
+    // posY = Y-coordinate of player.
+    // viewHeight = Height of the stage.
+    public void prepareNearbyExits(int posX, int posY, final int viewHeight)
+    {
+        
+        // The function starts building the state for the destination of each exit within 
+        // EXIT_PREPARE_STEPS steps of the passed location, on the background thread.
+        // Entering the region through the exit then only swaps in the prepared state (see reset).
+        
+        // Loop through exits in current region.
+        for (final RegionMap.RegionExit regionExit : currentRegion.getRegionExits())
         {
-            // Add tile active indicator -- default to false.
-            tileActiveInd.add(false);
+            
+            // If exit too far away or destination already prepared, then skip to next.
+            if (Math.abs(regionExit.exit_x - posX) + Math.abs(regionExit.exit_y - posY) > 
+              EXIT_PREPARE_STEPS || preparedStates.containsKey(regionExit.getDest_map()))
+                continue;
+            
+            // Queue build of region state for destination.
+            preparedStates.put(regionExit.getDest_map(), regionPreparer.submit(new Callable<RegionState>()
+                {
+                    
+                    @Override
+                    public RegionState call()
+                    {
+                        // Build region state for destination, without pinning it in the region cache.
+                        return buildRegionState(regionExit.getDest_map(), viewHeight, false);
+                    }
+                    
+                }));
+            
         }
         
     }
     
+    // map_id = Region / map being entered.
+    // viewHeight = Height of the stage.
+    private RegionState takeRegionState(int map_id, int viewHeight)
+    {
+        
+        // The function returns the state for the passed region -- the one prepared on the background thread,
+        // when finished and still current, or one built now.
+        // The function clears all prepared states, since the exits nearby change with the region.
+        
+        Future<RegionState> prepared; // Region state prepared on background thread (or null).
+        RegionState regionState; // Region state to return.
+        
+        // Set defaults.
+        regionState = null;
+        
+        // Get region state prepared for region, if any.
+        prepared = preparedStates.get(map_id);
+        
+        // If region state prepared and finished, then...
+        if (prepared != null && prepared.isDone() && !prepared.isCancelled())
+        {
+            
+            // Region state prepared and finished.
+            
+            // Try getting prepared region state.
+            try {
+                regionState = prepared.get();
+            }
+            
+            // Catch any exception from the background thread.
+            catch (InterruptedException | ExecutionException ex) {
+                
+                // Display warning.
+                System.out.println("Warning:  Preparing region " + map_id + " failed.\nMessage: " + 
+                  ex.getMessage());
+                
+                // Restore interrupt flag, if interrupted.
+                if (ex instanceof InterruptedException)
+                    Thread.currentThread().interrupt();
+                
+            }
+            
+            // If prepared copy of region no longer the one in the atlas (evicted since), then...
+            if (regionState != null && regionState.region != atlas.getRegionMap(map_id))
+                // Prepared copy stale.  Discard.
+                regionState = null;
+            
+        }
+        
+        // Cancel and clear remaining prepared states.
+        for (Future<RegionState> future : preparedStates.values())
+            future.cancel(false);
+        
+        preparedStates.clear();
+        
+        // Return prepared region state or build it now.
+        return regionState != null ? regionState : buildRegionState(map_id, viewHeight, true);
+        
+    }
+    
     // goldQuantity = Amount of gold to give to player and show.
     // goldLabel = Label showing player gold.
     // tiles = BaseActor objects associated with tiles.  0 to 12 = Background tiles.  13 and beyond for others.
@@ -4411,14 +4818,14 @@ public class MazeMap
     // posX = X-coordinate of location at which to get forward position (key).
     // posY = Y-coordinate of location at which to get forward position (key).
     // facingEnum = Enumerated value related to current direction player is facing.
-    public String getForwardPosKey(int posX, int posY, HeroineEnum.FacingEnum facingEnum) {
-        // Returns the location of the tile in passed location / facing direction in the form of a key (x, y).
-        // Example:  10, 5.
+    public int getForwardPosKey(int posX, int posY, HeroineEnum.FacingEnum facingEnum) {
+        // Returns the location of the tile in passed location / facing direction in the form of a packed 
+        // integer key -- see RegionMap.packLocationKey.  Example:  (10, 5) -> 655365.
         
-        String key; // Key value related to location to return.
+        int key; // Key value related to location to return.
         
         // Set defaults.
-        key = null;
+        key = -1;
         
         // Depending on direction player facing, ...
         switch (facingEnum) {
@@ -4428,7 +4835,7 @@ public class MazeMap
                 // Facing north.
                 
                 // Return key for tile one square north of the one passed.
-                key = Integer.toString(posX) + ", " + Integer.toString(posY - 1);
+                key = RegionMap.packLocationKey(posX, posY - 1);
                 
                 // Exit selector.
                 break;
@@ -4438,7 +4845,7 @@ public class MazeMap
                 // Facing south.
                 
                 // Return key for tile one square south of the one passed.
-                key = Integer.toString(posX) + ", " + Integer.toString(posY + 1);
+                key = RegionMap.packLocationKey(posX, posY + 1);
                 
                 // Exit selector.
                 break;
@@ -4448,7 +4855,7 @@ public class MazeMap
                 // Facing east.
                 
                 // Return key for tile one square east of the one passed.
-                key = Integer.toString(posX + 1) + ", " + Integer.toString(posY);
+                key = RegionMap.packLocationKey(posX + 1, posY);
                 
                 // Exit selector.
                 break;
@@ -4458,7 +4865,7 @@ public class MazeMap
                 // Facing west.
                 
                 // Return key for tile one square west of the one passed.
-                key = Integer.toString(posX - 1) + ", " + Integer.toString(posY);
+                key = RegionMap.packLocationKey(posX - 1, posY);
                 
                 // Exit selector.
                 break;
@@ -4482,14 +4889,14 @@ public class MazeMap
     public HeroineEnum.ImgTileEnum getImgTileEnum(int posX, int posY) {
         // Returns the enumerated value for the tile at the passed location.
         // Reverses y and x to ease working with tiles.
-        return HeroineEnum.ImgTileEnum.valueOf(regionTiles.get(posY).get(posX));
+        return HeroineEnum.ImgTileEnum.valueOf(regionTiles.getTile(posX, posY));
     }
     
     // avatar = Reference to player information.
     public HeroineEnum.ImgTileEnum getImgTileEnum_CurrentLoc(Avatar avatar) {
         // Returns the enumerated value for the tile at the current player location.
         // Reverses y and x to ease working with tiles.
-        return HeroineEnum.ImgTileEnum.valueOf(regionTiles.get(avatar.getY()).get(avatar.getX()));
+        return HeroineEnum.ImgTileEnum.valueOf(regionTiles.getTile(avatar.getX(), avatar.getY()));
     }
     
     // avatar = Reference to player information.
@@ -4521,7 +4928,7 @@ public class MazeMap
                 
                 // Set value of tile to return.
                 imgTileEnum = 
-                  HeroineEnum.ImgTileEnum.valueOf( regionTiles.get(avatar.getY() - 1).get(avatar.getX()) );
+                  HeroineEnum.ImgTileEnum.valueOf( regionTiles.getTile(avatar.getX(), avatar.getY() - 1) );
                 
                 // Exit selector.
                 break;
@@ -4532,7 +4939,7 @@ public class MazeMap
                 
                 // Set value of tile to return.
                 imgTileEnum = 
-                  HeroineEnum.ImgTileEnum.valueOf( regionTiles.get(avatar.getY() + 1).get(avatar.getX()) );
+                  HeroineEnum.ImgTileEnum.valueOf( regionTiles.getTile(avatar.getX(), avatar.getY() + 1) );
                 
                 // Exit selector.
                 break;
@@ -4543,7 +4950,7 @@ public class MazeMap
                 
                 // Set value of tile to return.
                 imgTileEnum = 
-                  HeroineEnum.ImgTileEnum.valueOf( regionTiles.get(avatar.getY()).get(avatar.getX() + 1) );
+                  HeroineEnum.ImgTileEnum.valueOf( regionTiles.getTile(avatar.getX() + 1, avatar.getY()) );
                 
                 // Exit selector.
                 break;
@@ -4554,7 +4961,7 @@ public class MazeMap
                 
                 // Set value of tile to return.
                 imgTileEnum = 
-                  HeroineEnum.ImgTileEnum.valueOf( regionTiles.get(avatar.getY()).get(avatar.getX() - 1) );
+                  HeroineEnum.ImgTileEnum.valueOf( regionTiles.getTile(avatar.getX() - 1, avatar.getY()) );
                 
                 // Exit selector.
                 break;
@@ -5109,6 +5516,18 @@ public class MazeMap
         return regionHeight;
     }
 
+    public TileGrid getRegionTiles() {
+        return regionTiles;
+    }
+
+    public boolean isIncrementalRenderInd() {
+        return incrementalRenderInd;
+    }
+    
+    public void setIncrementalRenderInd(boolean incrementalRenderInd) {
+        this.incrementalRenderInd = incrementalRenderInd;
+    }
+
     public int getRegionWidth() {
         return regionWidth;
     }
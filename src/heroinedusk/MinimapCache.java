@@ -0,0 +1,225 @@
+package heroinedusk;
+
+// LibGDX imports.
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+
+// Java imports.
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class MinimapCache
+{
+
+    /*
+    The class stores the baked (static) portion of the minimap for recently visited regions.
+    Each bake lives in a frame buffer, so showing the minimap costs a single quad instead of one actor per
+    tile, exit, shop, and side tile.
+
+    Notes:
+    1.  Entries are keyed by map_id and evicted in least recently used order once the capacity is exceeded.
+    2.  Evicted and replaced entries dispose of their frame buffers.
+    3.  Each entry stores the region and its tile version at the time of baking.  A bake made for a
+        different copy of the region or before the latest tile change (for example, burning a bone pile or
+        unlocking a door) counts as stale.
+
+    Inner classes include:
+
+    MinimapBake:  Stores a baked minimap and related information.
+
+    Methods include:
+
+    dispose:  Disposes of all baked minimaps and clears the cache.
+    get:  Returns the baked minimap for the passed region, if present and current (or null).
+    put:  Stores the passed baked minimap for the passed region, replacing any existing one.
+    remove:  Removes and disposes of the baked minimap for the passed region.
+    */
+
+    // Declare object variables.
+    private final LinkedHashMap<Integer, MinimapBake> bakes; // Baked minimaps, by map_id.
+      // Iteration order runs from least to most recently used.
+
+    // Declare regular variables.
+    private final int capacity; // Maximum number of baked minimaps to keep.
+
+    // capacity = Maximum number of baked minimaps to keep.
+    public MinimapCache(int capacity)
+    {
+
+        // The constructor stores the capacity and initializes the (access-ordered) hash map.
+
+        // Store capacity.
+        this.capacity = capacity;
+
+        // Initialize hash map.
+        bakes = new LinkedHashMap<Integer, MinimapBake>(16, 0.75f, true)
+        {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, MinimapBake> eldest)
+            {
+
+                // The function disposes of and removes the least recently used bake when over capacity.
+
+                // If over capacity, then...
+                if (size() > MinimapCache.this.capacity)
+                {
+
+                    // Over capacity.
+
+                    // Dispose of frame buffer for least recently used bake.
+                    eldest.getValue().frameBuffer.dispose();
+
+                    // Remove least recently used bake.
+                    return true;
+
+                }
+
+                // Keep all bakes.
+                return false;
+
+            }
+
+        };
+
+    }
+
+    public void dispose()
+    {
+
+        // The function disposes of all baked minimaps and clears the cache.
+
+        // Loop through baked minimaps.
+        for (MinimapBake bake : bakes.values())
+        {
+            // Dispose of frame buffer.
+            bake.frameBuffer.dispose();
+        }
+
+        // Clear hash map.
+        bakes.clear();
+
+    }
+
+    // region = Region / map for which to return the baked minimap.
+    public TextureRegion get(RegionMap region)
+    {
+
+        // The function returns the baked minimap for the passed region, if present and current (or null).
+        // Getting a bake marks it as most recently used.
+
+        MinimapBake bake; // Baked minimap for the passed region.
+
+        // Get baked minimap for the passed region.
+        bake = bakes.get(region.getRegionNbr());
+
+        // If no bake exists, then...
+        if (bake == null)
+            // No bake exists.
+            return null;
+
+        // If bake made for a different copy of the region or before latest tile change, then...
+        if (bake.regionMap != region || bake.tileVersion != region.getTileVersion())
+        {
+
+            // Bake made for a different copy of the region or before latest tile change.
+
+            // Dispose of and remove stale bake.
+            remove(region.getRegionNbr());
+
+            // No current bake exists.
+            return null;
+
+        }
+
+        // Return baked minimap.
+        return bake.region;
+
+    }
+
+    // region = Region / map shown in the baked minimap.
+    // frameBuffer = Frame buffer containing the baked minimap.
+    public TextureRegion put(RegionMap region, FrameBuffer frameBuffer)
+    {
+
+        // The function stores the passed baked minimap for the passed region, replacing any existing one.
+        // The function returns the texture region covering the baked minimap.
+
+        MinimapBake bake; // Baked minimap to store.
+
+        // Dispose of and remove existing bake, if any.
+        remove(region.getRegionNbr());
+
+        // Initialize bake.
+        bake = new MinimapBake(region, frameBuffer);
+
+        // Store bake.
+        bakes.put(region.getRegionNbr(), bake);
+
+        // Return texture region covering the baked minimap.
+        return bake.region;
+
+    }
+
+    // map_id = Region / map number.
+    public void remove(int map_id)
+    {
+
+        // The function removes and disposes of the baked minimap for the passed region.
+
+        MinimapBake bake; // Baked minimap to remove.
+
+        // Remove bake.
+        bake = bakes.remove(map_id);
+
+        // If bake existed, then...
+        if (bake != null)
+            // Dispose of frame buffer.
+            bake.frameBuffer.dispose();
+
+    }
+
+    // Getters and setters below...
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getSize() {
+        return bakes.size();
+    }
+
+    private class MinimapBake
+    {
+
+        // The class stores a baked minimap and related information.
+
+        // Declare object variables.
+        private final FrameBuffer frameBuffer; // Frame buffer containing the baked minimap.
+        private final TextureRegion region; // Texture region covering the color buffer of the frame buffer.
+        private final RegionMap regionMap; // Region / map shown in the baked minimap.
+
+        // Declare regular variables.
+        private final int tileVersion; // Tile version for the region at the time of baking.
+
+        // regionMap = Region / map shown in the baked minimap.
+        // frameBuffer = Frame buffer containing the baked minimap.
+        private MinimapBake(RegionMap regionMap, FrameBuffer frameBuffer)
+        {
+
+            // The constructor stores the passed values and sets up the texture region.
+
+            // Store passed values.
+            this.regionMap = regionMap;
+            this.tileVersion = regionMap.getTileVersion();
+            this.frameBuffer = frameBuffer;
+
+            // Set up texture region, flipping vertically since frame buffers store rows bottom to top.
+            region = new TextureRegion(frameBuffer.getColorBufferTexture());
+            region.flip(false, true);
+
+        }
+
+    }
+
+}
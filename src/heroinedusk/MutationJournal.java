@@ -0,0 +1,271 @@
+package heroinedusk;
+
+// Java imports.
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+public class MutationJournal
+{
+
+    /*
+    The class records changes to the world (and the player) as an append-only list of records, so that
+    persisting progress costs time in proportion to the changes rather than the size of the world.
+
+    Record layout (big-endian, each starting with a record type byte):
+
+    RECORD_AVATAR:  map_id, x, y, facing, hp, max_hp, mp, max_mp, gold, bonus_atk, bonus_def, weapon, armor,
+      spellbook, moved, sleep location (map_id, x, y), spell list (count, then spell and flag for each).
+    RECORD_TILE:  region number (int), layer (byte), x (short), y (short), tile (short).
+    RECORD_CHEST, RECORD_BONE_PILE, RECORD_LOCKED_DOOR:  index of removed item (int), in the lists of the atlas
+      items.
+
+    Notes:
+    1.  Regions log tile changes made through RegionMap.setRegionTileNbr* (including those made by
+        MazeMap.transformChestTile) once the atlas holds the journal (see Atlas.setJournal).  Atlas items log
+        removed chests, bone piles, and locked doors once holding the journal (see AtlasItems.setJournal).
+    2.  Records stay in memory until taken (takePending), which leaves the journal empty for the next changes.
+        SaveGame appends taken records to the save file and replays them when loading.
+    3.  Strings hold a short length (-1 = null) and UTF-8 bytes.  Enumerated values get stored by name, as in
+        AtlasBinary.
+    4.  Log only from the render thread -- the journal does not synchronize.
+
+    Methods include:
+
+    discardPending:  Removes all records not yet taken.
+    logAvatar:  Adds a record holding the current state of the passed player.
+    logBonePileRemoved:  Adds a record of the bone pile with the passed index getting removed.
+    logChestRemoved:  Adds a record of the chest with the passed index getting removed.
+    logLockedDoorRemoved:  Adds a record of the locked door with the passed index getting removed.
+    logTile:  Adds a record of the tile at the passed location getting changed.
+    putInt:  Appends an int to the records.
+    putShort:  Appends a short to the records.
+    putString:  Appends a string to the records.
+    takePending:  Returns the records not yet taken and empties the journal.
+    */
+
+    // Declare object variables.
+    private final ByteArrayOutputStream pending; // Records not yet taken, in order of logging.
+
+    // Declare regular variables.
+    private int pendingCount; // Number of records not yet taken.
+
+    // Declare constants.
+    public static final byte RECORD_AVATAR = 1; // Record holding the state of the player.
+    public static final byte RECORD_BONE_PILE = 4; // Record of a removed bone pile.
+    public static final byte RECORD_CHEST = 3; // Record of a removed chest.
+    public static final byte RECORD_LOCKED_DOOR = 5; // Record of a removed locked door.
+    public static final byte RECORD_TILE = 2; // Record of a changed tile.
+
+    public MutationJournal()
+    {
+
+        // The constructor initializes the journal as empty.
+
+        // Initialize records.
+        pending = new ByteArrayOutputStream();
+        pendingCount = 0;
+
+    }
+
+    public void discardPending()
+    {
+
+        // The function removes all records not yet taken.
+        // Used after loading a saved game, since the changes applied by the load already exist in the file.
+
+        // Empty journal.
+        pending.reset();
+        pendingCount = 0;
+
+    }
+
+    // avatar = Player whose state to record.
+    public void logAvatar(Avatar avatar)
+    {
+
+        // The function adds a record holding the current state of the passed player.
+
+        // Write record type.
+        pending.write(RECORD_AVATAR);
+
+        // Write location.
+        putInt(avatar.getMap_id());
+        putInt(avatar.getX());
+        putInt(avatar.getY());
+        putString(avatar.getFacing().name());
+
+        // Write statistics.
+        putInt(avatar.getHp());
+        putInt(avatar.getMax_hp());
+        putInt(avatar.getMp());
+        putInt(avatar.getMax_mp());
+        putInt(avatar.getGold());
+        putInt(avatar.getBonus_atk());
+        putInt(avatar.getBonus_def());
+
+        // Write equipment and spellbook.
+        putString(avatar.getWeapon().name());
+        putString(avatar.getArmor().name());
+        putString(avatar.getSpellbook().name());
+        pending.write(avatar.getMovedInd() ? 1 : 0);
+
+        // Write sleep location / respawn point.
+        putInt(avatar.getSleepLoc().getMap_id());
+        putInt(avatar.getSleepLoc().getX());
+        putInt(avatar.getSleepLoc().getY());
+
+        // Write spell list.
+        putInt(avatar.getSpellList().size());
+
+        for (Map.Entry<HeroineEnum.SpellEnum, Boolean> spell : avatar.getSpellList().entrySet())
+        {
+            putString(spell.getKey().name());
+            pending.write(spell.getValue() ? 1 : 0);
+        }
+
+        // Count record.
+        pendingCount++;
+
+    }
+
+    // index = Index of the removed bone pile, in the list of bone piles.
+    public void logBonePileRemoved(int index)
+    {
+
+        // The function adds a record of the bone pile with the passed index getting removed.
+
+        // Write record.
+        pending.write(RECORD_BONE_PILE);
+        putInt(index);
+
+        // Count record.
+        pendingCount++;
+
+    }
+
+    // index = Index of the removed chest, in the list of chests.
+    public void logChestRemoved(int index)
+    {
+
+        // The function adds a record of the chest with the passed index getting removed.
+
+        // Write record.
+        pending.write(RECORD_CHEST);
+        putInt(index);
+
+        // Count record.
+        pendingCount++;
+
+    }
+
+    // index = Index of the removed locked door, in the list of locked doors.
+    public void logLockedDoorRemoved(int index)
+    {
+
+        // The function adds a record of the locked door with the passed index getting removed.
+
+        // Write record.
+        pending.write(RECORD_LOCKED_DOOR);
+        putInt(index);
+
+        // Count record.
+        pendingCount++;
+
+    }
+
+    // regionNbr = Number of the region containing the tile.
+    // layer = Layer containing the tile.  One of the RegionMap.TILE_LAYER_* values.
+    // posX = X-coordinate, as passed to the setter for the layer.
+    // posY = Y-coordinate, as passed to the setter for the layer.
+    // tile = New tile.
+    public void logTile(int regionNbr, int layer, int posX, int posY, int tile)
+    {
+
+        // The function adds a record of the tile at the passed location getting changed.
+
+        // Write record.
+        pending.write(RECORD_TILE);
+        putInt(regionNbr);
+        pending.write(layer);
+        putShort(posX);
+        putShort(posY);
+        putShort(tile);
+
+        // Count record.
+        pendingCount++;
+
+    }
+
+    // value = Value to append.
+    private void putInt(int value)
+    {
+
+        // The function appends an int to the records (big-endian).
+
+        // Write bytes, high to low.
+        pending.write(value >>> 24);
+        pending.write(value >>> 16);
+        pending.write(value >>> 8);
+        pending.write(value);
+
+    }
+
+    // value = Value to append.
+    private void putShort(int value)
+    {
+
+        // The function appends a short to the records (big-endian).
+
+        // Write bytes, high to low.
+        pending.write(value >>> 8);
+        pending.write(value);
+
+    }
+
+    // text = String to append (or null).
+    private void putString(String text)
+    {
+
+        // The function appends a string to the records.
+
+        byte[] bytes; // UTF-8 bytes of the string.
+
+        // If null, then...
+        if (text == null)
+        {
+            // Null.  Write length of -1.
+            putShort(-1);
+            return;
+        }
+
+        // Write length and bytes.
+        bytes = text.getBytes(StandardCharsets.UTF_8);
+        putShort(bytes.length);
+        pending.write(bytes, 0, bytes.length);
+
+    }
+
+    public byte[] takePending()
+    {
+
+        // The function returns the records not yet taken and empties the journal.
+
+        byte[] records; // Records to return.
+
+        // Copy records and empty journal.
+        records = pending.toByteArray();
+        discardPending();
+
+        // Return records.
+        return records;
+
+    }
+
+    // Getters and setters below...
+
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+}
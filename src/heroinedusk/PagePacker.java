@@ -0,0 +1,698 @@
+package heroinedusk;
+
+// LibGDX imports.
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+// Local project imports.
+import core.TextureRect;
+
+// Java imports.
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+
+public class PagePacker
+{
+
+    /*
+    The class packs the tile regions, enemies, and backgrounds for a prescale folder into a few large pages,
+    described by a LibGDX atlas file.  Drawing from a handful of pages, rather than a texture per tile,
+    lets the explore screen render a frame with few texture switches (and so few draw calls).
+
+    Usage (build step):  java -cp <classpath> heroinedusk.PagePacker [prescaled folder] [output folder] 
+      [page size]
+
+    prescaled folder = Folder containing the prescale folders (_0800x600, ...).  Defaults to
+      assets/prescaled.
+    output folder = Folder in which to write a packed folder for each prescale folder.  Defaults to packed.
+    page size = Maximum width and height of a page, in pixels.  Defaults to 2048, which fits the texture 
+      size limit of nearly every graphics card.
+
+    Notes:
+    1.  Tiles get split into their TileRegionEnum pieces, named as with AssetMgr.loadTextureRegionsDynamic
+        (for example, "tile-grass_004").  Enemies and backgrounds get packed whole, named by image key.
+    2.  Items get placed in rows in enumeration order, keeping the pieces of each tile together on one page,
+        since the explore screen draws the pieces of a tile type together.  The items in a prescale folder
+        share one height, so the rows stay full without sorting.
+    3.  Packing removes any old atlas file, then writes the pages, the fingerprint, and the atlas file (under a
+        temporary name, renamed when complete).  The atlas file only exists after a complete run, so the
+        intro screen uses the pages only when present.
+    4.  When the pages for the current prescale folder do not exist or are stale, the intro screen loads the
+        separate images and packs the pages in the background for the next start.
+    5.  Pages use the same filter (nearest) and format (RGBA8888) as the separate images.
+    6.  The fingerprint file records the page size and the name, size, and modification time of each source
+        image.  Pages count as stale (see isPacked) when the source images no longer match, so edited images
+        get repacked without deleting the packed folder, or when the page size exceeds the texture size
+        limit of the graphics card.
+    7.  Packing in the background uses the texture size limit of the graphics card, up to 4096.
+
+    Inner classes include:
+
+    PageItem:  Image or piece of an image to pack, with its place in the pages.
+
+    Methods include:
+
+    copyItem:  Copies the pixels for the passed item from the source image into the page.
+    fingerprint:  Returns the fingerprint of the source images in the passed prescale folder.
+    getAtlasPath:  Returns the path to the atlas file for the pages of the current prescale folder.
+    isPacked:  Returns whether current pages for the current prescale folder exist.
+    layoutItems:  Places the passed items in rows on pages, returning the number of pages.
+    listItems:  Returns the tile regions, enemies, and backgrounds to pack for a prescale folder.
+    main:  Packs each prescale folder, using the passed command line arguments.
+    maxPageSize:  Returns the largest page size the graphics card supports, up to MAX_PAGE_SIZE.
+    pack:  Packs the images in the passed prescale folder into pages written to the output folder.
+    packInBackground:  Packs the pages for the current prescale folder on a background thread.
+    readImageSize:  Returns the width and height of the passed PNG image.
+    */
+
+    // Declare constants.
+    public static final String ATLAS_FILE = "pages.atlas"; // Name of atlas file describing pages.
+    public static final String ATLAS_KEY = "pages"; // Key associated with atlas -- used with asset manager
+      // hash map.
+    public static final String PACK_FOLDER = "packed/"; // Folder, relative to the working directory, in
+      // which to write a packed folder for each prescale folder.
+    private static final int DEFAULT_PAGE_SIZE = 2048; // Default width and height of a page when packing
+      // from the command line, in pixels.  Fits the texture size limit of nearly every graphics card.
+    private static final String DEFAULT_PRESCALED_FOLDER = "assets/prescaled"; // Default folder containing
+      // prescale folders.
+    private static final String FINGERPRINT_FILE = "pages.fingerprint"; // Name of file holding the page size
+      // and fingerprint of the source images.
+    private static final String FINGERPRINT_PAGE_SIZE = "pageSize: "; // Label for page size in fingerprint
+      // file.
+    private static final int MAX_PAGE_SIZE = 4096; // Largest width and height of a page, in pixels.
+    private static final int PADDING = 2; // Space between items on a page, in pixels.  Keeps filtering
+      // from bleeding between neighbors.
+    private static final String PAGE_PREFIX = "page"; // Prefix for page file names (page0.png, ...).
+
+    // source = Source image containing the item.
+    // item = Item for which to copy pixels.
+    // page = Page into which to copy.
+    private static void copyItem(Pixmap source, PageItem item, Pixmap page)
+    {
+
+        // The function copies the pixels for the passed item from the source image into the page.
+        // Copies raw bytes, so that blending leaves transparent pixels intact.
+
+        ByteBuffer sourcePixels; // Pixels of source image.
+        ByteBuffer pagePixels; // Pixels of page.
+
+        // Get pixels of page.
+        pagePixels = page.getPixels().duplicate();
+        pagePixels.order(ByteOrder.BIG_ENDIAN);
+
+        // If source image uses the same format as the page, then...
+        if (source.getFormat() == Pixmap.Format.RGBA8888)
+        {
+
+            // Source image uses same format as page.
+
+            // Get pixels of source image.
+            sourcePixels = source.getPixels().duplicate();
+
+            // Loop through rows in item.
+            for (int row = 0; row < item.height; row++)
+            {
+
+                // Select row in source image.
+                sourcePixels.limit(((item.src_y + row) * source.getWidth() + item.src_x + item.width) * 4);
+                sourcePixels.position(((item.src_y + row) * source.getWidth() + item.src_x) * 4);
+
+                // Copy row into page.
+                pagePixels.position(((item.y + row) * page.getWidth() + item.x) * 4);
+                pagePixels.put(sourcePixels);
+
+            }
+
+        }
+
+        else
+        {
+
+            // Source image uses a different format.
+
+            // Loop through pixels in item, converting each to the format of the page.
+            for (int row = 0; row < item.height; row++)
+                for (int column = 0; column < item.width; column++)
+                    pagePixels.putInt(((item.y + row) * page.getWidth() + item.x + column) * 4,
+                      source.getPixel(item.src_x + column, item.src_y + row));
+
+        }
+
+    }
+
+    // prescaleDir = Prescale folder containing the tiles, enemies, and backgrounds subfolders.
+    private static String fingerprint(FileHandle prescaleDir)
+    {
+
+        // The function returns the fingerprint of the source images in the passed prescale folder -- a line
+        // with the name, size, and modification time of each image.  Reads no image data.
+
+        ArrayList<FileHandle> files; // Source images.
+        StringBuilder text; // Text of fingerprint.
+
+        // Initialize array list and text.
+        files = new ArrayList<>();
+        text = new StringBuilder();
+
+        // Add background images.
+        for (HeroineEnum.ImgBackgroundEnum imgEnum : HeroineEnum.ImgBackgroundEnum.values())
+            files.add(prescaleDir.child("backgrounds/" + imgEnum.getValue_File()));
+
+        // Add enemy images.
+        for (HeroineEnum.ImgEnemyEnum imgEnum : HeroineEnum.ImgEnemyEnum.values())
+            files.add(prescaleDir.child("enemies/" + imgEnum.getValue_File()));
+
+        // Add tile images, other than placeholders.
+        for (HeroineEnum.ImgTileEnum imgEnum : HeroineEnum.ImgTileEnum.values())
+            if (imgEnum != HeroineEnum.ImgTileEnum.IMG_TILE_IGNORE &&
+                imgEnum != HeroineEnum.ImgTileEnum.IMG_TILE_IGNORE_SIDE)
+                files.add(prescaleDir.child("tiles/" + imgEnum.getValue_File()));
+
+        // Loop through images, adding a line for each.
+        for (FileHandle file : files)
+            text.append(file.parent().name()).append("/").append(file.name()).append(" ").append(file.length())
+              .append(" ").append(file.lastModified()).append("\n");
+
+        // Return fingerprint.
+        return text.toString();
+
+    }
+
+    // config = Configuration, including the prescale folder.
+    public static String getAtlasPath(Config config)
+    {
+
+        // The function returns the path to the atlas file for the pages of the current prescale folder,
+        // relative to the working directory.  Example:  packed/_0960x720/pages.atlas.
+        return PACK_FOLDER + config.getPrescaleName() + "/" + ATLAS_FILE;
+
+    }
+
+    // config = Configuration, including the prescale folder.
+    public static boolean isPacked(Config config)
+    {
+
+        // The function returns whether current pages for the current prescale folder exist -- packed from
+        // the current source images, in a page size the graphics card supports.
+        // Manually scaled images never get packed.  Call from the rendering thread.
+
+        FileHandle fingerprintFile; // File holding the page size and fingerprint of the source images.
+        int lineEnd; // Position of the end of the first line (page size) in the fingerprint file.
+        String text; // Text of fingerprint file.
+
+        // If using manually scaled images or atlas file missing, then...
+        if (config.getStretchToScreen() || !Gdx.files.local(getAtlasPath(config)).exists())
+            // Using manually scaled images or atlas file missing.
+            return false;
+
+        // Store fingerprint file.
+        fingerprintFile = Gdx.files.local(PACK_FOLDER + config.getPrescaleName() + "/" + FINGERPRINT_FILE);
+
+        // If fingerprint file missing (packed by an older version), then...
+        if (!fingerprintFile.exists())
+            // Fingerprint file missing.
+            return false;
+
+        // Read fingerprint file and find end of first line.
+        text = fingerprintFile.readString("UTF-8");
+        lineEnd = text.indexOf('\n');
+
+        // If first line does not hold the page size, then...
+        if (lineEnd < 0 || !text.startsWith(FINGERPRINT_PAGE_SIZE))
+            // First line does not hold the page size.
+            return false;
+
+        // Try reading the page size.
+        try {
+
+            // If page size exceeds the limit of the graphics card, then...
+            if (Integer.parseInt(text.substring(FINGERPRINT_PAGE_SIZE.length(), lineEnd)) > maxPageSize())
+                // Page size exceeds the limit of the graphics card.
+                return false;
+
+        }
+
+        // Catch any exception occurring when reading the page size.
+        catch (NumberFormatException ex) {
+
+            // Page size unreadable.
+            return false;
+
+        }
+
+        // Return whether source images match those packed.
+        return text.substring(lineEnd + 1).equals(fingerprint(Gdx.files.internal(config.getPrescaleFolder())));
+
+    }
+
+    // items = Items to place.
+    // pageSize = Maximum width and height of a page, in pixels.
+    private static int layoutItems(ArrayList<PageItem> items, int pageSize)
+    {
+
+        // The function places the passed items in rows on pages, returning the number of pages.
+
+        int page; // Page on which to place current item.
+        int rowHeight; // Height of current row, in pixels.
+        int x; // X-coordinate at which to place next item in current row.
+        int y; // Y-coordinate of top of current row.
+
+        // Set defaults.
+        page = 0;
+        rowHeight = 0;
+        x = 0;
+        y = 0;
+
+        // Loop through items.
+        for (PageItem item : items)
+        {
+
+            // If item too large for any page, then...
+            if (item.width > pageSize || item.height > pageSize)
+                // Item too large for any page.
+                throw new GdxRuntimeException("Image " + item.name + " exceeds page size of " + pageSize + ".");
+
+            // If item extends past right edge of page, then start new row.
+            if (x + item.width > pageSize)
+            {
+                x = 0;
+                y += rowHeight + PADDING;
+                rowHeight = 0;
+            }
+
+            // If item extends past bottom edge of page, then start new page.
+            if (y + item.height > pageSize)
+            {
+                page++;
+                x = 0;
+                y = 0;
+                rowHeight = 0;
+            }
+
+            // Place item.
+            item.page = page;
+            item.x = x;
+            item.y = y;
+
+            // Move past item.
+            x += item.width + PADDING;
+            rowHeight = Math.max(rowHeight, item.height);
+
+        }
+
+        // Return number of pages.
+        return items.isEmpty() ? 0 : page + 1;
+
+    }
+
+    // prescaleDir = Prescale folder containing the tiles, enemies, and backgrounds subfolders.
+    // scale = Scale factor associated with prescale folder.
+    private static ArrayList<PageItem> listItems(FileHandle prescaleDir, int scale) throws IOException
+    {
+
+        // The function returns the tile regions, enemies, and backgrounds to pack for a prescale folder.
+
+        int counter; // Used to count through regions in current tile -- for naming.
+        FileHandle file; // Image file for current item.
+        ArrayList<PageItem> items; // Items to pack.
+        TextureRect rect; // Region to extract from current tile, adjusted by scale factor.
+        int[] size; // Width and height of current image.
+
+        // Initialize array list.
+        items = new ArrayList<>();
+
+        // Loop through background image enumerations.
+        for (HeroineEnum.ImgBackgroundEnum imgEnum : HeroineEnum.ImgBackgroundEnum.values())
+        {
+            // Add whole background.
+            file = prescaleDir.child("backgrounds/" + imgEnum.getValue_File());
+            size = readImageSize(file);
+            items.add(new PageItem(imgEnum.getValue_Key(), file, 0, 0, size[0], size[1]));
+        }
+
+        // Loop through enemy image enumerations.
+        for (HeroineEnum.ImgEnemyEnum imgEnum : HeroineEnum.ImgEnemyEnum.values())
+        {
+            // Add whole enemy.
+            file = prescaleDir.child("enemies/" + imgEnum.getValue_File());
+            size = readImageSize(file);
+            items.add(new PageItem(imgEnum.getValue_Key(), file, 0, 0, size[0], size[1]));
+        }
+
+        // Loop through tile image enumerations.
+        for (HeroineEnum.ImgTileEnum imgEnum : HeroineEnum.ImgTileEnum.values())
+        {
+
+            // If placeholder, then skip to next.
+            if (imgEnum == HeroineEnum.ImgTileEnum.IMG_TILE_IGNORE ||
+                imgEnum == HeroineEnum.ImgTileEnum.IMG_TILE_IGNORE_SIDE)
+                continue;
+
+            // Reset counter.
+            counter = 0;
+
+            // Store tile image file.
+            file = prescaleDir.child("tiles/" + imgEnum.getValue_File());
+
+            // Loop through tile region enumerated values.
+            for (HeroineEnum.TileRegionEnum tileRegionEnum : HeroineEnum.TileRegionEnum.values())
+            {
+
+                // Apply scale factor to get proper region.
+                rect = new TextureRect(tileRegionEnum.getValue_TextureRect(), scale);
+
+                // Add region, named as when splitting the tile texture.
+                items.add(new PageItem(imgEnum.getValue_Key() + "_" + String.format("%03d", counter), file,
+                  rect.getSrc_x(), rect.getSrc_y(), rect.getWidth(), rect.getHeight()));
+
+                // Increment counter.
+                counter++;
+
+            }
+
+        }
+
+        // Return items.
+        return items;
+
+    }
+
+    // args = Command line arguments -- prescaled folder, output folder, and page size (all optional).
+    public static void main(String[] args)
+    {
+
+        // The function packs each prescale folder, using the passed command line arguments.
+
+        FileHandle outputRoot; // Folder in which to write a packed folder for each prescale folder.
+        int pageSize; // Maximum width and height of a page, in pixels.
+        FileHandle prescaledRoot; // Folder containing the prescale folders.
+
+        // Read arguments, using defaults for any missing.
+        prescaledRoot = new FileHandle(new File(args.length > 0 ? args[0] : DEFAULT_PRESCALED_FOLDER));
+        outputRoot = new FileHandle(new File(args.length > 1 ? args[1] : PACK_FOLDER));
+        pageSize = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_PAGE_SIZE;
+
+        // Load native libraries used by pixel maps.
+        GdxNativesLoader.load();
+
+        // Loop through prescale folders.
+        for (FileHandle prescaleDir : prescaledRoot.list())
+        {
+
+            // If not a prescale folder containing tiles, then skip to next.
+            if (!prescaleDir.name().startsWith("_") || !prescaleDir.child("tiles").isDirectory())
+                continue;
+
+            // Try packing prescale folder.
+            try {
+
+                // Pack prescale folder.  Scale factor comes from width in name (_0960x720 = 960 / 160 = 6).
+                pack(prescaleDir, outputRoot.child(prescaleDir.name()),
+                  Integer.parseInt(prescaleDir.name().substring(1, 5)) / 160, pageSize);
+
+                // Display summary.
+                System.out.println("Packed " + prescaleDir.name() + ".");
+
+            }
+
+            // Catch any exceptions occurring when reading or writing the images.
+            catch (IOException | GdxRuntimeException ex) {
+
+                // Display error message.
+                System.out.println("Warning:  Error packing " + prescaleDir.name() + ".\nMessage: " +
+                  ex.getMessage());
+
+            }
+
+        }
+
+    }
+
+    public static int maxPageSize()
+    {
+
+        // The function returns the largest page size (width and height, in pixels) the graphics card
+        // supports, up to MAX_PAGE_SIZE.  Call from the rendering thread.
+
+        IntBuffer buffer; // Receives the texture size limit.
+
+        // Query texture size limit of graphics card.
+        buffer = BufferUtils.newIntBuffer(16);
+        Gdx.gl.glGetIntegerv(GL20.GL_MAX_TEXTURE_SIZE, buffer);
+
+        // Return smaller of limit and largest page size.
+        return Math.min(buffer.get(0), MAX_PAGE_SIZE);
+
+    }
+
+    // prescaleDir = Prescale folder containing the tiles, enemies, and backgrounds subfolders.
+    // outputDir = Folder in which to write the pages and atlas file.
+    // scale = Scale factor associated with prescale folder.
+    // pageSize = Maximum width and height of a page, in pixels.
+    public static void pack(FileHandle prescaleDir, FileHandle outputDir, int scale, int pageSize) 
+      throws IOException
+    {
+
+        // The function packs the images in the passed prescale folder into pages written to the output folder.
+
+        StringBuilder atlasText; // Text of atlas file.
+        ArrayList<PageItem> items; // Items to pack.
+        Pixmap page; // Current page.
+        int pageCount; // Number of pages.
+        int pageHeight; // Height of current page -- trimmed to the rows used.
+        String pageName; // File name of current page.
+        Pixmap source; // Source image for current item.
+        FileHandle sourceFile; // File of source image for current item.
+        FileHandle tempFile; // Atlas file, before renaming.
+
+        // Set defaults.
+        atlasText = new StringBuilder();
+        source = null;
+        sourceFile = null;
+
+        // List and place items.
+        items = listItems(prescaleDir, scale);
+        pageCount = layoutItems(items, pageSize);
+
+        // Create output folder and remove any old atlas file, so the old pages go unused from here on.
+        outputDir.mkdirs();
+        outputDir.child(ATLAS_FILE).delete();
+
+        // Try writing pages, ensuring disposal of the last source image.
+        try {
+
+            // Loop through pages.
+            for (int pageNbr = 0; pageNbr < pageCount; pageNbr++)
+            {
+
+                // Determine height of page from rows used.
+                pageHeight = 0;
+                for (PageItem item : items)
+                    if (item.page == pageNbr)
+                        pageHeight = Math.max(pageHeight, item.y + item.height);
+
+                // Create page, clearing to transparent.
+                page = new Pixmap(pageSize, pageHeight, Pixmap.Format.RGBA8888);
+                page.setColor(0, 0, 0, 0);
+                page.fill();
+
+                // Store page name and add page header to atlas text.
+                pageName = PAGE_PREFIX + pageNbr + ".png";
+                atlasText.append("\n").append(pageName).append("\n");
+                atlasText.append("format: RGBA8888\nfilter: Nearest,Nearest\nrepeat: none\n");
+
+                // Loop through items on page.
+                for (PageItem item : items)
+                {
+
+                    // If item on another page, then skip to next.
+                    if (item.page != pageNbr)
+                        continue;
+
+                    // If item comes from a different image than the last, then...
+                    if (!item.file.equals(sourceFile))
+                    {
+                        // Different image.  Replace source image.  Pieces of a tile sit together, so each
+                        // image gets read about once.
+                        if (source != null)
+                            source.dispose();
+                        source = new Pixmap(item.file);
+                        sourceFile = item.file;
+                    }
+
+                    // Copy item into page.
+                    copyItem(source, item, page);
+
+                    // Add region to atlas text.
+                    atlasText.append(item.name).append("\n");
+                    atlasText.append("  rotate: false\n");
+                    atlasText.append("  xy: ").append(item.x).append(", ").append(item.y).append("\n");
+                    atlasText.append("  size: ").append(item.width).append(", ").append(item.height).append("\n");
+                    atlasText.append("  orig: ").append(item.width).append(", ").append(item.height).append("\n");
+                    atlasText.append("  offset: 0, 0\n");
+                    atlasText.append("  index: -1\n");
+
+                }
+
+                // Write and release page.
+                PixmapIO.writePNG(outputDir.child(pageName), page);
+                page.dispose();
+
+            }
+
+        }
+
+        finally {
+
+            // Release last source image.
+            if (source != null)
+                source.dispose();
+
+        }
+
+        // Write page size and fingerprint of source images.
+        outputDir.child(FINGERPRINT_FILE).writeString(FINGERPRINT_PAGE_SIZE + pageSize + "\n" + 
+          fingerprint(prescaleDir), false, "UTF-8");
+
+        // Write atlas file under a temporary name, then rename, so the atlas file exists only once complete.
+        tempFile = outputDir.child(ATLAS_FILE + ".tmp");
+        tempFile.writeString(atlasText.toString(), false, "UTF-8");
+        tempFile.moveTo(outputDir.child(ATLAS_FILE));
+
+    }
+
+    // config = Configuration, including the prescale folder.
+    public static void packInBackground(final Config config)
+    {
+
+        // The function packs the pages for the current prescale folder on a background thread, so that the
+        // next start of the game can use them.  The game may exit before the thread finishes, in which case
+        // the next start tries again.  Call from the rendering thread.
+
+        final int pageSize; // Maximum width and height of a page, in pixels.
+        Thread thread; // Background thread.
+
+        // If using manually scaled images, then...
+        if (config.getStretchToScreen())
+            // Using manually scaled images.  Exit function.
+            return;
+
+        // Store page size supported by the graphics card.  Queried here, since the background thread has no
+        // access to the graphics context.
+        pageSize = maxPageSize();
+
+        // Create background thread.
+        thread = new Thread(new Runnable()
+        {
+
+            @Override
+            public void run()
+            {
+
+                // Try packing pages.
+                try {
+                    pack(Gdx.files.internal(config.getPrescaleFolder()),
+                      Gdx.files.local(PACK_FOLDER + config.getPrescaleName()), config.getScale(), pageSize);
+                }
+
+                // Catch any exceptions occurring when reading or writing the images.
+                catch (IOException | GdxRuntimeException ex) {
+
+                    // Display warning.
+                    System.out.println("Warning:  Error packing pages for " + config.getPrescaleName() +
+                      ".\nMessage: " + ex.getMessage());
+
+                }
+
+            }
+
+        }, "page-packer");
+
+        // Allow the game to exit without waiting for the thread, then start it.
+        thread.setDaemon(true);
+        thread.start();
+
+    }
+
+    // file = PNG image for which to read size.
+    private static int[] readImageSize(FileHandle file) throws IOException
+    {
+
+        // The function returns the width and height of the passed PNG image, read from its header, without
+        // decoding the image.
+
+        DataInputStream input; // Stream used to read image header.
+        int[] size; // Width and height.
+
+        // Open image.
+        input = new DataInputStream(file.read());
+
+        // Try reading size, which follows the signature (8 bytes) and header chunk length and type (8 bytes).
+        try {
+            input.skipBytes(16);
+            size = new int[] {input.readInt(), input.readInt()};
+        }
+
+        // Close image.
+        finally {
+            input.close();
+        }
+
+        // Return size.
+        return size;
+
+    }
+
+    // Inner classes below...
+
+    private static class PageItem
+    {
+
+        /*
+        The class holds an image or piece of an image to pack, with its place in the pages.
+        */
+
+        // Declare object variables.
+        private final FileHandle file; // Source image.
+        private final String name; // Region name in atlas.
+
+        // Declare regular variables.
+        private final int height; // Height of item, in pixels.
+        private int page; // Page containing item.
+        private final int src_x; // X-coordinate of top left corner of item in source image.
+        private final int src_y; // Y-coordinate of top left corner of item in source image.
+        private final int width; // Width of item, in pixels.
+        private int x; // X-coordinate of top left corner of item in page.
+        private int y; // Y-coordinate of top left corner of item in page.
+
+        // name = Region name in atlas.
+        // file = Source image.
+        // src_x = X-coordinate of top left corner of item in source image.
+        // src_y = Y-coordinate of top left corner of item in source image.
+        // width = Width of item, in pixels.
+        // height = Height of item, in pixels.
+        private PageItem(String name, FileHandle file, int src_x, int src_y, int width, int height)
+        {
+            // The constructor stores the passed values.
+            this.name = name;
+            this.file = file;
+            this.src_x = src_x;
+            this.src_y = src_y;
+            this.width = width;
+            this.height = height;
+        }
+
+    }
+
+}
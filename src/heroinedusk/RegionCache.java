@@ -0,0 +1,456 @@
+package heroinedusk;
+
+// Java imports.
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+public class RegionCache
+{
+
+    /*
+    The class keeps recently used regions / maps in memory, loading the rest on demand from a region source.
+
+    Notes:
+    1.  Entries are keyed by map_id and evicted in least recently used order once their estimated size
+        exceeds the memory budget.
+    2.  Requesting a region pins it (the current region never gets evicted) and prefetches the destinations
+        of its exits on a background thread, so walking through an exit rarely waits on a load.
+    3.  Regions changed since loading (tile version above zero -- for example, a burned bone pile or an
+        unlocked door) never get evicted, since the source holds only their original state.  Changed
+        regions count against the budget, so the cache may run over it when many regions change.
+    4.  Sizes are estimates of the heap used by a region -- the side tile arrays, the tiles (once copied out
+        of the source), and a fixed overhead for the remaining fields.
+    5.  Only one copy of a region exists in the cache at a time.  A request for a region still being
+        prefetched waits for the prefetch rather than loading a second copy.
+    6.  Eviction runs on the background thread too, so a region fetched without pinning may leave the cache
+        at any time.  Before changing such a region, hold it (holdRegion) and release it (releaseRegion)
+        afterwards, so the change lands on the copy in the cache rather than an evicted one.  A changed
+        region then stays for good (see note 3).
+    7.  Call dispose when finished with the cache, to stop the background thread.
+
+    Methods include:
+
+    dispose:  Stops the background thread, cancelling any prefetches not yet started.
+    estimateBytes:  Returns the estimated heap used by the passed region, in bytes.
+    evict:  Removes least recently used, unchanged regions until the cache fits within the budget.
+    fetchRegion:  Returns the region with the passed number without pinning it or prefetching its exits.
+    getChangedRegions:  Returns the regions changed since loading.
+    getRegion:  Returns the region with the passed number, loading it if necessary.
+    holdRegion:  Returns the region with the passed number, keeping it in the cache until released.
+    peekRegion:  Returns the region with the passed number without pinning it or prefetching its exits.
+    prefetch:  Starts loading the region with the passed number on the background thread.
+    prefetchExits:  Prefetches the destinations of the exits in the passed region.
+    releaseRegion:  Releases a hold on the region with the passed number (see holdRegion).
+    store:  Adds the passed region to the cache, unless another copy already exists.
+    */
+
+    // Declare object variables.
+    private final HashMap<Integer, Integer> holds; // Number of holds on each held region, by map_id.
+      // Held regions never get evicted.
+    private final ExecutorService loader; // Single background thread used to prefetch regions.
+    private final HashMap<Integer, Future<RegionMap>> pending; // Prefetches not yet stored, by map_id.
+    private final LinkedHashMap<Integer, RegionMap> regions; // Regions in memory, by map_id.
+      // Iteration order runs from least to most recently used.
+    private final RegionSource source; // Source from which to load regions.
+
+    // Declare regular variables.
+    private final long budgetBytes; // Memory budget for regions, in bytes.
+    private int pinnedMapId; // Number of the region last requested (current region).  -1 = none.
+
+    // Declare constants.
+    private static final int REGION_OVERHEAD_BYTES = 1024; // Estimated heap used by a region, aside from the
+      // tile and side tile arrays.
+    private static final int SIDE_TILE_BYTES = 16; // Estimated heap used by side tiles, per location.
+      // Four int arrays.
+    private static final int TILE_BYTES = 2; // Estimated heap used by tiles, per location, once copied.
+
+    // source = Source from which to load regions.
+    // budgetBytes = Memory budget for regions, in bytes.
+    public RegionCache(RegionSource source, long budgetBytes)
+    {
+
+        // The constructor stores the passed values and starts the background thread.
+
+        // Store passed values.
+        this.source = source;
+        this.budgetBytes = budgetBytes;
+
+        // Set defaults.
+        pinnedMapId = -1;
+
+        // Initialize hash maps.
+        holds = new HashMap<>();
+        pending = new HashMap<>();
+        regions = new LinkedHashMap<>(16, 0.75f, true);
+
+        // Start background thread, allowing the game to exit without stopping it.
+        loader = Executors.newSingleThreadExecutor(new ThreadFactory()
+        {
+
+            @Override
+            public Thread newThread(Runnable runnable)
+            {
+
+                Thread thread; // Background thread.
+
+                // Create background thread.
+                thread = new Thread(runnable, "region-prefetch");
+                thread.setDaemon(true);
+
+                // Return background thread.
+                return thread;
+
+            }
+
+        });
+
+    }
+
+    public void dispose()
+    {
+
+        // The function stops the background thread, cancelling any prefetches not yet started.
+        // Regions already in the cache stay available.
+        loader.shutdownNow();
+
+    }
+
+    // region = Region for which to estimate heap used.
+    private static long estimateBytes(RegionMap region)
+    {
+
+        // The function returns the estimated heap used by the passed region, in bytes.
+
+        long cells; // Number of locations in region.
+
+        // Calculate number of locations in region.
+        cells = (long)region.getRegionWidth() * region.getRegionHeight();
+
+        // Return estimate.
+        return REGION_OVERHEAD_BYTES + (cells * SIDE_TILE_BYTES) +
+          (region.getRegionTiles().isMapped() ? 0 : cells * TILE_BYTES);
+
+    }
+
+    private synchronized void evict()
+    {
+
+        // The function removes least recently used, unchanged regions until the cache fits within the budget.
+
+        Iterator<Map.Entry<Integer, RegionMap>> iterator; // Iterates through regions, least recent first.
+        Map.Entry<Integer, RegionMap> entry; // Current region in loop.
+        long usedBytes; // Estimated heap used by regions in cache.
+
+        // Set defaults.
+        usedBytes = 0;
+
+        // Total estimated heap used by regions in cache.
+        for (RegionMap region : regions.values())
+            usedBytes += estimateBytes(region);
+
+        // Store iterator, starting with least recently used region.
+        iterator = regions.entrySet().iterator();
+
+        // Loop while over budget and regions remain to check.
+        while (usedBytes > budgetBytes && iterator.hasNext())
+        {
+
+            // Get next region.
+            entry = iterator.next();
+
+            // If region pinned, held, or changed since loading, then skip to next.
+            if (entry.getKey() == pinnedMapId || holds.containsKey(entry.getKey()) || 
+              entry.getValue().getTileVersion() != 0)
+                continue;
+
+            // Evict region.
+            usedBytes -= estimateBytes(entry.getValue());
+            iterator.remove();
+
+        }
+
+    }
+
+    // map_id = Map / region number.
+    public RegionMap fetchRegion(int map_id)
+    {
+
+        // The function returns the region with the passed number, loading it if necessary, without pinning it
+        // or prefetching its exits.  Used when preparing a region ahead of entering it.
+        return getRegion(map_id, false, false);
+
+    }
+
+    public synchronized ArrayList<RegionMap> getChangedRegions()
+    {
+        
+        // The function returns the regions changed since loading (tile version above zero).
+        // Changed regions never get evicted, so the cache holds all of them.
+        
+        ArrayList<RegionMap> changedRegions; // Changed regions to return.
+        
+        // Initialize array list.
+        changedRegions = new ArrayList<>();
+        
+        // Loop through regions, adding those changed.
+        for (RegionMap region : regions.values())
+            if (region.getTileVersion() != 0)
+                changedRegions.add(region);
+        
+        // Return changed regions.
+        return changedRegions;
+        
+    }
+    
+    // map_id = Map / region number.
+    public RegionMap getRegion(int map_id)
+    {
+
+        // The function returns the region with the passed number, loading it if necessary.
+        // The function pins the region and prefetches the destinations of its exits.
+        return getRegion(map_id, true, false);
+
+    }
+
+    // map_id = Map / region number.
+    // pinInd = Whether to pin the region and prefetch the destinations of its exits.
+    // holdInd = Whether to hold the region in the cache until released (see holdRegion).
+    private RegionMap getRegion(int map_id, boolean pinInd, boolean holdInd)
+    {
+
+        // The function returns the region with the passed number, loading it if necessary.
+
+        Future<RegionMap> prefetch; // Prefetch of region in progress (or null).
+        RegionMap region; // Region to return.
+
+        // If pinning or holding, pin or hold region (so that eviction leaves it alone from here on).  Then
+        // look for region in cache or among prefetches.
+        synchronized (this) {
+            if (pinInd)
+                pinnedMapId = map_id;
+            if (holdInd)
+                holds.put(map_id, holds.containsKey(map_id) ? holds.get(map_id) + 1 : 1);
+            region = regions.get(map_id);
+            prefetch = pending.get(map_id);
+        }
+
+        // If region not in memory, then...
+        if (region == null)
+        {
+
+            // Region not in memory.
+
+            // If prefetch in progress, then...
+            if (prefetch != null)
+            {
+
+                // Prefetch in progress.
+
+                // Try waiting for prefetch.
+                try {
+                    region = prefetch.get();
+                }
+
+                // Catch any exception from the prefetch.
+                catch (InterruptedException | ExecutionException ex) {
+
+                    // Display warning.
+                    System.out.println("Warning:  Prefetch of region " + map_id + " failed.\nMessage: " +
+                      ex.getMessage());
+
+                    // Restore interrupt flag, if interrupted.
+                    if (ex instanceof InterruptedException)
+                        Thread.currentThread().interrupt();
+
+                }
+
+            }
+
+            // If region still missing, then load region on current thread.
+            if (region == null)
+                region = source.loadRegion(map_id);
+
+            // Store region, using any copy already stored.
+            region = store(map_id, region);
+
+        }
+
+        // If pinning, then prefetch destinations of exits.
+        if (pinInd)
+            prefetchExits(region);
+
+        // Remove regions over budget.
+        evict();
+
+        // Return region.
+        return region;
+
+    }
+
+    // map_id = Map / region number.
+    public RegionMap holdRegion(int map_id)
+    {
+
+        // The function returns the region with the passed number, loading it if necessary, and keeps it in the
+        // cache until released (see releaseRegion) -- without pinning it or prefetching its exits.
+        // Used when changing a region other than the current one, such as when loading a saved game.
+        return getRegion(map_id, false, true);
+
+    }
+
+    // map_id = Map / region number.
+    public RegionMap peekRegion(int map_id)
+    {
+
+        // The function returns the region with the passed number without pinning it or prefetching its exits.
+        // The function returns the copy in the cache, if present.  Otherwise, the function loads a copy and
+        // leaves it out of the cache.  Used when visiting every region (for example, when saving the atlas).
+
+        RegionMap region; // Region to return.
+
+        // Set defaults.
+        region = null;
+
+        // Look for region in cache, without changing its place in the eviction order.
+        synchronized (this) {
+            for (Map.Entry<Integer, RegionMap> entry : regions.entrySet())
+                if (entry.getKey() == map_id)
+                    region = entry.getValue();
+        }
+
+        // Return region from cache or source.
+        return region != null ? region : source.loadRegion(map_id);
+
+    }
+
+    // map_id = Map / region number.
+    private synchronized void prefetch(final int map_id)
+    {
+
+        // The function starts loading the region with the passed number on the background thread.
+
+        // If region already in memory or loading, then...
+        if (regions.containsKey(map_id) || pending.containsKey(map_id))
+            // Region already in memory or loading.  Exit function.
+            return;
+
+        // Queue load of region.
+        pending.put(map_id, loader.submit(new Callable<RegionMap>()
+        {
+
+            @Override
+            public RegionMap call()
+            {
+
+                RegionMap region; // Region loaded.
+
+                // Try loading and storing region.
+                try {
+                    region = store(map_id, source.loadRegion(map_id));
+                }
+
+                // Clear prefetch entry, whether or not successful.
+                finally {
+                    synchronized (RegionCache.this) {
+                        pending.remove(map_id);
+                    }
+                }
+
+                // Remove regions over budget.
+                evict();
+
+                // Return region.
+                return region;
+
+            }
+
+        }));
+
+    }
+
+    // region = Region containing the exits.
+    private void prefetchExits(RegionMap region)
+    {
+
+        // The function prefetches the destinations of the exits in the passed region.
+
+        ArrayList<RegionMap.RegionExit> exits; // Exits in region.
+
+        // Store exits in region.
+        exits = region.getRegionExits();
+
+        // Loop through exits.
+        for (RegionMap.RegionExit exit : exits)
+        {
+            // Prefetch destination.
+            prefetch(exit.dest_map);
+        }
+
+    }
+
+    // map_id = Map / region number.
+    public void releaseRegion(int map_id)
+    {
+
+        // The function releases a hold on the region with the passed number (see holdRegion).
+        // Once the last hold goes, the region may get evicted again -- unless changed.
+
+        // Remove hold.
+        synchronized (this) {
+            if (holds.containsKey(map_id) && holds.get(map_id) > 1)
+                holds.put(map_id, holds.get(map_id) - 1);
+            else
+                holds.remove(map_id);
+        }
+
+        // Remove regions over budget.
+        evict();
+
+    }
+
+    // map_id = Map / region number.
+    // region = Region to add.
+    private synchronized RegionMap store(int map_id, RegionMap region)
+    {
+
+        // The function adds the passed region to the cache, unless another copy already exists.
+        // The function returns the copy in the cache.
+
+        RegionMap existing; // Copy of region already in cache (or null).
+
+        // Look for existing copy.
+        existing = regions.get(map_id);
+
+        // If copy already exists, then...
+        if (existing != null)
+            // Copy already exists.  Return existing copy.
+            return existing;
+
+        // Add region.
+        regions.put(map_id, region);
+
+        // Return region.
+        return region;
+
+    }
+
+    // Getters and setters below...
+
+    public long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    public synchronized int getRegionCount() {
+        return regions.size();
+    }
+
+}
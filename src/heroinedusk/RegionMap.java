@@ -1,12 +1,14 @@
 package heroinedusk;
 
+// Jackson imports.
+import com.fasterxml.jackson.core.JsonGenerator;
+
 // Java imports.
+import java.io.IOException;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
+import java.util.LinkedHashSet;
 
 /*
 Interface (implements) vs Sub-Class (extends)...
@@ -44,25 +46,44 @@ public class RegionMap
     
     addRegionExit:  Adds a region exit (based on the passed information) to the list.
     addRegionShop:  Adds a shop to the region (based on the passed information) to the list.
-    addTile_East:  Adds an element to the array list with details about the east sides of map locations.
-    addTile_North:  Adds an element to the array list with details about the north sides of map locations.
-    addTile_South:  Adds an element to the array list with details about the south sides of map locations.
-    addTile_West:  Adds an element to the array list with details about the west sides of map locations.
+    addTile_East:  Stores the tile shown on the east side of a map location.
+    addTile_North:  Stores the tile shown on the north side of a map location.
+    addTile_South:  Stores the tile shown on the south side of a map location.
+    addTile_West:  Stores the tile shown on the west side of a map location.
     addTiles:  Adds a horizontal set of tiles.
-    populateHashMap:  Populates the hash map containing all region information.
+    buildCollisionGrid:  Returns a new collision grid holding the walkability of the tiles and side tiles.
+    getChangedTiles:  Returns the tiles changed since loading, with their current values.
+    getCollisionGrid:  Returns the collision grid for the region, building it on first use.
+    getLayerTileNbr:  Returns the tile at the passed location in the passed layer.
+    getSideTile:  Returns the side tile at the passed location from the passed array.
+    getSideTileIndex:  Returns the index in the side tile arrays for the passed location.
+    noteTileChange:  Records a change to the tile at the passed location in the passed layer, logging it to the
+      journal (if any) and updating the collision grid (if built).
+    packLocationKey:  Returns a single integer key representing the passed location.
+    setLayerTileNbr:  Sets the tile at the passed location in the passed layer.
+    writeJSON:  Writes the region as a JSON object to the passed generator.
+    writeSideTilesJSON:  Writes the side tiles in the passed array as a JSON object to the passed generator.
     */
     
     // Declare object variables.
+    private final LinkedHashSet<Long> changedTiles; // Tiles changed since loading, in order of first change.
+      // Key = layer (TILE_LAYER_*) in upper 32 bits, location (packLocationKey, using the coordinates passed
+      // to the setter) in lower 32 bits.
+    private CollisionGrid collisionGrid; // Walkability of the tiles and side tiles, packed for movement checks.
+      // Null until first requested (see getCollisionGrid).
     private ArrayList<HeroineEnum.EnemyEnum> enemyList; // List of enemies within the region.
-    private Map<String, Object> mapJSON; // Hash map containing key / value pairs covering all region data -- 
-      // used with JSON.
+    private MutationJournal journal; // Journal in which to log tile changes.  Null = no logging.
     private final ArrayList<RegionExit> regionExits; // List of exits within the region.
     private final ArrayList<RegionShop> regionShops; // List of shops within the region.
-    private final ArrayList<ArrayList<Integer>> regionTiles; // List of tiles composing the region.
-    private final HashMap<String, RegionLocSide> sideTilesEast; // List of locations with view on east side.  Key = location (x, y).  Example:  3, 5.
-    private final HashMap<String, RegionLocSide> sideTilesNorth; // List of locations with view on north side.  Key = location (x, y).  Example:  3, 5.
-    private final HashMap<String, RegionLocSide> sideTilesSouth; // List of locations with view on south side.  Key = location (x, y).  Example:  3, 5.
-    private final HashMap<String, RegionLocSide> sideTilesWest; // List of locations with view on west side.  Key = location (x, y).  Example:  3, 5.
+    private final TileGrid regionTiles; // Packed grid of tiles composing the region.
+    private final int[] sideTilesEast; // Tiles shown on east side of locations.  Index = (y * regionWidth) + x.
+      // SIDE_TILE_NONE where location has no east side tile.
+    private final int[] sideTilesNorth; // Tiles shown on north side of locations.  Index = (y * regionWidth) + x.
+      // SIDE_TILE_NONE where location has no north side tile.
+    private final int[] sideTilesSouth; // Tiles shown on south side of locations.  Index = (y * regionWidth) + x.
+      // SIDE_TILE_NONE where location has no south side tile.
+    private final int[] sideTilesWest; // Tiles shown on west side of locations.  Index = (y * regionWidth) + x.
+      // SIDE_TILE_NONE where location has no west side tile.
     
     // Declare regular variables.
     private final int enemyCount; // Enemy count.
@@ -78,8 +99,16 @@ public class RegionMap
     private int sideTilesNorthCount; // Number of locations with view on north side.
     private int sideTilesSouthCount; // Number of locations with view on south side.
     private int sideTilesWestCount; // Number of locations with view on east side.
+    private int tileVersion; // Number of changes made to tiles (including side tiles) since loading.
+      // Lets caches built from the tiles, such as the baked minimap, detect when they are stale.
     
     // Declare constants.
+    public static final int SIDE_TILE_NONE = -1; // Value stored in side tile arrays for locations without one.
+    public static final int TILE_LAYER_CENTER = 0; // Layer of tiles set through setRegionTileNbr.
+    public static final int TILE_LAYER_EAST = 3; // Layer of tiles set through setRegionTileNbrEast.
+    public static final int TILE_LAYER_NORTH = 1; // Layer of tiles set through setRegionTileNbrNorth.
+    public static final int TILE_LAYER_SOUTH = 2; // Layer of tiles set through setRegionTileNbrSouth.
+    public static final int TILE_LAYER_WEST = 4; // Layer of tiles set through setRegionTileNbrWest.
     private final String decFormatText00 = "00"; // Text used for decimal style used to format numbers as 00.
       // Examples:  1 > 01, 2 > 02, ...
     private final DecimalFormat decimalFormat00 = new DecimalFormat(decFormatText00); // Decimal style used to
@@ -107,16 +136,13 @@ public class RegionMap
         sideTilesSouthCount = 0;
         sideTilesEastCount = 0;
         sideTilesWestCount = 0;
+        tileVersion = 0;
         
-        // Initialize array list.
+        // Initialize array list and set.
+        changedTiles = new LinkedHashSet<>();
         enemyList = new ArrayList<>();
         regionExits = new ArrayList<>();
         regionShops = new ArrayList<>();
-        regionTiles = new ArrayList<>();
-        sideTilesNorth = new HashMap<>();
-        sideTilesSouth = new HashMap<>();
-        sideTilesEast = new HashMap<>();
-        sideTilesWest = new HashMap<>();
         
         // Store values for the region.
         this.regionName = regionName;
@@ -126,6 +152,19 @@ public class RegionMap
         this.regionBackground = regionBackground;
         this.regionNbr = regionNbr;
         
+        // Allocate packed tile grid for the region.
+        regionTiles = new TileGrid(regionWidth, regionHeight);
+        
+        // Allocate side tile arrays for the region, flagging all locations as without side tiles.
+        sideTilesNorth = new int[regionWidth * regionHeight];
+        sideTilesSouth = new int[regionWidth * regionHeight];
+        sideTilesEast = new int[regionWidth * regionHeight];
+        sideTilesWest = new int[regionWidth * regionHeight];
+        Arrays.fill(sideTilesNorth, SIDE_TILE_NONE);
+        Arrays.fill(sideTilesSouth, SIDE_TILE_NONE);
+        Arrays.fill(sideTilesEast, SIDE_TILE_NONE);
+        Arrays.fill(sideTilesWest, SIDE_TILE_NONE);
+        
         // Copy from passed array to array list.
         enemyList = new ArrayList<>(Arrays.asList(enemies));
         
@@ -181,49 +220,6 @@ public class RegionMap
         
     }
     
-    public class RegionLocSide
-    {
-        
-        // The inner class stores information about the side of a location.
-        
-        // Declare regular variables.
-        protected int x; // X-coordinate.
-        protected int y; // Y-cooridnate.
-        protected int tile; // Tile type.
-        
-        // x = X-coordinate.
-        // y = Y-coordinate.
-        // tile = Tile type.
-        private RegionLocSide(int x, int y, int tile)
-        {
-            
-            // The constructor stores the location side information in the class-level variables.
-            
-            // Store the passed location side information in the class-level variables.
-            this.x = x;
-            this.y = y;
-            this.tile = tile;
-            
-        }
-        
-        public int getTile() {
-            return tile;
-        }
-
-        public void setTile(int tile) {
-            this.tile = tile;
-        }
-        
-        public int getX() {
-            return x;
-        }
-
-        public int getY() {
-            return y;
-        }
-        
-    }
-    
     public class RegionShop
     {
         
@@ -313,18 +309,33 @@ public class RegionMap
     public void addTile_East(int x, int y, int tile)
     {
         
-        // The function adds an element to the array list with details about the east sides of map locations.
+        // The function stores the tile shown on the east side of a map location.
         
-        String key; // Key to use with hash map.
+        // If location outside region, then...
+        if (!regionTiles.isInBounds(x, y))
+        {
+            
+            // Location outside region.
+            
+            // Display warning.
+            System.out.println("Warning:  East side tile (" + x + ", " + y + ") outside region " + regionName + ".");
+            
+            // Exit function.
+            return;
+            
+        }
         
-        // Store key.
-        key = Integer.toString(x) + ", " + Integer.toString(y);
+        // If location did not yet have a east side tile, then...
+        if (sideTilesEast[getSideTileIndex(x, y)] == SIDE_TILE_NONE)
+        {
+            // Location did not yet have a east side tile.
+            
+            // Increment related count.
+            sideTilesEastCount++;
+        }
         
         // Add information about east side of a map location.
-        sideTilesEast.put(key, new RegionLocSide(x, y, tile));
-        
-        // Increment related count.
-        sideTilesEastCount++;
+        sideTilesEast[getSideTileIndex(x, y)] = tile;
         
     }
      
@@ -334,18 +345,33 @@ public class RegionMap
     public void addTile_North(int x, int y, int tile)
     {
         
-        // The function adds an element to the array list with details about the north sides of map locations.
+        // The function stores the tile shown on the north side of a map location.
         
-        String key; // Key to use with hash map.
+        // If location outside region, then...
+        if (!regionTiles.isInBounds(x, y))
+        {
+            
+            // Location outside region.
+            
+            // Display warning.
+            System.out.println("Warning:  North side tile (" + x + ", " + y + ") outside region " + regionName + ".");
+            
+            // Exit function.
+            return;
+            
+        }
         
-        // Store key.
-        key = Integer.toString(x) + ", " + Integer.toString(y);
+        // If location did not yet have a north side tile, then...
+        if (sideTilesNorth[getSideTileIndex(x, y)] == SIDE_TILE_NONE)
+        {
+            // Location did not yet have a north side tile.
+            
+            // Increment related count.
+            sideTilesNorthCount++;
+        }
         
         // Add information about north side of a map location.
-        sideTilesNorth.put(key, new RegionLocSide(x, y, tile));
-        
-        // Increment related count.
-        sideTilesNorthCount++;
+        sideTilesNorth[getSideTileIndex(x, y)] = tile;
         
     }
     
@@ -355,18 +381,33 @@ public class RegionMap
     public void addTile_South(int x, int y, int tile)
     {
         
-        // The function adds an element to the array list with details about the south sides of map locations.
+        // The function stores the tile shown on the south side of a map location.
         
-        String key; // Key to use with hash map.
+        // If location outside region, then...
+        if (!regionTiles.isInBounds(x, y))
+        {
+            
+            // Location outside region.
+            
+            // Display warning.
+            System.out.println("Warning:  South side tile (" + x + ", " + y + ") outside region " + regionName + ".");
+            
+            // Exit function.
+            return;
+            
+        }
         
-        // Store key.
-        key = Integer.toString(x) + ", " + Integer.toString(y);
+        // If location did not yet have a south side tile, then...
+        if (sideTilesSouth[getSideTileIndex(x, y)] == SIDE_TILE_NONE)
+        {
+            // Location did not yet have a south side tile.
+            
+            // Increment related count.
+            sideTilesSouthCount++;
+        }
         
         // Add information about south side of a map location.
-        sideTilesSouth.put(key, new RegionLocSide(x, y, tile));
-        
-        // Increment related count.
-        sideTilesSouthCount++;
+        sideTilesSouth[getSideTileIndex(x, y)] = tile;
         
     }
     
@@ -376,18 +417,33 @@ public class RegionMap
     public void addTile_West(int x, int y, int tile)
     {
         
-        // The function adds an element to the array list with details about the west sides of map locations.
+        // The function stores the tile shown on the west side of a map location.
         
-        String key; // Key to use with hash map.
+        // If location outside region, then...
+        if (!regionTiles.isInBounds(x, y))
+        {
+            
+            // Location outside region.
+            
+            // Display warning.
+            System.out.println("Warning:  West side tile (" + x + ", " + y + ") outside region " + regionName + ".");
+            
+            // Exit function.
+            return;
+            
+        }
         
-        // Store key.
-        key = Integer.toString(x) + ", " + Integer.toString(y);
+        // If location did not yet have a west side tile, then...
+        if (sideTilesWest[getSideTileIndex(x, y)] == SIDE_TILE_NONE)
+        {
+            // Location did not yet have a west side tile.
+            
+            // Increment related count.
+            sideTilesWestCount++;
+        }
         
         // Add information about west side of a map location.
-        sideTilesWest.put(key, new RegionLocSide(x, y, tile));
-        
-        // Increment related count.
-        sideTilesWestCount++;
+        sideTilesWest[getSideTileIndex(x, y)] = tile;
         
     }
     
@@ -397,13 +453,8 @@ public class RegionMap
         
         // The function adds a horizontal set of tiles.
         
-        ArrayList<Integer> tempTiles; // Temporarily holds set of tiles for addition to main array list.
-        
-        // Copy from passed array to array list.
-        tempTiles = new ArrayList<>(Arrays.asList(tiles));
-        
-        // Add to complete tile array list.
-        regionTiles.add(tempTiles);
+        // Copy into next row of packed tile grid.
+        regionTiles.addRow(Arrays.asList(tiles));
         
     }
     
@@ -413,366 +464,450 @@ public class RegionMap
         
         // The function adds a horizontal set of tiles.
         
-        // Add to complete tile array list.
-        regionTiles.add(tiles);
+        // Copy into next row of packed tile grid.
+        regionTiles.addRow(tiles);
         
     }
     
-    public void populateHashMap()
+    private CollisionGrid buildCollisionGrid()
     {
         
-        // The function populates the hash map containing all region information.
-        
-        int counter; // Used to iterate through regions.
-        
-        Set<Map.Entry<String, RegionLocSide>> entrySet; // Set view of the mappings in a hash map with tile 
-          // side information.
-        Map<String, Object> mapJSON_RegionEnemies; // Hash map containing key / value pairs covering all
-          // region enemy data -- used with JSON.
-        Map<String, Object> mapJSON_RegionExit; // Hash map containing key / value pairs covering current
-          // region exit data (relative to loop) -- used with JSON.
-        Map<String, Object> mapJSON_RegionExits; // Hash map containing key / value pairs covering all 
-          // region exit data -- used with JSON.
-        Map<String, Object> mapJSON_RegionShop; // Hash map containing key / value pairs covering current
-          // region shop data (relative to loop) -- used with JSON.
-        Map<String, Object> mapJSON_RegionShops; // Hash map containing key / value pairs covering all 
-          // region shop data -- used with JSON.
-        Map<String, Object> mapJSON_RegionTileRow; // Hash map containing key / value pairs covering current
-          // region tile row data (relative to loop) -- used with JSON.
-        Map<String, Object> mapJSON_SideTilesEast; // Hash map containing key / value pairs covering current
-          // region tile row data (relative to loop) -- used with JSON.  For east sides of tiles.
-        Map<String, Object> mapJSON_SideTilesEastAll; // Hash map containing key / value pairs covering all
-          // region tile row data (relative to loop) -- used with JSON.  For east sides of tiles.
-        Map<String, Object> mapJSON_SideTilesNorth; // Hash map containing key / value pairs covering current
-          // region tile row data (relative to loop) -- used with JSON.  For north sides of tiles.
-        Map<String, Object> mapJSON_SideTilesNorthAll; // Hash map containing key / value pairs covering all
-          // region tile row data (relative to loop) -- used with JSON.  For north sides of tiles.
-        Map<String, Object> mapJSON_SideTilesSouth; // Hash map containing key / value pairs covering current
-          // region tile row data (relative to loop) -- used with JSON.  For south sides of tiles.
-        Map<String, Object> mapJSON_SideTilesSouthAll; // Hash map containing key / value pairs covering all
-          // region tile row data (relative to loop) -- used with JSON.  For south sides of tiles.
-        Map<String, Object> mapJSON_SideTilesWest; // Hash map containing key / value pairs covering current
-          // region tile row data (relative to loop) -- used with JSON.  For west sides of tiles.
-        Map<String, Object> mapJSON_SideTilesWestAll; // Hash map containing key / value pairs covering all
-          // region tile row data (relative to loop) -- used with JSON.  For west sides of tiles.
-        Map<String, Object> mapJSON_RegionTileRows; // Hash map containing key / value pairs covering all 
-          // region tile row data -- used with JSON.
-        RegionLocSide currRegionLocSide; // Current side tile in loop.
-          
-        // Set defaults.
-        counter = 1;
+        // The function returns a new collision grid holding the walkability of the tiles and side tiles in the
+        // region.
         
-        // Initialize hash map.
-        mapJSON = new HashMap<>();
-        mapJSON_RegionEnemies = new HashMap<>();
-        mapJSON_RegionExits = new HashMap<>();
-        mapJSON_RegionShops = new HashMap<>();
-        mapJSON_RegionTileRow = new HashMap<>();
-        mapJSON_RegionTileRows = new HashMap<>();
-        mapJSON_SideTilesNorthAll = new HashMap<>();
-        mapJSON_SideTilesSouthAll = new HashMap<>();
-        mapJSON_SideTilesEastAll = new HashMap<>();
-        mapJSON_SideTilesWestAll = new HashMap<>();
+        CollisionGrid grid; // Collision grid to return.
+        int index; // Index in side tile arrays of current location.
         
-        // If region contains enemies, then...
-        if (enemyCount > 0)    
+        // Allocate collision grid, matching dimensions of tile grid.
+        grid = new CollisionGrid(regionTiles.getWidth(), regionTiles.getHeight());
+        
+        // Loop through rows.
+        for (int y = 0; y < regionTiles.getHeight(); y++)
         {
             
-            // Region contains one or more enemies.
-            
-            // Loop through region enemies.
-            for (HeroineEnum.EnemyEnum enemy : enemyList)
+            // Loop through columns.
+            for (int x = 0; x < regionTiles.getWidth(); x++)
             {
-
-                // Add information to hash map containing data for all region enemies.
-                mapJSON_RegionEnemies.put("ENEMY_" + decimalFormat00.format(counter), enemy.toString());
-
-                // Increment counter.
-                counter++;
-
+                
+                // Store walkability of tile.
+                grid.setTile(x, y, regionTiles.getTile(x, y));
+                
+                // Store walkability of side tiles.
+                index = getSideTileIndex(x, y);
+                grid.setSideTile(HeroineEnum.FacingEnum.NORTH, x, y, sideTilesNorth[index]);
+                grid.setSideTile(HeroineEnum.FacingEnum.SOUTH, x, y, sideTilesSouth[index]);
+                grid.setSideTile(HeroineEnum.FacingEnum.EAST, x, y, sideTilesEast[index]);
+                grid.setSideTile(HeroineEnum.FacingEnum.WEST, x, y, sideTilesWest[index]);
+                
             }
-
-            // Reset counter.
-            counter = 1;
             
         }
         
-        // If region contains exits, then...
-        if (exitCount > 0)    
+        // Return collision grid.
+        return grid;
+        
+    }
+    
+    public ArrayList<int[]> getChangedTiles()
+    {
+        
+        // The function returns the tiles changed since loading, with their current values.
+        // Each element holds the layer (TILE_LAYER_*), the x- and y-coordinates (as passed to the setter), and
+        // the tile.  Used when saving the game, so only the changes over the base atlas get stored.
+        
+        ArrayList<int[]> tiles; // Changed tiles to return.
+        int layer; // Layer of current tile.
+        int location; // Packed location of current tile.
+        
+        // Initialize array list.
+        tiles = new ArrayList<>(changedTiles.size());
+        
+        // Loop through changed tiles.
+        for (long key : changedTiles)
         {
             
-            // Region contains one or more exits.
+            // Unpack layer and location.
+            layer = (int)(key >>> 32);
+            location = (int)key;
+            
+            // Add tile, with current value.
+            tiles.add(new int[] {layer, location >>> 16, location & 0xFFFF, 
+              getLayerTileNbr(layer, location >>> 16, location & 0xFFFF)});
+            
+        }
         
-            // Loop through region exits.
-            for (RegionExit currRegionExit : regionExits)
-            {
-
-                // Reinitialize hash map for current region exit.  Necessary or same data written for each entry.
-                mapJSON_RegionExit = new HashMap<>();
-                
-                // Add information to hash map containing data for a single region exit.
-                mapJSON_RegionExit.put("EXIT_X", currRegionExit.exit_x);
-                mapJSON_RegionExit.put("EXIT_Y", currRegionExit.exit_y);
-                mapJSON_RegionExit.put("DEST_MAP", currRegionExit.dest_map);
-                mapJSON_RegionExit.put("DEST_X", currRegionExit.dest_x);
-                mapJSON_RegionExit.put("DEST_Y", currRegionExit.dest_y);
-
-                // Add hash map for current to container.
-                mapJSON_RegionExits.put("EXIT_" + decimalFormat00.format(counter), mapJSON_RegionExit);
-
-                // Increment counter.
-                counter++;
-
-            }
-
-            // Reset counter.
-            counter = 1;
+        // Return changed tiles.
+        return tiles;
+        
+    }
+    
+    public CollisionGrid getCollisionGrid()
+    {
+        
+        // The function returns the collision grid for the region, building it on first use.
+        // Build only after loading the tiles and side tiles.  Later changes through the setters update the
+        // grid (see noteTileChange).
+        
+        // If collision grid not yet built, then build it.
+        if (collisionGrid == null)
+            collisionGrid = buildCollisionGrid();
+        
+        // Return collision grid.
+        return collisionGrid;
+        
+    }
+    
+    // layer = Layer from which to get tile.  One of the TILE_LAYER_* values.
+    // posX = X-coordinate, as passed to the setter for the layer.
+    // posY = Y-coordinate, as passed to the setter for the layer.
+    public int getLayerTileNbr(int layer, int posX, int posY)
+    {
+        
+        // The function returns the tile at the passed location in the passed layer.
+        // Returns SIDE_TILE_NONE for side layers without a tile at the location.
+        
+        // Depending on layer...
+        switch (layer) {
             
+            case TILE_LAYER_NORTH:
+                return getSideTile(sideTilesNorth, posX, posY);
+                
+            case TILE_LAYER_SOUTH:
+                return getSideTile(sideTilesSouth, posX, posY);
+                
+            case TILE_LAYER_EAST:
+                return getSideTile(sideTilesEast, posX, posY);
+                
+            case TILE_LAYER_WEST:
+                return getSideTile(sideTilesWest, posX, posY);
+                
+            default:
+                return getRegionTileNbr(posX, posY);
+                
         }
         
-        // If region contains shops, then...
-        if (shopCount > 0)
+    }
+    
+    // sideTiles = Side tile array (for one direction) from which to read.
+    // posX = X-coordinate of location for which to get side tile.
+    // posY = Y-coordinate of location for which to get side tile.
+    private int getSideTile(int[] sideTiles, int posX, int posY)
+    {
+        
+        // The function returns the side tile at the passed location from the passed array.
+        // Returns SIDE_TILE_NONE for locations without a side tile, including those outside the region.
+        
+        // If location outside region, then...
+        if (!regionTiles.isInBounds(posX, posY))
+            // Location outside region.  No side tile.
+            return SIDE_TILE_NONE;
+        
+        // Return side tile (or SIDE_TILE_NONE).
+        return sideTiles[getSideTileIndex(posX, posY)];
+        
+    }
+    
+    // posX = X-coordinate of location.
+    // posY = Y-coordinate of location.
+    private int getSideTileIndex(int posX, int posY)
+    {
+        // The function returns the index in the side tile arrays for the passed location.
+        return (posY * regionWidth) + posX;
+    }
+    
+    // layer = Layer containing the changed tile.  One of the TILE_LAYER_* values.
+    // posX = X-coordinate, as passed to the setter for the layer.
+    // posY = Y-coordinate, as passed to the setter for the layer.
+    // val = New tile.
+    private void noteTileChange(int layer, int posX, int posY, int val)
+    {
+        
+        // The function records a change to the tile at the passed location in the passed layer, logging it to
+        // the journal (if any).
+        
+        // Add location to changed tiles (once per location).
+        changedTiles.add(((long)layer << 32) | (packLocationKey(posX, posY) & 0xFFFFFFFFL));
+        
+        // Count change.
+        tileVersion++;
+        
+        // If collision grid built, then...
+        if (collisionGrid != null)
         {
             
-            // Region contains one or more shops.
-        
-            // Loop through region exits.
-            for (RegionShop currRegionShop : regionShops)
-            {
-
-                // Reinitialize hash map for current region shop.  Necessary or same data written for each entry.
-                mapJSON_RegionShop = new HashMap<>();
+            // Collision grid built.
+            
+            // Update walkability of changed tile, depending on layer.
+            switch (layer) {
                 
-                // Add information to hash map containing data for a single region exit.
-                mapJSON_RegionShop.put("EXIT_X", currRegionShop.exit_x);
-                mapJSON_RegionShop.put("EXIT_Y", currRegionShop.exit_y);
-                mapJSON_RegionShop.put("SHOP_ID", currRegionShop.shop_id);
-                mapJSON_RegionShop.put("DEST_X", currRegionShop.dest_x);
-                mapJSON_RegionShop.put("DEST_Y", currRegionShop.dest_y);
-
-                // Add hash map for current to container.
-                mapJSON_RegionShops.put("SHOP_" + decimalFormat00.format(counter), mapJSON_RegionShop);
-
-                // Increment counter.
-                counter++;
-
+                case TILE_LAYER_NORTH:
+                    collisionGrid.setSideTile(HeroineEnum.FacingEnum.NORTH, posX, posY, val);
+                    break;
+                    
+                case TILE_LAYER_SOUTH:
+                    collisionGrid.setSideTile(HeroineEnum.FacingEnum.SOUTH, posX, posY, val);
+                    break;
+                    
+                case TILE_LAYER_EAST:
+                    collisionGrid.setSideTile(HeroineEnum.FacingEnum.EAST, posX, posY, val);
+                    break;
+                    
+                case TILE_LAYER_WEST:
+                    collisionGrid.setSideTile(HeroineEnum.FacingEnum.WEST, posX, posY, val);
+                    break;
+                    
+                default:
+                    // Center layer.  x, y flipped, as in setRegionTileNbr.
+                    collisionGrid.setTile(posY, posX, val);
+                    break;
+                    
             }
             
-            // Reset counter.
-            counter = 1;
-        
         }
         
-        // Loop through region tile rows.
-        for (ArrayList tileRow : regionTiles)
-        {
-
-            // Add information to hash map containing data for all region tile rows.
-            mapJSON_RegionTileRows.put("ROW_" + decimalFormat00.format(counter), tileRow);
-
-            // Increment counter.
-            counter++;
-
-        }
+        // If logging changes, then log change.
+        if (journal != null)
+            journal.logTile(regionNbr, layer, posX, posY, val);
         
-        // Reset counter.
-        counter = 1;
+    }
+    
+    // posX = X-coordinate of location.
+    // posY = Y-coordinate of location.
+    public static int packLocationKey(int posX, int posY)
+    {
         
-        // If region contains north side tiles, then...
-        if (sideTilesNorthCount > 0)    
-        {
-            
-            // Region contains one or more north side tiles.
+        // The function returns a single integer key representing the passed location.
+        // The x-coordinate occupies the upper 16 bits and the y-coordinate the lower 16 bits.
+        // Example:  (10, 5) -> 655365.
+        
+        // Return packed key.
+        return (posX << 16) | (posY & 0xFFFF);
         
-            // Store a set view of the mappings for the hash map.
-            entrySet = sideTilesNorth.entrySet();
+    }
+    
+    // layer = Layer in which to set tile.  One of the TILE_LAYER_* values.
+    // posX = X-coordinate, as passed to the setter for the layer.
+    // posY = Y-coordinate, as passed to the setter for the layer.
+    // val = Type number to which to set tile.
+    public void setLayerTileNbr(int layer, int posX, int posY, int val)
+    {
+        
+        // The function sets the tile at the passed location in the passed layer.
+        // Used when loading a saved game, to apply the changes stored by getChangedTiles.
+        
+        // Depending on layer...
+        switch (layer) {
             
-            // Loop through entries.
-            for (Map.Entry entry : entrySet)
-            {
+            case TILE_LAYER_NORTH:
+                setRegionTileNbrNorth(posX, posY, val);
+                break;
                 
-                // Get a reference to the value of the current entry.
-                currRegionLocSide = (RegionLocSide)entry.getValue();
+            case TILE_LAYER_SOUTH:
+                setRegionTileNbrSouth(posX, posY, val);
+                break;
                 
-                // Reinitialize hash map for current side tile.  Necessary or same data written for each entry.
-                mapJSON_SideTilesNorth = new HashMap<>();
+            case TILE_LAYER_EAST:
+                setRegionTileNbrEast(posX, posY, val);
+                break;
                 
-                // Add information to hash map containing data for a single side tile.
-                mapJSON_SideTilesNorth.put("X", currRegionLocSide.x);
-                mapJSON_SideTilesNorth.put("Y", currRegionLocSide.y);
-                mapJSON_SideTilesNorth.put("TILE", currRegionLocSide.tile);
-
-                // Add hash map for current to container.
-                mapJSON_SideTilesNorthAll.put("SIDE_TILE_" + decimalFormat00.format(counter), 
-                  mapJSON_SideTilesNorth);
+            case TILE_LAYER_WEST:
+                setRegionTileNbrWest(posX, posY, val);
+                break;
                 
-                // Increment counter.
-                counter++;
+            default:
+                setRegionTileNbr(posX, posY, val);
+                break;
                 
-            }
-            
-            // Reset counter.
-            counter = 1;
-            
         }
         
-        // If region contains south side tiles, then...
-        if (sideTilesSouthCount > 0)    
+    }
+    
+    // generator = Streaming JSON generator to which to write.
+    public void writeJSON(JsonGenerator generator) throws IOException
+    {
+        
+        // The function writes the region as a JSON object to the passed generator, with the keys and values 
+        // read by JSON_Processor.readRegion.  Keys get written in sorted order (with numbered keys, such as ROW_01, 
+        // in numeric order), so that the name, size, music, background, and enemies precede the tiles.
+        // Only the current row of tiles gets copied at a time.
+        
+        int counter; // Used to number enemies, exits, shops, and rows.
+        
+        // Start region.
+        generator.writeStartObject();
+        
+        // Write east side tiles.
+        writeSideTilesJSON(generator, "east_side_tiles", sideTilesEast, sideTilesEastCount);
+        
+        // If region contains enemies, then...
+        if (enemyCount > 0)
         {
             
-            // Region contains one or more south side tiles.
-        
-            // Store a set view of the mappings for the hash map.
-            entrySet = sideTilesSouth.entrySet();
+            // Region contains one or more enemies.
             
-            // Loop through entries.
-            for (Map.Entry entry : entrySet)
+            // Write enemies.
+            generator.writeObjectFieldStart("enemies");
+            counter = 1;
+            
+            for (HeroineEnum.EnemyEnum enemy : enemyList)
             {
-                
-                // Get a reference to the value of the current entry.
-                currRegionLocSide = (RegionLocSide)entry.getValue();
-                
-                // Reinitialize hash map for current side tile.  Necessary or same data written for each entry.
-                mapJSON_SideTilesSouth = new HashMap<>();
-                
-                // Add information to hash map containing data for a single side tile.
-                mapJSON_SideTilesSouth.put("X", currRegionLocSide.x);
-                mapJSON_SideTilesSouth.put("Y", currRegionLocSide.y);
-                mapJSON_SideTilesSouth.put("TILE", currRegionLocSide.tile);
-
-                // Add hash map for current to container.
-                mapJSON_SideTilesSouthAll.put("SIDE_TILE_" + decimalFormat00.format(counter), 
-                  mapJSON_SideTilesSouth);
-                
-                // Increment counter.
+                generator.writeStringField("ENEMY_" + decimalFormat00.format(counter), enemy.toString());
                 counter++;
-                
             }
             
-            // Reset counter.
-            counter = 1;
+            generator.writeEndObject();
             
         }
         
-        // If region contains east side tiles, then...
-        if (sideTilesEastCount > 0)    
+        // Write enemy and exit counts.
+        generator.writeNumberField("enemyCount", enemyCount);
+        generator.writeNumberField("exitCount", exitCount);
+        
+        // If region contains exits, then...
+        if (exitCount > 0)
         {
             
-            // Region contains one or more east side tiles.
-        
-            // Store a set view of the mappings for the hash map.
-            entrySet = sideTilesEast.entrySet();
+            // Region contains one or more exits.
+            
+            // Write exits.
+            generator.writeObjectFieldStart("exits");
+            counter = 1;
             
-            // Loop through entries.
-            for (Map.Entry entry : entrySet)
+            for (RegionExit currRegionExit : regionExits)
             {
-                
-                // Get a reference to the value of the current entry.
-                currRegionLocSide = (RegionLocSide)entry.getValue();
-                
-                // Reinitialize hash map for current side tile.  Necessary or same data written for each entry.
-                mapJSON_SideTilesEast = new HashMap<>();
-                
-                // Add information to hash map containing data for a single side tile.
-                mapJSON_SideTilesEast.put("X", currRegionLocSide.x);
-                mapJSON_SideTilesEast.put("Y", currRegionLocSide.y);
-                mapJSON_SideTilesEast.put("TILE", currRegionLocSide.tile);
-
-                // Add hash map for current to container.
-                mapJSON_SideTilesEastAll.put("SIDE_TILE_" + decimalFormat00.format(counter), 
-                  mapJSON_SideTilesEast);
-                
-                // Increment counter.
+                generator.writeObjectFieldStart("EXIT_" + decimalFormat00.format(counter));
+                generator.writeNumberField("DEST_MAP", currRegionExit.dest_map);
+                generator.writeNumberField("DEST_X", currRegionExit.dest_x);
+                generator.writeNumberField("DEST_Y", currRegionExit.dest_y);
+                generator.writeNumberField("EXIT_X", currRegionExit.exit_x);
+                generator.writeNumberField("EXIT_Y", currRegionExit.exit_y);
+                generator.writeEndObject();
                 counter++;
-                
             }
             
-            // Reset counter.
-            counter = 1;
+            generator.writeEndObject();
             
         }
         
-        // If region contains west side tiles, then...
-        if (sideTilesWestCount > 0)    
+        // Write north side tiles.
+        writeSideTilesJSON(generator, "north_side_tiles", sideTilesNorth, sideTilesNorthCount);
+        
+        // Write region values.
+        generator.writeStringField("regionBackground", regionBackground.toString());
+        generator.writeNumberField("regionHeight", regionHeight);
+        generator.writeStringField("regionMusic", regionMusic.toString());
+        generator.writeStringField("regionName", regionName);
+        generator.writeNumberField("regionNbr", regionNbr);
+        generator.writeNumberField("regionWidth", regionWidth);
+        generator.writeNumberField("shopCount", shopCount);
+        
+        // If region contains shops, then...
+        if (shopCount > 0)
         {
             
-            // Region contains one or more west side tiles.
-        
-            // Store a set view of the mappings for the hash map.
-            entrySet = sideTilesWest.entrySet();
+            // Region contains one or more shops.
             
-            // Loop through entries.
-            for (Map.Entry entry : entrySet)
+            // Write shops.
+            generator.writeObjectFieldStart("shops");
+            counter = 1;
+            
+            for (RegionShop currRegionShop : regionShops)
             {
-                
-                // Get a reference to the value of the current entry.
-                currRegionLocSide = (RegionLocSide)entry.getValue();
-                
-                // Reinitialize hash map for current side tile.  Necessary or same data written for each entry.
-                mapJSON_SideTilesWest = new HashMap<>();
-                
-                // Add information to hash map containing data for a single side tile.
-                mapJSON_SideTilesWest.put("X", currRegionLocSide.x);
-                mapJSON_SideTilesWest.put("Y", currRegionLocSide.y);
-                mapJSON_SideTilesWest.put("TILE", currRegionLocSide.tile);
-
-                // Add hash map for current to container.
-                mapJSON_SideTilesWestAll.put("SIDE_TILE_" + decimalFormat00.format(counter), 
-                  mapJSON_SideTilesWest);
-                
-                // Increment counter.
+                generator.writeObjectFieldStart("SHOP_" + decimalFormat00.format(counter));
+                generator.writeNumberField("DEST_X", currRegionShop.dest_x);
+                generator.writeNumberField("DEST_Y", currRegionShop.dest_y);
+                generator.writeNumberField("EXIT_X", currRegionShop.exit_x);
+                generator.writeNumberField("EXIT_Y", currRegionShop.exit_y);
+                generator.writeStringField("SHOP_ID", currRegionShop.shop_id.toString());
+                generator.writeEndObject();
                 counter++;
-                
             }
             
-            // Reset counter.
-            counter = 1;
+            generator.writeEndObject();
             
         }
         
-        // Add values for the region to hash map.
-        mapJSON.put("regionName", regionName);
-        mapJSON.put("regionNbr", regionNbr);
-        mapJSON.put("regionMusic", regionMusic.toString());
-        mapJSON.put("regionWidth", regionWidth);
-        mapJSON.put("regionHeight", regionHeight);
-        mapJSON.put("regionBackground", regionBackground.toString());
-        mapJSON.put("enemyCount", enemyCount);
-        mapJSON.put("exitCount", exitCount);
-        mapJSON.put("shopCount", shopCount);
-        mapJSON.put("sideTileCountNorth", sideTilesNorthCount);
-        mapJSON.put("sideTileCountSouth", sideTilesSouthCount);
-        mapJSON.put("sideTileCountEast", sideTilesEastCount);
-        mapJSON.put("sideTileCountWest", sideTilesWestCount);
-        mapJSON.put("tiles", mapJSON_RegionTileRows);
-        
-        // If one or more enemies exist in region, then...
-        if (enemyCount > 0)
-            mapJSON.put("enemies", mapJSON_RegionEnemies);
+        // Write side tile counts.
+        generator.writeNumberField("sideTileCountEast", sideTilesEastCount);
+        generator.writeNumberField("sideTileCountNorth", sideTilesNorthCount);
+        generator.writeNumberField("sideTileCountSouth", sideTilesSouthCount);
+        generator.writeNumberField("sideTileCountWest", sideTilesWestCount);
         
-        // If one or more exits exist in region, then...
-        if (exitCount > 0)    
-            mapJSON.put("exits", mapJSON_RegionExits);
+        // Write south side tiles.
+        writeSideTilesJSON(generator, "south_side_tiles", sideTilesSouth, sideTilesSouthCount);
         
-        // If one or more shops exist in region, then...
-        if (shopCount > 0)
-            mapJSON.put("shops", mapJSON_RegionShops);
+        // Write tile rows, straight from the tile grid.
+        generator.writeObjectFieldStart("tiles");
         
-        // If one or more north side tiles exist in region, then...
-        if (sideTilesNorthCount > 0)
-            mapJSON.put("north_side_tiles", mapJSON_SideTilesNorthAll);
+        for (int tileRow = 0; tileRow < regionTiles.getHeight(); tileRow++)
+        {
+            
+            generator.writeArrayFieldStart("ROW_" + decimalFormat00.format(tileRow + 1));
+            
+            for (int tileCol = 0; tileCol < regionTiles.getWidth(); tileCol++)
+                generator.writeNumber(regionTiles.getTile(tileCol, tileRow));
+            
+            generator.writeEndArray();
+            
+        }
+        
+        generator.writeEndObject();
+        
+        // Write west side tiles.
+        writeSideTilesJSON(generator, "west_side_tiles", sideTilesWest, sideTilesWestCount);
+        
+        // End region.
+        generator.writeEndObject();
+        
+    }
+    
+    // generator = Streaming JSON generator to which to write.
+    // fieldName = Name of field holding the side tiles -- for example, north_side_tiles.
+    // sideTiles = Side tiles to write.  Index = (y * regionWidth) + x.
+    // sideTileCount = Number of locations with a side tile.
+    private void writeSideTilesJSON(JsonGenerator generator, String fieldName, int[] sideTiles, 
+      int sideTileCount) throws IOException
+    {
+        
+        // The function writes the side tiles in the passed array as a JSON object to the passed generator.
+        // The function writes nothing when no side tiles exist, so the region has no key for them (as in the 
+        // atlas file).
+        
+        int counter; // Used to number side tiles.
+        
+        // If region contains no side tiles in array, then...
+        if (sideTileCount == 0)
+            // No side tiles.  Exit function.
+            return;
         
-        // If one or more south side tiles exist in region, then...
-        if (sideTilesSouthCount > 0)
-            mapJSON.put("south_side_tiles", mapJSON_SideTilesSouthAll);
+        // Set defaults.
+        counter = 1;
+        
+        // Start side tiles.
+        generator.writeObjectFieldStart(fieldName);
         
-        // If one or more east side tiles exist in region, then...
-        if (sideTilesEastCount > 0)
-            mapJSON.put("east_side_tiles", mapJSON_SideTilesEastAll);
+        // Loop through locations in region.
+        for (int index = 0; index < sideTiles.length; index++)
+        {
+            
+            // If location has no side tile, then skip to next location.
+            if (sideTiles[index] == SIDE_TILE_NONE)
+                continue;
+            
+            // Write side tile.
+            generator.writeObjectFieldStart("SIDE_TILE_" + decimalFormat00.format(counter));
+            generator.writeNumberField("TILE", sideTiles[index]);
+            generator.writeNumberField("X", index % regionWidth);
+            generator.writeNumberField("Y", index / regionWidth);
+            generator.writeEndObject();
+            
+            // Increment counter.
+            counter++;
+            
+        }
         
-        // If one or more west side tiles exist in region, then...
-        if (sideTilesWestCount > 0)
-            mapJSON.put("west_side_tiles", mapJSON_SideTilesWestAll);
+        // End side tiles.
+        generator.writeEndObject();
         
     }
     
@@ -784,10 +919,6 @@ public class RegionMap
         return enemyList;
     }
     
-    public Map<String, Object> getMap() {
-        return mapJSON;
-    }
-    
     // whichExit = Index number of region exit to return.  Base 0.
     public RegionExit getRegionExit(int whichExit) {
         // The function returns information for the specified region exit.
@@ -883,166 +1014,167 @@ public class RegionMap
         return regionShops;
     }
     
-    // posX = X-position of tile for which to get type number.
-    // posY = Y-position of tile for which to get type number.
-    public int getRegionTileNbr(Integer posX, Integer posY) {
+    // posX = X-position of tile for which to get type number.  x, y flipped to ease map making -- row.
+    // posY = Y-position of tile for which to get type number.  x, y flipped to ease map making -- column.
+    public int getRegionTileNbr(int posX, int posY) {
         // The function returns the type number of the tile at the passed position.
-        return regionTiles.get(posX).get(posY);
+        return regionTiles.getTile(posY, posX);
     }
     
-    public ArrayList<ArrayList<Integer>> getRegionTiles() {
+    public TileGrid getRegionTiles() {
         return regionTiles;
     }
     
-    public HashMap<String, RegionLocSide> getSideTilesEast() {
-        return sideTilesEast;
-    }
-    
-    public Integer getSideTilesEast(Integer posX, Integer posY) {
-        if (sideTilesEast.get(Integer.toString(posX) + ", " + Integer.toString(posY)) != null)
-            return sideTilesEast.get(Integer.toString(posX) + ", " + Integer.toString(posY)).tile;
-        else
-            return null;
-    }
-    
-    public Integer getSideTilesEast(String key) {
-        if (sideTilesEast.get(key) != null)
-            return sideTilesEast.get(key).tile;
-        else
-            return null;
-    }
-    
-    public HashMap<String, RegionLocSide> getSideTilesNorth() {
-        return sideTilesNorth;
-    }
-    
-    public Integer getSideTilesNorth(Integer posX, Integer posY) {
-        if (sideTilesNorth.get(Integer.toString(posX) + ", " + Integer.toString(posY)) != null)
-            return sideTilesNorth.get(Integer.toString(posX) + ", " + Integer.toString(posY)).tile;
-        else
-            return null;
-    }
-    
-    public Integer getSideTilesNorth(String key) {
-        if (sideTilesNorth.get(key) != null)
-            return sideTilesNorth.get(key).tile;
-        else
-            return null;
+    // posX = X-coordinate of location for which to get east side tile.
+    // posY = Y-coordinate of location for which to get east side tile.
+    public Integer getSideTilesEast(int posX, int posY) {
+        // The function returns the tile shown on the east side of the passed location (or null if none).
+        return getSideTile(sideTilesEast, posX, posY) == SIDE_TILE_NONE ? null : 
+          getSideTile(sideTilesEast, posX, posY);
     }
     
-    public HashMap<String, RegionLocSide> getSideTilesSouth() {
-        return sideTilesSouth;
+    // posX = X-coordinate of location for which to get north side tile.
+    // posY = Y-coordinate of location for which to get north side tile.
+    public Integer getSideTilesNorth(int posX, int posY) {
+        // The function returns the tile shown on the north side of the passed location (or null if none).
+        return getSideTile(sideTilesNorth, posX, posY) == SIDE_TILE_NONE ? null : 
+          getSideTile(sideTilesNorth, posX, posY);
     }
     
-    public Integer getSideTilesSouth(Integer posX, Integer posY) {
-        if (sideTilesSouth.get(Integer.toString(posX) + ", " + Integer.toString(posY)) != null)
-            return sideTilesSouth.get(Integer.toString(posX) + ", " + Integer.toString(posY)).tile;
-        else
-            return null;
+    // posX = X-coordinate of location for which to get south side tile.
+    // posY = Y-coordinate of location for which to get south side tile.
+    public Integer getSideTilesSouth(int posX, int posY) {
+        // The function returns the tile shown on the south side of the passed location (or null if none).
+        return getSideTile(sideTilesSouth, posX, posY) == SIDE_TILE_NONE ? null : 
+          getSideTile(sideTilesSouth, posX, posY);
     }
     
-    public Integer getSideTilesSouth(String key) {
-        if (sideTilesSouth.get(key) != null)
-            return sideTilesSouth.get(key).tile;
-        else
-            return null;
+    // posX = X-coordinate of location for which to get west side tile.
+    // posY = Y-coordinate of location for which to get west side tile.
+    public Integer getSideTilesWest(int posX, int posY) {
+        // The function returns the tile shown on the west side of the passed location (or null if none).
+        return getSideTile(sideTilesWest, posX, posY) == SIDE_TILE_NONE ? null : 
+          getSideTile(sideTilesWest, posX, posY);
     }
     
-    public HashMap<String, RegionLocSide> getSideTilesWest() {
-        return sideTilesWest;
-    }
-    
-    public Integer getSideTilesWest(Integer posX, Integer posY) {
-        if (sideTilesWest.get(Integer.toString(posX) + ", " + Integer.toString(posY)) != null)
-            return sideTilesWest.get(Integer.toString(posX) + ", " + Integer.toString(posY)).tile;
-        else
-            return null;
-    }
-    
-    public Integer getSideTilesWest(String key) {
-        if (sideTilesWest.get(key) != null)
-            return sideTilesWest.get(key).tile;
-        else
-            return null;
-    }
-    
-    // posX = X-position of tile for which to get type number.
-    // posY = Y-position of tile for which to get type number.
+    // posX = X-position of tile for which to get type number.  x, y flipped to ease map making -- row.
+    // posY = Y-position of tile for which to get type number.  x, y flipped to ease map making -- column.
     // val = Type number to which to set tile at the passed position.
-    public void setRegionTileNbr(Integer posX, Integer posY, Integer val) {
+    public void setRegionTileNbr(int posX, int posY, int val) {
         // The function sets the type number of the tile at the passed position.
-        regionTiles.get(posX).set(posY, val);
+        regionTiles.setTile(posY, posX, val);
+        noteTileChange(TILE_LAYER_CENTER, posX, posY, val);
     }
     
     // posX = X-position of tile for which to get type number.
     // posY = Y-position of tile for which to get type number.
     // val = Type number to which to set tile at the passed position.
-    public void setRegionTileNbrEast(Integer posX, Integer posY, Integer val) {
+    public void setRegionTileNbrEast(int posX, int posY, int val) {
         
         // The function sets the type number of the tile at the passed position.
         // Used with the information about the east side of tiles.
         
-        String key; // Key to use with hash map.
-        
-        // Specify key.
-        key = Integer.toString(posX) + ", " + Integer.toString(posY);
+        // If location has no east side tile, then...
+        if (getSideTile(sideTilesEast, posX, posY) == SIDE_TILE_NONE)
+        {
+            
+            // Location has no east side tile.
+            
+            // Display warning.
+            System.out.println("Warning:  No east side tile at (" + posX + ", " + posY + ").");
+            
+            // Exit function.
+            return;
+            
+        }
         
         // Update tile.
-        sideTilesEast.get(key).setTile(val);
+        sideTilesEast[getSideTileIndex(posX, posY)] = val;
+        noteTileChange(TILE_LAYER_EAST, posX, posY, val);
         
     }
     
     // posX = X-position of tile for which to get type number.
     // posY = Y-position of tile for which to get type number.
     // val = Type number to which to set tile at the passed position.
-    public void setRegionTileNbrNorth(Integer posX, Integer posY, Integer val) {
+    public void setRegionTileNbrNorth(int posX, int posY, int val) {
         
         // The function sets the type number of the tile at the passed position.
         // Used with the information about the north side of tiles.
         
-        String key; // Key to use with hash map.
-        
-        // Specify key.
-        key = Integer.toString(posX) + ", " + Integer.toString(posY);
+        // If location has no north side tile, then...
+        if (getSideTile(sideTilesNorth, posX, posY) == SIDE_TILE_NONE)
+        {
+            
+            // Location has no north side tile.
+            
+            // Display warning.
+            System.out.println("Warning:  No north side tile at (" + posX + ", " + posY + ").");
+            
+            // Exit function.
+            return;
+            
+        }
         
         // Update tile.
-        sideTilesNorth.get(key).setTile(val);
+        sideTilesNorth[getSideTileIndex(posX, posY)] = val;
+        noteTileChange(TILE_LAYER_NORTH, posX, posY, val);
         
     }
     
     // posX = X-position of tile for which to get type number.
     // posY = Y-position of tile for which to get type number.
     // val = Type number to which to set tile at the passed position.
-    public void setRegionTileNbrSouth(Integer posX, Integer posY, Integer val) {
+    public void setRegionTileNbrSouth(int posX, int posY, int val) {
         
         // The function sets the type number of the tile at the passed position.
         // Used with the information about the south side of tiles.
         
-        String key; // Key to use with hash map.
-        
-        // Specify key.
-        key = Integer.toString(posX) + ", " + Integer.toString(posY);
+        // If location has no south side tile, then...
+        if (getSideTile(sideTilesSouth, posX, posY) == SIDE_TILE_NONE)
+        {
+            
+            // Location has no south side tile.
+            
+            // Display warning.
+            System.out.println("Warning:  No south side tile at (" + posX + ", " + posY + ").");
+            
+            // Exit function.
+            return;
+            
+        }
         
         // Update tile.
-        sideTilesSouth.get(key).setTile(val);
+        sideTilesSouth[getSideTileIndex(posX, posY)] = val;
+        noteTileChange(TILE_LAYER_SOUTH, posX, posY, val);
         
     }
     
     // posX = X-position of tile for which to get type number.
     // posY = Y-position of tile for which to get type number.
     // val = Type number to which to set tile at the passed position.
-    public void setRegionTileNbrWest(Integer posX, Integer posY, Integer val) {
+    public void setRegionTileNbrWest(int posX, int posY, int val) {
         
         // The function sets the type number of the tile at the passed position.
         // Used with the information about the west side of tiles.
         
-        String key; // Key to use with hash map.
-        
-        // Specify key.
-        key = Integer.toString(posX) + ", " + Integer.toString(posY);
+        // If location has no west side tile, then...
+        if (getSideTile(sideTilesWest, posX, posY) == SIDE_TILE_NONE)
+        {
+            
+            // Location has no west side tile.
+            
+            // Display warning.
+            System.out.println("Warning:  No west side tile at (" + posX + ", " + posY + ").");
+            
+            // Exit function.
+            return;
+            
+        }
         
         // Update tile.
-        sideTilesWest.get(key).setTile(val);
+        sideTilesWest[getSideTileIndex(posX, posY)] = val;
+        noteTileChange(TILE_LAYER_WEST, posX, posY, val);
         
     }
     
@@ -1104,4 +1236,13 @@ public class RegionMap
         return shopCount;
     }
     
+    public int getTileVersion() {
+        return tileVersion;
+    }
+    
+    // journal = Journal in which to log tile changes.  Null = no logging.
+    public void setJournal(MutationJournal journal) {
+        this.journal = journal;
+    }
+    
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package heroinedusk;
+
+public interface RegionSource
+{
+
+    /*
+    The interface defines a source from which an atlas loads regions / maps on demand.
+    Lets the atlas keep only some regions in memory (see RegionCache), with the rest left in the source.
+
+    Notes:
+    1.  Implementations must allow loading from more than one thread at once, since regions get prefetched
+        on a background thread.
+    2.  Each call returns a new region, in the state stored in the source.
+
+    Methods include:
+
+    loadRegion:  Returns the region / map with the passed number, read from the source.
+    */
+
+    // map_id = Map / region number.
+    public RegionMap loadRegion(int map_id);
+
+}
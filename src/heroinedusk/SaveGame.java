@@ -0,0 +1,909 @@
+package heroinedusk;
+
+// Java imports.
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+public class SaveGame
+{
+
+    /*
+    The class saves and loads the progress of the player in a compact, versioned binary file, kept as an
+    append-only journal of changes.
+
+    Layout (big-endian):
+
+    Header:  magic (int, "HDSV"), version (int).
+    Frames, one per save:  records length (int), checksum (long, CRC32 of the records), records.
+    Records:  see MutationJournal -- the state of the player, changed tiles, and removed chests, bone piles,
+      and locked doors.
+
+    Notes:
+    1.  Only the changes over the base atlas get stored.  Loading replays the frames in order against the atlas
+        as loaded at startup, so load before playing.  Later records win -- the last avatar record holds the
+        current state of the player, and the last record for a tile holds its current value.
+    2.  Saving appends one frame holding the changes logged to the journal since the last save (see
+        MutationJournal) plus the state of the player, so the cost of a save follows the changes made rather
+        than the size of the world.
+    3.  Once the file grows past COMPACT_BYTES, the next save compacts -- the file gets rewritten as a single
+        frame holding the current state (changed tiles per RegionMap.getChangedTiles and the indexes of removed
+        items).  Saves also compact when the file does not match the current game (new game, damaged
+        frame found when loading, or failed write), so appends never land on a stale file.
+    4.  Map alteration events never change during play, so the base atlas already holds them.
+    5.  Enumerated values get stored by name, as in AtlasBinary, so reordering an enumeration does not break
+        existing saves.
+    6.  Saving takes the records on the calling (render) thread, since it reads game state, then writes the
+        file on a background thread.  Appends get flushed to disk before the next write.  Compaction writes
+        the file under a temporary name, flushes it to disk, and renames it over the previous save in one
+        step, so a crash mid-save leaves the previous save intact.  Disposing waits (up to WRITE_WAIT_SECONDS)
+        for queued writes to finish, so exiting right after a save does not lose it.
+    7.  Loading verifies the magic and version, then the length and checksum of each frame.  A damaged or
+        partial frame (for example, from a crash mid-append) ends the replay there, leaving the progress from
+        the earlier frames.
+    8.  Loading decodes and validates every record (enumerated names, region numbers, tile locations, and item
+        indexes) before applying any, so a failed load leaves the game as it was.
+
+    Methods include:
+
+    appendFile:  Appends a frame holding the passed records to the save file.
+    checkItemIndex:  Checks that the passed index of a removed item lies within the atlas items.
+    decodeAvatar:  Decodes the state of the player in an avatar record, returning the change restoring it.
+    decodeRecord:  Decodes and validates the record at the position of the passed buffer, returning its change.
+    dispose:  Stops the background thread, waiting for queued writes to finish.
+    exists:  Returns whether a saved game exists.
+    load:  Loads the saved game, adding exception handling.
+    read:  Reads the saved game and applies it to the avatar, atlas, and atlas items.
+    readString:  Reads a string from the passed buffer.
+    save:  Appends the changes since the last save to the save file (or compacts it) on the background thread.
+    snapshot:  Returns records holding the current game.
+    writeFile:  Writes the save file as a single frame holding the passed records, replacing any previous save
+      in one step.
+    writeFrame:  Writes a frame holding the passed records to the passed stream.
+    */
+
+    // Declare object variables.
+    private final String filename; // File to which to save, including path.
+    private final HeroineDuskGame gameHD; // Reference to HeroineDusk (main) game class.
+    private final MutationJournal journal; // Journal of changes made since the last save or load.
+    private final ExecutorService writer; // Single background thread used to write the save file.
+
+    // Declare regular variables.
+    private long fileBytes; // Size of the save file once queued writes finish, in bytes.
+    private volatile boolean fileCurrentInd; // Whether the save file matches the current game, up to the last
+      // save or load.  False until the first save or load, and after a failed write.
+    private boolean writeFailedInd; // Whether a write failed since the last compaction.  Writer thread only.
+
+    // Declare constants.
+    private static final long COMPACT_BYTES = 65536; // Size of save file beyond which the next save compacts.
+    public static final String DEFAULT_FILENAME = "heroinedusk.sav"; // File used for the saved game.
+    private static final int FRAME_HEADER_SIZE = 12; // Size of frame header (length and checksum), in bytes.
+    private static final int HEADER_SIZE = 8; // Size of file header, in bytes.
+    private static final int MAGIC = 0x48445356; // Marks a save file -- "HDSV".
+    private static final int VERSION = 2; // Version of format written.
+    private static final long WRITE_WAIT_SECONDS = 5; // Time to wait for queued writes when disposing, in seconds.
+
+    // gameHD = Reference to HeroineDusk (main) game class.
+    // filename = File to which to save, including path.
+    public SaveGame(HeroineDuskGame gameHD, String filename)
+    {
+
+        // The constructor stores the passed values, initializes the journal, and starts the background thread.
+
+        // Store passed values.
+        this.gameHD = gameHD;
+        this.filename = filename;
+
+        // Set defaults.
+        fileBytes = 0;
+        fileCurrentInd = false;
+        writeFailedInd = false;
+
+        // Initialize journal.
+        journal = new MutationJournal();
+
+        // Start background thread, allowing the game to exit even if a write hangs.  See dispose.
+        writer = Executors.newSingleThreadExecutor(new ThreadFactory()
+        {
+
+            @Override
+            public Thread newThread(Runnable runnable)
+            {
+
+                Thread thread; // Background thread.
+
+                // Create background thread.
+                thread = new Thread(runnable, "save-writer");
+                thread.setDaemon(true);
+
+                // Return background thread.
+                return thread;
+
+            }
+
+        });
+
+    }
+
+    // records = Records to append.
+    private void appendFile(byte[] records) throws IOException
+    {
+
+        // The function appends a frame holding the passed records to the save file.
+
+        DataOutputStream out; // Writes the frame.
+
+        // If a write failed since the last compaction, then...
+        if (writeFailedInd)
+            // Write failed.  File may lack earlier frames, so leave it for the next save to compact.
+            throw new IOException("Skipped append after earlier failed write.");
+
+        // Append to save file.
+        try (FileOutputStream file = new FileOutputStream(filename, true)) {
+
+            // Write frame.
+            out = new DataOutputStream(file);
+            writeFrame(out, records);
+            out.flush();
+
+            // Make sure contents reach the disk.
+            file.getFD().sync();
+
+        }
+
+    }
+
+    // index = Index of removed item.
+    // count = Number of items of the type in the atlas items.
+    // itemName = Name of item type, for the error message.
+    private void checkItemIndex(int index, int count, String itemName) throws IOException
+    {
+
+        // The function checks that the passed index of a removed item lies within the atlas items.
+
+        // If index out of range, then...
+        if (index < 0 || index >= count)
+            throw new IOException(filename + " contains " + itemName + " index " + index + " out of range.");
+
+    }
+
+    // buffer = Buffer from which to read, positioned after the record type.
+    private Runnable decodeAvatar(ByteBuffer buffer) throws IOException
+    {
+
+        // The function decodes the state of the player in an avatar record, leaving the buffer positioned after
+        // the record.  The function returns the change restoring the state, to apply once the whole file
+        // validates.
+        // Unknown enumerated values throw IllegalArgumentException (from valueOf), before changing anything.
+
+        final HeroineEnum.ArmorEnum armor; // Armor.
+        final int bonusAtk; // Bonus attack.
+        final int bonusDef; // Bonus defense.
+        int count; // Number of entries in spell list.
+        final HeroineEnum.FacingEnum facing; // Direction faced.
+        final int gold; // Gold.
+        final int hp; // Hit points.
+        final int map_id; // Region / map number.
+        final int maxHp; // Maximum hit points.
+        final int maxMp; // Maximum magic points.
+        final boolean moved; // Whether player moved.
+        final int mp; // Magic points.
+        final int sleepMapId; // Region / map number of sleep location.
+        final int sleepX; // X-coordinate of sleep location.
+        final int sleepY; // Y-coordinate of sleep location.
+        final LinkedHashMap<HeroineEnum.SpellEnum, Boolean> spellList; // Spell list.
+        final HeroineEnum.SpellEnum spellbook; // Spellbook.
+        final HeroineEnum.WeaponEnum weapon; // Weapon.
+        final int x; // X-coordinate.
+        final int y; // Y-coordinate.
+
+        // Read location.
+        map_id = buffer.getInt();
+        x = buffer.getInt();
+        y = buffer.getInt();
+        facing = HeroineEnum.FacingEnum.valueOf(readString(buffer));
+
+        // Read statistics.
+        hp = buffer.getInt();
+        maxHp = buffer.getInt();
+        mp = buffer.getInt();
+        maxMp = buffer.getInt();
+        gold = buffer.getInt();
+        bonusAtk = buffer.getInt();
+        bonusDef = buffer.getInt();
+
+        // Read equipment and spellbook.
+        weapon = HeroineEnum.WeaponEnum.valueOf(readString(buffer));
+        armor = HeroineEnum.ArmorEnum.valueOf(readString(buffer));
+        spellbook = HeroineEnum.SpellEnum.valueOf(readString(buffer));
+        moved = buffer.get() != 0;
+
+        // Read sleep location / respawn point.
+        sleepMapId = buffer.getInt();
+        sleepX = buffer.getInt();
+        sleepY = buffer.getInt();
+
+        // Read spell list.
+        spellList = new LinkedHashMap<>();
+        count = buffer.getInt();
+
+        for (int counter = 0; counter < count; counter++)
+            spellList.put(HeroineEnum.SpellEnum.valueOf(readString(buffer)), buffer.get() != 0);
+
+        // If region / map number out of range, then...
+        if (map_id < 0 || map_id >= gameHD.getAtlas().getMapCount() || sleepMapId < 0 ||
+          sleepMapId >= gameHD.getAtlas().getMapCount())
+            throw new IOException(filename + " places the player in a region out of range.");
+
+        // Return change.
+        return new Runnable()
+        {
+
+            @Override
+            public void run()
+            {
+
+                Avatar avatar; // Player information.
+
+                // Store reference.
+                avatar = gameHD.getAvatar();
+
+                // Restore location.
+                avatar.setMap_id(map_id);
+                avatar.setX(x);
+                avatar.setY(y);
+                avatar.setFacing(facing);
+
+                // Restore statistics.
+                avatar.setHp(hp);
+                avatar.setMax_hp(maxHp);
+                avatar.setMp(mp);
+                avatar.setMax_mp(maxMp);
+                avatar.setGold(gold);
+                avatar.setBonus_atk(bonusAtk);
+                avatar.setBonus_def(bonusDef);
+
+                // Restore equipment and spellbook.
+                avatar.setWeapon(weapon);
+                avatar.setArmor(armor);
+                avatar.setSpellbook(spellbook);
+                avatar.setMoved(moved);
+
+                // Restore sleep location / respawn point.
+                avatar.setSleepLoc(sleepMapId, sleepX, sleepY);
+
+                // Restore spell list, replacing the starting spells.
+                avatar.getSpellList().clear();
+                avatar.getSpellList().putAll(spellList);
+
+            }
+
+        };
+
+    }
+
+    // buffer = Buffer from which to read, positioned at the record.
+    private Runnable decodeRecord(ByteBuffer buffer) throws IOException
+    {
+
+        // The function decodes and validates the record at the position of the passed buffer, leaving the 
+        // buffer positioned after the record.  The function returns the change held by the record, to apply
+        // once the whole file validates.
+        // Decoding changes nothing in the game, so a bad record leaves the avatar, atlas, and atlas items as
+        // they were.
+
+        final AtlasItems atlasItems; // Atlas item information.
+        final int index; // Index of removed item.
+        final int layer; // Layer of changed tile.
+        final int posX; // X-coordinate of changed tile.
+        final int posY; // Y-coordinate of changed tile.
+        int recordType; // Type of record.
+        final int regionNbr; // Number of region containing changed tile.
+        final int tile; // New tile.
+        RegionMap region; // Region containing changed tile.
+
+        // Store references.
+        atlasItems = gameHD.getAtlasItems();
+
+        // Read record type.
+        recordType = buffer.get();
+
+        // Decode record based on type.
+        switch (recordType)
+        {
+
+            case MutationJournal.RECORD_AVATAR:
+
+                // Decode state of the player.
+                return decodeAvatar(buffer);
+
+            case MutationJournal.RECORD_TILE:
+
+                // Read tile location and value.
+                regionNbr = buffer.getInt();
+                layer = buffer.get();
+                posX = buffer.getShort();
+                posY = buffer.getShort();
+                tile = buffer.getShort();
+
+                // If region number out of range, then...
+                if (regionNbr < 0 || regionNbr >= gameHD.getAtlas().getMapCount())
+                    throw new IOException(filename + " contains region number " + regionNbr + " out of range.");
+
+                // If layer unknown, then...
+                if (layer < RegionMap.TILE_LAYER_CENTER || layer > RegionMap.TILE_LAYER_WEST)
+                    throw new IOException(filename + " contains unknown tile layer " + layer + ".");
+
+                // If tile unknown, then...
+                if (HeroineEnum.ImgTileEnum.valueOf(tile) == null)
+                    throw new IOException(filename + " contains unknown tile " + tile + ".");
+
+                // Get region, loading it without making it the current region.
+                region = gameHD.getAtlas().prepareRegionMap(regionNbr);
+
+                // If location outside region, then...  Center tiles take x, y flipped (see setRegionTileNbr).
+                if (layer == RegionMap.TILE_LAYER_CENTER ? !region.getRegionTiles().isInBounds(posY, posX) : 
+                  !region.getRegionTiles().isInBounds(posX, posY))
+                    throw new IOException(filename + " contains tile (" + posX + ", " + posY + ") outside region " + 
+                      regionNbr + ".");
+
+                // Return change.  Fetches region again when applying, in case the cache let it go, and holds
+                // it while changing it, so the change cannot land on an evicted copy.
+                return new Runnable()
+                {
+
+                    @Override
+                    public void run()
+                    {
+
+                        // Try changing tile in held region.
+                        try {
+                            gameHD.getAtlas().holdRegionMap(regionNbr).setLayerTileNbr(layer, posX, posY, tile);
+                        }
+
+                        // Release region, whether or not successful.  Once changed, it stays in the cache.
+                        finally {
+                            gameHD.getAtlas().releaseRegionMap(regionNbr);
+                        }
+
+                    }
+
+                };
+
+            case MutationJournal.RECORD_CHEST:
+
+                // Read and check index of chest.
+                index = buffer.getInt();
+                checkItemIndex(index, atlasItems.getChestList().size(), "chest");
+
+                // Return change.
+                return new Runnable()
+                {
+
+                    @Override
+                    public void run()
+                    {
+
+                        AtlasItems.Chest chest; // Chest to remove.
+
+                        // Get chest.
+                        chest = atlasItems.getChest(index);
+
+                        // If chest still active, then remove chest and its entry in the index.
+                        if (chest.isActiveInd())
+                        {
+                            atlasItems.removeChest(index, chest.getRegionNbr());
+                            atlasItems.removeChestEntry(chest.getRegionNbr(), chest.getPos_x(), chest.getPos_y());
+                        }
+
+                    }
+
+                };
+
+            case MutationJournal.RECORD_BONE_PILE:
+
+                // Read and check index of bone pile.
+                index = buffer.getInt();
+                checkItemIndex(index, atlasItems.getBonePileList().size(), "bone pile");
+
+                // Return change.
+                return new Runnable()
+                {
+
+                    @Override
+                    public void run()
+                    {
+
+                        AtlasItems.BonePile bonePile; // Bone pile to remove.
+
+                        // Get bone pile.
+                        bonePile = atlasItems.getBonePile(index);
+
+                        // If bone pile still active, then remove bone pile and its entry in the index.
+                        if (bonePile.isActiveInd())
+                        {
+                            atlasItems.removeBonePile(index, bonePile.getRegionNbr());
+                            atlasItems.removeBonePileEntry(bonePile.getRegionNbr(), bonePile.getPos_x(), 
+                              bonePile.getPos_y());
+                        }
+
+                    }
+
+                };
+
+            case MutationJournal.RECORD_LOCKED_DOOR:
+
+                // Read and check index of locked door.
+                index = buffer.getInt();
+                checkItemIndex(index, atlasItems.getLockedDoorList().size(), "locked door");
+
+                // Return change.
+                return new Runnable()
+                {
+
+                    @Override
+                    public void run()
+                    {
+
+                        AtlasItems.LockedDoor lockedDoor; // Locked door to remove.
+
+                        // Get locked door.
+                        lockedDoor = atlasItems.getLockedDoor(index);
+
+                        // If locked door still active, then remove locked door and its entry in the index.
+                        if (lockedDoor.isActiveInd())
+                        {
+                            atlasItems.removeLockedDoor(index, lockedDoor.getRegionNbr());
+                            atlasItems.removeLockedDoorEntry(lockedDoor.getRegionNbr(), lockedDoor.getPos_x(), 
+                              lockedDoor.getPos_y());
+                        }
+
+                    }
+
+                };
+
+            default:
+
+                // Unknown record type.
+                throw new IOException(filename + " contains unknown record type " + recordType + ".");
+
+        }
+
+    }
+
+    public void dispose()
+    {
+
+        // The function stops the background thread, waiting for queued writes to finish.
+        // Call only when exiting -- saving after disposing throws RejectedExecutionException.
+
+        // Stop accepting writes, letting queued writes run.
+        writer.shutdown();
+
+        // Try waiting for queued writes.
+        try {
+
+            // If queued writes did not finish in time, then display warning.
+            if (!writer.awaitTermination(WRITE_WAIT_SECONDS, TimeUnit.SECONDS))
+                System.out.println("Warning:  Saved game still writing after " + WRITE_WAIT_SECONDS + 
+                  " seconds.  Exiting anyway.");
+
+        }
+
+        // Catch any interruption while waiting.
+        catch (InterruptedException ex) {
+
+            // Display warning.
+            System.out.println("Warning:  Interrupted waiting for saved game to write.\nMessage: " + 
+              ex.getMessage());
+
+            // Restore interrupt flag.
+            Thread.currentThread().interrupt();
+
+        }
+
+    }
+
+    public boolean exists()
+    {
+        // The function returns whether a saved game exists.
+        return Files.isRegularFile(Paths.get(filename));
+    }
+
+    public boolean load()
+    {
+
+        // The function loads the saved game, adding exception handling.
+        // The function returns whether the load succeeded.
+
+        // Try loading the saved game.
+        try {
+
+            // Load saved game.
+            read();
+
+            // Return success.
+            return true;
+
+        }
+
+        // Catch any exceptions occurring when trying to read the file or apply its contents.
+        catch (IOException | IllegalArgumentException | BufferUnderflowException | 
+          IndexOutOfBoundsException ex) {
+
+            // Display error message.
+            System.out.println("Warning:  Error loading saved game.\nMessage: " + ex.getMessage());
+
+            // Return failure.
+            return false;
+
+        }
+
+    }
+
+    private void read() throws IOException
+    {
+
+        // The function reads the saved game and applies it to the avatar, atlas, and atlas items, replaying
+        // the frames in order.
+        // The function decodes and validates every frame before applying any, so an exception leaves the game
+        // unchanged.
+
+        ArrayList<Runnable> changes; // Changes decoded from the frames, in order.
+        ByteBuffer buffer; // Contents of the file.
+        CRC32 checksum; // Checksum of the current frame.
+        ByteBuffer frame; // Records in the current frame.
+        int frameCount; // Number of frames applied.
+        int length; // Length of records in the current frame, in bytes.
+        boolean tornInd; // Whether a damaged or partial frame ended the replay.
+        int validEnd; // Position in file after the last frame applied.
+
+        // Read file.
+        buffer = ByteBuffer.wrap(Files.readAllBytes(Paths.get(filename)));
+
+        // Set defaults.
+        changes = new ArrayList<>();
+        checksum = new CRC32();
+        frameCount = 0;
+        tornInd = false;
+        validEnd = HEADER_SIZE;
+
+        // 1.  Validate header.
+
+        // If header missing or not a save file, then...
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC)
+            throw new IOException(filename + " is not a saved game.");
+
+        // If version differs, then...
+        if (buffer.getInt(4) != VERSION)
+            throw new IOException(filename + " uses version " + buffer.getInt(4) + ", expected " + VERSION + ".");
+
+        // Position at first frame.
+        buffer.position(HEADER_SIZE);
+
+        // 2.  Decode frames.
+
+        // Loop through frames.
+        while (buffer.hasRemaining())
+        {
+
+            // If frame header incomplete, then...
+            if (buffer.remaining() < FRAME_HEADER_SIZE)
+            {
+                // Partial frame.  Stop replay.
+                tornInd = true;
+                break;
+            }
+
+            // Read frame header.
+            length = buffer.getInt();
+            checksum.reset();
+
+            // If records incomplete, then...
+            if (length < 0 || length > buffer.remaining() - 8)
+            {
+                // Partial frame.  Stop replay.
+                tornInd = true;
+                break;
+            }
+
+            // Calculate checksum of records.
+            checksum.update(buffer.array(), buffer.position() + 8, length);
+
+            // If checksum differs, then...
+            if (checksum.getValue() != buffer.getLong())
+            {
+                // Damaged frame.  Stop replay.
+                tornInd = true;
+                break;
+            }
+
+            // Isolate records in frame, so that a record cannot run past the frame.
+            frame = buffer.slice();
+            frame.limit(length);
+
+            // Decode records in frame.
+            while (frame.hasRemaining())
+                changes.add(decodeRecord(frame));
+
+            // Move to next frame.
+            buffer.position(buffer.position() + length);
+            validEnd = buffer.position();
+            frameCount++;
+
+        }
+
+        // If no frames applied, then...
+        if (frameCount == 0)
+            throw new IOException(filename + " holds no complete save.");
+
+        // 3.  Apply changes, now that the file validated.
+        for (Runnable change : changes)
+            change.run();
+
+        // If replay stopped early, then...
+        if (tornInd)
+            // Replay stopped early.  Display warning.
+            System.out.println("Warning:  Ignored damaged save data after byte " + validEnd + " in " + filename + 
+              ".\nMessage: Progress restored through save " + frameCount + ".");
+
+        // Clear changes logged while applying the file, since the file already holds them.
+        journal.discardPending();
+
+        // Store size of file, and whether later saves may append to it.  After a damaged frame, the next save
+        // compacts.
+        fileBytes = validEnd;
+        fileCurrentInd = !tornInd;
+
+    }
+
+    // buffer = Buffer from which to read, positioned at the string.
+    private static String readString(ByteBuffer buffer)
+    {
+
+        // The function reads a string from the passed buffer.
+
+        byte[] bytes; // UTF-8 bytes of the string.
+        short length; // Length of the string, in bytes.  -1 = null.
+
+        // Read length.
+        length = buffer.getShort();
+
+        // If null, then...
+        if (length < 0)
+            // Null.
+            return null;
+
+        // Read and return string.
+        bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+
+    }
+
+    public void save()
+    {
+
+        // The function appends the changes since the last save to the save file, or compacts the file, on the
+        // background thread.
+        // Call from the render thread.  Only taking the records happens on the calling thread.
+
+        final boolean compactInd; // Whether to compact the save file.
+        final byte[] records; // Records to write.
+
+        // Determine whether to compact -- when the file does not match the current game or has grown too large.
+        compactInd = !fileCurrentInd || fileBytes > COMPACT_BYTES;
+
+        // If compacting, then...
+        if (compactInd)
+        {
+
+            // Compacting.
+
+            // Take records holding the current game, which cover any changes in the journal.
+            records = snapshot();
+            journal.discardPending();
+
+            // Store size of rewritten file.
+            fileBytes = HEADER_SIZE + FRAME_HEADER_SIZE + records.length;
+
+        }
+
+        else
+        {
+
+            // Appending.
+
+            // Take changes since the last save, followed by the state of the player.
+            journal.logAvatar(gameHD.getAvatar());
+            records = journal.takePending();
+
+            // Store size of file after append.
+            fileBytes += FRAME_HEADER_SIZE + records.length;
+
+        }
+
+        // Flag file as matching the current game, once the queued write finishes.
+        fileCurrentInd = true;
+
+        // Queue write of save file.  Writes run in the order queued, so frames land in the order saved.
+        writer.submit(new Runnable()
+        {
+
+            @Override
+            public void run()
+            {
+
+                // Try writing save file.
+                try {
+
+                    // If compacting, then...
+                    if (compactInd)
+                    {
+                        // Compacting.  Rewrite file and clear any earlier failure.
+                        writeFile(records);
+                        writeFailedInd = false;
+                    }
+
+                    else
+                        // Appending.
+                        appendFile(records);
+
+                }
+
+                // Catch any io exceptions occurring when writing the file.
+                catch (IOException ex) {
+
+                    // Display error message.
+                    System.out.println("Warning:  Error writing saved game.\nMessage: " + ex.getMessage());
+
+                    // Flag failure, so that later appends get skipped and the next save compacts.
+                    writeFailedInd = true;
+                    fileCurrentInd = false;
+
+                }
+
+            }
+
+        });
+
+    }
+
+    private byte[] snapshot()
+    {
+
+        // The function returns records holding the current game -- the state of the player, every tile
+        // changed since loading, and every removed item.
+
+        AtlasItems atlasItems; // Atlas item information.
+        MutationJournal records; // Collects the records.
+
+        // Store references.
+        atlasItems = gameHD.getAtlasItems();
+
+        // Initialize journal used to collect records.
+        records = new MutationJournal();
+
+        // 1.  Add avatar.
+        records.logAvatar(gameHD.getAvatar());
+
+        // 2.  Add changed tiles.
+
+        // Loop through changed regions.
+        for (RegionMap region : gameHD.getAtlas().getChangedRegions())
+        {
+
+            // Loop through changed tiles in region -- layer, x, y, tile.
+            for (int[] tile : region.getChangedTiles())
+                records.logTile(region.getRegionNbr(), tile[0], tile[1], tile[2], tile[3]);
+
+        }
+
+        // 3.  Add removed items.
+
+        // Add removed chests.
+        for (AtlasItems.Chest chest : atlasItems.getChestList())
+            if (!chest.isActiveInd())
+                records.logChestRemoved(chest.getChestIndex());
+
+        // Add removed bone piles.
+        for (AtlasItems.BonePile bonePile : atlasItems.getBonePileList())
+            if (!bonePile.isActiveInd())
+                records.logBonePileRemoved(bonePile.getBonePileIndex());
+
+        // Add removed locked doors.
+        for (AtlasItems.LockedDoor lockedDoor : atlasItems.getLockedDoorList())
+            if (!lockedDoor.isActiveInd())
+                records.logLockedDoorRemoved(lockedDoor.getLockedDoorIndex());
+
+        // Return records.
+        return records.takePending();
+
+    }
+
+    // records = Records holding the game to save.
+    private void writeFile(byte[] records) throws IOException
+    {
+
+        // The function writes the save file as a single frame holding the passed records, replacing any
+        // previous save in one step.
+
+        DataOutputStream out; // Writes the file.
+        Path target; // Save file.
+        Path tempFile; // Save file, before renaming.
+
+        // Store paths.
+        target = Paths.get(filename);
+        tempFile = Paths.get(filename + ".tmp");
+
+        // Write temporary file.
+        try (FileOutputStream file = new FileOutputStream(tempFile.toFile())) {
+
+            // Write header.
+            out = new DataOutputStream(file);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+
+            // Write frame.
+            writeFrame(out, records);
+            out.flush();
+
+            // Make sure contents reach the disk before renaming.
+            file.getFD().sync();
+
+        }
+
+        // Try renaming temporary file over save file in one step.
+        try {
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        // If file system cannot rename in one step, then replace save file the regular way.
+        catch (AtomicMoveNotSupportedException ex) {
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+    }
+
+    // out = Stream to which to write.
+    // records = Records to write in the frame.
+    private static void writeFrame(DataOutputStream out, byte[] records) throws IOException
+    {
+
+        // The function writes a frame holding the passed records to the passed stream.
+
+        CRC32 checksum; // Checksum of the records.
+
+        // Calculate checksum of records.
+        checksum = new CRC32();
+        checksum.update(records, 0, records.length);
+
+        // Write frame header and records.
+        out.writeInt(records.length);
+        out.writeLong(checksum.getValue());
+        out.write(records);
+
+    }
+
+    // Getters and setters below...
+
+    public MutationJournal getJournal() {
+        return journal;
+    }
+
+}
@@ -317,6 +317,9 @@ public class Shops
             // Adjust player spellbook.
             gameHD.getAvatar().avatar_sleep(null, null);
             
+            // Save the game.
+            gameHD.getSaveGame().save();
+            
             // Adjust dialog message.
             gameHD.getDialog().setMessage("You have rested");
             gameHD.getDialog().setFadeMessage(true);
@@ -6,11 +6,11 @@ import com.badlogic.gdx.graphics.Color;
 // Local project imports.
 import core.BaseActor;
 import gui.CustomLabel;
+import routines.RandomSource;
 import routines.UtilityRoutines;
 import screens.ExploreScreen;
 
 // Java imports.
-import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.Map;
 
@@ -87,7 +87,7 @@ public class Spells
       CustomLabel powerResultLabel, CustomLabel mpLabel, ArrayList<BaseActor> tiles, MazeMap mazemap, 
       BaseActor buttonActor, Map<HeroineEnum.ActionButtonEnum, BaseActor> mapActionButtons,
       Map<HeroineEnum.ActionButtonEnum, Boolean> mapActionButtonEnabled, 
-      SecureRandom number, Sounds sounds, ActionResult actionResult)
+      RandomSource number, Sounds sounds, ActionResult actionResult)
     {
         
         // The function encapsulates logic related to the player casting the burn spell.
@@ -353,13 +353,14 @@ public class Spells
     // buttonActor = Reference to BaseActor for the button.
     // mapActionButtons = Hash map containing BaseActor objects that act as the action buttons.
     // mapActionButtonEnabled = Hash map containing enabled status of action buttons.
+    // number = Used for generating random numbers.
     // sounds = Reference to the sounds class.
     // actionResult = Reference to object with result information.  Allows for reuse.
     public static void cast_heal(Avatar avatar, boolean combatInd, CustomLabel powerActionLabel, 
       CustomLabel powerResultLabel, CustomLabel hpLabel, CustomLabel mpLabel, BaseActor buttonActor, 
       Map<HeroineEnum.ActionButtonEnum, BaseActor> mapActionButtons,
-      Map<HeroineEnum.ActionButtonEnum, Boolean> mapActionButtonEnabled, Sounds sounds, 
-      ActionResult actionResult)
+      Map<HeroineEnum.ActionButtonEnum, Boolean> mapActionButtonEnabled, RandomSource number, 
+      Sounds sounds, ActionResult actionResult)
     {
         
         // The function encapsulates logic related to the player casting the heal spell.
@@ -462,7 +463,7 @@ public class Spells
             hpMax = avatar.getMax_hp();
             
             // Calculate number of hit points to heal.
-            heal_amount = (int)Math.floor(hpMax / 2) + (int)Math.floor(Math.random() * hpMax / 2);
+            heal_amount = (int)Math.floor(hpMax / 2) + (int)Math.floor(number.nextDouble() * hpMax / 2);
             heal_amount = Math.min(heal_amount, hpMax - hp);
 
             // Reduce magic points by one.
@@ -577,7 +578,7 @@ public class Spells
       CustomLabel powerResultLabel, CustomLabel mpLabel, ArrayList<BaseActor> tiles, MazeMap mazemap, 
       BaseActor buttonActor, Map<HeroineEnum.ActionButtonEnum, BaseActor> mapActionButtons, 
       Map<HeroineEnum.ActionButtonEnum, Boolean> mapActionButtonEnabled, 
-      SecureRandom number, Sounds sounds, ActionResult actionResult)
+      RandomSource number, Sounds sounds, ActionResult actionResult)
     {
         
         // The function encapsulates logic related to the player casting the unlock spell.
@@ -0,0 +1,310 @@
+package heroinedusk;
+
+// Java imports.
+import java.nio.ShortBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TileGrid
+{
+
+    /*
+    The class stores the tiles composing a region in a packed, row-major array of primitives.
+    Replaces the earlier list of lists of boxed integers, so tile reads do not allocate or unbox.
+
+    Notes:
+    1.  The value for (x, y) lives at index (y * width) + x.
+    2.  x = Column (0 to width - 1), y = Row (0 to height - 1).
+    3.  Tile numbers correspond to the values in HeroineEnum.ImgTileEnum and fit in a short.
+    4.  A grid can view its tiles straight from a (read-only, memory-mapped) buffer -- see AtlasBinary.  The
+        first change to a tile copies the tiles to the packed array, leaving the buffer untouched.
+
+    Methods include:
+
+    addRow:  Copies a horizontal set of tiles into the next unfilled row.
+    getRow:  Returns a copy of a row of tiles as an array list.  Used when writing JSON.
+    getTile:  Returns the tile number at the passed position.
+    isInBounds:  Returns whether the passed position lies within the grid.
+    makeWritable:  Copies the tiles from the buffer being viewed (if any) to the packed array.
+    mapTiles:  Views the tiles straight from the passed buffer, until the first change.
+    setRow:  Copies a horizontal set of tiles into the passed row.  Used when streaming JSON.
+    setTile:  Sets the tile number at the passed position.
+    */
+
+    // Declare object variables.
+    private ShortBuffer mappedTiles; // Tile numbers, stored row-major, when viewed from a buffer.  Null otherwise.
+    private short[] tiles; // Tile numbers, stored row-major.  Null while viewing tiles from a buffer.
+
+    // Declare regular variables.
+    private final int height; // Grid height, in tiles (row count).
+    private int rowCount; // Number of rows populated (through addRow or setRow).
+    private final int width; // Grid width, in tiles (column count).
+
+    // width = Grid width, in tiles.
+    // height = Grid height, in tiles.
+    public TileGrid(int width, int height)
+    {
+
+        // The constructor allocates the packed array for a grid with the passed dimensions.
+
+        // Store dimensions.
+        this.width = width;
+        this.height = height;
+
+        // Set defaults.
+        rowCount = 0;
+
+        // Allocate the packed array.
+        tiles = new short[width * height];
+
+    }
+
+    // rowTiles = Tiles to include in horizontal set.  Each element must be an Integer (or other Number).
+    public void addRow(List<?> rowTiles)
+    {
+
+        // The function copies a horizontal set of tiles into the next unfilled row.
+
+        int offset; // Index in packed array at which current row starts.
+
+        // If all rows already populated, then...
+        if (rowCount >= height)
+        {
+
+            // All rows already populated.
+
+            // Display warning.
+            System.out.println("Warning:  Tile row exceeds region height (" + height + ").  Row ignored.");
+
+            // Exit function.
+            return;
+
+        }
+
+        // If row width does not match grid width, then...
+        if (rowTiles.size() != width)
+            System.out.println("Warning:  Tile row " + rowCount + " contains " + rowTiles.size() +
+              " tiles, expected " + width + ".");
+
+        // Make sure tiles can change.
+        makeWritable();
+
+        // Determine start of current row.
+        offset = rowCount * width;
+
+        // Loop through tiles in passed row, up to the grid width.
+        for (int counter = 0; counter < width && counter < rowTiles.size(); counter++)
+        {
+            // Copy tile to packed array.
+            tiles[offset + counter] = ((Number)rowTiles.get(counter)).shortValue();
+        }
+
+        // Increment row count.
+        rowCount++;
+
+    }
+
+    // y = Row for which to return tiles.
+    public ArrayList<Integer> getRow(int y)
+    {
+
+        // The function returns a copy of a row of tiles as an array list.  Used when writing JSON.
+
+        ArrayList<Integer> rowTiles; // Tiles in the requested row.
+
+        // If row outside grid, then...
+        if (y < 0 || y >= height)
+            throw new IndexOutOfBoundsException("Row " + y + " outside grid height " + height + ".");
+
+        // Initialize array list.
+        rowTiles = new ArrayList<>(width);
+
+        // Loop through tiles in row.
+        for (int counter = 0; counter < width; counter++)
+        {
+            // Add tile to list.
+            rowTiles.add(getTile(counter, y));
+        }
+
+        // Return tiles in row.
+        return rowTiles;
+
+    }
+
+    // x = Column of tile for which to get type number.
+    // y = Row of tile for which to get type number.
+    public int getTile(int x, int y)
+    {
+
+        // The function returns the tile number at the passed position.
+
+        // If position outside grid, then...
+        if (!isInBounds(x, y))
+            throw new IndexOutOfBoundsException("Tile (" + x + ", " + y + ") outside grid " + width +
+              " x " + height + ".");
+
+        // Return tile number.
+        return mappedTiles != null ? mappedTiles.get((y * width) + x) : tiles[(y * width) + x];
+
+    }
+
+    // x = Column to check.
+    // y = Row to check.
+    public boolean isInBounds(int x, int y)
+    {
+        // The function returns whether the passed position lies within the grid.
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    private void makeWritable()
+    {
+
+        // The function copies the tiles from the buffer being viewed (if any) to the packed array.
+
+        // If viewing tiles from a buffer, then...
+        if (mappedTiles != null)
+        {
+
+            // Viewing tiles from a buffer.
+
+            // Copy tiles to packed array.
+            tiles = new short[width * height];
+            ((ShortBuffer)mappedTiles.duplicate().rewind()).get(tiles);
+
+            // Stop viewing buffer.
+            mappedTiles = null;
+
+        }
+
+    }
+
+    // tileBuffer = Buffer containing width * height tile numbers, stored row-major, from its current position.
+    public void mapTiles(ShortBuffer tileBuffer)
+    {
+
+        // The function views the tiles straight from the passed buffer, until the first change.
+
+        // If buffer too small for grid, then...
+        if (tileBuffer.remaining() < width * height)
+            throw new IllegalArgumentException("Tile buffer holds " + tileBuffer.remaining() + 
+              " tiles, expected " + (width * height) + ".");
+
+        // View buffer (limited to grid), dropping the packed array.
+        mappedTiles = (ShortBuffer)tileBuffer.slice().limit(width * height);
+        tiles = null;
+
+        // All rows populated.
+        rowCount = height;
+
+    }
+
+    // y = Row to populate.
+    // rowTiles = Tiles to include in horizontal set.
+    // count = Number of tiles in rowTiles to use.
+    public void setRow(int y, int[] rowTiles, int count)
+    {
+
+        // The function copies a horizontal set of tiles into the passed row.  Used when streaming JSON,
+        // where rows arrive keyed by number rather than strictly in order.
+
+        int offset; // Index in packed array at which row starts.
+
+        // If row outside grid, then...
+        if (y < 0 || y >= height)
+        {
+
+            // Row outside grid.
+
+            // Display warning.
+            System.out.println("Warning:  Tile row " + y + " outside region height (" + height + ").  Row ignored.");
+
+            // Exit function.
+            return;
+
+        }
+
+        // If row width does not match grid width, then...
+        if (count != width)
+            System.out.println("Warning:  Tile row " + y + " contains " + count + " tiles, expected " + width + ".");
+
+        // Make sure tiles can change.
+        makeWritable();
+
+        // Determine start of row.
+        offset = y * width;
+
+        // Loop through tiles in passed row, up to the grid width.
+        for (int counter = 0; counter < width && counter < count; counter++)
+        {
+            // Copy tile to packed array.
+            tiles[offset + counter] = (short)rowTiles[counter];
+        }
+
+        // Count rows populated so far, so that addRow continues after the last one.
+        rowCount = Math.max(rowCount, y + 1);
+
+    }
+
+    // x = Column of tile for which to set type number.
+    // y = Row of tile for which to set type number.
+    // val = Type number to which to set tile at the passed position.
+    public void setTile(int x, int y, int val)
+    {
+
+        // The function sets the tile number at the passed position.
+
+        // If position outside grid, then...
+        if (!isInBounds(x, y))
+            throw new IndexOutOfBoundsException("Tile (" + x + ", " + y + ") outside grid " + width +
+              " x " + height + ".");
+
+        // Make sure tiles can change.
+        makeWritable();
+
+        // Store tile number.
+        tiles[(y * width) + x] = (short)val;
+
+    }
+
+    @Override
+    public String toString()
+    {
+
+        // The function returns the tiles as text, one bracketed row after another.  Used when debugging.
+
+        StringBuilder text; // Text to return.
+
+        // Initialize string builder.
+        text = new StringBuilder();
+
+        // Loop through rows.
+        for (int counter = 0; counter < height; counter++)
+        {
+            // Add row to text.
+            text.append(getRow(counter));
+        }
+
+        // Return text.
+        return text.toString();
+
+    }
+
+    // Getters and setters below...
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public boolean isMapped() {
+        return mappedTiles != null;
+    }
+
+}
@@ -0,0 +1,32 @@
+package routines;
+
+public interface RandomSource
+{
+
+    /*
+    The interface defines a source of (pseudo) random numbers.
+    Lets gameplay code draw numbers without depending on a specific generator, so generators can be
+    swapped or seeded for reproducible results (replays, balance simulations).
+
+    Methods include:
+
+    getSeed:  Returns the seed last applied to the source.
+    nextDouble:  Returns a random number from 0 (inclusive) to 1 (exclusive).
+    nextInt:  Returns a random number from 0 (inclusive) to the passed bound (exclusive).
+    setSeed:  Restarts the sequence of numbers using the passed seed.
+    split:  Returns a new, independent source seeded from the current one.
+    */
+
+    public long getSeed();
+
+    public double nextDouble();
+
+    // bound = Upper bound (exclusive).  Must be positive.
+    public int nextInt(int bound);
+
+    // seed = Seed with which to restart the sequence of numbers.
+    public void setSeed(long seed);
+
+    public RandomSource split();
+
+}
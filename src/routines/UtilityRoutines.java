@@ -2,7 +2,6 @@ package routines;
 
 // LibGDX imports.
 import com.badlogic.gdx.graphics.Color;
-import java.security.SecureRandom;
 import java.util.ArrayList;
 
 /*
@@ -118,9 +117,10 @@ public class UtilityRoutines
         
     }
     
+    // number = Source of random numbers.
     // start = First integer in random range.
     // end = Last integer in random range.
-    public static int generateStandardRnd(SecureRandom number, int start, int end)
+    public static int generateStandardRnd(RandomSource number, int start, int end)
     {
         
         // The function returns a random number in the passed range.
@@ -164,8 +164,8 @@ public class DialogScreen extends BaseScreen { // Extends the BaseScreen class.
         // Get key to background image in hash map in asset manager.
         backgroundKey = gameHD.getShopInfo().getShopList().get(dialog.getShop_id().getValue()).getBackground().getValue_Key();
         
-        // Assign the Texture to the background Actor.
-        background.setTexture(gameHD.getAssetMgr().getImage_xRef(backgroundKey));
+        // Assign the texture region to the background Actor.
+        background.setTextureRegion(gameHD.getAssetMgr().getImageRegion_xRef(backgroundKey));
         
         // Position the background with its lower left corner at the corresponding location in the screen.
         background.setPosition( 0, 0 );
@@ -28,7 +28,6 @@ import heroinedusk.Timer;
 import routines.UtilityRoutines;
 
 // Java imports.
-import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
@@ -210,15 +209,18 @@ public class ExploreScreen extends BaseScreen { // Extends the BaseScreen class.
     private float minimapOriginalX; // Original position (x-coordinate) of the minimap on the stage before drag operation.
     private float minimapOriginalY; // Original position (y-coordinate) of the minimap on the stage before drag operation.
     private boolean minimapRenderInd; // Whether minimap rendered for current location yet.
-    private final SecureRandom number; // Used for generating random numbers.
     private HashMap<HeroineEnum.SelectPosEnum, Float> mapSelectorPosX; // List of x-positions to place selector -- related to buttons.
     private HashMap<HeroineEnum.SelectPosEnum, Float> mapSelectorPosY; // List of y-positions to place selector -- related to buttons.
     private boolean redFont; // Whether labels set to use red font.
     private int selectorAdjPos; // Position adjustment related to selector.
+    private CustomLabel[] statsLabels; // Labels showing rendering statistics -- one per stage, then frame times.
     
     // Declare constants.
     private static final Color COLOR_MED_GRAY = new Color(0.50f, 0.50f, 0.50f, 1); // Disabled color.
     private final boolean RENDER_FPS = true; // Whether to display frame rate.
+    private final boolean RENDER_STATS = false; // Whether to display rendering statistics (draw calls, texture
+      // binds, actor counts, and frame times).  Requires RENDER_FPS.  Debugging only, since the OpenGL
+      // profiler adds a cost to each OpenGL call.
     private static final Integer[] GOLD_BASE_POS_X_LIST = new Integer[]{36, 27, 45, 45, 21, 34, 12, 61, 58, 0};
     private static final Integer[] GOLD_BASE_POS_Y_LIST = new Integer[]{17, 20, 19, 10, 4, 2, 16, 0, 18, 1};
     private final int SPELL_SUCCESSFUL = 1;
@@ -249,9 +251,6 @@ public class ExploreScreen extends BaseScreen { // Extends the BaseScreen class.
         // Store reference to main game class.
         gameHD = hdg;
         
-        // Start random number generator.
-        number = new SecureRandom();
-        
         // Perform additional logic related to startup / create phase, including configuration and addition
         // of actors to stage.
         create();
@@ -297,6 +296,7 @@ public class ExploreScreen extends BaseScreen { // Extends the BaseScreen class.
         30.  Initialize combat engine.
         31.  As necessary, shade action buttons to indicate enabled.
         32.  Configure and add the frame rate label.  Initialize the timer. > If rendering (check RENDER_FPS).
+             Configure and add the rendering statistics labels. > If rendering (check RENDER_STATS).
         33.  Initialize combat timers.
         
         Notes:
@@ -307,6 +307,8 @@ public class ExploreScreen extends BaseScreen { // Extends the BaseScreen class.
         D.  UI stage contains additional actors.
         */
         
+        float labelHeight; // Spacing between lines of rendering statistics labels.
+        
         // 1.  Set defaults and perform empty initializations.
         actionButtonsEnabled = true;
         infoButtonSelected = false;
@@ -589,7 +591,7 @@ public class ExploreScreen extends BaseScreen { // Extends the BaseScreen class.
         
         // Initialize the actor.
         boneshield = new BaseActor("Bone Shield", 
-          gameHD.getAssetMgr().getImage_xRef(HeroineEnum.ImgEnemyEnum.IMG_ENEMY_BONE_SHIELD.getValue_Key()), 
+          gameHD.getAssetMgr().getImageRegion_xRef(HeroineEnum.ImgEnemyEnum.IMG_ENEMY_BONE_SHIELD.getValue_Key()), 
           0f, 0f);
         
         // Hide the actor.
@@ -602,7 +604,7 @@ public class ExploreScreen extends BaseScreen { // Extends the BaseScreen class.
         middleStageActors.add(boneshield);
         
         // 30.  Initialize combat engine.
-        combat = new Combat(gameHD.getAvatar(), mazemap, gameHD.getConfig().getScale());
+        combat = new Combat(gameHD.getAvatar(), mazemap, gameHD.getRandom(), gameHD.getConfig().getScale());
         
         // 31.  As necessary, shade action buttons to indicate enabled.
         
@@ -660,6 +662,37 @@ public class ExploreScreen extends BaseScreen { // Extends the BaseScreen class.
             // Initialize the frame rate timer.
             timerFrameRate = new Timer(1000, true);
             
+            // If rendering statistics, then...
+            if (RENDER_STATS)
+            {
+                
+                // Render statistics.
+                
+                // Start gathering rendering statistics.
+                enableRenderStats();
+                
+                // Determine spacing between lines.
+                labelHeight = fpsLabel.getLabelHeight() * 1.25f;
+                
+                // Initialize array to hold one label per stage, plus one for frame times.
+                statsLabels = new CustomLabel[renderStats.getStageCount() + 1];
+                
+                // Loop through statistics labels.
+                for (int counter = 0; counter < statsLabels.length; counter++)
+                {
+                    
+                    // Configure and add label below frame rate label.
+                    statsLabels[counter] = new CustomLabel(game.skin, "", "stats label - " + 
+                      Integer.toString(counter), "uiLabelStyle", 1.0f, gameHD.getConfig().getTextLineHeight(), 
+                      CoreEnum.AlignEnum.ALIGN_LEFT, CoreEnum.PosRelativeEnum.REL_POS_UPPER_LEFT, uiStage, 
+                      (float)(gameHD.getConfig().getScale() * 2), 
+                      (float)(gameHD.getConfig().getScale() * -2) - (counter + 1) * labelHeight, 
+                      HeroineEnum.FontEnum.FONT_UI.getValue_Key(), 0f);
+                    
+                }
+                
+            } // End ... If rendering statistics.
+            
         }
         
         // 33.  Initialize combat timers.
@@ -2206,6 +2239,9 @@ public class ExploreScreen extends BaseScreen { // Extends the BaseScreen class.
         // The method is called when removing the screen and allows for clearing of related resources 
         // from memory.
         
+        // Dispose of baked minimaps.
+        mazemap.minimap_dispose();
+        
         // Call manual dispose method in superclass.
         super.disposeManual();
         
@@ -2461,6 +2497,10 @@ public class ExploreScreen extends BaseScreen { // Extends the BaseScreen class.
                         // Render updated view.
                         renderCurrentView(turnInd, false);
 
+                        // Start preparing the destinations of any nearby exits in the background.
+                        mazemap.prepareNearbyExits(gameHD.getAvatar().getX(), gameHD.getAvatar().getY(), 
+                          viewHeightMain);
+
                         /*
                         If encounter occurred, then...
                         * Initializes any encounter that occurs *
@@ -2918,6 +2958,11 @@ public class ExploreScreen extends BaseScreen { // Extends the BaseScreen class.
             // Hide frame rate label.
             fpsLabel.applyVisible(false);
             
+            // If rendering statistics, then hide related labels.
+            if (statsLabels != null)
+                for (CustomLabel statsLabel : statsLabels)
+                    statsLabel.applyVisible(false);
+            
         } // End ... If information view selected.
         
         // Otherwise -- switching from information to regular view.
@@ -3012,6 +3057,11 @@ public class ExploreScreen extends BaseScreen { // Extends the BaseScreen class.
             // Show frame rate label.
             fpsLabel.applyVisible(true);
             
+            // If rendering statistics, then show related labels.
+            if (statsLabels != null)
+                for (CustomLabel statsLabel : statsLabels)
+                    statsLabel.applyVisible(true);
+            
         } // End ... If switching to regular view.
         
         // Hide the general status label and remove associated actions.
@@ -3031,8 +3081,9 @@ public class ExploreScreen extends BaseScreen { // Extends the BaseScreen class.
         // Name background actor.
         background.setActorName("Background");
         
-        // Assign the Texture to the background Actor.
-        background.setTexture(gameHD.getAssetMgr().getImage_xRef(mazemap.getCurrentRegion().getRegionBackground().getValue_Key()));
+        // Assign the texture region to the background Actor.
+        background.setTextureRegion(
+          gameHD.getAssetMgr().getImageRegion_xRef(mazemap.getCurrentRegion().getRegionBackground().getValue_Key()));
         
         // Position the background with its lower left corner at the corresponding location in the screen.
         background.setPosition( 0, 0 );
@@ -3258,10 +3309,38 @@ public class ExploreScreen extends BaseScreen { // Extends the BaseScreen class.
     {
         
         // The function encapsulates logic used to render the minimap.
-        // The minimap comprises a group containing "icon" actors.
+        // The minimap comprises a group containing "icon" actors -- the baked (static) minimap and the cursor.
+        // The group persists between renders, so only its contents get replaced.
+        
+        // If minimap group initialized, then...
+        if (minimapGroup != null)
+        {
+            
+            // Minimap group initialized.
+            
+            // Remove icons from previous render.
+            minimapGroup.clearChildren();
+            
+            // Display minimap group.
+            minimapGroup.setVisible(true);
+            
+        }
         
-        // Initialize minimap group.
-        minimapGroup = new Group();
+        else
+        {
+            
+            // Minimap group NOT initialized.
+            
+            // Initialize minimap group.
+            minimapGroup = new Group();
+            
+            // Add events to minimap group.
+            addEvent_Minimap();
+
+            // Add the minimap group to the scene graph.
+            uiStage.addActor(minimapGroup);
+            
+        }
 
         // Render minimap.
 
@@ -3279,12 +3358,6 @@ public class ExploreScreen extends BaseScreen { // Extends the BaseScreen class.
         // Set position of minimap group (lower left corner).
         minimapGroup.setPosition(mazemap.getMinimapOffsetX(), mazemap.getMinimapOffsetY());
         
-        // Add events to minimap group.
-        addEvent_Minimap();
-        
-        // Add the minimap group to the scene graph.
-        uiStage.addActor(minimapGroup);
-        
         /*
         // Update position of power-related labels.
         
@@ -4195,7 +4268,7 @@ public class ExploreScreen extends BaseScreen { // Extends the BaseScreen class.
         if (combat.fight(HeroineEnum.FightEnum.FIGHT_ATTACK, gameHD.getSounds(), gameHD.getAvatar(),
           powerSourceLabel, powerActionLabel, powerResultLabel, hpLabel, mpLabel, 
           mapActionButtons.get(HeroineEnum.ActionButtonEnum.ACTION_BUTTON_ATTACK), enemy, 
-          mapActionButtons, mapActionButtonEnabled, null, boneshield))
+          mapActionButtons, mapActionButtonEnabled, boneshield))
             
             // Re-enable action buttons when indicated by function.
             actionButtonsEnabled = true;
@@ -4225,7 +4298,7 @@ public class ExploreScreen extends BaseScreen { // Extends the BaseScreen class.
             if(combat.fight(HeroineEnum.FightEnum.FIGHT_BURN, gameHD.getSounds(), gameHD.getAvatar(),
               powerSourceLabel, powerActionLabel, powerResultLabel, hpLabel, mpLabel, 
               mapActionButtons.get(HeroineEnum.ActionButtonEnum.ACTION_BUTTON_BURN), 
-              enemy, mapActionButtons, mapActionButtonEnabled, null, boneshield))
+              enemy, mapActionButtons, mapActionButtonEnabled, boneshield))
                 
                 // Re-enable action buttons when indicated by function.
                 actionButtonsEnabled = true;
@@ -4258,7 +4331,9 @@ public class ExploreScreen extends BaseScreen { // Extends the BaseScreen class.
             Spells.cast_burn(gameHD.getAvatar(), gameHD.getAtlasItems(), false, 
               infoButtonSelected, imgTileNumForward, powerActionLabel, powerResultLabel, mpLabel, tiles, 
               mazemap, mapActionButtons.get(HeroineEnum.ActionButtonEnum.ACTION_BUTTON_BURN), 
-              mapActionButtons, mapActionButtonEnabled, number, gameHD.getSounds(), actionResult);
+              mapActionButtons, mapActionButtonEnabled, 
+              gameHD.getRandom().getStream(HeroineEnum.RandomStreamEnum.RND_STREAM_SPELL), gameHD.getSounds(), 
+              actionResult);
             
             System.out.println("Burned: " + actionResult.getTextResult());
 
@@ -4352,7 +4427,7 @@ public class ExploreScreen extends BaseScreen { // Extends the BaseScreen class.
             if (combat.fight(HeroineEnum.FightEnum.FIGHT_HEAL, gameHD.getSounds(), gameHD.getAvatar(),
               powerSourceLabel, powerActionLabel, powerResultLabel, hpLabel, mpLabel, 
               mapActionButtons.get(HeroineEnum.ActionButtonEnum.ACTION_BUTTON_HEAL), enemy,
-              mapActionButtons, mapActionButtonEnabled, null, boneshield))
+              mapActionButtons, mapActionButtonEnabled, boneshield))
                 
                 // Re-enable action buttons when indicated by function.
                 actionButtonsEnabled = true;
@@ -4381,7 +4456,9 @@ public class ExploreScreen extends BaseScreen { // Extends the BaseScreen class.
             // Cast heal spell.
             Spells.cast_heal(gameHD.getAvatar(), false, powerActionLabel, powerResultLabel, hpLabel, 
               mpLabel, mapActionButtons.get(HeroineEnum.ActionButtonEnum.ACTION_BUTTON_HEAL), 
-              mapActionButtons, mapActionButtonEnabled, gameHD.getSounds(), actionResult);
+              mapActionButtons, mapActionButtonEnabled, 
+              gameHD.getRandom().getStream(HeroineEnum.RandomStreamEnum.RND_STREAM_SPELL), gameHD.getSounds(), 
+              actionResult);
             
             System.out.println("Healed: " + actionResult.getTextResult());
             
@@ -4549,7 +4626,7 @@ public class ExploreScreen extends BaseScreen { // Extends the BaseScreen class.
         if (combat.fight(HeroineEnum.FightEnum.FIGHT_RUN, gameHD.getSounds(), gameHD.getAvatar(),
           powerSourceLabel, powerActionLabel, powerResultLabel, hpLabel, mpLabel, 
           mapActionButtons.get(HeroineEnum.ActionButtonEnum.ACTION_BUTTON_RUN), enemy, 
-          mapActionButtons, mapActionButtonEnabled, null, boneshield))
+          mapActionButtons, mapActionButtonEnabled, boneshield))
             
             // Re-enable action buttons when indicated by function.
             actionButtonsEnabled = true;
@@ -4579,7 +4656,7 @@ public class ExploreScreen extends BaseScreen { // Extends the BaseScreen class.
             if (combat.fight(HeroineEnum.FightEnum.FIGHT_UNLOCK, gameHD.getSounds(), gameHD.getAvatar(),
               powerSourceLabel, powerActionLabel, powerResultLabel, hpLabel, mpLabel, 
               mapActionButtons.get(HeroineEnum.ActionButtonEnum.ACTION_BUTTON_UNLOCK), 
-              enemy, mapActionButtons, mapActionButtonEnabled, null, boneshield))
+              enemy, mapActionButtons, mapActionButtonEnabled, boneshield))
                 
                 // Re-enable action buttons when indicated by function.
                 actionButtonsEnabled = true;
@@ -4613,7 +4690,9 @@ public class ExploreScreen extends BaseScreen { // Extends the BaseScreen class.
             Spells.cast_unlock(gameHD.getAvatar(), gameHD.getAtlasItems(), false, 
               infoButtonSelected, imgTileNumForward, powerActionLabel, powerResultLabel, mpLabel, 
               tiles, mazemap, mapActionButtons.get(HeroineEnum.ActionButtonEnum.ACTION_BUTTON_UNLOCK), 
-              mapActionButtons, mapActionButtonEnabled, number, gameHD.getSounds(), actionResult);
+              mapActionButtons, mapActionButtonEnabled, 
+              gameHD.getRandom().getStream(HeroineEnum.RandomStreamEnum.RND_STREAM_SPELL), gameHD.getSounds(), 
+              actionResult);
             
             System.out.println("Unlocked: " + actionResult.getTextResult());
 
@@ -5065,7 +5144,8 @@ public class ExploreScreen extends BaseScreen { // Extends the BaseScreen class.
             // Delay finished.
                 
             // Determine amount of gold to reward player.
-            goldQuantity = UtilityRoutines.generateStandardRnd( number, 
+            goldQuantity = UtilityRoutines.generateStandardRnd( 
+              gameHD.getRandom().getStream(HeroineEnum.RandomStreamEnum.RND_STREAM_LOOT), 
               combat.getEnemyEnum().getValue_GoldMin(), combat.getEnemyEnum().getValue_GoldMax() );
 
             // Provide reward to player for winning combat (and display related image).
@@ -5119,9 +5199,9 @@ public class ExploreScreen extends BaseScreen { // Extends the BaseScreen class.
         
         // 2.  Update the background Actor.
         
-        // Assign the Texture to the background Actor.
-        background.setTexture(
-          gameHD.getAssetMgr().getImage_xRef(mazemap.getCurrentRegion().getRegionBackground().getValue_Key()));
+        // Assign the texture region to the background Actor.
+        background.setTextureRegion(
+          gameHD.getAssetMgr().getImageRegion_xRef(mazemap.getCurrentRegion().getRegionBackground().getValue_Key()));
         
         // 4.  Hide any treasure text.
         treasureLabel.applyVisible(false);
@@ -5353,6 +5433,21 @@ public class ExploreScreen extends BaseScreen { // Extends the BaseScreen class.
 
                 } // End ... If frame rate available.
                 
+                // If rendering statistics, then...
+                if (statsLabels != null)
+                {
+                    
+                    // Render statistics.
+                    
+                    // Update label for each stage.
+                    for (int counter = 0; counter < renderStats.getStageCount(); counter++)
+                        statsLabels[counter].setLabelText(renderStats.getStageReport(counter));
+                    
+                    // Update frame times label.
+                    statsLabels[statsLabels.length - 1].setLabelText(renderStats.getFrameReport());
+                    
+                }
+                
             } // End ... If current interval complete.
             
         } // End ... If rendering frames per second.
@@ -14,11 +14,16 @@ import core.BaseScreen;
 import core.TextureRect;
 import gui.CustomLabel;
 import gui.CustomProgressBar;
+import heroinedusk.Atlas;
+import heroinedusk.AtlasBinary;
+import heroinedusk.AtlasItems;
 import heroinedusk.HeroineDuskGame;
 import heroinedusk.HeroineEnum;
 import heroinedusk.JSON_Processor;
+import heroinedusk.PagePacker;
 
 // Java imports.
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -74,8 +79,14 @@ public class IntroScreen extends BaseScreen { // Extends the BaseScreen class.
     private final HeroineDuskGame gameHD; // Reference to HeroineDusk (main) game class.
     
     // Declare regular variables.
+    private boolean musicStartedInd; // Whether the starting music began playing.
+    private boolean packedInd; // Whether the backgrounds, enemies, and tile regions come from packed pages.
     private boolean stillLoading; // Whether still loading (assets).
     
+    // Declare constants.
+    private final int LOAD_BUDGET_MILLIS = 8; // Time to spend loading assets each frame, in milliseconds.
+      // Leaves the rest of a 60 frames per second frame for rendering the screen and progress bar.
+    
     // hdg = Reference to Heroine Dusk (main) game.
     // windowWidth = Width to use for stages.
     // windowHeight = Height to use for stages.
@@ -114,9 +125,12 @@ public class IntroScreen extends BaseScreen { // Extends the BaseScreen class.
         7.  Loads atlas information, including regions and items.
         */
         
+        Atlas atlas; // Atlas opened from binary file.
+        AtlasItems atlasItems; // Atlas items opened from binary file.
         JSON_Processor json; // Handles JSON functionality.
         
         // 1.  Set defaults.
+        musicStartedInd = false;
         stillLoading = true;
         
         // 2.  Configure and add assets needed for introduction screen -- background, title, and music.
@@ -164,17 +178,12 @@ public class IntroScreen extends BaseScreen { // Extends the BaseScreen class.
         // Add label to scene graph.
         mainStage.addActor(titleLabel.displayLabelCenterX(600, viewWidthMain));
         
-        // 2C.  Load and play the background music.
+        // 2C.  Queue the background music.
         
-        // Queue just the starting music.
+        // Queue the starting music first, so that it loads (and starts playing -- see update) before the 
+        // remaining assets.
         gameHD.getAssetMgr().queueMusic(HeroineEnum.MusicEnum.M31.getValue_File_ogg());
         
-        // Load just the starting music.
-        gameHD.getAssetMgr().loadResources();
-        
-        // Play (loop) starting background music.
-        gameHD.getSounds().playMusicDirect(gameHD.getAssetMgr(), HeroineEnum.MusicEnum.M31);
-        
         // 3.  Initialize the custom progress bar.
         progressBar = new CustomProgressBar(game.skin);
         
@@ -223,14 +232,40 @@ public class IntroScreen extends BaseScreen { // Extends the BaseScreen class.
         // Store JSON directory in game class.
         gameHD.setJsonDir("/json");
         
-        // Initialize the JSON processor.
-        json = new JSON_Processor();
+        // Initialize the atlas and atlas items.
+        atlas = new Atlas();
+        atlasItems = new AtlasItems();
         
-        // Read the atlas from a file.
-        gameHD.setAtlas(json.readAtlas("/json/Atlas.json"));
+        // If a binary atlas exists, matches the JSON files, and opens successfully (regions then load on 
+        // demand), then...
+        if (new File(AtlasBinary.DEFAULT_FILENAME).isFile() && 
+          AtlasBinary.load(AtlasBinary.DEFAULT_FILENAME, "/json/Atlas.json", "/json/AtlasItems.json", atlas, 
+          atlasItems, gameHD.getConfig().getRegionCacheBytes()))
+        {
+            
+            // Binary atlas opened successfully.
+            
+            // Store atlas and atlas items in game class.
+            gameHD.setAtlas(atlas);
+            gameHD.setAtlasItems(atlasItems);
+            
+        }
         
-        // Read the atlas items from a file.
-        gameHD.setAtlasItems(json.readAtlasItems("/json/AtlasItems.json", gameHD.getAtlas().getMapCount()));
+        else
+        {
+            
+            // Binary atlas missing or unreadable.  Fall back to JSON.
+            
+            // Initialize the JSON processor.
+            json = new JSON_Processor();
+
+            // Read the atlas from a file.
+            gameHD.setAtlas(json.readAtlas("/json/Atlas.json"));
+
+            // Read the atlas items from a file.
+            gameHD.setAtlasItems(json.readAtlasItems("/json/AtlasItems.json", gameHD.getAtlas().getMapCount()));
+            
+        }
         
     }
     
@@ -376,10 +411,11 @@ public class IntroScreen extends BaseScreen { // Extends the BaseScreen class.
         3.  Configures and adds the start button Actor.
         4.  Configures and adds the label next to the start button.
         5.  Populate hash maps related to sounds and music.
-        6.  Split tile regions for use with explore screen.
-        7.  Load pixel maps.
-        8.  Set asset manager, in order to handle resuming properly.
-        9.  Hides the progress bar.
+        6.  Split tile regions for use with explore screen -- unless packed into pages.
+        7.  Resolve tile pieces and minimap icons to handles for rendering.
+        8.  Load pixel maps.
+        9.  Set asset manager, in order to handle resuming properly.
+        10.  Hides the progress bar.
         */
         
         int counter; // Used to count through regions in current tile -- for splitting.
@@ -443,52 +479,67 @@ public class IntroScreen extends BaseScreen { // Extends the BaseScreen class.
         
         // 6.  Split tile regions for use with explore screen.
         
-        // Loop through tile image enumerated values.
-        for (HeroineEnum.ImgTileEnum imgTileEnum : HeroineEnum.ImgTileEnum.values())
+        // If tile regions not packed into pages, then...
+        // Note:  Packed pages already hold the tile regions, loaded with the atlases in step 2.
+        if (!packedInd)
         {
             
-            // Reset counter.
-            counter = 0;
+            // Tile regions not packed into pages.
             
-            // If NOT the placeholders, then...
-            if (imgTileEnum != HeroineEnum.ImgTileEnum.IMG_TILE_IGNORE && 
-                imgTileEnum != HeroineEnum.ImgTileEnum.IMG_TILE_IGNORE_SIDE)
+            // Loop through tile image enumerated values.
+            for (HeroineEnum.ImgTileEnum imgTileEnum : HeroineEnum.ImgTileEnum.values())
             {
+            
+                // Reset counter.
+                counter = 0;
+            
+                // If NOT the placeholders, then...
+                if (imgTileEnum != HeroineEnum.ImgTileEnum.IMG_TILE_IGNORE && 
+                    imgTileEnum != HeroineEnum.ImgTileEnum.IMG_TILE_IGNORE_SIDE)
+                {
                 
-                // NOT the placeholder.
+                    // NOT the placeholder.
                 
-                // Store the image key for the current tile.
-                key = imgTileEnum.getValue_Key();
+                    // Store the image key for the current tile.
+                    key = imgTileEnum.getValue_Key();
 
-                // Clear region information array.
-                Arrays.fill(rects, null);
+                    // Clear region information array.
+                    Arrays.fill(rects, null);
 
-                // Loop through tile region enumerated values.
-                for (HeroineEnum.TileRegionEnum tileRegionEnum : HeroineEnum.TileRegionEnum.values())
-                {
+                    // Loop through tile region enumerated values.
+                    for (HeroineEnum.TileRegionEnum tileRegionEnum : HeroineEnum.TileRegionEnum.values())
+                    {
 
-                    // Load one piece of region information for the current tile - x, y, width, height.
-                    // Apply scale factor to get proper region.
-                    rects[counter] = new TextureRect(tileRegionEnum.getValue_TextureRect(), gameHD.getConfig().getScale());
+                        // Load one piece of region information for the current tile - x, y, width, height.
+                        // Apply scale factor to get proper region.
+                        rects[counter] = new TextureRect(tileRegionEnum.getValue_TextureRect(), gameHD.getConfig().getScale());
 
-                    // Increment counter.
-                    counter++;
-                }
+                        // Increment counter.
+                        counter++;
+                    }
 
-                // Split tile texture regions.
-                gameHD.getAssetMgr().loadTextureRegionsDynamic(key, rects);
+                    // Split tile texture regions.
+                    gameHD.getAssetMgr().loadTextureRegionsDynamic(key, rects);
                 
-            }
+                }
               
-        } // End ... Loop through tile image enumerated values.
+            } // End ... Loop through tile image enumerated values.
+            
+            // Pack pages in the background, for use on the next start.
+            PagePacker.packInBackground(gameHD.getConfig());
+            
+        }
         
-        // 7.  Load pixel maps.
+        // 7.  Resolve tile pieces and minimap icons to handles for rendering.
+        gameHD.getAssetMgr().buildRegionTable();
+        
+        // 8.  Load pixel maps.
         gameHD.getAssetMgr().loadPixelMaps();
         
-        // 8.  Set asset manager, in order to handle resuming properly.
+        // 9.  Set asset manager, in order to handle resuming properly.
         Texture.setAssetManager(gameHD.getAssetMgr().getManager());
         
-        // 9.  Hide the progress bar.
+        // 10.  Hide the progress bar.
         progressBar.hideBar();
         
     }
@@ -503,11 +554,15 @@ public class IntroScreen extends BaseScreen { // Extends the BaseScreen class.
         
         1.  Displays progress bar in center of screen -- update when loading assets.
         2.  Stores values in load lists.
-        3.  Queues images to load into textures.
-        4.  Queues atlases to load into textures.
+        3.  Queues atlases to load into textures.
+        4.  Queues images to load into textures.
         5.  Queue images to load into pixmaps.
         6.  Queues sounds.
         7.  Queues music (ogg format).
+        
+        The asset manager loads assets in the order queued, so the order follows the screens needing them.
+        When pages packed for the prescale folder exist (see PagePacker), the pages replace the separate 
+        backgrounds, enemies, and tiles.
         */
         
         // Declare object variables.
@@ -534,6 +589,9 @@ public class IntroScreen extends BaseScreen { // Extends the BaseScreen class.
         // Initialize hash maps.
         pixelMapPathXRef = new HashMap<>();
         
+        // Set defaults.
+        packedInd = false;
+        
         // 1.  Display progress bar in center of screen -- update when loading assets.
         uiStage.addActor(progressBar.displayBarCenterHorz(viewWidthMain, 175));
         
@@ -661,39 +719,49 @@ public class IntroScreen extends BaseScreen { // Extends the BaseScreen class.
             {
             // Using a prescaled size.
             
-            // Loop through background image enumerations.
-            for (HeroineEnum.ImgBackgroundEnum imgEnum : HeroineEnum.ImgBackgroundEnum.values())
+            // Store whether pages packed for the prescale folder exist.
+            packedInd = PagePacker.isPacked(gameHD.getConfig());
+            
+            // If backgrounds and tiles not packed into pages, then...
+            if (!packedInd)
                 
                 {
-                // Specify image path.
-                imagePath = gameHD.getConfig().getPrescaleFolder_Backgrounds() + imgEnum.getValue_File();
+                // Backgrounds and tiles not packed into pages.
+                
+                // Loop through background image enumerations.
+                for (HeroineEnum.ImgBackgroundEnum imgEnum : HeroineEnum.ImgBackgroundEnum.values())
+                
+                    {
+                    // Specify image path.
+                    imagePath = gameHD.getConfig().getPrescaleFolder_Backgrounds() + imgEnum.getValue_File();
 
-                // Add to lists.
-                imageMapList.add(imagePath);
-                imageMapList.add(imgEnum.getValue_Key());
-                imagePathList.add(imagePath);
-                }
+                    // Add to lists.
+                    imageMapList.add(imagePath);
+                    imageMapList.add(imgEnum.getValue_Key());
+                    imagePathList.add(imagePath);
+                    }
             
-            // Loop through tile image enumerations.
-            for (HeroineEnum.ImgTileEnum imgEnum : HeroineEnum.ImgTileEnum.values())
+                // Loop through tile image enumerations.
+                for (HeroineEnum.ImgTileEnum imgEnum : HeroineEnum.ImgTileEnum.values())
                 
-                {
-                // Specify image path.
-                imagePath = gameHD.getConfig().getPrescaleFolder_Tiles() + imgEnum.getValue_File();
+                    {
+                    // Specify image path.
+                    imagePath = gameHD.getConfig().getPrescaleFolder_Tiles() + imgEnum.getValue_File();
 
-                // Add to lists.
-                imageMapList.add(imagePath);
-                imageMapList.add(imgEnum.getValue_Key());
-                imagePathList.add(imagePath);
-                }
+                    // Add to lists.
+                    imageMapList.add(imagePath);
+                    imageMapList.add(imgEnum.getValue_Key());
+                    imagePathList.add(imagePath);
+                    }
             
-            // Remove placeholders related to tile image enumerations.
-            imageMapList.remove(gameHD.getConfig().getPrescaleFolder_Tiles() + HeroineEnum.ImgTileEnum.IMG_TILE_IGNORE.getValue_File());
-            imageMapList.remove(HeroineEnum.ImgTileEnum.IMG_TILE_IGNORE.getValue_Key());
-            imagePathList.remove(gameHD.getConfig().getPrescaleFolder_Tiles() + HeroineEnum.ImgTileEnum.IMG_TILE_IGNORE.getValue_File());
-            imageMapList.remove(gameHD.getConfig().getPrescaleFolder_Tiles() + HeroineEnum.ImgTileEnum.IMG_TILE_IGNORE_SIDE.getValue_File());
-            imageMapList.remove(HeroineEnum.ImgTileEnum.IMG_TILE_IGNORE_SIDE.getValue_Key());
-            imagePathList.remove(gameHD.getConfig().getPrescaleFolder_Tiles() + HeroineEnum.ImgTileEnum.IMG_TILE_IGNORE_SIDE.getValue_File());
+                // Remove placeholders related to tile image enumerations.
+                imageMapList.remove(gameHD.getConfig().getPrescaleFolder_Tiles() + HeroineEnum.ImgTileEnum.IMG_TILE_IGNORE.getValue_File());
+                imageMapList.remove(HeroineEnum.ImgTileEnum.IMG_TILE_IGNORE.getValue_Key());
+                imagePathList.remove(gameHD.getConfig().getPrescaleFolder_Tiles() + HeroineEnum.ImgTileEnum.IMG_TILE_IGNORE.getValue_File());
+                imageMapList.remove(gameHD.getConfig().getPrescaleFolder_Tiles() + HeroineEnum.ImgTileEnum.IMG_TILE_IGNORE_SIDE.getValue_File());
+                imageMapList.remove(HeroineEnum.ImgTileEnum.IMG_TILE_IGNORE_SIDE.getValue_Key());
+                imagePathList.remove(gameHD.getConfig().getPrescaleFolder_Tiles() + HeroineEnum.ImgTileEnum.IMG_TILE_IGNORE_SIDE.getValue_File());
+                } // End ... If backgrounds and tiles not packed into pages.
             
             // Loop through interface image enumerations.
             for (HeroineEnum.ImgInterfaceEnum imgEnum : HeroineEnum.ImgInterfaceEnum.values())
@@ -730,17 +798,24 @@ public class IntroScreen extends BaseScreen { // Extends the BaseScreen class.
                 
                 } // End ... Loop through interface image enumerations.
             
-            // Loop through enemy image enumerations.
-            for (HeroineEnum.ImgEnemyEnum imgEnum : HeroineEnum.ImgEnemyEnum.values())
+            // If enemies not packed into pages, then...
+            if (!packedInd)
                 
                 {
-                // Specify image path.
-                imagePath = gameHD.getConfig().getPrescaleFolder_Enemies() + imgEnum.getValue_File();
+                // Enemies not packed into pages.
                 
-                // Add to lists.
-                imageMapList.add(imagePath);
-                imageMapList.add(imgEnum.getValue_Key());
-                imagePathList.add(imagePath);
+                // Loop through enemy image enumerations.
+                for (HeroineEnum.ImgEnemyEnum imgEnum : HeroineEnum.ImgEnemyEnum.values())
+                
+                    {
+                    // Specify image path.
+                    imagePath = gameHD.getConfig().getPrescaleFolder_Enemies() + imgEnum.getValue_File();
+                
+                    // Add to lists.
+                    imageMapList.add(imagePath);
+                    imageMapList.add(imgEnum.getValue_Key());
+                    imagePathList.add(imagePath);
+                    }
                 }
             
             // Loop through other image enumerations.
@@ -770,17 +845,38 @@ public class IntroScreen extends BaseScreen { // Extends the BaseScreen class.
                 atlasMapList.add(imgEnum.getValue_AtlasKey());
                 atlasPathList.add(atlasPath);
                 } // End ... Loop through treasure image enumerations.
+            
+            // If pages packed, then...
+            if (packedInd)
+                
+                {
+                // Pages packed.
+                
+                // Specify atlas path.
+                atlasPath = PagePacker.getAtlasPath(gameHD.getConfig());
+                
+                // Add pages (backgrounds, enemies, and tile regions) to atlas lists.
+                atlasKeyList.add(PagePacker.ATLAS_KEY);
+                atlasMapList.add(atlasPath);
+                atlasMapList.add(PagePacker.ATLAS_KEY);
+                atlasPathList.add(atlasPath);
+                }
                 
             } // End ... If using a prescaled size.
         
-        // 3.  Queue images to load into textures.
-        gameHD.getAssetMgr().queueImages(imagePathList);
-        gameHD.getAssetMgr().mapImages(imageMapList);
+        // Queue assets in the order the screens need them.  The starting music (queued in create) comes 
+        // first, then the atlases with the interface (start button and title / explore screen buttons), then 
+        // the images for the explore screen (backgrounds, tiles, enemies, and other), then sounds, and last 
+        // the music for later regions.
         
-        // 4.  Queue atlases to load into textures.
+        // 3.  Queue atlases to load into textures.
         gameHD.getAssetMgr().queueAtlases(atlasPathList);
         gameHD.getAssetMgr().mapAtlases(atlasMapList);
         
+        // 4.  Queue images to load into textures.
+        gameHD.getAssetMgr().queueImages(imagePathList);
+        gameHD.getAssetMgr().mapImages(imageMapList);
+        
         // 5.  Queue images to load into pixmaps.
         gameHD.getAssetMgr().queuePixmaps(pixelMapPathXRef);
         
@@ -817,9 +913,9 @@ public class IntroScreen extends BaseScreen { // Extends the BaseScreen class.
         The following operations occur:
         
         (While loading assets and asset manager needs to load resources)
-        1.  Continues loading.
+        1.  Continues loading, for up to LOAD_BUDGET_MILLIS each frame.
         2.  Updates progress bar with load status.
-        3.  Display load status.
+        3.  Starts the background music, once loaded.
         
         (Upon completion loading assets -- just once)
         1.  Updates progress bar to show 100% completion.
@@ -827,22 +923,17 @@ public class IntroScreen extends BaseScreen { // Extends the BaseScreen class.
         3.  Flags as finished loading.
         */
         
-        float progress; // Percent of loading completed.
-        
         // If still loading, then...
         if (stillLoading)
         {
             
             // Still loading.
             
-            // While asset manager loads resources, ...
-            if(gameHD.getAssetMgr().manager.update())
+            // If asset manager finishes loading resources within the time for the frame, then...
+            if (gameHD.getAssetMgr().updateResources(LOAD_BUDGET_MILLIS, progressBar))
             {
                 // Finished loading assets.
                 
-                // Update progress bar to show 100%.
-                progressBar.setValue(1.0f);
-                
                 // Perform post-load processes.
                 postLoad();
                 
@@ -850,19 +941,19 @@ public class IntroScreen extends BaseScreen { // Extends the BaseScreen class.
                 stillLoading = false;
             }
             
-            else
+            // If starting music loaded but not yet playing, then...
+            if (!musicStartedInd && 
+              gameHD.getAssetMgr().manager.isLoaded(HeroineEnum.MusicEnum.M31.getValue_File_ogg()))
             {
-                // Still loading...
                 
-                // Get percent of loading completed.
-                progress = gameHD.getAssetMgr().manager.getProgress();
+                // Starting music loaded but not yet playing.
+                
+                // Play (loop) starting background music.
+                gameHD.getSounds().playMusicDirect(gameHD.getAssetMgr(), HeroineEnum.MusicEnum.M31);
+                
+                // Flag music as playing.
+                musicStartedInd = true;
                 
-                // Display load status.
-                //System.out.println("Loading Status ... Asset " + 
-                  //gameHD.getAssetMgr().manager.getAssetNames().size + " ... " + progress * 100 + "%");
-
-                // Update progress bar.
-                progressBar.setValue(progress);
             }
             
         }
@@ -166,9 +166,9 @@ public class TitleScreen extends BaseScreen { // Extends the BaseScreen class.
         // Name background actor.
         background.setActorName("Background");
         
-        // Assign the Texture to the background Actor.
-        background.setTexture(
-          gameHD.getAssetMgr().getImage_xRef(HeroineEnum.ImgBackgroundEnum.IMG_BACK_NIGHTSKY.getValue_Key()) );
+        // Assign the texture region to the background Actor.
+        background.setTextureRegion(
+          gameHD.getAssetMgr().getImageRegion_xRef(HeroineEnum.ImgBackgroundEnum.IMG_BACK_NIGHTSKY.getValue_Key()) );
         
         // Position the background with its lower left corner at the corresponding location in the screen.
         background.setPosition( 0, 0 );
@@ -516,6 +516,14 @@ public class TitleScreen extends BaseScreen { // Extends the BaseScreen class.
 
                     // User clicked load button.
                     
+                    // If saved game loads, then...
+                    if (gameHD.getSaveGame().exists() && gameHD.getSaveGame().load())
+                        // Saved game loaded.  Switch to the explore screen, at the saved location.
+                        gameHD.setExploreScreen();
+                    else
+                        // No saved game available.  Play error sound.
+                        gameHD.getSounds().playSound(HeroineEnum.SoundEnum.SOUND_ERROR);
+                    
                     // Exit selector.
                     break;
 